@@ -0,0 +1,42 @@
+package planmysem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * The execution of a command, from parsing it to saving the planner.
+ */
+@Name("planmysem.Command")
+@Label("Command")
+@Category("PlanMySem")
+@Description("Parsing, executing and saving a command")
+class CommandEvent extends Event implements Tracer.CommandSpan {
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Slots Listed")
+    private int slotsListed;
+
+    @Label("Successful")
+    private boolean successful;
+
+    @Override
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    @Override
+    public void setSlotsListed(int slotsListed) {
+        this.slotsListed = slotsListed;
+    }
+
+    @Override
+    public void setSuccessful(boolean isSuccessful) {
+        successful = isSuccessful;
+    }
+}
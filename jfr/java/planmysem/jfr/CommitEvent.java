@@ -0,0 +1,51 @@
+package planmysem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * The commit of a state of the planner.
+ */
+@Name("planmysem.Commit")
+@Label("Commit")
+@Category("PlanMySem")
+@Description("Committing a state of the planner, which can later be undone")
+class CommitEvent extends Event implements Tracer.CommitSpan {
+    @Label("Days")
+    private int days;
+
+    @Label("Single Slots")
+    private int singleSlots;
+
+    @Label("Recurring Slots")
+    private int series;
+
+    @Label("Changes")
+    @Description("Changes since the previous commit")
+    private int changes;
+
+    @Override
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    @Override
+    public void setSingleSlots(int singleSlots) {
+        this.singleSlots = singleSlots;
+    }
+
+    @Override
+    public void setSeries(int series) {
+        this.series = series;
+    }
+
+    @Override
+    public void setChanges(int changes) {
+        this.changes = changes;
+    }
+}
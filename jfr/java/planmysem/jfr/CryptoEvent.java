@@ -0,0 +1,35 @@
+package planmysem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * The encryption or decryption of the text of a storage file.
+ */
+@Name("planmysem.Crypto")
+@Label("Crypto")
+@Category("PlanMySem")
+@Description("Encrypting or decrypting the text of a storage file")
+class CryptoEvent extends Event implements Tracer.CryptoSpan {
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    CryptoEvent(String operation) {
+        this.operation = operation;
+    }
+
+    @Override
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,41 @@
+package planmysem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * The import or export of a .ics file.
+ */
+@Name("planmysem.Ics")
+@Label("ICS")
+@Category("PlanMySem")
+@Description("Importing or exporting a .ics file")
+class IcsEvent extends Event implements Tracer.IcsSpan {
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Events")
+    private int events;
+
+    IcsEvent(String operation) {
+        this.operation = operation;
+    }
+
+    @Override
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void setEvents(int events) {
+        this.events = events;
+    }
+}
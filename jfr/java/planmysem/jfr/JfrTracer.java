@@ -0,0 +1,46 @@
+package planmysem.jfr;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * Records the phases of PlanMySem as Java Flight Recorder events, under the category "PlanMySem".
+ * The events cost next to nothing unless a recording which enables them is running, e.g. one started with
+ * {@code -XX:StartFlightRecording}.
+ */
+public class JfrTracer implements Tracer {
+
+    @Override
+    public CommandSpan beginCommand() {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public StorageSpan beginStorage(String operation) {
+        StorageEvent event = new StorageEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public CryptoSpan beginCrypto(String operation) {
+        CryptoEvent event = new CryptoEvent(operation);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public CommitSpan beginCommit() {
+        CommitEvent event = new CommitEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public IcsSpan beginIcs(String operation) {
+        IcsEvent event = new IcsEvent(operation);
+        event.begin();
+        return event;
+    }
+}
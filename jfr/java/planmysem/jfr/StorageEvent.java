@@ -0,0 +1,62 @@
+package planmysem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import planmysem.common.trace.Tracer;
+
+/**
+ * The saving or loading of a storage file.
+ */
+@Name("planmysem.Storage")
+@Label("Storage")
+@Category("PlanMySem")
+@Description("Saving or loading a storage file, with the time spent on XML and encryption")
+class StorageEvent extends Event implements Tracer.StorageSpan {
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Marshalling Time")
+    @Timespan
+    private long marshalNanos;
+
+    @Label("Encryption Time")
+    @Timespan
+    private long cryptoNanos;
+
+    StorageEvent(String operation) {
+        this.operation = operation;
+    }
+
+    @Override
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public void setMarshalNanos(long marshalNanos) {
+        this.marshalNanos = marshalNanos;
+    }
+
+    @Override
+    public void setCryptoNanos(long cryptoNanos) {
+        this.cryptoNanos = cryptoNanos;
+    }
+}
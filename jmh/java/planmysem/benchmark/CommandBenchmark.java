@@ -0,0 +1,95 @@
+package planmysem.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import planmysem.logic.commands.AddCommand;
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.FindCommand;
+import planmysem.logic.commands.ListCommand;
+import planmysem.logic.commands.ViewCommand;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.model.recurrence.Recurrence;
+import planmysem.model.slot.Slot;
+
+/**
+ * Executes commands on planners of each size, without the parser, the locks or saving.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandBenchmark {
+    private static final Slot WEEKLY_SLOT = new Slot("CS2101 Sectional", "COM1 02-10", "Presentation",
+            LocalTime.of(14, 0), 120, new HashSet<>(Arrays.asList("CS2101", "Sectional")));
+    private static final Recurrence WEEKLY = new Recurrence(
+            new HashSet<>(Arrays.asList("normal", "past")), LocalDate.of(2019, 1, 16));
+
+    /**
+     * Adds a weekly slot, then rolls it back so that the planner keeps its size.
+     */
+    @Benchmark
+    public CommandResult addWithRecurrence(PlannerState state) throws CommandException {
+        state.model.beginTransaction();
+        // the command commits a transaction of its own, as when executed by LogicManager
+        state.model.beginTransaction();
+        try {
+            return new AddCommand(WEEKLY_SLOT, WEEKLY).execute(state.model, state.history);
+        } finally {
+            state.model.rollback();
+        }
+    }
+
+    /**
+     * Finds the slots whose names contain a keyword.
+     */
+    @Benchmark
+    public CommandResult find(PlannerState state) {
+        return new FindCommand(PlannerState.MODULE_TAG, null).execute(state.model, state.history);
+    }
+
+    /**
+     * Lists the slots of one module by name.
+     */
+    @Benchmark
+    public CommandResult listByName(PlannerState state) throws CommandException {
+        return new ListCommand(PlannerState.MODULE_NAME, null).execute(state.model, state.history);
+    }
+
+    /**
+     * Lists every slot.
+     */
+    @Benchmark
+    public CommandResult listAll(PlannerState state) throws CommandException {
+        return new ListCommand().execute(state.model, state.history);
+    }
+
+    /**
+     * Views every month of the semester.
+     */
+    @Benchmark
+    public CommandResult viewMonth(PlannerState state) throws CommandException {
+        return new ViewCommand(new String[] {"month"}).execute(state.model, state.history);
+    }
+
+    /**
+     * Views the slots of every day of a week in detail.
+     */
+    @Benchmark
+    public CommandResult viewWeekDetails(PlannerState state) throws CommandException {
+        return new ViewCommand(new String[] {"week", "3", "Details"}).execute(state.model, state.history);
+    }
+
+    /**
+     * Views the slots of a day.
+     */
+    @Benchmark
+    public CommandResult viewDay(PlannerState state) throws CommandException {
+        return new ViewCommand(new String[] {"day", "15-01-2019"}).execute(state.model, state.history);
+    }
+}
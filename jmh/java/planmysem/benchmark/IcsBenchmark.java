@@ -0,0 +1,75 @@
+package planmysem.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.ImportCommand;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.model.ModelManager;
+import planmysem.model.semester.IcsSemester;
+
+/**
+ * Exports planners of each size to .ics and imports them back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IcsBenchmark {
+
+    /**
+     * A .ics file with the slots of the planner of the benchmark, and an empty planner to import it into.
+     */
+    @State(Scope.Benchmark)
+    public static class IcsState extends PlannerState {
+        public File file;
+        public ModelManager emptyModel;
+
+        /**
+         * Exports the planner to a new .ics file.
+         */
+        @Setup(Level.Trial)
+        public void setUpIcsFile() throws Exception {
+            file = File.createTempFile("planner", ".ics");
+            Files.write(file.toPath(), new IcsSemester(model.getPlanner().getSemester()).toString()
+                    .getBytes(StandardCharsets.UTF_8));
+            emptyModel = new ModelManager();
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteIcsFile() {
+            file.delete();
+        }
+    }
+
+    /**
+     * Converts the semester of the planner to .ics text.
+     */
+    @Benchmark
+    public String export(PlannerState state) {
+        return new IcsSemester(state.model.getPlanner().getSemester()).toString();
+    }
+
+    /**
+     * Imports the .ics file into an empty planner, then rolls the import back to keep the planner empty.
+     */
+    @Benchmark
+    public CommandResult importIcs(IcsState state) throws CommandException {
+        state.emptyModel.beginTransaction();
+        try {
+            return new ImportCommand(state.file.getPath()).execute(state.emptyModel, state.history);
+        } finally {
+            state.emptyModel.rollback();
+        }
+    }
+}
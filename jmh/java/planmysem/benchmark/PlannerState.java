@@ -0,0 +1,80 @@
+package planmysem.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import planmysem.common.Clock;
+import planmysem.logic.CommandHistory;
+import planmysem.model.ModelManager;
+import planmysem.model.Planner;
+import planmysem.model.semester.Semester;
+import planmysem.model.slot.Slot;
+
+/**
+ * A planner with a given number of slots, shared by all iterations of a benchmark.
+ * The slots belong to a fixed set of modules and are spread evenly over the days of the semester,
+ * so that every benchmark sees the same planner for the same size.
+ */
+@State(Scope.Benchmark)
+public class PlannerState {
+    /** The date all benchmarks run on, within the second semester of AY2018/2019. */
+    public static final String CURRENT_TIME = "2019-01-14T10:00:00Z";
+    /** The name of the slots of one module, which matches one slot in every {@code NO_OF_MODULES}. */
+    public static final String MODULE_NAME = "CS2113T Lecture";
+    /** The tag of the slots of one module. */
+    public static final String MODULE_TAG = "CS2113T";
+
+    private static final int NO_OF_MODULES = 50;
+    private static final String[] SLOT_TYPES = {"Lecture", "Tutorial", "Lab", "Sectional"};
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int noOfSlots;
+
+    public ModelManager model;
+    public CommandHistory history;
+
+    /**
+     * Builds the planner.
+     */
+    @Setup(Level.Trial)
+    public void setUpPlanner() throws Exception {
+        Clock.set(CURRENT_TIME);
+        model = new ModelManager(createPlanner(noOfSlots));
+        history = new CommandHistory();
+    }
+
+    /**
+     * Returns a planner of the current semester with {@code noOfSlots} slots.
+     */
+    public static Planner createPlanner(int noOfSlots) throws Semester.DateNotFoundException {
+        Planner planner = new Planner();
+        List<LocalDate> dates = new ArrayList<>(planner.getDays().keySet());
+        Collections.sort(dates);
+        for (int i = 0; i < noOfSlots; i++) {
+            planner.addSlot(dates.get(i % dates.size()), createSlot(i));
+        }
+        return planner;
+    }
+
+    /**
+     * Returns the {@code i}-th slot of the planner.
+     */
+    private static Slot createSlot(int i) {
+        String module = i % NO_OF_MODULES == 0 ? MODULE_TAG : "CS" + (1000 + i % NO_OF_MODULES);
+        String type = SLOT_TYPES[(i / NO_OF_MODULES) % SLOT_TYPES.length];
+        String name = i % NO_OF_MODULES == 0 ? MODULE_NAME : module + " " + type;
+        return new Slot(name, "COM" + (i % 3 + 1) + " 0" + (i % 5 + 1) + "-1" + (i % 10),
+                "Topic " + (i % 13), LocalTime.of(8 + i % 10, 0), 60,
+                new HashSet<>(Arrays.asList(module, type)));
+    }
+}
@@ -0,0 +1,31 @@
+package planmysem.benchmark;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import planmysem.model.recurrence.Recurrence;
+
+/**
+ * Expands a weekly recurrence over the semester of the planner.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceBenchmark {
+    private static final Recurrence WEEKLY = new Recurrence(
+            new HashSet<>(Arrays.asList("normal", "recess", "reading", "exam", "past")), LocalDate.of(2019, 1, 15));
+
+    /**
+     * Generates the dates of a slot recurring on every week of the semester.
+     */
+    @Benchmark
+    public Set<LocalDate> generateDates(PlannerState state) {
+        return WEEKLY.generateDates(state.model.getPlanner().getSemester());
+    }
+}
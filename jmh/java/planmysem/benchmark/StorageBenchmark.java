@@ -0,0 +1,64 @@
+package planmysem.benchmark;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import planmysem.model.Planner;
+import planmysem.storage.StorageFile;
+
+/**
+ * Saves planners of each size to the encrypted storage file and loads them back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    /**
+     * A storage file in a temporary directory which holds the planner of the benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class StorageState extends PlannerState {
+        public File file;
+        public StorageFile storage;
+
+        /**
+         * Saves the planner to a new storage file.
+         */
+        @Setup(Level.Trial)
+        public void setUpStorage() throws Exception {
+            file = File.createTempFile("planner", ".txt");
+            storage = new StorageFile(file.getPath());
+            storage.save(model.getPlanner());
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteStorage() {
+            file.delete();
+        }
+    }
+
+    /**
+     * Saves the planner, overwriting the storage file.
+     */
+    @Benchmark
+    public void save(StorageState state) throws Exception {
+        state.storage.save(state.model.getPlanner());
+    }
+
+    /**
+     * Loads the planner from the storage file.
+     */
+    @Benchmark
+    public Planner load(StorageState state) throws Exception {
+        return state.storage.load();
+    }
+}
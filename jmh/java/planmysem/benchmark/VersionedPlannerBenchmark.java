@@ -0,0 +1,34 @@
+package planmysem.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import planmysem.model.semester.Semester;
+import planmysem.model.slot.Slot;
+
+/**
+ * Commits a change to planners of each size and undoes it, as every mutating command and undo does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedPlannerBenchmark {
+    private static final LocalDate DATE = LocalDate.of(2019, 1, 15);
+    private static final Slot SLOT = new Slot("Consultation", "COM2 02-05", "Project", LocalTime.of(17, 0), 30,
+            Collections.singleton("Consultation"));
+
+    /**
+     * Adds a slot and commits it, then undoes it. The undone state is dropped by the next commit.
+     */
+    @Benchmark
+    public void commitAndUndo(PlannerState state) throws Semester.DateNotFoundException {
+        state.model.addSlot(DATE, SLOT);
+        state.model.commit();
+        state.model.undo();
+    }
+}
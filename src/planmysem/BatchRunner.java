@@ -0,0 +1,160 @@
+package planmysem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import planmysem.logic.CommandRecorder;
+import planmysem.logic.LogicManager;
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.ExitCommand;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.storage.AcademicCalendarFile;
+import planmysem.storage.Storage;
+import planmysem.storage.StorageFile;
+
+/**
+ * Headless entry point which executes commands read from a script file, or from standard input, without a GUI.
+ * The whole script is a single step for undo, and is optionally saved only once at the end.
+ */
+public class BatchRunner {
+    public static final String OPTION_NO_SAVE_UNTIL_END = "--no-save-until-end";
+    public static final String OPTION_STORAGE_FILE = "--storage";
+    public static final String OPTION_RECORD = "--record";
+    public static final String OPTION_RECORD_OUTPUT = "--record-output";
+    public static final String MESSAGE_USAGE = "Usage: BatchRunner [" + OPTION_NO_SAVE_UNTIL_END + "] ["
+            + OPTION_STORAGE_FILE + " STORAGE_FILE] [" + OPTION_RECORD + " LOG_FILE [" + OPTION_RECORD_OUTPUT
+            + "]] [SCRIPT_FILE]\n"
+            + "Commands are read from standard input if no script file is given.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String COMMAND_PROMPT = "> ";
+    private static final int EXIT_COMMANDS_FAILED = 1;
+    private static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    private final LogicManager logicManager;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public BatchRunner(LogicManager logicManager, PrintStream out, PrintStream err) {
+        this.logicManager = logicManager;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the script given in {@code args}, or the commands on standard input.
+     * Exits with a non-zero status if any command failed.
+     */
+    public static void main(String[] args) throws Exception {
+        boolean isSavedUntilEnd = false;
+        String storageFilePath = StorageFile.DEFAULT_STORAGE_FILEPATH;
+        String scriptPath = null;
+        String logPath = null;
+        boolean isOutputRecorded = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(OPTION_NO_SAVE_UNTIL_END)) {
+                isSavedUntilEnd = true;
+            } else if (args[i].equals(OPTION_STORAGE_FILE) && i + 1 < args.length) {
+                storageFilePath = args[++i];
+            } else if (args[i].equals(OPTION_RECORD) && i + 1 < args.length) {
+                logPath = args[++i];
+            } else if (args[i].equals(OPTION_RECORD_OUTPUT)) {
+                isOutputRecorded = true;
+            } else if (scriptPath == null && !args[i].startsWith("-")) {
+                scriptPath = args[i];
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(EXIT_INVALID_ARGUMENTS);
+                return;
+            }
+        }
+
+        try {
+            AcademicCalendarFile.loadDefaultLayout();
+        } catch (Storage.StorageOperationException soe) {
+            // the planner is still usable with the default layout
+            System.err.println(soe.getMessage());
+        }
+        LogicManager logicManager = new LogicManager(new StorageFile(storageFilePath));
+        CommandRecorder recorder = logPath == null ? null : new CommandRecorder(Paths.get(logPath), isOutputRecorded);
+        logicManager.setRecorder(recorder);
+        BatchRunner runner = new BatchRunner(logicManager, System.out, System.err);
+        int noOfFailures;
+        try (BufferedReader script = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            noOfFailures = runner.run(script, isSavedUntilEnd);
+        } finally {
+            if (recorder != null) {
+                recorder.close();
+            }
+            logicManager.close();
+        }
+        if (noOfFailures > 0) {
+            System.exit(EXIT_COMMANDS_FAILED);
+        }
+    }
+
+    /**
+     * Executes every command in {@code script} until its end or an exit command, printing the result of each.
+     * Blank lines and lines starting with {@code #} are skipped. A failing command is reported and skipped.
+     *
+     * @param isSavedUntilEnd if true, the planner is saved once after the script instead of after every command
+     * @return the number of commands which failed
+     */
+    public int run(BufferedReader script, boolean isSavedUntilEnd) throws IOException {
+        int noOfFailures = 0;
+        int lineNo = 0;
+        logicManager.setSavedAfterEachCommand(!isSavedUntilEnd);
+        logicManager.beginBatch();
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNo++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                out.println(COMMAND_PROMPT + commandText);
+                try {
+                    CommandResult result = logicManager.execute(commandText);
+                    print(result);
+                    if (result.feedbackToUser.equals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT)) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    noOfFailures++;
+                    err.println(String.format(MESSAGE_COMMAND_FAILED, lineNo, e.getMessage()));
+                }
+            }
+        } finally {
+            logicManager.endBatch();
+            logicManager.setSavedAfterEachCommand(true);
+        }
+
+        if (isSavedUntilEnd) {
+            try {
+                logicManager.save();
+            } catch (CommandException ce) {
+                noOfFailures++;
+                err.println(ce.getMessage());
+            }
+        }
+        return noOfFailures;
+    }
+
+    /**
+     * Prints the feedback of {@code result} followed by the slots it lists, if any.
+     */
+    private void print(CommandResult result) {
+        out.println(result.toText());
+    }
+}
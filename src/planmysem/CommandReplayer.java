@@ -0,0 +1,185 @@
+package planmysem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import planmysem.common.Clock;
+import planmysem.logic.CommandRecorder;
+import planmysem.logic.LogicManager;
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.storage.AcademicCalendarFile;
+import planmysem.storage.Storage;
+import planmysem.storage.StorageFile;
+
+/**
+ * Replays a log written by {@link CommandRecorder} against a planner, for reproducible performance regression tests.
+ * Every command is executed at the time it was recorded at, and its output is checked against the recorded output,
+ * or only whether it succeeded if its output was not recorded.
+ * The latency percentiles of every command word are printed at the end.
+ */
+public class CommandReplayer {
+    public static final String OPTION_SAVE_AFTER_EACH_COMMAND = "--save-after-each-command";
+    public static final String OPTION_STORAGE_FILE = "--storage";
+    public static final String MESSAGE_USAGE = "Usage: CommandReplayer [" + OPTION_SAVE_AFTER_EACH_COMMAND + "] ["
+            + OPTION_STORAGE_FILE + " STORAGE_FILE] LOG_FILE\n"
+            + "The planner is not saved unless " + OPTION_SAVE_AFTER_EACH_COMMAND + " is given.";
+    public static final String MESSAGE_OUTPUT_DIFFERS = "Line %1$d: the output of \"%2$s\" differs from the recording"
+            + "\nRecorded:\n%3$s\nReplayed:\n%4$s";
+    public static final String MESSAGE_OUTPUT_NOT_RECORDED = "(output not recorded)";
+    public static final String MESSAGE_SUMMARY = "Replayed %1$d commands, %2$d of which differed from the recording";
+    public static final String LATENCY_HEADER = String.format("%-10s %8s %10s %10s %10s %10s",
+            "COMMAND", "COUNT", "P50 (ms)", "P90 (ms)", "P99 (ms)", "MAX (ms)");
+
+    private static final String LATENCY_ROW = "%-10s %8d %10.3f %10.3f %10.3f %10.3f";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int EXIT_OUTPUT_DIFFERS = 1;
+    private static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    private final LogicManager logicManager;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public CommandReplayer(LogicManager logicManager, PrintStream out, PrintStream err) {
+        this.logicManager = logicManager;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Replays the log given in {@code args}.
+     * Exits with a non-zero status if the output of any command differed from the recording.
+     */
+    public static void main(String[] args) throws Exception {
+        boolean isSavedAfterEachCommand = false;
+        String storageFilePath = StorageFile.DEFAULT_STORAGE_FILEPATH;
+        String logPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(OPTION_SAVE_AFTER_EACH_COMMAND)) {
+                isSavedAfterEachCommand = true;
+            } else if (args[i].equals(OPTION_STORAGE_FILE) && i + 1 < args.length) {
+                storageFilePath = args[++i];
+            } else if (logPath == null && !args[i].startsWith("-")) {
+                logPath = args[i];
+            } else {
+                logPath = null;
+                break;
+            }
+        }
+        if (logPath == null) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_INVALID_ARGUMENTS);
+            return;
+        }
+
+        try {
+            AcademicCalendarFile.loadDefaultLayout();
+        } catch (Storage.StorageOperationException soe) {
+            // the recording is still replayed, but against the default layout
+            System.err.println(soe.getMessage());
+        }
+        LogicManager logicManager = new LogicManager(new StorageFile(storageFilePath));
+        logicManager.setSavedAfterEachCommand(isSavedAfterEachCommand);
+        CommandReplayer replayer = new CommandReplayer(logicManager, System.out, System.err);
+        int noOfDifferences;
+        try (BufferedReader log = Files.newBufferedReader(Paths.get(logPath), StandardCharsets.UTF_8)) {
+            noOfDifferences = replayer.replay(log);
+        } finally {
+            logicManager.close();
+        }
+        if (noOfDifferences > 0) {
+            System.exit(EXIT_OUTPUT_DIFFERS);
+        }
+    }
+
+    /**
+     * Executes every command in {@code log} at the time it was recorded at, reporting every command whose output
+     * differs from the recording, then prints the latency percentiles of every command word.
+     *
+     * @return the number of commands whose output differed from the recording
+     */
+    public int replay(BufferedReader log) throws IOException {
+        Map<String, List<Long>> latencies = new TreeMap<>();
+        int noOfCommands = 0;
+        int noOfDifferences = 0;
+        int lineNo = 0;
+        String line;
+        while ((line = log.readLine()) != null) {
+            lineNo++;
+            if (line.isEmpty()) {
+                continue;
+            }
+            CommandRecorder.Entry recorded;
+            try {
+                recorded = CommandRecorder.Entry.parse(line);
+            } catch (IllegalArgumentException iae) {
+                throw new IOException("Line " + lineNo + ": " + iae.getMessage(), iae);
+            }
+            Clock.set(recorded.getTime());
+
+            boolean isSuccessful;
+            String output;
+            long start = System.nanoTime();
+            try {
+                CommandResult result = logicManager.execute(recorded.getCommandText());
+                isSuccessful = true;
+                output = result.toText();
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+                output = e.getMessage();
+            }
+            long latency = System.nanoTime() - start;
+
+            noOfCommands++;
+            latencies.computeIfAbsent(getCommandWord(recorded.getCommandText()), k -> new ArrayList<>())
+                    .add(latency);
+            String recordedOutput = recorded.getOutput();
+            if (isSuccessful != recorded.isSuccessful()
+                    || (recordedOutput != null && !output.equals(recordedOutput))) {
+                noOfDifferences++;
+                err.println(String.format(MESSAGE_OUTPUT_DIFFERS, lineNo, recorded.getCommandText(),
+                        recordedOutput != null ? recordedOutput : MESSAGE_OUTPUT_NOT_RECORDED, output));
+            }
+        }
+
+        printLatencies(latencies);
+        out.println(String.format(MESSAGE_SUMMARY, noOfCommands, noOfDifferences));
+        return noOfDifferences;
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Prints the 50th, 90th and 99th percentile and the maximum of the latencies of every command word.
+     */
+    private void printLatencies(Map<String, List<Long>> latencies) {
+        out.println(LATENCY_HEADER);
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            out.println(String.format(LATENCY_ROW, entry.getKey(), sorted.length,
+                    percentile(sorted, 50) / NANOS_PER_MILLI, percentile(sorted, 90) / NANOS_PER_MILLI,
+                    percentile(sorted, 99) / NANOS_PER_MILLI, sorted[sorted.length - 1] / NANOS_PER_MILLI));
+        }
+    }
+
+    /**
+     * Returns the {@code percent}-th percentile of {@code sorted} by the nearest rank method.
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -1,9 +1,13 @@
 package planmysem;
 
+import java.nio.file.Paths;
+
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import planmysem.logic.CommandRecorder;
 import planmysem.logic.LogicManager;
+import planmysem.storage.AcademicCalendarFile;
 import planmysem.storage.Storage;
 import planmysem.storage.StorageFile;
 import planmysem.ui.Stoppable;
@@ -19,19 +23,51 @@ public class Main extends Application implements Stoppable {
      */
     public static final String VERSION = "PlanMySem - Version 1.4";
 
+    /**
+     * Named parameter giving the log to record every command to, e.g. {@code --record=session.log}.
+     */
+    public static final String PARAMETER_RECORD = "record";
+
+    /**
+     * Flag which records the output of every command as well, e.g. {@code --record=session.log --record-output}.
+     */
+    public static final String OPTION_RECORD_OUTPUT = "--record-output";
+
+    private LogicManager logicManager;
+    private CommandRecorder recorder;
+
     public static void main(String[] args) {
         launch(args);
     }
 
     @Override
     public void start(Stage primaryStage) throws Exception {
+        try {
+            AcademicCalendarFile.loadDefaultLayout();
+        } catch (Storage.StorageOperationException soe) {
+            // the planner is still usable with the default layout
+            System.err.println(soe.getMessage());
+        }
         Storage storageFile = new StorageFile();
-        UiManager uiManager = new UiManager(new LogicManager(storageFile), VERSION);
+        logicManager = new LogicManager(storageFile);
+        String logPath = getParameters().getNamed().get(PARAMETER_RECORD);
+        if (logPath != null) {
+            recorder = new CommandRecorder(Paths.get(logPath),
+                    getParameters().getUnnamed().contains(OPTION_RECORD_OUTPUT));
+            logicManager.setRecorder(recorder);
+        }
+        UiManager uiManager = new UiManager(logicManager, VERSION);
         uiManager.start(primaryStage, this);
     }
 
     @Override
     public void stop() throws Exception {
+        if (recorder != null) {
+            recorder.close();
+        }
+        if (logicManager != null) {
+            logicManager.close();
+        }
         super.stop();
         Platform.exit();
     }
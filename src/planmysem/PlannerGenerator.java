@@ -0,0 +1,329 @@
+package planmysem;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import planmysem.model.Planner;
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.recurrence.RecurrenceRule.WeekParity;
+import planmysem.model.semester.IcsSemester;
+import planmysem.model.semester.Semester;
+import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.Slot;
+import planmysem.storage.Storage;
+import planmysem.storage.StorageFile;
+
+/**
+ * Generates synthetic planners of any size for load and scaling tests.
+ * The planner is of the semester of the current date, and is fully determined by the seed and settings,
+ * so the same generator always produces the same planner, whether in memory, as a storage file or as a .ics file.
+ * <p>
+ * Every module has a number of weekly recurring slots, occurring on a random weekday of every normal week,
+ * and the single slots are spread evenly over the days of the semester, each belonging to a random module.
+ * Storage and .ics files are written one day at a time, so they may be far larger than the heap.
+ */
+public class PlannerGenerator {
+    public static final String MESSAGE_USAGE = "Usage: PlannerGenerator --slots NO_OF_SLOTS [--seed SEED] "
+            + "[--modules NO_OF_MODULES] [--series-per-module NO_OF_SERIES] [--tags NO_OF_TAGS] "
+            + "[--description-length LENGTH] [--storage STORAGE_FILE] [--ics ICS_FILE]";
+    public static final String MESSAGE_GENERATED = "Generated %1$d slots and %2$d recurring slots into %3$s";
+    public static final String TAG_PREFIX = "tag";
+
+    private static final int FIRST_MODULE_CODE = 1000;
+    private static final int NO_OF_WEEKDAYS = 5;
+    private static final int FIRST_START_HOUR = 8;
+    private static final int NO_OF_START_HOURS = 10;
+    private static final int MAX_EXTRA_TAGS = 3;
+    private static final String[] SLOT_TYPES = {"Lecture", "Tutorial", "Lab", "Sectional"};
+    private static final String[] WORDS = {"revise", "chapter", "quiz", "project", "team", "meeting", "notes",
+        "lecture", "recording", "assignment", "submit", "report", "slides", "demo", "review", "exam", "practice",
+        "reading", "week", "deadline"};
+
+    private final long seed;
+    private final int noOfModules;
+    private final int noOfSeriesPerModule;
+    private final int noOfTags;
+    private final int descriptionLength;
+
+    /**
+     * @param noOfSeriesPerModule the number of weekly recurring slots of every module
+     * @param noOfTags the number of tags, besides the module code and slot type, which slots are randomly tagged with
+     * @param descriptionLength the number of characters in the description of every slot
+     */
+    public PlannerGenerator(long seed, int noOfModules, int noOfSeriesPerModule, int noOfTags,
+                            int descriptionLength) {
+        if (noOfModules < 1) {
+            throw new IllegalArgumentException("There must be at least 1 module.");
+        }
+        if (noOfSeriesPerModule < 0 || noOfTags < 0 || descriptionLength < 0) {
+            throw new IllegalArgumentException("Numbers of slots, tags and characters cannot be negative.");
+        }
+        this.seed = seed;
+        this.noOfModules = noOfModules;
+        this.noOfSeriesPerModule = noOfSeriesPerModule;
+        this.noOfTags = noOfTags;
+        this.descriptionLength = descriptionLength;
+    }
+
+    /**
+     * Generates the storage and .ics files given in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        long seed = 0;
+        int noOfSlots = -1;
+        int noOfModules = 50;
+        int noOfSeriesPerModule = 2;
+        int noOfTags = 20;
+        int descriptionLength = 40;
+        String storageFilePath = null;
+        String icsFilePath = null;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--slots":
+                    noOfSlots = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--modules":
+                    noOfModules = Integer.parseInt(value);
+                    break;
+                case "--series-per-module":
+                    noOfSeriesPerModule = Integer.parseInt(value);
+                    break;
+                case "--tags":
+                    noOfTags = Integer.parseInt(value);
+                    break;
+                case "--description-length":
+                    descriptionLength = Integer.parseInt(value);
+                    break;
+                case "--storage":
+                    storageFilePath = value;
+                    break;
+                case "--ics":
+                    icsFilePath = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+            if (noOfSlots < 0 || (storageFilePath == null && icsFilePath == null)) {
+                throw new IllegalArgumentException();
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        PlannerGenerator generator = new PlannerGenerator(seed, noOfModules, noOfSeriesPerModule, noOfTags,
+                descriptionLength);
+        int noOfSeries = noOfModules * noOfSeriesPerModule;
+        if (storageFilePath != null) {
+            generator.writeStorageFile(noOfSlots, new StorageFile(storageFilePath));
+            System.out.println(String.format(MESSAGE_GENERATED, noOfSlots, noOfSeries, storageFilePath));
+        }
+        if (icsFilePath != null) {
+            generator.writeIcsFile(noOfSlots, Paths.get(icsFilePath));
+            System.out.println(String.format(MESSAGE_GENERATED, noOfSlots, noOfSeries, icsFilePath));
+        }
+    }
+
+    /**
+     * Returns a planner with the recurring slots of every module and {@code noOfSlots} single slots.
+     */
+    public Planner generate(int noOfSlots) throws Semester.DateNotFoundException {
+        Random random = new Random(seed);
+        Planner planner = createSkeleton(random);
+        List<LocalDate> dates = getSortedDates(planner);
+        for (int i = 0; i < dates.size(); i++) {
+            for (ReadOnlySlot slot : generateSingleSlots(random, noOfSlotsOn(i, dates.size(), noOfSlots))) {
+                planner.addSlot(dates.get(i), new Slot(slot));
+            }
+        }
+        return planner;
+    }
+
+    /**
+     * Saves the planner of {@code generate(noOfSlots)} to {@code storage}, one day at a time.
+     */
+    public void writeStorageFile(int noOfSlots, StorageFile storage) throws Storage.StorageOperationException {
+        Random random = new Random(seed);
+        Planner skeleton = createSkeleton(random);
+        List<LocalDate> dates = getSortedDates(skeleton);
+        storage.save(skeleton, date -> generateSingleSlots(random,
+                noOfSlotsOn(Collections.binarySearch(dates, date), dates.size(), noOfSlots)));
+    }
+
+    /**
+     * Writes every slot of the planner of {@code generate(noOfSlots)} as an event of a .ics file, one day at a time.
+     */
+    public void writeIcsFile(int noOfSlots, Path path) throws IOException {
+        Random random = new Random(seed);
+        Planner skeleton = createSkeleton(random);
+        List<LocalDate> dates = getSortedDates(skeleton);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(IcsSemester.CALENDAR_START);
+            for (int i = 0; i < dates.size(); i++) {
+                LocalDate date = dates.get(i);
+                // the days of the skeleton only hold the occurrences of recurring slots
+                for (Slot occurrence : skeleton.getDays().get(date).getSlots()) {
+                    writer.write(IcsSemester.toEvent(date, occurrence));
+                }
+                for (ReadOnlySlot slot : generateSingleSlots(random, noOfSlotsOn(i, dates.size(), noOfSlots))) {
+                    writer.write(IcsSemester.toEvent(date, slot));
+                }
+            }
+            writer.write(IcsSemester.CALENDAR_END);
+        }
+    }
+
+    /**
+     * Returns a planner with only the recurring slots of every module.
+     */
+    private Planner createSkeleton(Random random) {
+        Planner planner = new Planner();
+        for (int module = 0; module < noOfModules; module++) {
+            for (int i = 0; i < noOfSeriesPerModule; i++) {
+                DayOfWeek day = DayOfWeek.of(1 + random.nextInt(NO_OF_WEEKDAYS));
+                RecurrenceRule rule = new RecurrenceRule(day, true, false, false, false, 1, WeekParity.ALL,
+                        null, null, null);
+                planner.addSlotSeries(new Slot(generateSlot(random, module, SLOT_TYPES[i % SLOT_TYPES.length])),
+                        rule);
+            }
+        }
+        return planner;
+    }
+
+    private static List<LocalDate> getSortedDates(Planner planner) {
+        List<LocalDate> dates = new ArrayList<>(planner.getDays().keySet());
+        Collections.sort(dates);
+        return dates;
+    }
+
+    /**
+     * Returns the number of single slots on the {@code dateIndex}-th of {@code noOfDates} dates,
+     * such that {@code noOfSlots} slots are spread evenly over the dates, earliest dates first.
+     */
+    private static int noOfSlotsOn(int dateIndex, int noOfDates, int noOfSlots) {
+        return noOfSlots / noOfDates + (dateIndex < noOfSlots % noOfDates ? 1 : 0);
+    }
+
+    /**
+     * Returns {@code noOfSlots} single slots of random modules.
+     * The slots are not {@link Slot}s, whose strings are kept in the shared dictionary for as long as they are used.
+     */
+    private List<ReadOnlySlot> generateSingleSlots(Random random, int noOfSlots) {
+        List<ReadOnlySlot> slots = new ArrayList<>(noOfSlots);
+        for (int i = 0; i < noOfSlots; i++) {
+            slots.add(generateSlot(random, random.nextInt(noOfModules),
+                    SLOT_TYPES[random.nextInt(SLOT_TYPES.length)]));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns a slot of {@code module} with random details.
+     */
+    private ReadOnlySlot generateSlot(Random random, int module, String type) {
+        String moduleCode = "CS" + (FIRST_MODULE_CODE + module);
+        String location = "COM" + (1 + random.nextInt(3)) + " 0" + (1 + random.nextInt(5)) + "-"
+                + (10 + random.nextInt(90));
+        LocalTime startTime = LocalTime.of(FIRST_START_HOUR + random.nextInt(NO_OF_START_HOURS), 0);
+        int duration = 60 * (1 + random.nextInt(2));
+
+        Set<String> tags = new HashSet<>();
+        tags.add(moduleCode);
+        tags.add(type);
+        if (noOfTags > 0) {
+            int noOfExtraTags = random.nextInt(MAX_EXTRA_TAGS);
+            for (int i = 0; i < noOfExtraTags; i++) {
+                tags.add(TAG_PREFIX + random.nextInt(noOfTags));
+            }
+        }
+        return new GeneratedSlot(moduleCode + " " + type, location, generateDescription(random), startTime,
+                duration, Collections.unmodifiableSet(tags));
+    }
+
+    /**
+     * Returns {@code descriptionLength} characters of random words.
+     */
+    private String generateDescription(Random random) {
+        StringBuilder sb = new StringBuilder(descriptionLength + 16);
+        while (sb.length() < descriptionLength) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sb.setLength(descriptionLength);
+        return sb.toString();
+    }
+
+    /**
+     * The details of a generated slot, held only until they are written out.
+     */
+    private static class GeneratedSlot implements ReadOnlySlot {
+        private final String name;
+        private final String location;
+        private final String description;
+        private final LocalTime startTime;
+        private final int duration;
+        private final Set<String> tags;
+
+        GeneratedSlot(String name, String location, String description, LocalTime startTime, int duration,
+                      Set<String> tags) {
+            this.name = name;
+            this.location = location;
+            this.description = description;
+            this.startTime = startTime;
+            this.duration = duration;
+            this.tags = tags;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getLocation() {
+            return location;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public int getDuration() {
+            return duration;
+        }
+
+        @Override
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public Set<String> getTags() {
+            return tags;
+        }
+    }
+}
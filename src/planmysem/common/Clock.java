@@ -2,6 +2,7 @@ package planmysem.common;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 
 /**
  * Utility methods
@@ -20,5 +21,12 @@ public class Clock {
     public static void set(String dateTime) {
         clock = java.time.Clock.fixed(Instant.parse(dateTime), ZoneId.of("UTC"));
     }
+
+    /**
+     * Fixes the clock at {@code dateTime}, in its time zone.
+     */
+    public static void set(ZonedDateTime dateTime) {
+        clock = java.time.Clock.fixed(dateTime.toInstant(), dateTime.getZone());
+    }
 }
 
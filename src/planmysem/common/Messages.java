@@ -1,13 +1,10 @@
 package planmysem.common;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import javafx.util.Pair;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.semester.WeightedName;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Container for user visible messages.
@@ -37,9 +34,20 @@ public class Messages {
             + "before it's start time.";
 
     public static final String MESSAGE_INVALID_TAG = "Tags cannot be empty !";
+    public static final String MESSAGE_INVALID_RECURRENCE = "Recurrences with a value have to be in these formats:"
+            + "\n\tevery:WEEKS, e.g. every:2"
+            + "\n\tuntil:DATE, e.g. until:01-03-2019"
+            + "\n\texcept:DATE, e.g. except:18-02-2019";
     public static final String MESSAGE_ILLEGAL_VALUE = "Illegal value detected!";
     public static final String MESSAGE_ILLEGAL_WEEK_VALUE = "No such week is found in the current semester!";
     public static final String MESSAGE_DATE_OUT_OF_BOUNDS = "No such date is found in the current semester!";
+    public static final String MESSAGE_VIEW_SLOT_DETAILS =
+            " To view more information about a particular slot, try the 'view day' command!";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled, nothing was changed.";
+    public static final String MESSAGE_HISTORY_TOO_SHORT = "The undo history only goes back %1$d changes.";
+    public static final String MESSAGE_PLANNER_AT = "As of %1$d changes ago:\n";
+    public static final String MESSAGE_INVALID_CHANGES_AGO = "The number of changes ago has to be 0 or more, "
+            + "e.g. \"--at 3\"";
 
     /**
      * Craft selected message via tags.
@@ -75,8 +83,7 @@ public class Messages {
     /**
      * Craft selected message with header.
      */
-    public static String craftSelectedMessage(String header,
-                                              List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots) {
+    public static String craftSelectedMessage(String header, List<SlotRef> selectedSlots) {
         StringBuilder sb = new StringBuilder();
         sb.append(header);
         sb.append("\n");
@@ -85,83 +92,55 @@ public class Messages {
     }
 
     /**
-     * Craft selected message via weighted Set of Pairs.
+     * Craft list message.
      */
-    public static String craftListMessageWeighted(List<WeightedName> tries) {
+    public static String craftListMessage(List<SlotRef> selectedSlots) {
         StringBuilder sb = new StringBuilder();
 
         int count = 1;
-        for (WeightedName wn : tries) {
+        for (SlotRef entry : selectedSlots) {
             sb.append("\n");
-            sb.append(count + ".\t");
-            sb.append("Name: ");
-            sb.append(wn.getName());
-            sb.append(",\n\t");
-            sb.append("Date: ");
-            sb.append(wn.getMap().getKey().toString());
-            sb.append(",\n\t");
-            sb.append("Start Time: ");
-            sb.append(wn.getSlot().getStartTime());
-            sb.append("\n\t");
-            sb.append("Tags: ");
-            sb.append(wn.getSlot().getTags());
+            sb.append(craftSlotMessage(count, entry));
             sb.append("\n");
             count++;
         }
-        sb.append("\n To view more information about a particular slot, try the 'view day' command!");
+        sb.append("\n" + MESSAGE_VIEW_SLOT_DETAILS);
         return sb.toString();
     }
 
     /**
-     * Craft list message.
+     * Craft the message of a single listed slot, numbered {@code index}.
      */
-    public static String craftListMessage(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots) {
-        StringBuilder sb = new StringBuilder();
-
-        int count = 1;
-        for (Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> entry : selectedSlots) {
-            sb.append("\n");
-            sb.append(count + ".\t");
-            sb.append("Name: ");
-            sb.append(entry.getValue().getValue().getName());
-            sb.append(",\n\t");
-            sb.append("Date: ");
-            sb.append(entry.getKey().toString());
-            sb.append(",\n\t");
-            sb.append("Start Time: ");
-            sb.append(entry.getValue().getValue().getStartTime());
-            sb.append("\n\t");
-            sb.append("Tags: ");
-            sb.append(entry.getValue().getValue().getTags());
-            sb.append("\n");
-            count++;
-        }
-        sb.append("\n To view more information about a particular slot, try the 'view day' command!");
-        return sb.toString();
+    public static String craftSlotMessage(int index, SlotRef entry) {
+        return index + ".\t"
+                + "Name: " + entry.getSlot().getName() + ",\n\t"
+                + "Date: " + entry.getDate() + ",\n\t"
+                + "Start Time: " + entry.getSlot().getStartTime() + "\n\t"
+                + "Tags: " + entry.getSlot().getTags();
     }
 
     /**
      * Craft selected message.
      */
-    private static String getSelectedMessage(
-            List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots) {
-        selectedSlots.sort((p1, p2) -> p1.getKey().compareTo(p2.getKey()));
+    private static String getSelectedMessage(List<SlotRef> selectedSlots) {
+        List<SlotRef> sortedSlots = new ArrayList<>(selectedSlots);
+        sortedSlots.sort(SlotRef.BY_DATE);
 
         StringBuilder sb = new StringBuilder();
 
         int count = 1;
-        for (Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> entry : selectedSlots) {
+        for (SlotRef entry : sortedSlots) {
             sb.append(count);
             sb.append(".\t");
-            sb.append(entry.getValue().getValue().getName());
+            sb.append(entry.getSlot().getName());
             sb.append(", ");
-            sb.append(entry.getKey());
+            sb.append(entry.getDate());
             sb.append(" ");
-            sb.append(entry.getValue().getValue().getStartTime());
+            sb.append(entry.getSlot().getStartTime());
             sb.append(", ");
-            sb.append(entry.getValue().getKey().getType());
+            sb.append(entry.getDay().getType());
             sb.append(", ");
-            sb.append(entry.getKey().getDayOfWeek().toString());
+            sb.append(entry.getDate().getDayOfWeek().toString());
             count++;
             sb.append("\n");
         }
@@ -0,0 +1,152 @@
+package planmysem.common.trace;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Begins the spans of the {@link Tracer} on the class path, such as the one recording Java Flight Recorder events,
+ * or spans which do nothing if there is none.
+ */
+public final class Trace {
+    public static final String OPERATION_SAVE = "save";
+    public static final String OPERATION_LOAD = "load";
+    public static final String OPERATION_ENCRYPT = "encrypt";
+    public static final String OPERATION_DECRYPT = "decrypt";
+    public static final String OPERATION_IMPORT = "import";
+    public static final String OPERATION_EXPORT = "export";
+
+    private static final Tracer TRACER = loadTracer();
+
+    private Trace() {
+    }
+
+    /**
+     * Returns the first tracer which can be loaded, or one which does nothing if there is none.
+     * A tracer may fail to load because its JDK lacks the API it records to, such as Flight Recorder before JDK 11.
+     */
+    private static Tracer loadTracer() {
+        Iterator<Tracer> tracers = ServiceLoader.load(Tracer.class).iterator();
+        while (true) {
+            try {
+                if (!tracers.hasNext()) {
+                    return NoOpSpan.TRACER;
+                }
+                return tracers.next();
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // try the next tracer
+            }
+        }
+    }
+
+    public static Tracer.CommandSpan beginCommand() {
+        return TRACER.beginCommand();
+    }
+
+    public static Tracer.StorageSpan beginStorage(String operation) {
+        return TRACER.beginStorage(operation);
+    }
+
+    public static Tracer.CryptoSpan beginCrypto(String operation) {
+        return TRACER.beginCrypto(operation);
+    }
+
+    public static Tracer.CommitSpan beginCommit() {
+        return TRACER.beginCommit();
+    }
+
+    public static Tracer.IcsSpan beginIcs(String operation) {
+        return TRACER.beginIcs(operation);
+    }
+
+    /**
+     * A span which is never recorded, shared by every phase when there is no tracer.
+     */
+    private static final class NoOpSpan implements Tracer.CommandSpan, Tracer.StorageSpan, Tracer.CryptoSpan,
+            Tracer.CommitSpan, Tracer.IcsSpan {
+        private static final NoOpSpan SPAN = new NoOpSpan();
+        private static final Tracer TRACER = new Tracer() {
+            @Override
+            public CommandSpan beginCommand() {
+                return SPAN;
+            }
+
+            @Override
+            public StorageSpan beginStorage(String operation) {
+                return SPAN;
+            }
+
+            @Override
+            public CryptoSpan beginCrypto(String operation) {
+                return SPAN;
+            }
+
+            @Override
+            public CommitSpan beginCommit() {
+                return SPAN;
+            }
+
+            @Override
+            public IcsSpan beginIcs(String operation) {
+                return SPAN;
+            }
+        };
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void setCommandWord(String commandWord) {
+        }
+
+        @Override
+        public void setSlotsListed(int slotsListed) {
+        }
+
+        @Override
+        public void setSuccessful(boolean isSuccessful) {
+        }
+
+        @Override
+        public void setPath(String path) {
+        }
+
+        @Override
+        public void setBytes(long bytes) {
+        }
+
+        @Override
+        public void setMarshalNanos(long marshalNanos) {
+        }
+
+        @Override
+        public void setCryptoNanos(long cryptoNanos) {
+        }
+
+        @Override
+        public void setDays(int days) {
+        }
+
+        @Override
+        public void setSingleSlots(int singleSlots) {
+        }
+
+        @Override
+        public void setSeries(int series) {
+        }
+
+        @Override
+        public void setChanges(int changes) {
+        }
+
+        @Override
+        public void setEvents(int events) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package planmysem.common.trace;
+
+/**
+ * Receives the phases of PlanMySem which are worth attributing time and allocation to, such as executing a command
+ * or saving the planner. An implementation is found with {@link java.util.ServiceLoader} by {@link Trace}.
+ * <p>
+ * Every method begins a span on the calling thread, which the caller fills in and commits on the same thread.
+ * Spans follow the life cycle of Java Flight Recorder events, so that events can implement them directly.
+ * Implementations must be cheap enough to be called on every command.
+ */
+public interface Tracer {
+
+    CommandSpan beginCommand();
+
+    StorageSpan beginStorage(String operation);
+
+    CryptoSpan beginCrypto(String operation);
+
+    CommitSpan beginCommit();
+
+    IcsSpan beginIcs(String operation);
+
+    /**
+     * A phase which has begun and is ended by {@code commit()}.
+     */
+    interface Span {
+        /**
+         * Returns true if the span is recorded, so that details which are costly to work out can be skipped if not.
+         */
+        boolean isEnabled();
+
+        /**
+         * Ends the span and records it with the details filled in.
+         */
+        void commit();
+    }
+
+    /**
+     * The execution of a command, from parsing it to saving the planner.
+     */
+    interface CommandSpan extends Span {
+        void setCommandWord(String commandWord);
+
+        void setSlotsListed(int slotsListed);
+
+        void setSuccessful(boolean isSuccessful);
+    }
+
+    /**
+     * The saving or loading of a storage file, of which marshalling or unmarshalling the planner and
+     * encrypting or decrypting its text are timed separately.
+     */
+    interface StorageSpan extends Span {
+        void setPath(String path);
+
+        void setBytes(long bytes);
+
+        void setMarshalNanos(long marshalNanos);
+
+        void setCryptoNanos(long cryptoNanos);
+    }
+
+    /**
+     * The encryption or decryption of the text of a storage file.
+     */
+    interface CryptoSpan extends Span {
+        void setBytes(long bytes);
+    }
+
+    /**
+     * The commit of a state of the planner, which takes a snapshot of it.
+     */
+    interface CommitSpan extends Span {
+        void setDays(int days);
+
+        void setSingleSlots(int singleSlots);
+
+        void setSeries(int series);
+
+        void setChanges(int changes);
+    }
+
+    /**
+     * The import or export of a .ics file.
+     */
+    interface IcsSpan extends Span {
+        void setPath(String path);
+
+        void setEvents(int events);
+    }
+}
@@ -2,16 +2,16 @@ package planmysem.logic;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Stores the history of commands executed.
  */
 public class CommandHistory {
-    private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistory =
-            FXCollections.unmodifiableObservableList(userInputHistory);
+    private final List<String> userInputHistory = new ArrayList<>();
+    private final List<String> unmodifiableUserInputHistory = Collections.unmodifiableList(userInputHistory);
 
     public CommandHistory() {}
 
@@ -30,7 +30,7 @@ public class CommandHistory {
     /**
      * Returns an unmodifiable view of {@code userInputHistory}.
      */
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return unmodifiableUserInputHistory;
     }
 
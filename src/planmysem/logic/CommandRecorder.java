@@ -0,0 +1,182 @@
+package planmysem.logic;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Records every command executed, with the time it was executed at and whether it succeeded, to a log which
+ * {@code CommandReplayer} can run again to reproduce the session.
+ * The output of each command is only recorded on request, since it lists the slots of the planner, which is
+ * otherwise only stored encrypted.
+ * Each command is one line of tab separated fields, in which tabs, line breaks and backslashes are escaped.
+ * Every line is flushed as soon as it is recorded, so the log survives the application being killed.
+ */
+public class CommandRecorder implements Closeable {
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String SUCCESS = "OK";
+    private static final String FAILURE = "ERROR";
+
+    private final PrintWriter writer;
+    private final boolean isOutputRecorded;
+
+    /**
+     * Creates a recorder which appends to {@code logFile}, creating it if it does not exist.
+     *
+     * @param isOutputRecorded whether the output of each command is recorded, for the replayer to compare
+     */
+    public CommandRecorder(Path logFile, boolean isOutputRecorded) throws IOException {
+        this(Files.newBufferedWriter(logFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND), isOutputRecorded);
+    }
+
+    public CommandRecorder(Writer writer, boolean isOutputRecorded) {
+        this.writer = new PrintWriter(writer instanceof BufferedWriter ? writer : new BufferedWriter(writer));
+        this.isOutputRecorded = isOutputRecorded;
+    }
+
+    /**
+     * Records that {@code commandText}, executed at {@code time}, succeeded with {@code output}
+     * or failed with the message {@code output}, leaving out {@code output} unless it is recorded.
+     */
+    public synchronized void record(ZonedDateTime time, String commandText, boolean isSuccessful, String output) {
+        writer.println(new Entry(time, commandText, isSuccessful, isOutputRecorded ? output : null).toLine());
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() {
+        writer.close();
+    }
+
+    /**
+     * Escapes the field separator, line breaks and the escape character itself in {@code text}.
+     */
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            default:
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reverses {@code escape(text)}.
+     */
+    private static String unescape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            switch (escaped) {
+            case 't':
+                sb.append('\t');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            default:
+                sb.append(escaped);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A command recorded in the log.
+     * Guarantees: immutable.
+     */
+    public static class Entry {
+        private final ZonedDateTime time;
+        private final String commandText;
+        private final boolean isSuccessful;
+        private final String output;
+
+        /**
+         * @param output the output of the command, or null if it is not recorded
+         */
+        public Entry(ZonedDateTime time, String commandText, boolean isSuccessful, String output) {
+            this.time = time;
+            this.commandText = commandText;
+            this.isSuccessful = isSuccessful;
+            this.output = output;
+        }
+
+        /**
+         * Parses a line of the log.
+         *
+         * @throws IllegalArgumentException if {@code line} is not a recorded command
+         */
+        public static Entry parse(String line) {
+            String[] fields = line.split(FIELD_SEPARATOR, -1);
+            if (fields.length < 3 || fields.length > 4 || !(fields[2].equals(SUCCESS) || fields[2].equals(FAILURE))) {
+                throw new IllegalArgumentException("Not a recorded command: " + line);
+            }
+            try {
+                return new Entry(ZonedDateTime.parse(fields[0]), unescape(fields[1]), fields[2].equals(SUCCESS),
+                        fields.length == 4 ? unescape(fields[3]) : null);
+            } catch (DateTimeParseException dtpe) {
+                throw new IllegalArgumentException("Not a recorded command: " + line, dtpe);
+            }
+        }
+
+        /**
+         * Formats this entry as a line of the log, without the line break.
+         * The output is left out if it is not recorded.
+         */
+        public String toLine() {
+            String line = time + FIELD_SEPARATOR + escape(commandText) + FIELD_SEPARATOR
+                    + (isSuccessful ? SUCCESS : FAILURE);
+            return output == null ? line : line + FIELD_SEPARATOR + escape(output);
+        }
+
+        public ZonedDateTime getTime() {
+            return time;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public boolean isSuccessful() {
+            return isSuccessful;
+        }
+
+        /**
+         * Returns the output of the command, or null if it was not recorded.
+         */
+        public String getOutput() {
+            return output;
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package planmysem.logic;
 
-import java.time.LocalDate;
+import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
-import javafx.collections.ObservableList;
-import javafx.util.Pair;
+import planmysem.common.Clock;
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
 import planmysem.logic.commands.Command;
 import planmysem.logic.commands.CommandResult;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.logic.parser.ParserManager;
 import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.logic.stats.PerformanceStats;
+import planmysem.logic.stats.PerformanceStats.Phase;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.slot.SlotRef;
+import planmysem.storage.HistorySpillFile;
 import planmysem.storage.Storage;
 import planmysem.storage.StorageFile;
 
@@ -27,44 +34,251 @@ public class LogicManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final ParserManager parserManager;
+    private final PerformanceStats performanceStats = PerformanceStats.getInstance();
+    private final HistorySpillFile pager;
+    private boolean isSavedAfterEachCommand = true;
+    private CommandRecorder recorder;
 
     public LogicManager(Storage storage) throws Exception {
+        this(storage, new HistorySpillFile());
+    }
+
+    private LogicManager(Storage storage, HistorySpillFile pager) throws Exception {
+        this(storage, new ModelManager(storage.loadHistory(storage.load(), pager)), pager);
+    }
+
+    /**
+     * @param pager the pager of the undo history of {@code model}, which is closed with the storage,
+     *              or null if another session of the planner closes them
+     */
+    private LogicManager(Storage storage, Model model, HistorySpillFile pager) {
         this.storage = storage;
-        this.model = new ModelManager(storage.load());
+        this.model = model;
+        this.pager = pager;
         this.history = new CommandHistory();
         this.parserManager = new ParserManager();
     }
 
+    /**
+     * Returns a new session of the same planner, with its own command history and last shown list.
+     * Sessions may execute commands from different threads; a single session must be used by one thread at a time.
+     */
+    public LogicManager createSession() {
+        LogicManager session = new LogicManager(storage, model.createSession(), null);
+        session.isSavedAfterEachCommand = isSavedAfterEachCommand;
+        return session;
+    }
+
+    /**
+     * Parses {@code userCommandText}, recording how long it took under the word of the command,
+     * or under {@code PerformanceStats.UNPARSED} if it is not a valid command.
+     */
+    private Command parse(String userCommandText) throws ParseException {
+        long start = System.nanoTime();
+        String commandWord = PerformanceStats.UNPARSED;
+        try {
+            Command command = parserManager.parseCommand(userCommandText);
+            commandWord = command.getCommandWord();
+            return command;
+        } finally {
+            performanceStats.record(commandWord, Phase.PARSE, System.nanoTime() - start);
+        }
+    }
+
     @Override
     public CommandResult execute(String userCommandText) throws CommandException, ParseException {
-        CommandResult result;
+        ZonedDateTime time = ZonedDateTime.now(Clock.get());
+        Tracer.CommandSpan span = Trace.beginCommand();
+        span.setCommandWord(PerformanceStats.UNPARSED);
         try {
-            Command command = parserManager.parseCommand(userCommandText);
-            result = command.execute(model, history);
+            Command command = parse(userCommandText);
+            span.setCommandWord(command.getCommandWord());
+            CommandResult result = execute(command);
+            span.setSuccessful(true);
+            span.setSlotsListed(result.getRelevantSlots().map(List::size).orElse(0));
+            if (recorder != null) {
+                recorder.record(time, userCommandText, true, result.toText());
+            }
+            return result;
+        } catch (CommandException | ParseException e) {
+            if (recorder != null) {
+                recorder.record(time, userCommandText, false, e.getMessage());
+            }
+            throw e;
         } finally {
             history.add(userCommandText);
+            span.commit();
         }
+    }
+
+    /**
+     * Executes {@code command} holding the read lock of the planner if it is read-only, or else the write lock.
+     * Commands which only read the snapshot of the planner hold no lock.
+     * The planner is saved after the write lock is released, unless it is only saved on request.
+     */
+    private CommandResult execute(Command command) throws CommandException {
+        long start = System.nanoTime();
+        CommandResult result;
         try {
-            storage.save(model.getPlanner());
-        } catch (StorageFile.StorageOperationException soe) {
-            throw new CommandException(STORAGE_ERROR + soe, soe);
+            result = executeHoldingLock(command);
+        } finally {
+            performanceStats.record(command.getCommandWord(), Phase.EXECUTE, System.nanoTime() - start);
         }
 
+        if (isSavedAfterEachCommand && !command.isReadOnly()) {
+            start = System.nanoTime();
+            try {
+                save();
+            } finally {
+                performanceStats.record(command.getCommandWord(), Phase.SAVE, System.nanoTime() - start);
+            }
+        }
         return result;
     }
 
+    /**
+     * Executes {@code command} holding the lock it needs, if any.
+     */
+    private CommandResult executeHoldingLock(Command command) throws CommandException {
+        if (command.isSnapshotReader()) {
+            return command.execute(model, history);
+        }
+
+        Lock lock = command.isReadOnly() ? model.getLock().readLock() : model.getLock().writeLock();
+        lock.lock();
+        try {
+            return command.isTransactional() ? executeInTransaction(command) : command.execute(model, history);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes {@code command} in a transaction of its own, nested in the batch if one has begun.
+     * The transaction is committed if the command did not commit it, or rolled back if the command failed,
+     * together with any transaction the command left open.
+     */
+    private CommandResult executeInTransaction(Command command) throws CommandException {
+        int depth = model.getTransactionDepth();
+        model.beginTransaction();
+        try {
+            CommandResult result = command.execute(model, history);
+            while (model.getTransactionDepth() > depth) {
+                model.commit();
+            }
+            return result;
+        } catch (CommandException | RuntimeException e) {
+            while (model.getTransactionDepth() > depth) {
+                model.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Saves the latest snapshot of the planner to the storage file, followed by the states of the undo history
+     * which are not saved yet, without blocking changes to the planner while they are written.
+     * Saves to the same storage file are made one at a time, and each writes the snapshot current at that time,
+     * so the file never ends up older than the last change saved.
+     */
+    public void save() throws CommandException {
+        synchronized (storage) {
+            Planner snapshot;
+            List<PlannerHistory.Version> versions;
+            int pointer;
+            Lock readLock = model.getLock().readLock();
+            readLock.lock();
+            try {
+                snapshot = model.getSnapshot();
+                versions = model.getHistory().getVersions();
+                pointer = model.getHistory().getPointer();
+            } finally {
+                readLock.unlock();
+            }
+            try {
+                storage.save(snapshot);
+                storage.saveHistory(versions, pointer);
+            } catch (StorageFile.StorageOperationException soe) {
+                throw new CommandException(STORAGE_ERROR + soe, soe);
+            }
+        }
+    }
+
+    /**
+     * Closes the files kept open for the planner, without saving it, and frees the states of the undo history
+     * paged out of the heap, so that the planner must not be used afterwards.
+     * Sessions created by {@code createSession()} share the planner, so only closing the session they were created
+     * from closes it, which must be done once none of them is used any more.
+     */
+    public void close() throws CommandException {
+        if (pager == null) {
+            return;
+        }
+        try {
+            try {
+                storage.close();
+            } finally {
+                pager.close();
+            }
+        } catch (IOException | StorageFile.StorageOperationException e) {
+            throw new CommandException(STORAGE_ERROR + e, e);
+        }
+    }
+
+    /**
+     * Sets whether the planner is saved after every command. If not, {@code save()} must be called explicitly.
+     */
+    public void setSavedAfterEachCommand(boolean isSavedAfterEachCommand) {
+        this.isSavedAfterEachCommand = isSavedAfterEachCommand;
+    }
+
+    /**
+     * Sets the recorder which every command executed by this session is recorded to, or null to stop recording.
+     * Sessions created by {@code createSession()} are not recorded, since their commands interleave with these.
+     */
+    public void setRecorder(CommandRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Starts a batch of commands which is undone and redone as a single step, by opening a transaction on the model.
+     * Commands of other sessions of the planner executed before {@code endBatch()} join the batch.
+     */
+    public void beginBatch() {
+        Lock lock = model.getLock().writeLock();
+        lock.lock();
+        try {
+            model.beginTransaction();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the batch of commands started by {@code beginBatch()}, committing its transaction.
+     */
+    public void endBatch() {
+        Lock lock = model.getLock().writeLock();
+        lock.lock();
+        try {
+            model.commit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public String getStorageFilePath() {
         return storage.getPath();
     }
 
     @Override
-    public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getLastShownSlots() {
+    public List<SlotRef> getLastShownSlots() {
         return model.getLastShownList();
     }
 
     @Override
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return history.getHistory();
     }
 }
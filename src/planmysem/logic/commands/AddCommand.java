@@ -26,7 +26,7 @@ public class AddCommand extends Command {
             + "\n\tParameters: "
             + "\n\t\tMandatory: n/NAME d/DATE_OR_DAY_OF_WEEK st/START_TIME et/END_TIME_OR_DURATION"
             + "\n\t\tOptional: [l/LOCATION] [des/DESCRIPTION] [r/normal] [r/recess] [r/reading] [r/exam]"
-            + "[r/past] [t/TAG]..."
+            + "[r/past] [r/odd] [r/even] [r/every:WEEKS] [r/until:DATE] [r/except:DATE] [t/TAG]..."
             + "\n\tExample: " + COMMAND_WORD
             + " n/CS2113T Tutorial d/mon st/08:00 et/09:00 des/Topic: Sequence Diagram t/CS2113T "
             + "t/Tutorial r/normal";
@@ -68,17 +68,18 @@ public class AddCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
-        Set<LocalDate> dates = recurrence.generateDates(model.getPlanner().getSemester());
         Map<LocalDate, Day> days = new TreeMap<>();
-        for (LocalDate date : dates) {
+        if (recurrence.isRecurring()) {
+            days.putAll(model.addSlotSeries(slot, recurrence.toRule()));
+        } else {
             try {
-                days.put(date, model.addSlot(date, slot));
+                days.put(recurrence.getDate(), model.addSlot(recurrence.getDate(), slot));
             } catch (Semester.DateNotFoundException dnfe) {
                 throw new CommandException(MESSAGE_FAIL_OUT_OF_BOUNDS);
             }
         }
         model.commit();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, dates.size(),
+        return new CommandResult(String.format(MESSAGE_SUCCESS, days.size(),
                 craftSuccessMessage(days, slot)));
     }
 
@@ -1,8 +1,12 @@
 package planmysem.logic.commands;
 
+import static planmysem.common.Messages.MESSAGE_HISTORY_TOO_SHORT;
+
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
 
 /**
  * Represents an executable command.
@@ -18,4 +22,58 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns the planner as it was {@code noOfChangesAgo} undoable changes ago, without undoing them, for read-only
+     * commands to query. Recent states share their unchanged days with the live planner, so querying them costs
+     * about as much as querying the live planner; older states are paged in from the undo history.
+     *
+     * @throws CommandException if the undo history does not go back that far, or the state cannot be read back
+     */
+    protected static Planner getPlannerAt(Model model, int noOfChangesAgo) throws CommandException {
+        if (noOfChangesAgo == 0) {
+            return model.getPlanner();
+        }
+        PlannerHistory history = model.getHistory();
+        if (noOfChangesAgo > history.getPointer()) {
+            throw new CommandException(String.format(MESSAGE_HISTORY_TOO_SHORT, history.getPointer()));
+        }
+        try {
+            return history.getState(history.getPointer() - noOfChangesAgo);
+        } catch (PlannerHistory.StateUnavailableException sue) {
+            throw new CommandException(sue.getMessage());
+        }
+    }
+
+    /**
+     * Returns the word the command is known by in statistics, which is its class name without "Command",
+     * so that every alias of a command word counts as the same command.
+     */
+    public String getCommandWord() {
+        return getClass().getSimpleName().replaceFirst("Command$", "").toLowerCase();
+    }
+
+    /**
+     * Returns true if the command does not change the planner, so that it may run in parallel with other
+     * read-only commands. The last shown list does not count as part of the planner.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if the command changes the planner within a transaction which it ends by {@code Model#commit()},
+     * so that the changes of a failing command are rolled back. Undo and redo move between committed states instead.
+     */
+    public boolean isTransactional() {
+        return !isReadOnly();
+    }
+
+    /**
+     * Returns true if the command reads the planner only through {@code Model#getSnapshot()}, so that it runs
+     * without holding any lock and never blocks commands which change the planner.
+     */
+    public boolean isSnapshotReader() {
+        return false;
+    }
+
 }
@@ -1,13 +1,11 @@
 package planmysem.logic.commands;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import javafx.util.Pair;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.common.Messages;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Represents the result of a command execution.
@@ -22,24 +20,67 @@ public class CommandResult {
     /**
      * The list of Slots that was produced by the command
      */
-    private final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> slots;
+    private final List<SlotRef> slots;
+
+    /**
+     * The lines of text that were produced by the command, such as the rows of a calendar
+     */
+    private final List<String> rows;
 
     public CommandResult(String feedbackToUser) {
+        this(feedbackToUser, null, null);
+    }
+
+    /**
+     * Constructs a result which lists {@code slots} after the feedback. The slots are kept as rows rather than
+     * joined into the feedback, so that a long list is only formatted as far as it is shown.
+     */
+    public CommandResult(String feedbackToUser, List<SlotRef> slots) {
+        this(feedbackToUser, slots, null);
+    }
+
+    private CommandResult(String feedbackToUser, List<SlotRef> slots, List<String> rows) {
         this.feedbackToUser = feedbackToUser;
-        slots = null;
+        this.slots = slots;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns a result which shows {@code rows} after the feedback, one line each, so that the rows are never
+     * joined into one string to be split again for display.
+     */
+    public static CommandResult ofRows(String feedbackToUser, List<String> rows) {
+        return new CommandResult(feedbackToUser, null, rows);
     }
 
     /**
      * Returns list of Slots relevant to the command command result, if any.
      */
-    public Optional<List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>>> getRelevantSlots() {
+    public Optional<List<SlotRef>> getRelevantSlots() {
         return Optional.ofNullable(slots);
     }
 
+    /**
+     * Returns the lines of text produced by the command, if any.
+     */
+    public Optional<List<String>> getRows() {
+        return Optional.ofNullable(rows);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
 
+    /**
+     * Returns the feedback followed by the listed slots or the rows, if any, as plain text.
+     */
+    public String toText() {
+        if (rows != null) {
+            return feedbackToUser + String.join("\n", rows);
+        }
+        return slots == null ? feedbackToUser : feedbackToUser + Messages.craftListMessage(slots);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,11 +93,12 @@ public class CommandResult {
         }
 
         CommandResult otherCommandResult = (CommandResult) other;
-        return feedbackToUser.equals(otherCommandResult.feedbackToUser);
+        return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+                && Objects.equals(rows, otherCommandResult.rows);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser);
+        return Objects.hash(feedbackToUser, rows);
     }
 }
@@ -2,19 +2,16 @@ package planmysem.logic.commands;
 
 import static planmysem.common.Messages.MESSAGE_INVALID_SLOT_DISPLAYED_INDEX;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
-import javafx.util.Pair;
 import planmysem.common.Messages;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Adds a person to the address book.
@@ -38,7 +35,7 @@ public class DeleteCommand extends Command {
     public static final String MESSAGE_SLOT_NOT_IN_PLANNER =
             "Slot could not be found in Planner. Perhaps it was previously deleted.";
 
-    private final Set<String> tags = new HashSet<>();
+    private final Set<String> tags = new LinkedHashSet<>();
     private final int targetIndex;
 
     /**
@@ -58,7 +55,7 @@ public class DeleteCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
         String messageSelected;
         String messageSlots;
 
@@ -71,17 +68,15 @@ public class DeleteCommand extends Command {
             }
 
             // perform deletion of slots from the planner
-            for (Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> entry : selectedSlots) {
-                model.removeSlot(entry.getKey(), entry.getValue().getValue());
-            }
+            model.removeSlots(selectedSlots);
             messageSelected = Messages.craftSelectedMessage(tags);
             messageSlots = Messages.craftSelectedMessage("Deleted Slots:", selectedSlots);
         } else {
             try {
-                final Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> target = model.getLastShownItem(targetIndex);
+                final SlotRef target = model.getLastShownItem(targetIndex);
 
                 // check if slot still exist
-                if (!model.slotExists(target.getKey(), target.getValue().getValue())) {
+                if (!model.slotExists(target.getDate(), target.getSlot())) {
                     throw new CommandException(MESSAGE_SLOT_NOT_IN_PLANNER);
                 }
 
@@ -3,19 +3,17 @@ package planmysem.logic.commands;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 
-import javafx.util.Pair;
 import planmysem.common.Messages;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Adds a person to the address book.
@@ -43,8 +41,8 @@ public class EditCommand extends Command {
     private final String name;
     private final String location;
     private final String description;
-    private final Set<String> tags = new HashSet<>();
-    private final Set<String> newTags = new HashSet<>();
+    private final Set<String> tags = new LinkedHashSet<>();
+    private final Set<String> newTags = new LinkedHashSet<>();
 
     private final int targetIndex;
 
@@ -87,7 +85,7 @@ public class EditCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
         String messageSelected;
         String messageSlots;
 
@@ -102,21 +100,18 @@ public class EditCommand extends Command {
             // Need to craft success message earlier to get original instead of edited Slots
             messageSlots = craftSuccessMessage(selectedSlots);
 
-            for (Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> entry : selectedSlots) {
-                model.editSlot(entry.getKey(), entry.getValue().getValue(), date,
-                        startTime, duration, name, location, description, newTags);
-            }
+            model.editSlots(tags, startTime, duration, name, location, description, newTags);
 
             messageSelected = Messages.craftSelectedMessage(tags);
         } else {
             try {
-                final Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> target = model.getLastShownItem(targetIndex);
+                final SlotRef target = model.getLastShownItem(targetIndex);
                 selectedSlots.add(target);
 
                 // Need to craft success message earlier to get original instead of edited Slots
                 messageSlots = craftSuccessMessage(selectedSlots);
 
-                model.editSlot(target.getKey(), target.getValue().getValue(), date,
+                model.editSlot(target.getDate(), target.getSlot(), date,
                         startTime, duration, name, location, description, newTags);
 
                 messageSelected = Messages.craftSelectedMessage(targetIndex);
@@ -134,7 +129,7 @@ public class EditCommand extends Command {
     /**
      * Craft success message.
      */
-    public String craftSuccessMessage(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots) {
+    public String craftSuccessMessage(List<SlotRef> selectedSlots) {
         StringBuilder sb = new StringBuilder();
 
         sb.append("Details Edited: ");
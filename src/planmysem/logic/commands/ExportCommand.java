@@ -4,6 +4,8 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
@@ -31,15 +33,20 @@ public class ExportCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
-        Planner planner = model.getPlanner();
+        Tracer.IcsSpan span = Trace.beginIcs(Trace.OPERATION_EXPORT);
+        span.setPath(fileName + ".ics");
+        Planner planner = model.getSnapshot();
         Semester semester = planner.getSemester();
         IcsSemester icsSemester = new IcsSemester(semester);
+        span.setEvents(icsSemester.getNoOfEvents());
         try {
             BufferedWriter writer = new BufferedWriter(new FileWriter(fileName + ".ics"));
             writer.write(icsSemester.toString());
             writer.close();
         } catch (IOException e) {
             throw new CommandException(MESSAGE_FAILED);
+        } finally {
+            span.commit();
         }
 
         return new CommandResult(MESSAGE_SUCCESS);
@@ -51,4 +58,14 @@ public class ExportCommand extends Command {
                 || (other instanceof ExportCommand // instanceof handles nulls
                 && fileName.equals(((ExportCommand) other).fileName));
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isSnapshotReader() {
+        return true;
+    }
 }
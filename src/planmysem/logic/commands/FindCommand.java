@@ -10,17 +10,13 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.regex.Pattern;
 
-import javafx.util.Pair;
-
-import planmysem.common.Messages;
 import planmysem.common.Utils;
 import planmysem.logic.CommandHistory;
 import planmysem.model.Model;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.WeightedName;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRefBuffer;
 
 /**
  * Finds all slots in planner whose name contains the argument keyword.
@@ -61,7 +57,6 @@ public class FindCommand extends Command {
     });
 
     private List<WeightedName> selectedSlots = new ArrayList<>();
-    private List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> lastShownList = new ArrayList<>();
 
     public FindCommand(String name, String tag) {
         this.keyword = (name == null) ? tag.trim() : name.trim();
@@ -91,16 +86,13 @@ public class FindCommand extends Command {
             selectedSlots.add(weightedNames.poll());
         }
 
+        final SlotRefBuffer foundSlots = model.getQueryBuffer();
         for (WeightedName entry : selectedSlots) {
-            ReadOnlyDay day = entry.getMap().getValue();
-            ReadOnlySlot slot = entry.getSlot();
-            Pair<ReadOnlyDay, ReadOnlySlot> pair = new Pair<>(day, slot);
-            lastShownList.add(new Pair<>(entry.getMap().getKey(), pair));
+            foundSlots.add(entry.getMap().getKey(), entry.getMap().getValue(), entry.getSlot());
         }
-        model.setLastShownList(lastShownList);
+        model.setLastShownList(foundSlots);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, selectedSlots.size(), ""), foundSlots);
     }
 
     /**
@@ -129,4 +121,9 @@ public class FindCommand extends Command {
     public boolean getIsFindByName() {
         return isFindByName;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -25,6 +25,7 @@ public class HelpCommand extends Command {
             + "\n\n" + ExportCommand.MESSAGE_USAGE
             + "\n\n" + ImportCommand.MESSAGE_USAGE
             + "\n\n" + ClearCommand.MESSAGE_USAGE
+            + "\n\n" + StatsCommand.MESSAGE_USAGE
             + "\n\n" + HelpCommand.MESSAGE_USAGE
             + "\n\n" + ExitCommand.MESSAGE_USAGE;
 
@@ -32,4 +33,14 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model, CommandHistory commandHistory) {
         return new CommandResult(MESSAGE_ALL_USAGES);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isSnapshotReader() {
+        return true;
+    }
 }
@@ -36,5 +36,13 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
-}
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 
+    @Override
+    public boolean isSnapshotReader() {
+        return true;
+    }
+}
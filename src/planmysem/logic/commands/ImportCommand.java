@@ -16,6 +16,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
@@ -36,6 +38,7 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_SUCCESS = "File imported.\n";
     public static final String MESSAGE_FILE_NOT_FOUND = "File not found.\n";
     public static final String MESSAGE_ERROR_IN_READING_FILE = "Error in reading file.\n";
+    public static final String MESSAGE_CANCELLED = "Import cancelled, no events were imported.\n";
 
     private final String fileName;
     private int failedImports = 0;
@@ -50,6 +53,22 @@ public class ImportCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
+        Tracer.IcsSpan span = Trace.beginIcs(Trace.OPERATION_IMPORT);
+        span.setPath(fileName);
+        try {
+            return importEvents(model, span);
+        } finally {
+            span.commit();
+        }
+    }
+
+    /**
+     * Adds the events of the file to the planner, counting the events read in {@code span}.
+     */
+    private CommandResult importEvents(Model model, Tracer.IcsSpan span) throws CommandException {
+        int noOfEvents = 0;
+        // a file which cannot be read to the end imports nothing
+        model.beginTransaction();
         try {
             FileReader fileReader;
             fileReader = new FileReader(this.fileName);
@@ -58,6 +77,12 @@ public class ImportCommand extends Command {
             while (!("END:VCALENDAR".equals(sCurrentLine))) {
                 sCurrentLine = br.readLine();
                 if ("BEGIN:VEVENT".equals(sCurrentLine)) {
+                    span.setEvents(++noOfEvents);
+                    // the import is run in the background by the GUI, which interrupts it to cancel it
+                    if (Thread.interrupted()) {
+                        model.rollback();
+                        throw new CommandException(MESSAGE_CANCELLED);
+                    }
                     LocalDate date = null;
                     String name = null;
                     String location = null;
@@ -119,9 +144,12 @@ public class ImportCommand extends Command {
                     }
                 }
             }
-        } catch (IOException | NullPointerException e) {
+        } catch (IOException | RuntimeException e) {
+            // a malformed event, such as a property without a value or an unparsable date, fails the whole import
+            model.rollback();
             throw new CommandException(MESSAGE_ERROR_IN_READING_FILE);
         }
+        model.commit();
         if (this.failedImports == 0) {
             return new CommandResult(MESSAGE_SUCCESS);
         } else {
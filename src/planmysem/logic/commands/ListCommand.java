@@ -1,20 +1,21 @@
 //@@author marcus-pzj
 package planmysem.logic.commands;
 
+import static planmysem.common.Messages.MESSAGE_PLANNER_AT;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import javafx.util.Pair;
-import planmysem.common.Messages;
 import planmysem.logic.CommandHistory;
+import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRefBuffer;
 
 /**
  * Displays a list of all slots in the planner whose name matches the argument keyword.
@@ -30,56 +31,86 @@ public class ListCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all slots/ slots whose name "
             + "directly matches the specified keyword (not case-sensitive)."
             + "\n\tMandatory Parameters: n/NAME or t/TAG... or o/OPTION"
+            + "\n\tOptional Parameters: --at CHANGES_AGO, to list the slots as they were before the last "
+            + "CHANGES_AGO changes"
             + "\n\tExample: " + COMMAND_WORD + " n/CS1010"
-            + "\n\tExample: " + COMMAND_WORD + " all";
+            + "\n\tExample: " + COMMAND_WORD + " all"
+            + "\n\tExample: " + COMMAND_WORD + " all --at 3";
 
     private final String keyword;
     private final boolean isListByName;
     private final boolean isListAll;
+    private final int noOfChangesAgo;
 
     public ListCommand(String name, String tag) {
+        this(name, tag, 0);
+    }
+
+    /**
+     * Lists the slots with {@code name}, or with {@code tag} if there is no name, as they were
+     * {@code noOfChangesAgo} undoable changes ago.
+     */
+    public ListCommand(String name, String tag, int noOfChangesAgo) {
         this.keyword = (name == null) ? tag.trim() : name.trim();
         this.isListByName = (name != null);
         this.isListAll = false;
+        this.noOfChangesAgo = noOfChangesAgo;
     }
 
     public ListCommand() {
+        this(0);
+    }
+
+    /**
+     * Lists every slot as it was {@code noOfChangesAgo} undoable changes ago.
+     */
+    public ListCommand(int noOfChangesAgo) {
         this.keyword = null;
         this.isListByName = false;
         this.isListAll = true;
+        this.noOfChangesAgo = noOfChangesAgo;
     }
 
+    /**
+     * Lists the matching slots. Slots listed from an earlier state are shown without replacing the last shown list,
+     * so that the indices of later commands keep referring to slots which still exist.
+     */
     @Override
-    public CommandResult execute(Model model, CommandHistory commandHistory) {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-
-        for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
-            for (Slot slot : entry.getValue().getSlots()) {
+    public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
+        final SlotRefBuffer selectedSlots = model.getQueryBuffer();
+        final Map<LocalDate, Day> days = getPlannerAt(model, noOfChangesAgo).getDays();
+        final List<LocalDate> dates = new ArrayList<>(days.keySet());
+        Collections.sort(dates);
+
+        for (LocalDate date : dates) {
+            Day day = days.get(date);
+            for (Slot slot : day.getSlots()) {
                 if (isListAll) {
-                    selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                    selectedSlots.add(date, day, slot);
                 } else if (isListByName) {
                     if (slot.getName().equalsIgnoreCase(keyword)) {
-                        selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                        selectedSlots.add(date, day, slot);
                     }
                 } else {
                     Set<String> tagSet = slot.getTags();
                     for (String tag : tagSet) {
                         if (tag.equalsIgnoreCase(keyword)) {
-                            selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                            selectedSlots.add(date, day, slot);
                         }
                     }
                 }
             }
         }
 
+        String asOf = noOfChangesAgo == 0 ? "" : String.format(MESSAGE_PLANNER_AT, noOfChangesAgo);
         if (selectedSlots.isEmpty()) {
-            return new CommandResult(MESSAGE_SUCCESS_NONE);
+            return new CommandResult(asOf + MESSAGE_SUCCESS_NONE);
+        }
+        if (noOfChangesAgo == 0) {
+            model.setLastShownList(selectedSlots);
         }
-        selectedSlots.sort((p1, p2) -> p1.getKey().compareTo(p2.getKey()));
-        model.setLastShownList(selectedSlots);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessage(selectedSlots)));
+        return new CommandResult(asOf + String.format(MESSAGE_SUCCESS, selectedSlots.size(), ""), selectedSlots);
     }
 
     public String getKeyword() {
@@ -89,6 +120,13 @@ public class ListCommand extends Command {
     public boolean getIsListByName() {
         return isListByName;
     }
-}
 
+    public int getNoOfChangesAgo() {
+        return noOfChangesAgo;
+    }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
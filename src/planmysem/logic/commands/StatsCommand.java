@@ -0,0 +1,72 @@
+package planmysem.logic.commands;
+
+import planmysem.logic.CommandHistory;
+import planmysem.logic.stats.MemoryStats;
+import planmysem.logic.stats.PerformanceStats;
+import planmysem.model.Model;
+
+/**
+ * Shows statistics of how the application is performing.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows statistics of how PlanMySem is performing."
+            + "\n\tParameters: "
+            + "\n\t\tMandatory: perf or memory"
+            + "\n\tExample: " + COMMAND_WORD + " perf"
+            + "\n\tExample: " + COMMAND_WORD + " memory";
+    public static final String MESSAGE_PERF = "Time taken by commands since PlanMySem was started:\n%1$s";
+    public static final String MESSAGE_MEMORY = "Estimated memory used by the planner and its history, "
+            + "without what is already counted in the rows above:\n%1$s";
+
+    /**
+     * The statistics which can be shown.
+     */
+    public enum Topic {
+        /** Latencies of parsing, executing and saving every command word. */
+        PERF,
+        /** Estimated heap used by the structures of the planner and its history. */
+        MEMORY
+    }
+
+    private final Topic topic;
+
+    public StatsCommand(Topic topic) {
+        this.topic = topic;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory commandHistory) {
+        switch (topic) {
+        case MEMORY:
+            return new CommandResult(String.format(MESSAGE_MEMORY,
+                    MemoryStats.measure(model, commandHistory).format()));
+        case PERF:
+        default:
+            return new CommandResult(String.format(MESSAGE_PERF, PerformanceStats.getInstance().format()));
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isSnapshotReader() {
+        // the memory of the live planner and its history is measured under the lock, so that they do not change
+        return topic == Topic.PERF;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && topic == ((StatsCommand) other).topic);
+    }
+
+    @Override
+    public int hashCode() {
+        return topic.hashCode();
+    }
+}
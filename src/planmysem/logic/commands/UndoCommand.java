@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
+import planmysem.model.PlannerHistory;
 
 /**
  * Reverts the {@code model}'s planner to its previous state.
@@ -28,8 +29,17 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undo();
+        try {
+            model.undo();
+        } catch (PlannerHistory.StateUnavailableException sue) {
+            throw new CommandException(sue.getMessage());
+        }
         model.clearLastShownList();
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
 }
@@ -2,25 +2,28 @@ package planmysem.logic.commands;
 
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static planmysem.common.Messages.MESSAGE_DATE_OUT_OF_BOUNDS;
+import static planmysem.common.Messages.MESSAGE_ILLEGAL_WEEK_VALUE;
+import static planmysem.common.Messages.MESSAGE_PLANNER_AT;
 import static planmysem.common.Utils.getNearestDayOfWeek;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import planmysem.common.Clock;
 import planmysem.common.Utils;
 import planmysem.logic.CommandHistory;
+import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
 import planmysem.model.semester.Day;
 import planmysem.model.semester.Semester;
+import planmysem.model.semester.WeekRange;
 import planmysem.model.slot.Slot;
 
 /**
@@ -54,44 +57,61 @@ public class ViewCommand extends Command {
             + "\n\t\tExample 2: " + COMMAND_WORD
             + " day monday"
             + "\n\t\tExample 3: " + COMMAND_WORD
-            + " day";
+            + " day"
+            + "\n\tView as before the last 3 changes example: "
+            + "\n\t\tExample 1: " + COMMAND_WORD
+            + " week --at 3";
+
+    private static final String WEEK_DIVIDER = String.join("", Collections.nCopies(120, "-"));
+    private static final String DETAILS_DIVIDER =
+            "__________________________________________________________________________";
 
     private final String[] viewArgs;
+    private final int noOfChangesAgo;
 
     public ViewCommand(String[] viewArgs) {
+        this(viewArgs, 0);
+    }
+
+    /**
+     * Views the planner as it was {@code noOfChangesAgo} undoable changes ago.
+     */
+    public ViewCommand(String[] viewArgs, int noOfChangesAgo) {
         this.viewArgs = viewArgs;
+        this.noOfChangesAgo = noOfChangesAgo;
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory commandHistory) {
-        final Semester currentSemester = model.getPlanner().getSemester();
+    public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
+        final Semester currentSemester = getPlannerAt(model, noOfChangesAgo).getSemester();
+        final List<String> rows = new ArrayList<>();
         String viewType = viewArgs[0];
-        String output = "";
+        String failure = null;
 
         switch (viewType) {
         case "month":
-            output = displayMonthView(currentSemester);
+            addMonthView(currentSemester, rows);
             break;
 
         case "week":
             if ((viewArgs.length == 3 && "Details".equals(viewArgs[2]))
                     || (viewArgs.length == 2 && "Details".equals(viewArgs[1]))) {
-                output = displayDetailedWeekView(currentSemester, viewArgs[1]);
+                failure = addDetailedWeekView(currentSemester, viewArgs[1], rows);
                 break;
             }
 
             if (viewArgs.length == 2) {
-                output = displayWeekView(currentSemester, viewArgs[1]);
+                failure = addWeekView(currentSemester, viewArgs[1], rows);
             } else {
-                output = displayWeekView(currentSemester, null);
+                failure = addWeekView(currentSemester, null, rows);
             }
             break;
 
         case "day":
             if (viewArgs.length == 2) {
-                output = displayDayView(currentSemester, viewArgs[1]);
+                failure = addDayView(currentSemester, viewArgs[1], rows);
             } else {
-                output = displayDayView(currentSemester, null);
+                failure = addDayView(currentSemester, null, rows);
             }
             break;
 
@@ -99,14 +119,18 @@ public class ViewCommand extends Command {
             break;
         }
 
-        return new CommandResult(output);
+        String asOf = noOfChangesAgo > 0 ? String.format(MESSAGE_PLANNER_AT, noOfChangesAgo) : "";
+        if (failure != null) {
+            return new CommandResult(asOf + failure);
+        }
+        return CommandResult.ofRows(asOf, rows);
     }
 
     /**
-     * Display all months for the semester.
+     * Adds the rows of all months of the semester to {@code rows}, ending with an empty row.
      * Solution below adapted from https://introcs.cs.princeton.edu/java/21function/Calendar.java.html
      */
-    private String displayMonthView(Semester currentSemester) {
+    private void addMonthView(Semester currentSemester, List<String> rows) {
         HashMap<LocalDate, Day> allDays = currentSemester.getDays();
         LocalDate semesterStartDate = currentSemester.getStartDate();
         LocalDate semesterEndDate = currentSemester.getEndDate();
@@ -115,197 +139,189 @@ public class ViewCommand extends Command {
         int spaces = firstDay.getDayOfWeek().getValue();
         int firstMonthOfSem = semesterStartDate.getMonthValue();
         int lastMonthOfSem = semesterEndDate.getMonthValue();
-        StringBuilder sb = new StringBuilder();
 
         String[] months = {"", "January", "February", "March", "April", "May", "June",
             "July", "August", "September", "October", "November", "December"};
-        String[] monthOutput = new String[12];
+        List<List<String>> monthOutput = new ArrayList<>();
 
         int[] days = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
         for (int m = 1; m <= 12; m++) {
-            StringBuilder monthBuilder = new StringBuilder();
+            List<String> monthRows = new ArrayList<>();
+            StringBuilder line = new StringBuilder();
             // Set number of days in February to 29 if it is a leap year.
             if ((((year % 4 == 0) && (year % 100 != 0)) || (year % 400 == 0)) && m == 2) {
                 days[m] = 29;
             }
 
             // Print calendar header.
-            monthBuilder.append("          " + months[m] + " " + year + "\n");
-            monthBuilder.append("_____________________________________\n");
-            monthBuilder.append("   Sun  Mon Tue   Wed Thu   Fri  Sat\n");
+            monthRows.add("          " + months[m] + " " + year);
+            monthRows.add("_____________________________________");
+            monthRows.add("   Sun  Mon Tue   Wed Thu   Fri  Sat");
 
             // Print spaces required for the start of a month.
             spaces = (days[m - 1] + spaces) % 7;
             for (int i = 0; i < spaces; i++) {
-                monthBuilder.append("     ");
+                line.append("     ");
             }
-            // Print the days in the month.
+            // Print the days in the month, a row per week.
             for (int i = 1; i <= days[m]; i++) {
-                monthBuilder.append(String.format("  %3d", i));
+                line.append(String.format("  %3d", i));
                 if (((i + spaces) % 7 == 0)) {
                     Day tempDay = allDays.get(LocalDate.of(year, m, i));
                     String weekType = "";
                     if (tempDay != null) {
                         weekType = tempDay.getType();
                     }
-                    monthBuilder.append("   | " + weekType + "\n");
+                    monthRows.add(line.append("   | " + weekType).toString());
+                    line.setLength(0);
                 } else if (i == days[m]) {
                     LocalDate tempDate = LocalDate.of(year, m, i);
                     Day tempDay = allDays.get(tempDate);
                     String weekType = "";
                     int extraSpaces = 6 - (tempDate.getDayOfWeek().getValue() % 7);
                     for (int j = 0; j < extraSpaces; j++) {
-                        monthBuilder.append("     ");
+                        line.append("     ");
                     }
                     if (tempDay != null) {
                         weekType = tempDay.getType();
                     }
-                    monthBuilder.append("   | " + weekType + "\n");
+                    monthRows.add(line.append("   | " + weekType).toString());
                 }
             }
 
-            monthBuilder.append("\n");
-            monthOutput[m - 1] = monthBuilder.toString();
+            monthRows.add("");
+            monthOutput.add(monthRows);
         }
 
         for (int m = firstMonthOfSem - 1; m < lastMonthOfSem; m++) {
-            sb.append(monthOutput[m]);
+            rows.addAll(monthOutput.get(m));
         }
-
-        return sb.toString();
+        rows.add("");
     }
 
     /**
-     * Display all slots for a given week in a formatted view.
+     * Adds the rows of all slots for a given week in a formatted view to {@code rows}.
+     *
+     * @return the reason the week cannot be shown, or null if it was added
      */
-    private String displayWeekView(Semester currentSemester, String givenWeek) {
+    private String addWeekView(Semester currentSemester, String givenWeek, List<String> rows) {
         HashMap<LocalDate, Day> allDays = currentSemester.getDays();
-        List<LocalDate> datesList;
-        LocalDate weekStart;
-        LocalDate weekEnd;
-        int[] weekOfYear = {0, 0};
-        String week = "";
-        StringBuilder sb = new StringBuilder();
+        List<List<LocalDate>> weeks;
+        String week;
 
         if (givenWeek == null) {
-            week = allDays.get(LocalDate.now(Clock.get())).getType() + " of " + currentSemester.getName();
-
-            weekStart = LocalDate.now(Clock.get()).with(WeekFields.ISO.dayOfWeek(), 1);
-            weekEnd = weekStart.plusDays(7);
-            datesList = weekStart.datesUntil(weekEnd).collect(Collectors.toList());
-        } else {
-            HashMap<Integer, String> acadCal = currentSemester.getAcadCal();
-            String key;
-            week = givenWeek;
-
-            if ("Recess".equals(week) || "Reading".equals(week) || "Examination".equals(week)
-                    || "Orientation".equals(week)) {
-                key = week + " Week" + "_" + currentSemester.getName();
-                week = week + " Week of " + currentSemester.getName();
-            } else {
-                key = "Week " + week + "_" + currentSemester.getName();
-                week = "Week " + week + " of " + currentSemester.getName();
+            LocalDate today = LocalDate.now(Clock.get());
+            String label = currentSemester.weekLabel(today);
+            if (label == null) {
+                return MESSAGE_DATE_OUT_OF_BOUNDS;
             }
 
-            for (Map.Entry<Integer, String> entry: acadCal.entrySet()) {
-                if (key.equals(entry.getValue())) {
-                    if (weekOfYear[0] == 0) {
-                        weekOfYear[0] = entry.getKey();
-                    } else {
-                        weekOfYear[1] = entry.getKey();
-                    }
-                }
+            week = label + " of " + currentSemester.getName();
+            weeks = Collections.singletonList(getDatesOfWeek(today));
+        } else {
+            String label = getWeekLabel(givenWeek);
+            WeekRange weekRange = currentSemester.weekRange(label);
+            if (weekRange == null) {
+                return MESSAGE_ILLEGAL_WEEK_VALUE;
             }
 
-            weekStart = LocalDate.now(Clock.get()).with(WeekFields.ISO.weekOfWeekBasedYear(), weekOfYear[0]);
-            weekStart = weekStart.with(WeekFields.ISO.dayOfWeek(), 1);
-            weekEnd = weekStart.with(WeekFields.ISO.weekOfWeekBasedYear(), weekOfYear[0] + 1);
-            datesList = weekStart.datesUntil(weekEnd).collect(Collectors.toList());
+            week = label + " of " + currentSemester.getName();
+            weeks = splitIntoWeeks(weekRange);
         }
 
         // Print academic week header.
         int width = 120;
-        sb.append(centerAlignText(width, week) + "\n");
+        rows.add(centerAlignText(width, week));
 
         // Print formatted week view.
-        sb.append(getFormattedWeek(allDays, datesList));
-        if (weekOfYear[1] != 0) {
-            weekStart = weekEnd;
-            weekEnd = weekStart.plusDays(7);
-            datesList = weekStart.datesUntil(weekEnd).collect(Collectors.toList());
-            sb.append("\n" + getFormattedWeek(allDays, datesList));
+        for (List<LocalDate> datesList : weeks) {
+            addFormattedWeek(allDays, datesList, rows);
         }
 
-        return sb.toString();
+        return null;
     }
 
     /**
-     * Display all slots for a given week in a detailed view.
+     * Adds the rows of all slots for a given week in a detailed view to {@code rows}, ending with an empty row.
+     *
+     * @return the reason the week cannot be shown, or null if it was added
      */
-    private String displayDetailedWeekView(Semester currentSemester, String week) {
-        HashMap<LocalDate, Day> allDays = currentSemester.getDays();
+    private String addDetailedWeekView(Semester currentSemester, String week, List<String> rows) {
         List<LocalDate> datesList;
-        LocalDate weekStart;
-        LocalDate weekEnd;
-        int[] weekOfYear = {0, 0};
-        StringBuilder sb = new StringBuilder();
 
         if ("Details".equals(week)) {
-            sb.append(allDays.get(LocalDate.now(Clock.get())).getType() + " of " + currentSemester.getName() + "\n");
+            LocalDate today = LocalDate.now(Clock.get());
+            String label = currentSemester.weekLabel(today);
+            if (label == null) {
+                return MESSAGE_DATE_OUT_OF_BOUNDS;
+            }
 
-            weekStart = LocalDate.now(Clock.get()).with(WeekFields.ISO.dayOfWeek(), 1);
-            weekEnd = weekStart.plusDays(7);
-            datesList = weekStart.datesUntil(weekEnd).collect(Collectors.toList());
+            rows.add(label + " of " + currentSemester.getName());
+            datesList = getDatesOfWeek(today);
         } else {
-            HashMap<Integer, String> acadCal = currentSemester.getAcadCal();
-            String key;
-
-            if ("Recess".equals(week) || "Reading".equals(week) || "Examination".equals(week)
-                    || "Orientation".equals(week)) {
-                key = week + " Week" + "_" + currentSemester.getName();
-                sb.append(week + " Week" + " of " + currentSemester.getName() + "\n");
-            } else {
-                key = "Week " + week + "_" + currentSemester.getName();
-                sb.append("Week " + week + " of " + currentSemester.getName() + "\n");
+            String label = getWeekLabel(week);
+            WeekRange weekRange = currentSemester.weekRange(label);
+            if (weekRange == null) {
+                return MESSAGE_ILLEGAL_WEEK_VALUE;
             }
 
-            for (Map.Entry<Integer, String> entry: acadCal.entrySet()) {
-                if (key.equals(entry.getValue())) {
-                    if (weekOfYear[0] == 0) {
-                        weekOfYear[0] = entry.getKey();
-                    } else {
-                        weekOfYear[1] = entry.getKey();
-                    }
-                }
-            }
+            rows.add(label + " of " + currentSemester.getName());
+            datesList = weekRange.getDates();
+        }
 
-            weekStart = LocalDate.now(Clock.get()).with(WeekFields.ISO.weekOfWeekBasedYear(), weekOfYear[0]);
-            weekStart = weekStart.with(WeekFields.ISO.dayOfWeek(), 1);
-            weekEnd = weekStart.with(WeekFields.ISO.weekOfWeekBasedYear(), weekOfYear[0] + 1);
-            if (weekOfYear[1] != 0) {
-                weekEnd = weekStart.with(WeekFields.ISO.weekOfWeekBasedYear(), weekOfYear[0] + 2);
+        rows.add(DETAILS_DIVIDER);
+        rows.add("");
+        for (LocalDate date : datesList) {
+            String failure = addDayRows(currentSemester, date, rows);
+            if (failure != null) {
+                rows.add(failure);
             }
-            datesList = weekStart.datesUntil(weekEnd).collect(Collectors.toList());
+            rows.add(DETAILS_DIVIDER);
+            rows.add("");
         }
+        rows.add("");
 
-        sb.append("__________________________________________________________________________\n\n");
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        for (LocalDate date : datesList) {
-            sb.append(displayDayView(currentSemester, date.format(formatter)));
-            sb.append("__________________________________________________________________________\n\n");
+        return null;
+    }
+
+    /**
+     * Returns the academic week label of a week given by the user, e.g. "7" or "Recess".
+     */
+    private String getWeekLabel(String givenWeek) {
+        if ("Recess".equals(givenWeek) || "Reading".equals(givenWeek) || "Examination".equals(givenWeek)
+                || "Orientation".equals(givenWeek)) {
+            return givenWeek + " Week";
         }
+        return "Week " + givenWeek;
+    }
 
-        return sb.toString();
+    /**
+     * Returns the dates from Monday to Sunday of the week containing {@code date}.
+     */
+    private List<LocalDate> getDatesOfWeek(LocalDate date) {
+        LocalDate weekStart = date.with(WeekFields.ISO.dayOfWeek(), 1);
+        return weekStart.datesUntil(weekStart.plusDays(7)).collect(Collectors.toList());
     }
 
     /**
-     * Display all slots for a given day/date.
+     * Splits the dates of an academic week into its calendar weeks.
      */
-    private String displayDayView(Semester currentSemester, String dateOrDay) {
-        HashMap<LocalDate, Day> allDays = currentSemester.getDays();
-        StringBuilder sb = new StringBuilder();
+    private List<List<LocalDate>> splitIntoWeeks(WeekRange weekRange) {
+        List<LocalDate> dates = weekRange.getDates();
+        List<List<LocalDate>> weeks = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i += 7) {
+            weeks.add(dates.subList(i, Math.min(i + 7, dates.size())));
+        }
+        return weeks;
+    }
 
+    /**
+     * Adds the rows of all slots for a given day/date to {@code rows}, ending with an empty row.
+     *
+     * @return the reason the day cannot be shown, or null if it was added
+     */
+    private String addDayView(Semester currentSemester, String dateOrDay, List<String> rows) {
         // Parse different formats of given day/date.
         LocalDate givenDate;
         if (dateOrDay == null) {
@@ -324,9 +340,30 @@ public class ViewCommand extends Command {
             }
         }
 
+        String failure = addDayRows(currentSemester, givenDate, rows);
+        if (failure == null) {
+            rows.add("");
+        }
+        return failure;
+    }
+
+    /**
+     * Adds the rows of all slots on {@code givenDate} to {@code rows}.
+     *
+     * @return the reason the date cannot be shown, or null if it was added
+     */
+    private String addDayRows(Semester currentSemester, LocalDate givenDate, List<String> rows) {
+        HashMap<LocalDate, Day> allDays = currentSemester.getDays();
+
         if (givenDate.isAfter(currentSemester.getStartDate().minusDays(1))
                 && givenDate.isBefore(currentSemester.getEndDate().plusDays(1))) {
-            sb.append(givenDate.getDayOfWeek().name() + " , " + givenDate + "\n\n");
+            rows.add(givenDate.getDayOfWeek().name() + " , " + givenDate);
+            rows.add("");
+            String holiday = currentSemester.getHoliday(givenDate);
+            if (holiday != null) {
+                rows.add("Holiday: " + holiday);
+                rows.add("");
+            }
         } else {
             return MESSAGE_DATE_OUT_OF_BOUNDS;
         }
@@ -343,37 +380,37 @@ public class ViewCommand extends Command {
 
         // Print each slot.
         for (Slot slot : allSlotsInDay) {
-            sb.append("* " + slot.getStartTime());
-            sb.append(" to ");
-            sb.append(Utils.getEndTime(slot.getStartTime(), slot.getDuration()));
-
-            sb.append("\n\t" + slot.getName() + "\n");
+            rows.add("* " + slot.getStartTime() + " to " + Utils.getEndTime(slot.getStartTime(), slot.getDuration()));
+            rows.add("\t" + slot.getName());
 
             if (slot.getLocation() != null) {
-                sb.append("\t" + "Location: " + slot.getLocation() + "\n");
+                rows.add("\t" + "Location: " + slot.getLocation());
             }
 
             if (slot.getDescription() != null) {
-                sb.append("\t" + "Description: " + slot.getDescription() + "\n");
+                rows.add("\t" + "Description: " + slot.getDescription());
             }
 
+            rows.add("");
             if (!slot.getTags().isEmpty()) {
-                sb.append("\n\tTags: \n");
+                rows.add("\tTags: ");
 
+                StringBuilder tagLine = new StringBuilder();
                 int count = 1;
                 for (String tag : slot.getTags()) {
-                    sb.append("\t");
-                    sb.append(count);
-                    sb.append(". ");
-                    sb.append(tag);
+                    tagLine.append("\t");
+                    tagLine.append(count);
+                    tagLine.append(". ");
+                    tagLine.append(tag);
                     count++;
                 }
+                rows.add(tagLine.toString());
             }
 
-            sb.append("\n\n");
+            rows.add("");
         }
 
-        return sb.toString();
+        return null;
     }
 
     /**
@@ -390,39 +427,29 @@ public class ViewCommand extends Command {
     }
 
     /**
-     * Returns formatted week view.
+     * Adds the rows of the formatted week view of {@code datesList} to {@code rows}.
      */
-    private String getFormattedWeek(HashMap<LocalDate, Day> allDays, List<LocalDate> datesList) {
-        StringBuilder sb = new StringBuilder();
-
+    private void addFormattedWeek(HashMap<LocalDate, Day> allDays, List<LocalDate> datesList, List<String> rows) {
         // Print line divider.
-        int width = 120;
-        for (int i = 0; i < width; i++) {
-            sb.append("-");
-        }
-        sb.append("\n");
+        rows.add(WEEK_DIVIDER);
 
         // Print days of week header.
-        width = 16;
-        sb.append("|" + centerAlignText(width, "Monday") + "|");
-        sb.append(centerAlignText(width, "Tuesday") + "|");
-        sb.append(centerAlignText(width, "Wednesday") + "|");
-        sb.append(centerAlignText(width, "Thursday") + "|");
-        sb.append(centerAlignText(width, "Friday") + "|");
-        sb.append(centerAlignText(width, "Saturday") + "|");
-        sb.append(centerAlignText(width, "Sunday") + "|");
-
-        sb.append("\n|");
+        int width = 16;
+        rows.add("|" + centerAlignText(width, "Monday") + "|"
+                + centerAlignText(width, "Tuesday") + "|"
+                + centerAlignText(width, "Wednesday") + "|"
+                + centerAlignText(width, "Thursday") + "|"
+                + centerAlignText(width, "Friday") + "|"
+                + centerAlignText(width, "Saturday") + "|"
+                + centerAlignText(width, "Sunday") + "|");
+
+        StringBuilder datesLine = new StringBuilder("|");
         for (LocalDate date : datesList) {
-            sb.append(centerAlignText(width, date.toString()) + "|");
+            datesLine.append(centerAlignText(width, date.toString()) + "|");
         }
-        sb.append("\n");
+        rows.add(datesLine.toString());
 
-        width = 120;
-        for (int i = 0; i < width; i++) {
-            sb.append("-");
-        }
-        sb.append("\n");
+        rows.add(WEEK_DIVIDER);
 
         // Retrieve all slots for each day.
         ArrayList<ArrayList<Slot>> slotsInDayList = new ArrayList<>();
@@ -448,8 +475,8 @@ public class ViewCommand extends Command {
             StringBuilder slotTitleLine = new StringBuilder();
             StringBuilder emptyLine = new StringBuilder();
             slotTimingLine.append("|");
-            slotTitleLine.append("\n|");
-            emptyLine.append("\n|");
+            slotTitleLine.append("|");
+            emptyLine.append("|");
 
             for (ArrayList<Slot> allSlotsInDay : slotsInDayList) {
                 if (allSlotsInDay.isEmpty()) {
@@ -474,22 +501,25 @@ public class ViewCommand extends Command {
                 emptyLine.append(centerAlignText(width, "") + "|");
             }
 
-            sb.append(slotTimingLine.toString() + slotTitleLine.toString() + emptyLine.toString() + "\n");
+            rows.add(slotTimingLine.toString());
+            rows.add(slotTitleLine.toString());
+            rows.add(emptyLine.toString());
         }
 
         // Print closing border.
-        width = 120;
-        for (int i = 0; i < width; i++) {
-            sb.append("-");
-        }
-
-        return sb.toString();
+        rows.add(WEEK_DIVIDER);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewCommand // instanceof handles nulls
-                && Arrays.equals(viewArgs, ((ViewCommand) other).viewArgs));
+                && Arrays.equals(viewArgs, ((ViewCommand) other).viewArgs)
+                && noOfChangesAgo == ((ViewCommand) other).noOfChangesAgo);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
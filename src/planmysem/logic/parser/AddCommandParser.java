@@ -4,6 +4,7 @@ import static planmysem.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static planmysem.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT_ADDITIONAL;
 import static planmysem.common.Messages.MESSAGE_INVALID_DATE_OR_DAY;
 import static planmysem.common.Messages.MESSAGE_INVALID_ENDTIME;
+import static planmysem.common.Messages.MESSAGE_INVALID_RECURRENCE;
 import static planmysem.common.Messages.MESSAGE_INVALID_TAG;
 import static planmysem.common.Messages.MESSAGE_INVALID_TIME;
 
@@ -16,6 +17,7 @@ import java.util.Set;
 import planmysem.common.Utils;
 import planmysem.logic.commands.AddCommand;
 import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.model.recurrence.Recurrence;
 
 /**
  * Parses input arguments and creates a new AddCommand object
@@ -101,6 +103,14 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         // Recurrences is not mandatory
         Set<String> recurrences = arguments.get(PREFIX_RECURRENCE);
+        if (recurrences != null) {
+            for (String recurrence : recurrences) {
+                if (!Recurrence.isValidRecurrence(recurrence)) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT_ADDITIONAL,
+                            AddCommand.MESSAGE_USAGE, MESSAGE_INVALID_RECURRENCE));
+                }
+            }
+        }
 
         if (day != -1) {
             return new AddCommand(
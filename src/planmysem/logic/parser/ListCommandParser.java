@@ -22,19 +22,21 @@ public class ListCommandParser implements Parser<ListCommand> {
      * @return the prepared command
      */
     public ListCommand parse(String args) throws ParseException {
+        int noOfChangesAgo = getNoOfChangesAgo(args);
+        args = removeOptionAt(args);
         HashMap<String, Set<String>> arguments = getParametersWithArguments(args);
         String name = getFirstInSet(arguments.get(PREFIX_NAME));
         String tag = getFirstInSet(arguments.get(PREFIX_TAG));
         String option = getStartingArgument(args);
 
         if (option != null && option.equalsIgnoreCase("all")) {
-            return new ListCommand();
+            return new ListCommand(noOfChangesAgo);
         }
         if (name == null && tag == null) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         } else if (name != null && tag != null) {
             throw new ParseException(String.format(MESSAGE_INVALID_MULTIPLE_PARAMS, ListCommand.MESSAGE_USAGE));
         }
-        return new ListCommand(name, tag);
+        return new ListCommand(name, tag, noOfChangesAgo);
     }
 }
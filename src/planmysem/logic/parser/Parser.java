@@ -1,9 +1,13 @@
 package planmysem.logic.parser;
 
+import static planmysem.common.Messages.MESSAGE_INVALID_CHANGES_AGO;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import planmysem.logic.commands.Command;
 import planmysem.logic.parser.exceptions.ParseException;
@@ -29,6 +33,8 @@ public interface Parser<T extends Command> {
     String PREFIX_NEW_DESCRIPTION = "ndes";
     String PREFIX_NEW_TAG = "nt";
     String PREFIX_FILE_NAME = "fn";
+    String OPTION_AT = "--at";
+    Pattern OPTION_AT_FORMAT = Pattern.compile("(^|\\s)" + OPTION_AT + "(\\s+(\\S+)|\\s*$)");
 
     /**
      * Parses {@code userInput} into a command and returns it.
@@ -107,6 +113,30 @@ public interface Parser<T extends Command> {
         }
     }
 
+    /**
+     * Returns the number of changes ago given by the {@value #OPTION_AT} option in {@code args},
+     * or 0 if it is not given.
+     * @throws ParseException if the option is not followed by a number which is 0 or more
+     */
+    default int getNoOfChangesAgo(String args) throws ParseException {
+        Matcher matcher = OPTION_AT_FORMAT.matcher(args);
+        if (!matcher.find()) {
+            return 0;
+        }
+        String value = matcher.group(3);
+        if (value == null || !value.matches("\\d{1,9}")) {
+            throw new ParseException(MESSAGE_INVALID_CHANGES_AGO);
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Returns {@code args} without the {@value #OPTION_AT} option and its value.
+     */
+    default String removeOptionAt(String args) {
+        return OPTION_AT_FORMAT.matcher(args).replaceFirst("$1").trim();
+    }
+
     /**
      * Get the first string in a set.
      */
@@ -18,6 +18,7 @@ import planmysem.logic.commands.HistoryCommand;
 import planmysem.logic.commands.ImportCommand;
 import planmysem.logic.commands.ListCommand;
 import planmysem.logic.commands.RedoCommand;
+import planmysem.logic.commands.StatsCommand;
 import planmysem.logic.commands.UndoCommand;
 import planmysem.logic.commands.ViewCommand;
 import planmysem.logic.parser.exceptions.ParseException;
@@ -96,6 +97,9 @@ public class ParserManager {
         case ImportCommand.COMMAND_WORD:
             return new ImportCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
         case HelpCommand.COMMAND_WORD: // Fallthrough
 
         default:
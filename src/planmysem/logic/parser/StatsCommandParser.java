@@ -0,0 +1,30 @@
+package planmysem.logic.parser;
+
+import static planmysem.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import planmysem.logic.commands.StatsCommand;
+import planmysem.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        switch (args.trim().toLowerCase()) {
+        case "perf":
+            return new StatsCommand(StatsCommand.Topic.PERF);
+        case "memory":
+            return new StatsCommand(StatsCommand.Topic.MEMORY);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -26,6 +26,11 @@ public class ViewCommandParser implements Parser<ViewCommand> {
         if (args == null || args.trim().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
         }
+        int noOfChangesAgo = getNoOfChangesAgo(args);
+        args = removeOptionAt(args);
+        if (args.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
 
         String[] viewArgs = args.trim().split(" ");
         String viewType = viewArgs[0];
@@ -33,14 +38,14 @@ public class ViewCommandParser implements Parser<ViewCommand> {
         switch (viewType) {
         case "month":
             if (viewArgs.length == 1) {
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
             }
 
             break;
 
         case "week":
             if (viewArgs.length == 1) {
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
 
             } else if (viewArgs.length == 2) {
                 viewArgs[1] = viewArgs[1].substring(0, 1).toUpperCase() + viewArgs[1].substring(1).toLowerCase();
@@ -51,7 +56,7 @@ public class ViewCommandParser implements Parser<ViewCommand> {
                 if (!"Details".equals(viewArgs[1]) && checkIllegalWeekValue(viewArgs[1])) {
                     throw new ParseException(String.format(MESSAGE_ILLEGAL_WEEK_VALUE, ViewCommand.MESSAGE_USAGE));
                 }
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
 
             } else if (viewArgs.length == 3) {
                 viewArgs[1] = viewArgs[1].substring(0, 1).toUpperCase() + viewArgs[1].substring(1).toLowerCase();
@@ -71,14 +76,14 @@ public class ViewCommandParser implements Parser<ViewCommand> {
                 if (!"Details".equals(viewArgs[2]) || checkIllegalWeekValue(viewArgs[1])) {
                     throw new ParseException(String.format(MESSAGE_ILLEGAL_WEEK_VALUE, ViewCommand.MESSAGE_USAGE));
                 }
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
             }
 
             break;
 
         case "day":
             if (viewArgs.length == 1) {
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
 
             } else if (viewArgs.length == 2) {
                 LocalDate date = null;
@@ -93,7 +98,7 @@ public class ViewCommandParser implements Parser<ViewCommand> {
                     throw new ParseException(String.format(MESSAGE_INVALID_DATE_OR_DAY, ViewCommand.MESSAGE_USAGE));
                 }
 
-                return new ViewCommand(viewArgs);
+                return new ViewCommand(viewArgs, noOfChangesAgo);
             }
 
             break;
@@ -0,0 +1,161 @@
+package planmysem.logic.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import planmysem.logic.CommandHistory;
+import planmysem.model.Model;
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.semester.Semester;
+import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotDictionary;
+import planmysem.model.slot.SlotSeries;
+
+/**
+ * Estimates of the heap used by each structure of a planner and its session, to tune the limits of the undo
+ * history and to spot structures which grow more than they should.
+ * <p>
+ * Structures are measured in the order of the table, and each leaves out what it shares with those before it.
+ * So a state of the undo history only counts the days it does not share with the live planner or with the states
+ * nearer to the current one, which is what keeping that state costs. States paged out of the heap are counted by
+ * the bytes they were compressed to, and those spilled to disk are shown but left out of the total.
+ */
+public class MemoryStats {
+    public static final String TABLE_HEADER = String.format("%-32s %12s", "STRUCTURE", "SIZE (KB)");
+    public static final String STRUCTURE_DAYS = "Semester.days";
+    public static final String STRUCTURE_SLOTS = "slots and tags";
+    public static final String STRUCTURE_SEMESTER = "rest of the semester";
+    public static final String STRUCTURE_HISTORY = "undo history";
+    public static final String STRUCTURE_LAST_SHOWN_LIST = "last shown list";
+    public static final String STRUCTURE_COMMAND_HISTORY = "command history";
+    public static final String STRUCTURE_DICTIONARY = "slot dictionary (shared)";
+    /**
+     * The number of states of the undo history in the heap which are listed individually, nearest to the current
+     * first.
+     */
+    public static final int MAX_STATES_LISTED = 10;
+
+    private static final String TABLE_ROW = "%-32s %12.1f";
+    private static final double BYTES_PER_KB = 1024.0;
+
+    private final List<String> structures = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+    private final List<Long> sizes = new ArrayList<>();
+
+    private MemoryStats() {
+    }
+
+    /**
+     * Measures the planner of {@code model}, its undo history, its last shown list and {@code commandHistory}.
+     * The planner must not change while it is measured.
+     */
+    public static MemoryStats measure(Model model, CommandHistory commandHistory) {
+        MemoryStats stats = new MemoryStats();
+        ObjectSizeEstimator estimator = new ObjectSizeEstimator();
+        Planner planner = model.getPlanner();
+
+        // days stop at their slots and at their semester, which are counted in the next rows
+        Predicate<Object> isCountedLater = object -> object instanceof Slot || object instanceof SlotSeries
+                || object instanceof Semester;
+        List<Object> slots = new ArrayList<>();
+        stats.add(STRUCTURE_DAYS, planner.getDays().size() + " days",
+                estimator.measure(planner.getDays(), isCountedLater, slots));
+        slots.removeIf(object -> object instanceof Semester);
+        stats.add(STRUCTURE_SLOTS, null, estimator.measureAll(slots) + estimator.measure(planner.getSeries()));
+        stats.add(STRUCTURE_SEMESTER, null, estimator.measure(planner.getSemester()));
+
+        PlannerHistory history = model.getHistory();
+        int current = history.getPointer();
+        List<String> stateLabels = new ArrayList<>();
+        List<Long> stateSizes = new ArrayList<>();
+        long residentSize = 0;
+        long maxStateSize = 0;
+        for (int index : getIndicesByDistance(history.size(), current)) {
+            Planner state = history.getResidentState(index);
+            if (state == null) {
+                continue;
+            }
+            long size = estimator.measure(state);
+            stateLabels.add("  state " + index + (index == current ? " (current)" : ""));
+            stateSizes.add(size);
+            residentSize += size;
+            maxStateSize = Math.max(maxStateSize, size);
+        }
+        int noOfResidentStates = history.size() - history.getNoOfPagedOutStates();
+        long compressedSize = history.getPagedOutBytes(false);
+        stats.add(STRUCTURE_HISTORY, history.size() + " states", residentSize + compressedSize);
+        stats.add(null, "  in the heap (" + noOfResidentStates + " states)", residentSize);
+        stats.add(null, "  mean per state in the heap", residentSize / noOfResidentStates);
+        stats.add(null, "  max per state in the heap", maxStateSize);
+        stats.add(null, "  paged out, compressed", compressedSize);
+        stats.add(null, "  paged out, on disk", history.getPagedOutBytes(true));
+        for (int i = 0; i < Math.min(MAX_STATES_LISTED, stateLabels.size()); i++) {
+            stats.add(null, stateLabels.get(i), stateSizes.get(i));
+        }
+
+        stats.add(STRUCTURE_LAST_SHOWN_LIST, model.getLastShownList().size() + " slots",
+                estimator.measure(model.getLastShownList()));
+        stats.add(STRUCTURE_COMMAND_HISTORY, commandHistory.getHistory().size() + " commands",
+                estimator.measure(commandHistory));
+        stats.add(STRUCTURE_DICTIONARY, null, estimator.measureAll(SlotDictionary.getContents()));
+        return stats;
+    }
+
+    /**
+     * Returns the indices from 0 to {@code size - 1} in order of their distance from {@code current},
+     * earlier states before later ones at the same distance.
+     */
+    private static List<Integer> getIndicesByDistance(int size, int current) {
+        List<Integer> indices = new ArrayList<>(size);
+        for (int distance = 0; indices.size() < size; distance++) {
+            if (current - distance >= 0) {
+                indices.add(current - distance);
+            }
+            if (distance > 0 && current + distance < size) {
+                indices.add(current + distance);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Adds a row for {@code structure} with {@code detail} in brackets, or a row labelled {@code detail} which
+     * breaks down the structure above it if {@code structure} is null.
+     */
+    private void add(String structure, String detail, long bytes) {
+        structures.add(structure);
+        if (structure == null) {
+            labels.add(detail);
+        } else {
+            labels.add(detail == null ? structure : structure + " (" + detail + ")");
+        }
+        sizes.add(bytes);
+    }
+
+    /**
+     * Returns the estimated bytes of {@code structure}, one of the {@code STRUCTURE_} constants,
+     * or -1 if it was not measured.
+     */
+    public long getBytes(String structure) {
+        int index = structures.indexOf(structure);
+        return index < 0 ? -1 : sizes.get(index);
+    }
+
+    /**
+     * Formats the size of every structure as a table, followed by the total.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(TABLE_HEADER);
+        long total = 0;
+        for (int i = 0; i < labels.size(); i++) {
+            sb.append('\n').append(String.format(TABLE_ROW, labels.get(i), sizes.get(i) / BYTES_PER_KB));
+            if (structures.get(i) != null) {
+                total += sizes.get(i);
+            }
+        }
+        sb.append('\n').append(String.format(TABLE_ROW, "total", total / BYTES_PER_KB));
+        return sb.toString();
+    }
+}
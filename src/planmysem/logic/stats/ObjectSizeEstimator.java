@@ -0,0 +1,224 @@
+package planmysem.logic.stats;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Estimates the heap used by graphs of objects, so that the structures of the planner can be compared.
+ * Each object is counted once by an estimator, so measuring structures one after another gives the memory which
+ * each adds to those measured before it.
+ * <p>
+ * Sizes assume a 64-bit JVM with compressed references, which is the default for heaps below 32GB.
+ * The fields of PlanMySem's classes and the elements of arrays are followed by reflection. The JDK is closed to
+ * reflection since Java 9, so its collections, maps and strings are estimated from their sizes and elements, and
+ * other JDK objects such as dates are counted without what they refer to. Classes and enum constants, which are
+ * shared by the whole process, are not counted.
+ */
+public class ObjectSizeEstimator {
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ALIGNMENT_BYTES = 8;
+    /** The size of an entry of a hash table: header, hash, key, value and next. */
+    private static final int HASH_ENTRY_BYTES = 32;
+    /** The size of the HashMap backing a HashSet. */
+    private static final int BACKING_MAP_BYTES = 48;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final String OWN_PACKAGE = "planmysem.";
+    private static final String COLLECTION_VIEW_PREFIX = "java.util.Collections$";
+
+    private final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class<?>, Long> shallowSizes = new HashMap<>();
+    private final Map<Class<?>, List<Field>> referenceFields = new HashMap<>();
+
+    /**
+     * Returns the bytes used by {@code root} and the objects reachable from it which are not counted yet.
+     */
+    public long measure(Object root) {
+        return measure(root, object -> false, new ArrayList<>());
+    }
+
+    /**
+     * Returns the bytes used by {@code root} and the objects reachable from it which are not counted yet,
+     * stopping at objects matching {@code isDeferred}. Those are neither counted nor followed, but added to
+     * {@code deferred}, so that they can be measured as part of another structure.
+     */
+    public long measure(Object root, Predicate<Object> isDeferred, List<Object> deferred) {
+        long bytes = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        push(pending, root);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (counted.contains(object)) {
+                continue;
+            }
+            if (isDeferred.test(object)) {
+                deferred.add(object);
+                continue;
+            }
+            counted.add(object);
+            bytes += sizeOf(object, pending);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes used by every object in {@code roots} and the objects reachable from them which are not
+     * counted yet, without the collection holding them.
+     */
+    public long measureAll(Collection<?> roots) {
+        long bytes = 0;
+        for (Object root : roots) {
+            bytes += measure(root);
+        }
+        return bytes;
+    }
+
+    private static void push(Deque<Object> pending, Object object) {
+        if (object != null && !(object instanceof Class) && !(object instanceof Enum)) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Returns the bytes used by {@code object} itself, and adds the objects it refers to to {@code pending}.
+     */
+    private long sizeOf(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return sizeOfArray(object, pending);
+        }
+        if (type.getName().startsWith(OWN_PACKAGE)) {
+            for (Field field : getReferenceFields(type)) {
+                try {
+                    push(pending, field.get(object));
+                } catch (IllegalAccessException iae) {
+                    throw new AssertionError("Fields of PlanMySem classes are made accessible", iae);
+                }
+            }
+            return getShallowSize(type);
+        }
+        if (object instanceof String) {
+            String string = (String) object;
+            boolean isLatin1 = string.chars().allMatch(c -> c < 256);
+            return getShallowSize(type) + align(ARRAY_HEADER_BYTES + string.length() * (isLatin1 ? 1 : 2));
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            map.forEach((key, value) -> {
+                push(pending, key);
+                push(pending, value);
+            });
+            return getShallowSize(type) + getHashTableSize(map.size());
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            collection.forEach(element -> push(pending, element));
+            if (type.getName().startsWith(COLLECTION_VIEW_PREFIX)) {
+                // an unmodifiable or synchronized view, whose contents are counted with the collection it wraps
+                return getShallowSize(type);
+            }
+            if (object instanceof Set) {
+                return getShallowSize(type) + BACKING_MAP_BYTES + getHashTableSize(collection.size());
+            }
+            return getShallowSize(type) + align(ARRAY_HEADER_BYTES + (long) collection.size() * REFERENCE_BYTES);
+        }
+        return getShallowSize(type);
+    }
+
+    /**
+     * Returns the bytes used by {@code array}, and adds its elements to {@code pending} if they are objects.
+     */
+    private static long sizeOfArray(Object array, Deque<Object> pending) {
+        Class<?> componentType = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        if (!componentType.isPrimitive()) {
+            for (Object element : (Object[]) array) {
+                push(pending, element);
+            }
+        }
+        return align(ARRAY_HEADER_BYTES + (long) length * getFieldSize(componentType));
+    }
+
+    /**
+     * Returns the bytes used by the array and entries of a hash table holding {@code size} entries.
+     */
+    private static long getHashTableSize(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = Integer.highestOneBit((int) (size / LOAD_FACTOR)) << 1;
+        return align(ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES) + (long) size * HASH_ENTRY_BYTES;
+    }
+
+    /**
+     * Returns the bytes used by an instance of {@code type} without the objects it refers to.
+     * Listing the fields of a class is allowed even where reading them is not.
+     */
+    private long getShallowSize(Class<?> type) {
+        Long size = shallowSizes.get(type);
+        if (size == null) {
+            long bytes = OBJECT_HEADER_BYTES;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        bytes += getFieldSize(field.getType());
+                    }
+                }
+            }
+            size = align(bytes);
+            shallowSizes.put(type, size);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the instance fields holding references of {@code type}, a class of PlanMySem, made accessible.
+     * Fields inherited from the JDK are left out, since they cannot be read.
+     */
+    private List<Field> getReferenceFields(Class<?> type) {
+        List<Field> fields = referenceFields.get(type);
+        if (fields == null) {
+            fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c.getName().startsWith(OWN_PACKAGE); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            referenceFields.put(type, fields);
+        }
+        return fields;
+    }
+
+    private static int getFieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+}
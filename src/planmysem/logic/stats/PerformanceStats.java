@@ -0,0 +1,186 @@
+package planmysem.logic.stats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import planmysem.common.Clock;
+
+/**
+ * Latencies of parsing, executing and saving commands, kept separately for every command word,
+ * so that a slowdown can be traced to the parser, the command itself or the storage file.
+ * <p>
+ * One instance is shared by every planner in the process. If the system property {@value #PROPERTY_DUMP_FILE}
+ * is set, its statistics are written to that file every {@value #PROPERTY_DUMP_SECONDS} seconds
+ * (60 by default) for as long as the process runs.
+ */
+public class PerformanceStats {
+    public static final String PROPERTY_DUMP_FILE = "planmysem.perf.dumpFile";
+    public static final String PROPERTY_DUMP_SECONDS = "planmysem.perf.dumpSeconds";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String TABLE_HEADER = String.format("%-10s %-8s %8s %10s %10s %10s %10s %10s",
+            "COMMAND", "PHASE", "COUNT", "MEAN (ms)", "P50 (ms)", "P90 (ms)", "P99 (ms)", "MAX (ms)");
+    /** The command word under which input that could not be parsed into a command is counted. */
+    public static final String UNPARSED = "(unparsed)";
+
+    private static final String MESSAGE_DUMP_FAILED = "Could not write performance statistics to %1$s: %2$s";
+    private static final String TABLE_ROW = "%-10s %-8s %8d %10.3f %10.3f %10.3f %10.3f %10.3f";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long DEFAULT_DUMP_SECONDS = 60;
+
+    private static final PerformanceStats INSTANCE = new PerformanceStats();
+
+    static {
+        String dumpFile = System.getProperty(PROPERTY_DUMP_FILE);
+        if (dumpFile != null) {
+            INSTANCE.startDumping(Paths.get(dumpFile),
+                    Long.getLong(PROPERTY_DUMP_SECONDS, DEFAULT_DUMP_SECONDS), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * The parts of executing a command which are timed separately.
+     */
+    public enum Phase {
+        /** Parsing the user input into a command. */
+        PARSE,
+        /** Executing the command, including waiting for the lock on the planner. */
+        EXECUTE,
+        /** Saving the planner to the storage file after the command. */
+        SAVE
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private volatile String lastDumpFailure;
+
+    public static PerformanceStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        LatencyHistogram[] phases = histograms.get(commandWord);
+        if (phases == null) {
+            phases = histograms.computeIfAbsent(commandWord, k -> createHistograms());
+        }
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Returns an empty histogram for every phase, in the order of the phases.
+     */
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        return phases;
+    }
+
+    /**
+     * Returns the latencies recorded for {@code phase} of commands with {@code commandWord},
+     * or null if there are none.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        LatencyHistogram[] phases = histograms.get(commandWord);
+        return phases == null ? null : phases[phase.ordinal()];
+    }
+
+    /**
+     * Returns why the statistics could not be written to the dump file the last time they were written,
+     * or null if they were written or have not been written yet.
+     */
+    public String getLastDumpFailure() {
+        return lastDumpFailure;
+    }
+
+    /**
+     * Formats the latencies of every phase of every command word as a table, in order of command word,
+     * followed by the last dump failure if writing the dump file is failing.
+     */
+    public String format() {
+        String failure = lastDumpFailure;
+        String table = formatTable();
+        return failure == null ? table : table + "\n" + failure;
+    }
+
+    /**
+     * Formats the latencies of every phase of every command word as a table, in order of command word.
+     */
+    private String formatTable() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder sb = new StringBuilder(TABLE_HEADER);
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = entry.getValue()[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                sb.append('\n').append(String.format(TABLE_ROW, entry.getKey(), phase.name().toLowerCase(),
+                        histogram.getCount(), histogram.getMeanNanos() / NANOS_PER_MILLI,
+                        histogram.getNanosAtPercentile(50) / NANOS_PER_MILLI,
+                        histogram.getNanosAtPercentile(90) / NANOS_PER_MILLI,
+                        histogram.getNanosAtPercentile(99) / NANOS_PER_MILLI,
+                        histogram.getMaxNanos() / NANOS_PER_MILLI));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the time and the table of latencies to {@code file}, replacing its contents in one step so that
+     * readers never see a partly written file.
+     */
+    public void dumpTo(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, (ZonedDateTime.now(Clock.get()) + "\n" + formatTable() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes the statistics to {@code file} every {@code period}, on a daemon thread which does not keep the process
+     * alive. A failed write is retried at the next period, and until a write succeeds again its cause is shown by
+     * {@code format()} and returned by {@code getLastDumpFailure()}.
+     */
+    public void startDumping(Path file, long period, TimeUnit unit) {
+        ScheduledExecutorService dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "perf-stats-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dumpRecordingFailure(file), period, period, unit);
+    }
+
+    /**
+     * Writes the statistics to {@code file}, remembering why the write failed if it does.
+     */
+    void dumpRecordingFailure(Path file) {
+        try {
+            dumpTo(file);
+            lastDumpFailure = null;
+        } catch (IOException ioe) {
+            lastDumpFailure = String.format(MESSAGE_DUMP_FAILED, file, ioe.getMessage());
+        }
+    }
+}
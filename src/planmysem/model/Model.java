@@ -2,17 +2,21 @@ package planmysem.model;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
 
-import javafx.util.Pair;
+import planmysem.model.change.PlannerChangeListener;
+import planmysem.model.recurrence.RecurrenceRule;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.Semester;
 import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
 
 /**
  * The API of the Model component.
@@ -20,34 +24,95 @@ import planmysem.model.slot.Slot;
 public interface Model {
 
     /**
-     * Set last shown list.
+     * Returns a model of the same planner, with its own last shown list, for another user session.
+     * All sessions lock the planner through the same {@code getLock()}.
      */
-    void setLastShownList(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list);
+    Model createSession();
 
-    void setLastShownList(Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list);
+    /**
+     * Returns the lock guarding the planner, shared by all sessions of the planner.
+     * Every method holds the read lock while reading the planner and the write lock while changing it, so a single
+     * call needs no lock. Callers hold the read lock for as long as they use the days, slots or planner returned,
+     * and the write lock to make several changes without other sessions seeing them in between.
+     * Changing the planner while the current thread only holds the read lock throws an {@code IllegalStateException}.
+     */
+    ReadWriteLock getLock();
+
+    /**
+     * Returns an immutable snapshot of the planner, which is published on every commit and can be read
+     * without holding {@code getLock()} while the planner changes.
+     * If the planner changed since the last commit, a new snapshot is taken under the read lock.
+     */
+    Planner getSnapshot();
+
+    /**
+     * Set last shown list. A buffer returned by {@code getQueryBuffer()} becomes the last shown list without
+     * being copied.
+     */
+    void setLastShownList(List<SlotRef> list);
+
+    /**
+     * Returns an empty buffer of this session for a query to fill with its results, which is cleared and reused
+     * by the next query of the session. Pass it to {@code setLastShownList} to show its results.
+     */
+    SlotRefBuffer getQueryBuffer();
 
     void clearLastShownList();
 
     /**
-     * Saves the current planner state for undo/redo.
+     * Starts a transaction, which may be nested in another. The changes made until the matching {@code commit()}
+     * form a single undo step, and are published and saved once, or are discarded by {@code rollback()}.
+     * Undo and redo are unavailable while a transaction is open.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the innermost transaction. Outside of a transaction, saves the current planner state for undo/redo.
      */
     void commit();
 
+    /**
+     * Ends the innermost transaction, discarding the changes made since it began.
+     */
+    void rollback();
+
+    /**
+     * Registers {@code listener} to receive the changes to the planner, batched per commit, undo and redo.
+     */
+    void addChangeListener(PlannerChangeListener listener);
+
+    /**
+     * Stops delivering changes to {@code listener}.
+     */
+    void removeChangeListener(PlannerChangeListener listener);
+
+    /**
+     * Returns the number of transactions which have begun and not ended yet.
+     */
+    int getTransactionDepth();
+
     /**
      * Get last shown list.
      */
-    List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getLastShownList();
+    List<SlotRef> getLastShownList();
 
     /**
      * Get item in last shown list.
      */
-    Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> getLastShownItem(int index);
+    SlotRef getLastShownItem(int index);
 
     /**
      * Adds a slot to the Planner.
      */
     Day addSlot(LocalDate date, Slot slot) throws Semester.DateNotFoundException;
 
+    /**
+     * Adds a recurring slot to the Planner.
+     *
+     * @return the days the slot occurs on, in chronological order
+     */
+    Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule);
+
     /**
      * Removes a Slot in the Planner.
      */
@@ -56,7 +121,12 @@ public interface Model {
     /**
      * Removes a Slot in the Planner.
      */
-    void removeSlot(Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot);
+    void removeSlot(SlotRef slot);
+
+    /**
+     * Removes every slot referred to by {@code slots}.
+     */
+    void removeSlots(Collection<SlotRef> slots);
 
     /**
      * Edit specific slot within the planner.
@@ -65,6 +135,12 @@ public interface Model {
                          LocalTime startTime, int duration, String name, String location,
                          String description, Set<String> tags);
 
+    /**
+     * Edit every slot within the planner which contains all of {@code targetTags}.
+     */
+    void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name, String location,
+                   String description, Set<String> tags);
+
     /**
      * Clears all slots from the Planner.
      */
@@ -90,9 +166,10 @@ public interface Model {
     boolean slotExists(LocalDate date, ReadOnlySlot slot);
 
     /**
-     * gets all slots in the Planner containing all specified tags.
+     * gets all slots in the Planner containing all specified tags, in the buffer returned by
+     * {@code getQueryBuffer()}.
      */
-    List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getSlots(Set<String> tags);
+    List<SlotRef> getSlots(Set<String> tags);
 
     /**
      * Returns true if the model has previous Planner states to restore.
@@ -114,5 +191,10 @@ public interface Model {
      */
     void redo();
 
+    /**
+     * Returns the committed Planner states which undo and redo restore.
+     */
+    PlannerHistory getHistory();
+
 }
 
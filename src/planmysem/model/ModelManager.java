@@ -2,32 +2,42 @@ package planmysem.model;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import javafx.util.Pair;
+import planmysem.model.change.PlannerChangeListener;
+import planmysem.model.recurrence.RecurrenceRule;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.Semester;
 import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
 
 /**
  * Represents the entire Planner. Contains the model of the Planner.
+ * The planner may be shared by several sessions, each with its own last shown list; see {@link #createSession()}.
  */
 public class ModelManager implements Model {
-    protected List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> lastShownList = new ArrayList<>();
+    private static final String MESSAGE_READ_LOCK_HELD = "The planner cannot be changed while only reading it";
+
+    protected SlotRefBuffer lastShownList = new SlotRefBuffer();
+    private SlotRefBuffer queryBuffer = new SlotRefBuffer();
     private final VersionedPlanner versionedPlanner;
+    private final ReentrantReadWriteLock lock;
 
     /**
      * Creates an empty planner.
      */
     public ModelManager() {
-        versionedPlanner = new VersionedPlanner(new Planner());
+        this(new Planner());
     }
 
     /**
@@ -36,29 +46,75 @@ public class ModelManager implements Model {
      * @param planner external changes to this will not affect this Planner
      */
     public ModelManager(ReadOnlyPlanner planner) {
-        versionedPlanner = new VersionedPlanner(planner);
+        this(planner, null);
+    }
+
+    /**
+     * Constructs a Planner with the given model, whose old states of the undo history are paged out with
+     * {@code pager}.
+     *
+     * @param planner external changes to this will not affect this Planner
+     */
+    public ModelManager(ReadOnlyPlanner planner, PlannerHistory.Pager pager) {
+        this(new VersionedPlanner(planner, pager), new ReentrantReadWriteLock());
+    }
+
+    /**
+     * Constructs a Planner whose state is the current state of {@code history}, which it keeps undoing and redoing.
+     */
+    public ModelManager(PlannerHistory history) {
+        this(new VersionedPlanner(history), new ReentrantReadWriteLock());
+    }
+
+    private ModelManager(VersionedPlanner versionedPlanner, ReentrantReadWriteLock lock) {
+        this.versionedPlanner = versionedPlanner;
+        this.lock = lock;
     }
 
     @Override
-    public void setLastShownList(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list) {
-        lastShownList.clear();
+    public ModelManager createSession() {
+        return new ModelManager(versionedPlanner, lock);
+    }
 
-        if (list != null) {
-            lastShownList.addAll(list);
+    @Override
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
+    @Override
+    public Planner getSnapshot() {
+        Planner snapshot = versionedPlanner.getPublishedSnapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        lock.readLock().lock();
+        try {
+            return versionedPlanner.getSnapshot();
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
-    public void setLastShownList(Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list) {
+    public void setLastShownList(List<SlotRef> list) {
+        if (list == queryBuffer) {
+            queryBuffer = lastShownList;
+            lastShownList = (SlotRefBuffer) list;
+            return;
+        }
         lastShownList.clear();
 
         if (list != null) {
-            for (Map.Entry<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> entry : list.entrySet()) {
-                lastShownList.add(new Pair<>(entry.getKey(), entry.getValue()));
-            }
+            lastShownList.addAll(list);
         }
     }
 
+    @Override
+    public SlotRefBuffer getQueryBuffer() {
+        queryBuffer.clear();
+        return queryBuffer;
+    }
+
     @Override
     public void clearLastShownList() {
         lastShownList.clear();
@@ -66,17 +122,72 @@ public class ModelManager implements Model {
 
     @Override
     public void commit() {
-        versionedPlanner.commit();
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.commit();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void beginTransaction() {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.beginTransaction();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.rollback();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addChangeListener(PlannerChangeListener listener) {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.addChangeListener(listener);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeChangeListener(PlannerChangeListener listener) {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.removeChangeListener(listener);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
-    public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getLastShownList() {
+    public int getTransactionDepth() {
+        Lock readLock = lockForReading();
+        try {
+            return versionedPlanner.getTransactionDepth();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<SlotRef> getLastShownList() {
         return lastShownList;
     }
 
     @Override
-    public Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> getLastShownItem(int index) {
-        if (lastShownList == null || lastShownList.size() < index) {
+    public SlotRef getLastShownItem(int index) {
+        if (lastShownList.size() < index) {
             throw new IndexOutOfBoundsException();
         }
 
@@ -85,29 +196,86 @@ public class ModelManager implements Model {
 
     @Override
     public Day addSlot(LocalDate date, Slot slot) throws Semester.DateNotFoundException {
-        return versionedPlanner.addSlot(date, slot);
+        Lock writeLock = lockForWriting();
+        try {
+            return versionedPlanner.addSlot(date, slot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule) {
+        Lock writeLock = lockForWriting();
+        try {
+            return versionedPlanner.addSlotSeries(slot, rule);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void removeSlot(LocalDate date, ReadOnlySlot slot) {
-        versionedPlanner.removeSlot(date, slot);
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.removeSlot(date, slot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeSlot(SlotRef slot) {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.removeSlot(slot.getDate(), slot.getSlot());
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
-    public void removeSlot(Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot) {
-        versionedPlanner.removeSlot(slot.getKey(), slot.getValue().getValue());
+    public void removeSlots(Collection<SlotRef> slots) {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.removeSlots(slots);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void editSlot(LocalDate targetDate, ReadOnlySlot targetSlot, LocalDate date,
                          LocalTime startTime, int duration, String name, String location,
                          String description, Set<String> tags) {
-        versionedPlanner.editSlot(targetDate, targetSlot, date, startTime, duration, name, location, description, tags);
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.editSlot(targetDate, targetSlot, date, startTime, duration, name, location,
+                    description, tags);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name, String location,
+                          String description, Set<String> tags) {
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.editSlots(targetTags, startTime, duration, name, location, description, tags);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void clearSlots() {
-        versionedPlanner.clearSlots();
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.clearSlots();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
@@ -117,7 +285,12 @@ public class ModelManager implements Model {
 
     @Override
     public HashMap<LocalDate, Day> getDays() {
-        return versionedPlanner.getDays();
+        Lock readLock = lockForReading();
+        try {
+            return versionedPlanner.getDays();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
@@ -126,33 +299,102 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getSlots(Set<String> tags) {
-        return versionedPlanner.getSlots(tags);
+    public List<SlotRef> getSlots(Set<String> tags) {
+        SlotRefBuffer selectedSlots = getQueryBuffer();
+        Lock readLock = lockForReading();
+        try {
+            versionedPlanner.getSlots(tags, selectedSlots);
+        } finally {
+            readLock.unlock();
+        }
+        return selectedSlots;
     }
 
     @Override
     public boolean slotExists(LocalDate date, ReadOnlySlot slot) {
-        return getDay(date).contains(slot);
+        Lock readLock = lockForReading();
+        try {
+            return getDay(date).contains(slot);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
     public boolean canUndo() {
-        return versionedPlanner.canUndo();
+        Lock readLock = lockForReading();
+        try {
+            return versionedPlanner.canUndo();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
     public boolean canRedo() {
-        return versionedPlanner.canRedo();
+        Lock readLock = lockForReading();
+        try {
+            return versionedPlanner.canRedo();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
     public void undo() {
-        versionedPlanner.undo();
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.undo();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void redo() {
-        versionedPlanner.redo();
+        Lock writeLock = lockForWriting();
+        try {
+            versionedPlanner.redo();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public PlannerHistory getHistory() {
+        Lock readLock = lockForReading();
+        try {
+            return versionedPlanner.getHistory();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Acquires the read lock of the planner, which may already be held by the current thread.
+     *
+     * @return the lock acquired
+     */
+    private Lock lockForReading() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        return readLock;
+    }
+
+    /**
+     * Acquires the write lock of the planner, which may already be held by the current thread.
+     * Throws an {@code IllegalStateException} instead of waiting forever if the current thread only holds the
+     * read lock, which cannot be upgraded to the write lock.
+     *
+     * @return the lock acquired
+     */
+    private Lock lockForWriting() {
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException(MESSAGE_READ_LOCK_HELD);
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        return writeLock;
     }
 
     @Override
@@ -5,18 +5,23 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import javafx.util.Pair;
 import planmysem.common.Clock;
+import planmysem.model.recurrence.RecurrenceRule;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.Semester;
 import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
+import planmysem.model.slot.SlotSeries;
+import planmysem.model.slot.TagSet;
 
 /**
  * Represents the entire Planner. Contains the model of the Planner.
@@ -45,7 +50,22 @@ public class Planner implements ReadOnlyPlanner {
      * @param semester external changes to this will not affect this Planner
      */
     public Planner(Semester semester) {
-        this.semester = new Semester(semester);
+        this(semester, false);
+    }
+
+    /**
+     * @param isCopy if true, {@code semester} is a copy which is owned by this Planner rather than copied again
+     */
+    private Planner(Semester semester, boolean isCopy) {
+        this.semester = isCopy ? semester : new Semester(semester);
+    }
+
+    /**
+     * Returns a copy of this planner whose days share their slots with this planner until either changes them,
+     * so that copying takes time proportional to the number of days rather than the number of slots.
+     */
+    public Planner snapshot() {
+        return new Planner(semester.snapshot(), true);
     }
 
     /**
@@ -55,22 +75,41 @@ public class Planner implements ReadOnlyPlanner {
         requireNonNull(newData);
 
         setDays(newData.getDays());
+        semester.setSeries(newData.getSeries());
     }
 
     public Day addSlot(LocalDate date, Slot slot) throws Semester.DateNotFoundException {
         return semester.addSlot(date, slot);
     }
 
+    public Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule) {
+        return semester.addSlotSeries(slot, rule);
+    }
+
     public void removeSlot(LocalDate date, ReadOnlySlot slot) {
         semester.removeSlot(date, slot);
     }
 
+    /**
+     * Removes every slot referred to by {@code slots}.
+     */
+    public void removeSlots(Collection<SlotRef> slots) {
+        for (SlotRef slot : slots) {
+            semester.removeSlot(slot.getDate(), slot.getSlot());
+        }
+    }
+
     public void editSlot(LocalDate targetDate, ReadOnlySlot targetSlot, LocalDate date,
                          LocalTime startTime, int duration, String name, String location,
                          String description, Set<String> tags) {
         semester.editSlot(targetDate, targetSlot, date, startTime, duration, name, location, description, tags);
     }
 
+    public void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name, String location,
+                          String description, Set<String> tags) {
+        semester.editSlots(targetTags, startTime, duration, name, location, description, tags);
+    }
+
     public void clearSlots() {
         semester.clearSlots();
     }
@@ -86,18 +125,26 @@ public class Planner implements ReadOnlyPlanner {
         this.semester.setDays(days);
     }
 
-    public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getSlots(Set<String> tags) {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-
-        for (Map.Entry<LocalDate, Day> entry : getDays().entrySet()) {
-            for (Slot slot : entry.getValue().getSlots()) {
-                if (slot.getTags().containsAll(tags)) {
-                    selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+    /**
+     * Appends references to all slots containing all of {@code tags} to {@code result}, in chronological order.
+     */
+    public void getSlots(Set<String> tags, SlotRefBuffer result) {
+        final TagSet required = TagSet.find(tags);
+        if (required == null) {
+            return;
+        }
+        final HashMap<LocalDate, Day> days = getDays();
+        final List<LocalDate> dates = new ArrayList<>(days.keySet());
+        Collections.sort(dates);
+
+        for (LocalDate date : dates) {
+            Day day = days.get(date);
+            for (Slot slot : day.getSlots()) {
+                if (slot.getTags().containsAll(required)) {
+                    result.add(date, day, slot);
                 }
             }
         }
-
-        return selectedSlots;
     }
 
     @Override
@@ -105,6 +152,11 @@ public class Planner implements ReadOnlyPlanner {
         return semester.getDays();
     }
 
+    @Override
+    public List<SlotSeries> getSeries() {
+        return semester.getSeries();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,464 @@
+package planmysem.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The committed states of a planner which undo and redo restore, kept within a memory budget.
+ * <p>
+ * The states nearest to the current one stay in the heap, sharing their unchanged days with each other.
+ * Older states are handed to a {@link Pager}, which may compress them or spill them to disk, and are paged back in
+ * when undo or redo reaches them. The oldest states are forgotten once there are more than the maximum number of
+ * states, or once the paged out states take more than their maximum number of bytes, so that a long session runs
+ * in bounded memory. Without a pager, every state stays in the heap and only the number of states is limited.
+ * <p>
+ * Each state has an id which is never reused, so that the history can be saved incrementally by writing the
+ * states whose ids have not been written yet, and restored with its states paged in from where they were saved.
+ */
+public class PlannerHistory {
+    public static final String PROPERTY_MAX_STATES = "planmysem.history.maxStates";
+    public static final String PROPERTY_RESIDENT_STATES = "planmysem.history.residentStates";
+    public static final String PROPERTY_MAX_PAGED_OUT_KB = "planmysem.history.maxPagedOutKB";
+    public static final int DEFAULT_MAX_STATES = 1000;
+    public static final int DEFAULT_RESIDENT_STATES = 20;
+    public static final int DEFAULT_MAX_PAGED_OUT_KB = 256 * 1024;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private int pointer;
+    private final int maxStates;
+    private final int maxResidentStates;
+    private final long maxPagedOutBytes;
+    private final Pager pager;
+    private long pagedOutBytes;
+    private long nextId;
+    // The last paged out state read by getState, so that queries repeated on an old state page it in once.
+    private volatile Version lastRead;
+
+    /**
+     * Creates a history of {@code initialState} which keeps every state in the heap, limited in number by the
+     * system property {@value #PROPERTY_MAX_STATES}.
+     */
+    public PlannerHistory(Planner initialState) {
+        this(initialState, null);
+    }
+
+    /**
+     * Creates a history of {@code initialState} which pages states out with {@code pager}, limited by the system
+     * properties {@value #PROPERTY_MAX_STATES}, {@value #PROPERTY_RESIDENT_STATES} and
+     * {@value #PROPERTY_MAX_PAGED_OUT_KB}.
+     */
+    public PlannerHistory(Planner initialState, Pager pager) {
+        this(initialState, Integer.getInteger(PROPERTY_MAX_STATES, DEFAULT_MAX_STATES),
+                Integer.getInteger(PROPERTY_RESIDENT_STATES, DEFAULT_RESIDENT_STATES),
+                Integer.getInteger(PROPERTY_MAX_PAGED_OUT_KB, DEFAULT_MAX_PAGED_OUT_KB) * 1024L, pager);
+    }
+
+    /**
+     * @param maxStates the number of states beyond which the oldest are forgotten
+     * @param maxResidentStates the number of states on each side of the current one which stay in the heap
+     * @param maxPagedOutBytes the bytes of paged out states beyond which the oldest are forgotten
+     * @param pager pages states out of the heap, or null to keep every state in it
+     */
+    public PlannerHistory(Planner initialState, int maxStates, int maxResidentStates, long maxPagedOutBytes,
+                          Pager pager) {
+        if (maxStates < 1 || maxResidentStates < 1 || maxPagedOutBytes < 0) {
+            throw new IllegalArgumentException("The history must keep at least the current state in the heap.");
+        }
+        this.maxStates = maxStates;
+        this.maxResidentStates = maxResidentStates;
+        this.maxPagedOutBytes = maxPagedOutBytes;
+        this.pager = pager;
+        entries.add(new Entry(nextId++, initialState));
+        pointer = 0;
+    }
+
+    /**
+     * Restores a saved history whose current state is {@code currentState}, limited by the same system properties
+     * as {@link #PlannerHistory(Planner, Pager)}.
+     */
+    public PlannerHistory(List<Version> saved, int pointer, Planner currentState, Pager pager) {
+        this(saved, pointer, currentState, Integer.getInteger(PROPERTY_MAX_STATES, DEFAULT_MAX_STATES),
+                Integer.getInteger(PROPERTY_RESIDENT_STATES, DEFAULT_RESIDENT_STATES),
+                Integer.getInteger(PROPERTY_MAX_PAGED_OUT_KB, DEFAULT_MAX_PAGED_OUT_KB) * 1024L, pager);
+    }
+
+    /**
+     * Restores a saved history, whose states other than the current one stay where they were saved until undo or
+     * redo pages them in. The planner is saved separately, before its history, so {@code currentState} is checked
+     * against the state saved at {@code pointer}. If they differ, or the saved state cannot be read back, the history
+     * was not saved after the last change, and {@code currentState} is added after the saved state as a new state
+     * which has not been saved, so that the next save writes it. States beyond the limits are forgotten, the oldest
+     * first.
+     *
+     * @param saved the states from the oldest to the newest, which must all be paged out
+     * @param pointer the index in {@code saved} of the current state
+     */
+    public PlannerHistory(List<Version> saved, int pointer, Planner currentState, int maxStates,
+                          int maxResidentStates, long maxPagedOutBytes, Pager pager) {
+        this(currentState, maxStates, maxResidentStates, maxPagedOutBytes, pager);
+        if (saved.isEmpty()) {
+            return;
+        }
+        if (pointer < 0 || pointer >= saved.size()) {
+            throw new IllegalArgumentException("The current state must be one of the saved states.");
+        }
+        entries.clear();
+        for (Version version : saved) {
+            Entry entry = new Entry(version.id, null);
+            entry.paged = version.paged;
+            pagedOutBytes += version.paged.getBytes();
+            entries.add(entry);
+            nextId = Math.max(nextId, version.id + 1);
+        }
+        this.pointer = pointer;
+        if (currentState.equals(readSavedState(pointer))) {
+            entries.get(pointer).state = currentState;
+            forgetBeyondLimits();
+        } else {
+            add(currentState);
+        }
+    }
+
+    /**
+     * Adds {@code state} after the current state, which it becomes, forgetting the states which were undone.
+     */
+    public void add(Planner state) {
+        while (entries.size() > pointer + 1) {
+            remove(entries.size() - 1);
+        }
+        entries.add(new Entry(nextId++, state));
+        pointer++;
+        pageOutDistantStates();
+        forgetBeyondLimits();
+    }
+
+    /**
+     * Moves to the previous state and returns it, paging it in if needed.
+     * Throws {@code StateUnavailableException} if the state cannot be paged in, leaving the history unchanged.
+     */
+    public Planner undo() {
+        Planner state = pageIn(pointer - 1);
+        pointer--;
+        pageOutDistantStates();
+        return state;
+    }
+
+    /**
+     * Moves to the next state and returns it, paging it in if needed.
+     * Throws {@code StateUnavailableException} if the state cannot be paged in, leaving the history unchanged.
+     */
+    public Planner redo() {
+        Planner state = pageIn(pointer + 1);
+        pointer++;
+        pageOutDistantStates();
+        return state;
+    }
+
+    public boolean canUndo() {
+        return pointer > 0;
+    }
+
+    public boolean canRedo() {
+        return pointer < entries.size() - 1;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getPointer() {
+        return pointer;
+    }
+
+    /**
+     * Returns the state at {@code index} without moving to it, for reading only. A state in the heap is returned
+     * as it is, sharing its unchanged days with the states around it. A paged out state is paged in without being
+     * kept in the history, but it is kept as the last state read this way until another is read, so that queries
+     * repeated on the same old state page it in once. May be called by several readers at once.
+     * Throws {@code StateUnavailableException} if the state cannot be paged in.
+     */
+    public Planner getState(int index) {
+        Entry entry = entries.get(index);
+        Planner state = entry.state;
+        if (state != null) {
+            return state;
+        }
+        Version cached = lastRead;
+        if (cached != null && cached.id == entry.id) {
+            return cached.state;
+        }
+        state = peek(index);
+        lastRead = new Version(entry.id, state, null);
+        return state;
+    }
+
+    /**
+     * Returns the state at {@code index} if it is in the heap, or null if it is paged out.
+     */
+    public Planner getResidentState(int index) {
+        return entries.get(index).state;
+    }
+
+    /**
+     * Replaces the current state with {@code state}, an equal planner, so that the history shares it.
+     */
+    void setCurrentState(Planner state) {
+        entries.get(pointer).state = state;
+    }
+
+    /**
+     * Returns every state from the oldest to the newest, without paging in those which are paged out.
+     * The returned versions stay valid after the history changes, except that a paged out state which has since
+     * been forgotten may no longer be paged in.
+     */
+    public List<Version> getVersions() {
+        List<Version> versions = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            versions.add(new Version(entry.id, entry.state, entry.paged));
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the number of states which are paged out.
+     */
+    public int getNoOfPagedOutStates() {
+        int count = 0;
+        for (Entry entry : entries) {
+            if (entry.state == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the bytes which the paged out states take in the heap, or on disk if {@code isOnDisk}.
+     */
+    public long getPagedOutBytes(boolean isOnDisk) {
+        long bytes = 0;
+        for (Entry entry : entries) {
+            if (entry.state == null && entry.paged.isOnDisk() == isOnDisk) {
+                bytes += entry.paged.getBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the state at {@code index}, paging it in to stay in the heap if it was paged out.
+     * Its paged out copy is kept, so that it can be paged out again without being written again.
+     */
+    private Planner pageIn(int index) {
+        Entry entry = entries.get(index);
+        if (entry.state == null) {
+            try {
+                entry.state = entry.paged.pageIn();
+            } catch (IOException ioe) {
+                throw new StateUnavailableException(ioe);
+            }
+        }
+        return entry.state;
+    }
+
+    /**
+     * Pages out the states in the heap which are too far from the current state. A state which fails to be paged
+     * out stays in the heap, so that no state is lost.
+     */
+    private void pageOutDistantStates() {
+        if (pager == null) {
+            return;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.state == null || Math.abs(i - pointer) < maxResidentStates) {
+                continue;
+            }
+            if (entry.paged == null) {
+                try {
+                    entry.paged = pager.pageOut(entry.state);
+                } catch (IOException ioe) {
+                    continue;
+                }
+                pagedOutBytes += entry.paged.getBytes();
+            }
+            entry.state = null;
+        }
+    }
+
+    /**
+     * Forgets the oldest states while there are more than the maximum number of states, or while the paged out
+     * states take more than their maximum number of bytes, keeping at least the current state.
+     * If there are still too many states, the newest states which were undone are forgotten.
+     */
+    private void forgetBeyondLimits() {
+        while (pointer > 0 && (entries.size() > maxStates || pagedOutBytes > maxPagedOutBytes)) {
+            remove(0);
+            pointer--;
+        }
+        while (entries.size() > maxStates) {
+            remove(entries.size() - 1);
+        }
+    }
+
+    /**
+     * Forgets the state at {@code index}, freeing what its paged out copy takes.
+     */
+    private void remove(int index) {
+        Entry entry = entries.remove(index);
+        Version cached = lastRead;
+        if (cached != null && cached.id == entry.id) {
+            lastRead = null;
+        }
+        if (entry.paged != null) {
+            pagedOutBytes -= entry.paged.getBytes();
+            entry.paged.discard();
+        }
+    }
+
+    /**
+     * Returns the saved state at {@code index}, or null if it cannot be read back.
+     */
+    private Planner readSavedState(int index) {
+        try {
+            return entries.get(index).paged.pageIn();
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the state at {@code index} without keeping it in the heap if it is paged out.
+     */
+    private Planner peek(int index) {
+        Entry entry = entries.get(index);
+        if (entry.state != null) {
+            return entry.state;
+        }
+        try {
+            return entry.paged.pageIn();
+        } catch (IOException ioe) {
+            throw new StateUnavailableException(ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PlannerHistory)) {
+            return false;
+        }
+        PlannerHistory otherHistory = (PlannerHistory) other;
+        if (pointer != otherHistory.pointer || entries.size() != otherHistory.entries.size()) {
+            return false;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (!peek(i).equals(otherHistory.peek(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pointer, entries.size());
+    }
+
+    /**
+     * A state of the history, which is in the heap, paged out, or both after being paged back in.
+     */
+    private static class Entry {
+        private final long id;
+        private Planner state;
+        private PagedState paged;
+
+        Entry(long id, Planner state) {
+            this.id = id;
+            this.state = state;
+        }
+    }
+
+    /**
+     * A state of the history with its id, as it was when the versions were taken.
+     */
+    public static final class Version {
+        private final long id;
+        private final Planner state;
+        private final PagedState paged;
+
+        /**
+         * Creates a version which was saved as {@code paged}, to restore a history from.
+         */
+        public Version(long id, PagedState paged) {
+            this(id, null, Objects.requireNonNull(paged));
+        }
+
+        private Version(long id, Planner state, PagedState paged) {
+            this.id = id;
+            this.state = state;
+            this.paged = paged;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Returns the state, reading it back without keeping it in the heap if it is paged out.
+         */
+        public Planner getState() throws IOException {
+            return state != null ? state : paged.pageIn();
+        }
+    }
+
+    /**
+     * Moves states of the planner out of the heap.
+     */
+    public interface Pager {
+        /**
+         * Writes {@code state} out of the heap.
+         *
+         * @return the handle with which the state is paged back in
+         */
+        PagedState pageOut(Planner state) throws IOException;
+    }
+
+    /**
+     * A state which has been paged out.
+     */
+    public interface PagedState {
+        /**
+         * Reads the state back into the heap, as a planner which is not shared with any other.
+         */
+        Planner pageIn() throws IOException;
+
+        /**
+         * Returns the bytes which the paged out state takes.
+         */
+        long getBytes();
+
+        /**
+         * Returns true if the state was spilled to disk, or false if it is held in the heap in a compact form.
+         */
+        boolean isOnDisk();
+
+        /**
+         * Frees what the state takes, after which it cannot be paged in.
+         */
+        void discard();
+    }
+
+    /**
+     * Thrown when a state which was paged out cannot be read back.
+     */
+    public static class StateUnavailableException extends RuntimeException {
+        private StateUnavailableException(IOException cause) {
+            super("The state to restore could not be read back: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package planmysem.model;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 
 import planmysem.model.semester.Day;
+import planmysem.model.slot.SlotSeries;
 
 /**
  * Unmodifiable view of a Planner
@@ -15,4 +17,9 @@ public interface ReadOnlyPlanner {
      */
     HashMap<LocalDate, Day> getDays();
 
+    /**
+     * Returns an unmodifiable view of all recurring slots.
+     */
+    List<SlotSeries> getSeries();
+
 }
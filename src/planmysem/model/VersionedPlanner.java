@@ -1,73 +1,300 @@
 package planmysem.model;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
+import planmysem.model.change.PlannerChange;
+import planmysem.model.change.PlannerChangeListener;
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.semester.Day;
+import planmysem.model.semester.Semester;
+import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
 
 /**
  * {@code Planner} that keeps track of its own history.
+ * Each committed state is an immutable snapshot which shares unchanged days with the live planner, and the
+ * current one is published so that it can be read without locking while the live planner changes.
+ * The states are kept by a {@link PlannerHistory}, which bounds the memory they take.
  */
 public class VersionedPlanner extends Planner {
 
-    private final List<ReadOnlyPlanner> plannerListState;
-    private int currentStatePointer;
+    private final PlannerHistory history;
+
+    // The states to roll back to, one for each open transaction, with the innermost first.
+    private final Deque<Planner> transactionStates = new ArrayDeque<>();
+
+    // The number of uncommitted changes when each open transaction began, with the innermost first.
+    private final Deque<Integer> transactionChangeCounts = new ArrayDeque<>();
+
+    // The changes made since the last state was committed, delivered to the listeners on the next commit.
+    private final List<PlannerChange> uncommittedChanges = new ArrayList<>();
+
+    private final List<PlannerChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // The snapshot of the live planner, or null if the live planner changed since the snapshot was taken.
+    private volatile Planner publishedSnapshot;
 
     public VersionedPlanner(ReadOnlyPlanner initialState) {
+        this(initialState, null);
+    }
+
+    /**
+     * @param pager pages old states of the history out of the heap, or null to keep them all in it
+     */
+    public VersionedPlanner(ReadOnlyPlanner initialState, PlannerHistory.Pager pager) {
         super(initialState);
 
-        plannerListState = new ArrayList<>();
-        plannerListState.add(initialState);
-        currentStatePointer = 0;
+        publishedSnapshot = snapshot();
+        history = new PlannerHistory(publishedSnapshot, pager);
+        getSemester().recordChangesTo(uncommittedChanges);
+    }
+
+    /**
+     * Creates a planner whose state is the current state of {@code history}, which was restored from storage,
+     * so that its earlier states can be undone.
+     */
+    public VersionedPlanner(PlannerHistory history) {
+        super(history.getResidentState(history.getPointer()));
+
+        publishedSnapshot = snapshot();
+        this.history = history;
+        history.setCurrentState(publishedSnapshot);
+        getSemester().recordChangesTo(uncommittedChanges);
+    }
+
+    /**
+     * Registers {@code listener} to receive the changes of every later commit, undo and redo.
+     */
+    public void addChangeListener(PlannerChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(PlannerChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Delivers the uncommitted changes, if any, to the listeners together with {@code state}.
+     */
+    private void publishChanges(Planner state) {
+        if (uncommittedChanges.isEmpty()) {
+            return;
+        }
+        List<PlannerChange> changes = Collections.unmodifiableList(new ArrayList<>(uncommittedChanges));
+        uncommittedChanges.clear();
+        for (PlannerChangeListener listener : listeners) {
+            listener.plannerChanged(changes, state);
+        }
+    }
+
+    /**
+     * Starts a transaction, which may be nested in another. The changes made until the matching {@code commit()}
+     * are undone as a single step, or discarded by {@code rollback()}.
+     */
+    public void beginTransaction() {
+        transactionStates.push(getSnapshot());
+        transactionChangeCounts.push(uncommittedChanges.size());
     }
 
     /**
-     * Saves a copy of the current {@code Planner} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Ends the innermost transaction, or saves a copy of the current {@code Planner} state at the end of the state
+     * list if there is no transaction. The state is saved when the outermost transaction ends, if it changed.
+     * Undone states are removed from the state list. The changes of the saved state are delivered to the listeners.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        plannerListState.add(new Planner(this));
-        currentStatePointer++;
+        if (transactionStates.isEmpty()) {
+            saveState();
+            return;
+        }
+        Planner initialState = transactionStates.pop();
+        transactionChangeCounts.pop();
+        if (transactionStates.isEmpty() && getSnapshot() != initialState) {
+            saveState();
+        }
+    }
+
+    /**
+     * Ends the innermost transaction, restoring the planner to its state when the transaction began.
+     */
+    public void rollback() {
+        if (transactionStates.isEmpty()) {
+            throw new NoTransactionException();
+        }
+        Planner initialState = transactionStates.pop();
+        resetData(initialState);
+        publishedSnapshot = initialState;
+        uncommittedChanges.subList(transactionChangeCounts.pop(), uncommittedChanges.size()).clear();
+    }
+
+    /**
+     * Returns the number of transactions which have begun and not ended yet.
+     */
+    public int getTransactionDepth() {
+        return transactionStates.size();
+    }
+
+    /**
+     * Adds the snapshot of the current state to the state list, which also publishes it.
+     */
+    private void saveState() {
+        Tracer.CommitSpan span = Trace.beginCommit();
+        Planner state = getSnapshot();
+        history.add(state);
+        if (span.isEnabled()) {
+            int noOfSingleSlots = 0;
+            for (Day day : state.getDays().values()) {
+                noOfSingleSlots += day.getSingleSlots().size();
+            }
+            span.setDays(state.getDays().size());
+            span.setSingleSlots(noOfSingleSlots);
+            span.setSeries(state.getSeries().size());
+            span.setChanges(uncommittedChanges.size());
+        }
+        publishChanges(state);
+        span.commit();
+    }
+
+    /**
+     * Returns an immutable snapshot of the live planner, taking a new one if the planner changed since the last.
+     * Must not run concurrently with changes to the planner.
+     */
+    public synchronized Planner getSnapshot() {
+        Planner current = publishedSnapshot;
+        if (current == null) {
+            current = snapshot();
+            publishedSnapshot = current;
+        }
+        return current;
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        plannerListState.subList(currentStatePointer + 1, plannerListState.size()).clear();
+    /**
+     * Returns the snapshot of the live planner without taking one, or null if the planner changed since the
+     * last snapshot. Safe to call concurrently with changes to the planner.
+     */
+    public Planner getPublishedSnapshot() {
+        return publishedSnapshot;
+    }
+
+    public PlannerHistory getHistory() {
+        return history;
     }
 
     /**
      * Restores the planner to its previous state.
+     * Throws {@code PlannerHistory.StateUnavailableException} if the state was paged out and cannot be read back.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(plannerListState.get(currentStatePointer));
+        restore(history.undo());
     }
 
     /**
      * Restores the planner to its previously undone state.
+     * Throws {@code PlannerHistory.StateUnavailableException} if the state was paged out and cannot be read back.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(plannerListState.get(currentStatePointer));
+        restore(history.redo());
+    }
+
+    /**
+     * Makes {@code state} of the history the live and published state, and delivers the changes to it.
+     */
+    private void restore(Planner state) {
+        uncommittedChanges.clear();
+        resetData(state);
+        publishedSnapshot = state;
+        publishChanges(publishedSnapshot);
     }
 
     /**
      * Returns true if {@code undo()} has planner states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return transactionStates.isEmpty() && history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has planner states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < plannerListState.size() - 1;
+        return transactionStates.isEmpty() && history.canRedo();
+    }
+
+    @Override
+    public void resetData(ReadOnlyPlanner newData) {
+        publishedSnapshot = null;
+        super.resetData(newData);
+    }
+
+    @Override
+    public Day addSlot(LocalDate date, Slot slot) throws Semester.DateNotFoundException {
+        publishedSnapshot = null;
+        return super.addSlot(date, slot);
+    }
+
+    @Override
+    public Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule) {
+        publishedSnapshot = null;
+        return super.addSlotSeries(slot, rule);
+    }
+
+    @Override
+    public void removeSlots(Collection<SlotRef> slots) {
+        publishedSnapshot = null;
+        super.removeSlots(slots);
+    }
+
+    @Override
+    public void removeSlot(LocalDate date, ReadOnlySlot slot) {
+        publishedSnapshot = null;
+        super.removeSlot(date, slot);
+    }
+
+    @Override
+    public void editSlot(LocalDate targetDate, ReadOnlySlot targetSlot, LocalDate date,
+                         LocalTime startTime, int duration, String name, String location,
+                         String description, Set<String> tags) {
+        publishedSnapshot = null;
+        super.editSlot(targetDate, targetSlot, date, startTime, duration, name, location, description, tags);
+    }
+
+    @Override
+    public void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name, String location,
+                          String description, Set<String> tags) {
+        publishedSnapshot = null;
+        super.editSlots(targetTags, startTime, duration, name, location, description, tags);
+    }
+
+    @Override
+    public void clearSlots() {
+        publishedSnapshot = null;
+        super.clearSlots();
+    }
+
+    @Override
+    public void setDays(HashMap<LocalDate, Day> days) {
+        publishedSnapshot = null;
+        super.setDays(days);
     }
 
     @Override
@@ -86,13 +313,12 @@ public class VersionedPlanner extends Planner {
 
         // state check
         return super.equals(otherVersionedPlanner)
-                && plannerListState.equals(otherVersionedPlanner.plannerListState)
-                && currentStatePointer == otherVersionedPlanner.currentStatePointer;
+                && history.equals(otherVersionedPlanner.history);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(plannerListState, currentStatePointer);
+        return Objects.hash(history);
     }
 
     /**
@@ -104,6 +330,15 @@ public class VersionedPlanner extends Planner {
         }
     }
 
+    /**
+     * Thrown when trying to {@code rollback()} outside of a transaction.
+     */
+    public static class NoTransactionException extends RuntimeException {
+        private NoTransactionException() {
+            super("No transaction has begun, unable to roll back.");
+        }
+    }
+
     /**
      * Thrown when trying to {@code redo()} but can't.
      */
@@ -0,0 +1,120 @@
+package planmysem.model.change;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import planmysem.model.slot.ReadOnlySlot;
+
+/**
+ * A single change to the slots of a planner.
+ * An edit, including moving a slot to another date, is one change holding both the previous and the new slot.
+ * Guarantees: immutable.
+ */
+public final class PlannerChange {
+    /**
+     * The kinds of change.
+     */
+    public enum Type {
+        SLOT_ADDED,
+        SLOT_REMOVED,
+        SLOT_EDITED,
+        /** Every slot on the date was removed. */
+        DAY_CLEARED,
+        /** The whole planner was replaced, e.g. by undo or redo; anything derived from it must be rebuilt. */
+        RESET
+    }
+
+    private static final PlannerChange RESET_CHANGE = new PlannerChange(Type.RESET, null, null, null, null);
+
+    private final Type type;
+    private final LocalDate date;
+    private final ReadOnlySlot slot;
+    private final LocalDate previousDate;
+    private final ReadOnlySlot previousSlot;
+
+    private PlannerChange(Type type, LocalDate date, ReadOnlySlot slot, LocalDate previousDate,
+                          ReadOnlySlot previousSlot) {
+        this.type = type;
+        this.date = date;
+        this.slot = slot;
+        this.previousDate = previousDate;
+        this.previousSlot = previousSlot;
+    }
+
+    public static PlannerChange slotAdded(LocalDate date, ReadOnlySlot slot) {
+        return new PlannerChange(Type.SLOT_ADDED, date, slot, null, null);
+    }
+
+    public static PlannerChange slotRemoved(LocalDate date, ReadOnlySlot slot) {
+        return new PlannerChange(Type.SLOT_REMOVED, date, slot, null, null);
+    }
+
+    /**
+     * Returns the change of {@code previousSlot} on {@code previousDate} into {@code slot} on {@code date}.
+     */
+    public static PlannerChange slotEdited(LocalDate previousDate, ReadOnlySlot previousSlot, LocalDate date,
+                                           ReadOnlySlot slot) {
+        return new PlannerChange(Type.SLOT_EDITED, date, slot, previousDate, previousSlot);
+    }
+
+    public static PlannerChange dayCleared(LocalDate date) {
+        return new PlannerChange(Type.DAY_CLEARED, date, null, null, null);
+    }
+
+    public static PlannerChange reset() {
+        return RESET_CHANGE;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the date the change applies to, which is the new date of an edited slot, or null for a reset.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the added, removed or newly edited slot, or null for a cleared day or a reset.
+     */
+    public ReadOnlySlot getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the date of an edited slot before the edit, or null for other changes.
+     */
+    public LocalDate getPreviousDate() {
+        return previousDate;
+    }
+
+    /**
+     * Returns an edited slot as it was before the edit, or null for other changes.
+     */
+    public ReadOnlySlot getPreviousSlot() {
+        return previousSlot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlannerChange // instanceof handles nulls
+                && type == ((PlannerChange) other).type
+                && Objects.equals(date, ((PlannerChange) other).date)
+                && Objects.equals(slot, ((PlannerChange) other).slot)
+                && Objects.equals(previousDate, ((PlannerChange) other).previousDate)
+                && Objects.equals(previousSlot, ((PlannerChange) other).previousSlot));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, date, slot, previousDate, previousSlot);
+    }
+
+    @Override
+    public String toString() {
+        return type + (date == null ? "" : " " + date) + (slot == null ? "" : " " + slot.getName());
+    }
+}
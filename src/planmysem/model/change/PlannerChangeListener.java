@@ -0,0 +1,21 @@
+package planmysem.model.change;
+
+import java.util.List;
+
+import planmysem.model.Planner;
+
+/**
+ * Receives the changes to a planner, batched per committed state, so that structures derived from the planner
+ * can be updated incrementally instead of rebuilt from all of its days.
+ */
+@FunctionalInterface
+public interface PlannerChangeListener {
+    /**
+     * Called after a change to the planner is committed, undone or redone, on the thread which made the change
+     * and while the planner cannot change further. Must be quick and must not change the planner.
+     *
+     * @param changes the changes in the order they were made; a {@code RESET} means all else must be rebuilt
+     * @param snapshot the immutable state of the planner after the changes
+     */
+    void plannerChanged(List<PlannerChange> changes, Planner snapshot);
+}
@@ -10,17 +10,29 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import planmysem.common.Clock;
+import planmysem.common.Utils;
+import planmysem.model.recurrence.RecurrenceRule.WeekParity;
 import planmysem.model.semester.Semester;
 
 /**
  * Represents a Recurrence Value of a slot in the Planner.
  */
 public class Recurrence {
+    public static final String RECURRENCE_ODD = "odd";
+    public static final String RECURRENCE_EVEN = "even";
+    public static final String RECURRENCE_EVERY = "every:";
+    public static final String RECURRENCE_UNTIL = "until:";
+    public static final String RECURRENCE_EXCEPT = "except:";
+
     private final boolean normal; // Represents whether to recurse
     private final boolean recess; // Represents recess week
     private final boolean reading; // Represents reading week
     private final boolean exam; // Represents exam weeks
     private final boolean past; // Represents past academic weeks
+    private final int interval; // Represents every how many weeks to recurse
+    private final WeekParity parity; // Represents odd or even academic weeks
+    private final LocalDate until; // Represents last date to recurse
+    private final Set<LocalDate> exceptions = new HashSet<>(); // Represents dates not to recurse on
     private final DayOfWeek day;
     private final LocalDate date;
 
@@ -37,6 +49,9 @@ public class Recurrence {
             reading = false;
             exam = false;
             past = false;
+            interval = 1;
+            parity = WeekParity.ALL;
+            until = null;
             return;
         }
         normal = recurrences.contains("normal");
@@ -44,6 +59,10 @@ public class Recurrence {
         reading = recurrences.contains("reading");
         exam = recurrences.contains("exam");
         past = recurrences.contains("past");
+        interval = parseInterval(recurrences);
+        parity = parseParity(recurrences);
+        until = parseUntil(recurrences);
+        exceptions.addAll(parseExceptions(recurrences));
     }
 
     /**
@@ -59,6 +78,9 @@ public class Recurrence {
             reading = false;
             past = false;
             exam = false;
+            interval = 1;
+            parity = WeekParity.ALL;
+            until = null;
             return;
         }
         normal = recurrences.contains("normal");
@@ -66,92 +88,112 @@ public class Recurrence {
         reading = recurrences.contains("reading");
         exam = recurrences.contains("exam");
         past = recurrences.contains("past");
+        interval = parseInterval(recurrences);
+        parity = parseParity(recurrences);
+        until = parseUntil(recurrences);
+        exceptions.addAll(parseExceptions(recurrences));
     }
 
     /**
-     * Generate dates to place slots in the semester.
+     * Returns true if {@code recurrence} is a valid recurrence value.
+     * Values with an argument, such as "every:2" or "until:01-03-2019", must have a valid argument.
      */
-    public Set<LocalDate> generateDates(Semester semester) {
-        final Set<LocalDate> result = new TreeSet<>();
-
-        if (!normal && !recess && !reading && !exam) {
-            result.add(date);
-            return result;
+    public static boolean isValidRecurrence(String recurrence) {
+        if (recurrence.startsWith(RECURRENCE_EVERY)) {
+            return Utils.parseInteger(recurrence.substring(RECURRENCE_EVERY.length())) > 0;
         }
+        if (recurrence.startsWith(RECURRENCE_UNTIL)) {
+            return Utils.parseDate(recurrence.substring(RECURRENCE_UNTIL.length())) != null;
+        }
+        if (recurrence.startsWith(RECURRENCE_EXCEPT)) {
+            return Utils.parseDate(recurrence.substring(RECURRENCE_EXCEPT.length())) != null;
+        }
+        return true;
+    }
 
-        if (past) {
-            // recurse over normal days
-            if (normal) {
-                result.addAll(getDates(semester.getNormalDays()));
-            }
-
-            // recurse over recess days
-            if (recess) {
-                result.addAll(getDates(semester.getRecessDays()));
-            }
-
-            // recurse over reading days
-            if (reading) {
-                result.addAll(getDates(semester.getReadingDays()));
-            }
-
-            // recurse over exam days
-            if (exam) {
-                result.addAll(getDates(semester.getExamDays()));
-            }
-        } else {
-            LocalDate dateStart = LocalDate.now(Clock.get());
-
-            // recurse over normal days
-            if (normal) {
-                result.addAll(getDates(semester.getNormalDays(), dateStart));
+    /**
+     * Returns the number of weeks between occurrences, which is 1 unless specified.
+     */
+    private static int parseInterval(Set<String> recurrences) {
+        for (String recurrence : recurrences) {
+            if (recurrence.startsWith(RECURRENCE_EVERY)) {
+                int value = Utils.parseInteger(recurrence.substring(RECURRENCE_EVERY.length()));
+                if (value > 0) {
+                    return value;
+                }
             }
+        }
+        return 1;
+    }
 
-            // recurse over recess days
-            if (recess) {
-                result.addAll(getDates(semester.getRecessDays(), dateStart));
-            }
+    /**
+     * Returns which numbered academic weeks to recurse over.
+     */
+    private static WeekParity parseParity(Set<String> recurrences) {
+        if (recurrences.contains(RECURRENCE_ODD)) {
+            return WeekParity.ODD;
+        }
+        if (recurrences.contains(RECURRENCE_EVEN)) {
+            return WeekParity.EVEN;
+        }
+        return WeekParity.ALL;
+    }
 
-            // recurse over reading days
-            if (reading) {
-                result.addAll(getDates(semester.getReadingDays(), dateStart));
+    /**
+     * Returns the last date to recurse on, or null if unspecified.
+     */
+    private static LocalDate parseUntil(Set<String> recurrences) {
+        for (String recurrence : recurrences) {
+            if (recurrence.startsWith(RECURRENCE_UNTIL)) {
+                return Utils.parseDate(recurrence.substring(RECURRENCE_UNTIL.length()));
             }
+        }
+        return null;
+    }
 
-            // recurse over examination days
-            if (exam) {
-                result.addAll(getDates(semester.getExamDays(), dateStart));
+    /**
+     * Returns the dates not to recurse on.
+     */
+    private static Set<LocalDate> parseExceptions(Set<String> recurrences) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (String recurrence : recurrences) {
+            if (recurrence.startsWith(RECURRENCE_EXCEPT)) {
+                LocalDate date = Utils.parseDate(recurrence.substring(RECURRENCE_EXCEPT.length()));
+                if (date != null) {
+                    dates.add(date);
+                }
             }
         }
-
-        return result;
+        return dates;
     }
 
     /**
-     * Get set of dates where it is a specific DayOfWeek and is after a start date.
+     * Generate dates to place slots in the semester, in chronological order.
      */
-    private Set<LocalDate> getDates(Set<LocalDate> dates) {
-        final Set<LocalDate> result = new HashSet<>();
-        for (LocalDate d : dates) {
-            if (d.getDayOfWeek() == day) {
-                result.add(d);
-            }
+    public Set<LocalDate> generateDates(Semester semester) {
+        if (!isRecurring()) {
+            final Set<LocalDate> result = new TreeSet<>();
+            result.add(date);
+            return result;
         }
 
-        return result;
+        return toRule().generateDates(semester);
     }
 
     /**
-     * Get set of dates where it is a specific DayOfWeek and is after a start date.
+     * Returns true if the slot recurses over more than a single date.
      */
-    private Set<LocalDate> getDates(Set<LocalDate> dates, LocalDate dateStart) {
-        final Set<LocalDate> result = new HashSet<>();
-        for (LocalDate d : dates) {
-            if (d.getDayOfWeek() == day && (d.isAfter(dateStart) || d.isEqual(dateStart))) {
-                result.add(d);
-            }
-        }
+    public boolean isRecurring() {
+        return normal || recess || reading || exam;
+    }
 
-        return result;
+    /**
+     * Returns the rule of this recurrence. Past dates are excluded from the current date onwards,
+     * unless specified otherwise.
+     */
+    public RecurrenceRule toRule() {
+        LocalDate from = past ? null : LocalDate.now(Clock.get());
+        return new RecurrenceRule(day, normal, recess, reading, exam, interval, parity, from, until, exceptions);
     }
 
     /**
@@ -169,11 +211,15 @@ public class Recurrence {
                 && this.reading == ((Recurrence) other).reading
                 && this.normal == ((Recurrence) other).normal
                 && this.exam == ((Recurrence) other).exam
-                && this.past == ((Recurrence) other).past); // state check
+                && this.past == ((Recurrence) other).past
+                && this.interval == ((Recurrence) other).interval
+                && this.parity == ((Recurrence) other).parity
+                && Objects.equals(this.until, ((Recurrence) other).until)
+                && this.exceptions.equals(((Recurrence) other).exceptions)); // state check
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(recess, reading, normal, exam, past, date);
+        return Objects.hash(recess, reading, normal, exam, past, interval, parity, until, exceptions, date);
     }
 }
@@ -0,0 +1,229 @@
+package planmysem.model.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import planmysem.model.semester.DayIndex;
+import planmysem.model.semester.Semester;
+
+/**
+ * Represents the rule deciding on which dates of a semester a recurring slot occurs.
+ * The rule is stored once and evaluated whenever the dates are needed, rather than expanded into the planner.
+ * Guarantees: immutable.
+ */
+public class RecurrenceRule {
+    private static final int DAYS_IN_WEEK = 7;
+    private static final String NUMBERED_WEEK_PREFIX = "Week ";
+
+    /**
+     * Represents which numbered academic weeks a rule occurs in.
+     */
+    public enum WeekParity {
+        ALL, ODD, EVEN
+    }
+
+    private final DayOfWeek day;
+    private final boolean normal;
+    private final boolean recess;
+    private final boolean reading;
+    private final boolean exam;
+    private final int interval;
+    private final WeekParity parity;
+    private final LocalDate from;
+    private final LocalDate until;
+    private final Set<LocalDate> exceptions = new HashSet<>();
+
+    /**
+     * Constructs a rule occurring on {@code day} in the selected week types.
+     *
+     * @param interval occur every {@code interval} weeks, counting from the week of {@code from}
+     * @param from the first date the rule may occur on, or null for no bound
+     * @param until the last date the rule may occur on, or null for no bound
+     * @param exceptions dates the rule does not occur on
+     */
+    public RecurrenceRule(DayOfWeek day, boolean normal, boolean recess, boolean reading, boolean exam,
+                          int interval, WeekParity parity, LocalDate from, LocalDate until,
+                          Set<LocalDate> exceptions) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1 week.");
+        }
+        this.day = Objects.requireNonNull(day);
+        this.normal = normal;
+        this.recess = recess;
+        this.reading = reading;
+        this.exam = exam;
+        this.interval = interval;
+        this.parity = Objects.requireNonNull(parity);
+        this.from = from;
+        this.until = until;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Returns a copy of this rule which does not occur on {@code date}.
+     */
+    public RecurrenceRule withException(LocalDate date) {
+        Set<LocalDate> newExceptions = new HashSet<>(exceptions);
+        newExceptions.add(date);
+        return new RecurrenceRule(day, normal, recess, reading, exam, interval, parity, from, until, newExceptions);
+    }
+
+    /**
+     * Returns the days of {@code semester} the rule occurs on, as bits of the semester's {@code DayIndex}.
+     */
+    public BitSet expand(Semester semester) {
+        DayIndex dayIndex = semester.getDayIndex();
+        BitSet days = dayIndex.select(day, normal, recess, reading, exam, from);
+
+        if (until != null) {
+            int end = Math.max(dayIndex.indexOf(until) + 1, 0);
+            if (end < dayIndex.getNoOfDays()) {
+                days.clear(end, dayIndex.getNoOfDays());
+            }
+        }
+
+        // at most one day of each week is left at this point, so checking each remaining day checks each week
+        if (interval > 1 || parity != WeekParity.ALL) {
+            for (int i = days.nextSetBit(0); i >= 0; i = days.nextSetBit(i + 1)) {
+                if (!isInSelectedWeek(semester, dayIndex.dateOf(i))) {
+                    days.clear(i);
+                }
+            }
+        }
+
+        for (LocalDate exception : exceptions) {
+            int index = dayIndex.indexOf(exception);
+            if (index >= 0 && index < dayIndex.getNoOfDays()) {
+                days.clear(index);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Returns the dates of {@code semester} the rule occurs on, in chronological order.
+     */
+    public Set<LocalDate> generateDates(Semester semester) {
+        return semester.getDayIndex().toDates(expand(semester));
+    }
+
+    /**
+     * Checks if the rule occurs on {@code date} of {@code semester}.
+     */
+    public boolean occursOn(Semester semester, LocalDate date) {
+        if (date.getDayOfWeek() != day || exceptions.contains(date)
+                || (from != null && date.isBefore(from)) || (until != null && date.isAfter(until))) {
+            return false;
+        }
+        boolean isSelectedType = (normal && semester.getNormalDays().contains(date))
+                || (recess && semester.getRecessDays().contains(date))
+                || (reading && semester.getReadingDays().contains(date))
+                || (exam && semester.getExamDays().contains(date));
+        return isSelectedType && isInSelectedWeek(semester, date);
+    }
+
+    /**
+     * Checks if the week of {@code date} satisfies the interval and parity of the rule.
+     */
+    private boolean isInSelectedWeek(Semester semester, LocalDate date) {
+        if (interval > 1) {
+            LocalDate anchor = from != null && from.isAfter(semester.getStartDate()) ? from : semester.getStartDate();
+            long weeks = (date.toEpochDay() - anchor.toEpochDay() + anchorOffset(anchor)) / DAYS_IN_WEEK;
+            if (weeks % interval != 0) {
+                return false;
+            }
+        }
+        if (parity != WeekParity.ALL) {
+            String label = semester.weekLabel(date);
+            if (label == null || !label.startsWith(NUMBERED_WEEK_PREFIX)) {
+                return false;
+            }
+            int weekNo = Integer.parseInt(label.substring(NUMBERED_WEEK_PREFIX.length()));
+            return (weekNo % 2 == 1) == (parity == WeekParity.ODD);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of days from the start of the week containing {@code anchor} to {@code anchor},
+     * so that weeks are counted from the week of the anchor rather than from the anchor itself.
+     */
+    private static long anchorOffset(LocalDate anchor) {
+        return anchor.getDayOfWeek().getValue() - 1;
+    }
+
+    /**
+     * Returns true if the rule occurs on more than a single date.
+     */
+    public boolean isRecurring() {
+        return normal || recess || reading || exam;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public boolean isNormal() {
+        return normal;
+    }
+
+    public boolean isRecess() {
+        return recess;
+    }
+
+    public boolean isReading() {
+        return reading;
+    }
+
+    public boolean isExam() {
+        return exam;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public WeekParity getParity() {
+        return parity;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return Collections.unmodifiableSet(exceptions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecurrenceRule // instanceof handles nulls
+                && day == ((RecurrenceRule) other).day
+                && normal == ((RecurrenceRule) other).normal
+                && recess == ((RecurrenceRule) other).recess
+                && reading == ((RecurrenceRule) other).reading
+                && exam == ((RecurrenceRule) other).exam
+                && interval == ((RecurrenceRule) other).interval
+                && parity == ((RecurrenceRule) other).parity
+                && Objects.equals(from, ((RecurrenceRule) other).from)
+                && Objects.equals(until, ((RecurrenceRule) other).until)
+                && exceptions.equals(((RecurrenceRule) other).exceptions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, normal, recess, reading, exam, interval, parity, from, until, exceptions);
+    }
+}
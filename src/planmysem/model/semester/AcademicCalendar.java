@@ -0,0 +1,148 @@
+package planmysem.model.semester;
+
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import planmysem.model.semester.CalendarLayout.SemesterLayout;
+
+/**
+ * Represents a single academic year of a {@code CalendarLayout}, compiled into lookup tables indexed by
+ * the number of weeks since the start of the academic year.
+ * Guarantees: immutable.
+ */
+public class AcademicCalendar {
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final int year;
+    private final String academicYear;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<SemesterPeriod> periods = new ArrayList<>();
+    private final SemesterPeriod[] periodByWeek;
+    private final Map<Integer, String> acadCal = new HashMap<>();
+    private final Map<LocalDate, String> holidays = new HashMap<>();
+
+    /**
+     * Compiles the academic year of {@code layout} starting in {@code year}.
+     * The vacation of the last semester always lasts until the next academic year starts.
+     */
+    AcademicCalendar(CalendarLayout layout, int year) {
+        this.year = year;
+        this.academicYear = "AY" + year + "/" + (year + 1);
+        this.startDate = layout.getStartDate(year);
+
+        LocalDate nextStartDate = layout.getStartDate(year + 1);
+        int noOfWeeksInYear = (int) ((nextStartDate.toEpochDay() - startDate.toEpochDay() + DAYS_IN_WEEK - 1)
+                / DAYS_IN_WEEK);
+
+        List<SemesterLayout> semesters = layout.getSemesters();
+        int week = 0;
+        for (int i = 0; i < semesters.size(); i++) {
+            SemesterLayout semester = semesters.get(i);
+            String[] weeks = semester.getWeeks().toArray(new String[0]);
+            addPeriod(semester.getName(), week, weeks, null);
+            week += weeks.length;
+
+            boolean isLastSemester = i == semesters.size() - 1;
+            int vacationWeeks = isLastSemester || semester.getVacationWeeks() == SemesterLayout.UNTIL_NEXT_YEAR
+                    ? noOfWeeksInYear - week
+                    : semester.getVacationWeeks();
+            if (vacationWeeks > 0) {
+                String[] vacation = new String[vacationWeeks];
+                Arrays.fill(vacation, CalendarLayout.VACATION);
+                addPeriod(semester.getName(), week, vacation, isLastSemester ? nextStartDate.minusDays(1) : null);
+                week += vacationWeeks;
+            }
+        }
+
+        SemesterPeriod lastPeriod = periods.get(periods.size() - 1);
+        this.endDate = lastPeriod.getEndDate();
+        this.periodByWeek = new SemesterPeriod[week];
+        int index = 0;
+        for (SemesterPeriod period : periods) {
+            for (int j = 0; j < period.getNoOfWeeks(); j++) {
+                periodByWeek[index++] = period;
+            }
+        }
+
+        for (Map.Entry<LocalDate, String> holiday : layout.getHolidays().entrySet()) {
+            if (contains(holiday.getKey())) {
+                holidays.put(holiday.getKey(), holiday.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds a period of {@code weeks} starting {@code week} weeks after the start of the academic year.
+     * The period ends on {@code endDate} if given, otherwise after its last week.
+     */
+    private void addPeriod(String name, int week, String[] weeks, LocalDate endDate) {
+        LocalDate periodStartDate = startDate.plusWeeks(week);
+        LocalDate periodEndDate = endDate != null ? endDate : periodStartDate.plusWeeks(weeks.length).minusDays(1);
+        periods.add(new SemesterPeriod(name, academicYear, periodStartDate, periodEndDate, weeks));
+
+        for (int i = 0; i < weeks.length; i++) {
+            int isoWeek = periodStartDate.plusWeeks(i).get(WeekFields.ISO.weekOfWeekBasedYear());
+            acadCal.putIfAbsent(isoWeek, weeks[i] + "_" + name);
+        }
+    }
+
+    /**
+     * Returns the period containing {@code date}, or null if the date is not in this academic year.
+     */
+    public SemesterPeriod getPeriod(LocalDate date) {
+        if (!contains(date)) {
+            return null;
+        }
+        long week = (date.toEpochDay() - startDate.toEpochDay()) / DAYS_IN_WEEK;
+        return periodByWeek[(int) week];
+    }
+
+    /**
+     * Returns the name of the holiday on {@code date}, or null if there is none.
+     */
+    public String getHoliday(LocalDate date) {
+        return holidays.get(date);
+    }
+
+    /**
+     * Checks if the given date falls within this academic year.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * Returns an unmodifiable map of ISO week of year to the academic week and semester of that week,
+     * e.g. "Recess Week_Sem 1".
+     */
+    public Map<Integer, String> getAcadCal() {
+        return Collections.unmodifiableMap(acadCal);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public List<SemesterPeriod> getPeriods() {
+        return Collections.unmodifiableList(periods);
+    }
+}
@@ -0,0 +1,80 @@
+package planmysem.model.semester;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed lookup tables between academic week labels, date ranges and ISO weeks of a semester.
+ * Built once per semester so that resolving a week such as "Week 7" or "Recess Week" does not need
+ * a scan of the academic calendar.
+ */
+final class AcademicWeekIndex {
+    private final LocalDate startDate;
+    private final String[] labelByDayIndex;
+    private final Map<String, WeekRange> rangeByLabel = new LinkedHashMap<>();
+    private final Map<Integer, String> labelByIsoWeek = new HashMap<>();
+
+    /**
+     * Builds the index from the week type of every day between {@code startDate} and {@code endDate}.
+     * Dates without a {@code Day} are left unlabelled.
+     */
+    AcademicWeekIndex(LocalDate startDate, LocalDate endDate, Map<LocalDate, Day> days) {
+        this.startDate = startDate;
+
+        int noOfDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        labelByDayIndex = new String[Math.max(noOfDays, 0)];
+
+        for (int i = 0; i < labelByDayIndex.length; i++) {
+            LocalDate date = startDate.plusDays(i);
+            Day day = days.get(date);
+            if (day == null) {
+                continue;
+            }
+
+            String label = day.getType();
+            labelByDayIndex[i] = label;
+            rangeByLabel.merge(label, new WeekRange(date, date), WeekRange::span);
+            labelByIsoWeek.putIfAbsent(date.get(WeekFields.ISO.weekOfWeekBasedYear()), label);
+        }
+    }
+
+    /**
+     * Returns the academic week label of {@code date}, or null if the date is not in the semester.
+     */
+    String weekLabel(LocalDate date) {
+        if (date == null) {
+            return null;
+        }
+        long index = ChronoUnit.DAYS.between(startDate, date);
+        if (index < 0 || index >= labelByDayIndex.length) {
+            return null;
+        }
+        return labelByDayIndex[(int) index];
+    }
+
+    /**
+     * Returns the academic week label of an ISO week of the semester, or null if there is none.
+     */
+    String weekLabel(int isoWeekOfYear) {
+        return labelByIsoWeek.get(isoWeekOfYear);
+    }
+
+    /**
+     * Returns the dates covered by the academic week {@code label}, or null if there is no such week.
+     */
+    WeekRange weekRange(String label) {
+        return rangeByLabel.get(label);
+    }
+
+    /**
+     * Returns an unmodifiable view of all academic weeks in chronological order.
+     */
+    Map<String, WeekRange> getWeekRanges() {
+        return Collections.unmodifiableMap(rangeByLabel);
+    }
+}
@@ -0,0 +1,223 @@
+package planmysem.model.semester;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Describes the layout of an academic calendar: when each academic year starts, the sequence of weeks
+ * in each of its semesters and its holidays.
+ * Every academic year is compiled into an immutable {@code AcademicCalendar} once and cached by year,
+ * so several layouts and academic years can be used side by side.
+ */
+public class CalendarLayout {
+    public static final String VACATION = "Vacation";
+
+    /**
+     * The layout of the NUS academic calendar, used when no other layout is configured.
+     */
+    public static final CalendarLayout DEFAULT = new CalendarLayout("NUS", Month.AUGUST, DayOfWeek.MONDAY,
+            Collections.emptyMap(),
+            Arrays.asList(new SemesterLayout("Sem 1", getStandardWeeks(true), 5),
+                    new SemesterLayout("Sem 2", getStandardWeeks(false), SemesterLayout.UNTIL_NEXT_YEAR)),
+            Collections.emptyMap());
+
+    private static volatile CalendarLayout defaultLayout = DEFAULT;
+
+    private final String name;
+    private final Month startMonth;
+    private final DayOfWeek startDayOfWeek;
+    private final Map<Integer, LocalDate> startDates = new HashMap<>();
+    private final List<SemesterLayout> semesters = new ArrayList<>();
+    private final Map<LocalDate, String> holidays = new HashMap<>();
+    private final ConcurrentMap<Integer, AcademicCalendar> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a layout where each academic year starts on the first {@code startDayOfWeek} of
+     * {@code startMonth}, unless overridden in {@code startDates}.
+     *
+     * @param startDates start date of specific academic years, keyed by the year they start in
+     * @param semesters semesters of an academic year, in chronological order
+     * @param holidays names of holidays, keyed by date
+     */
+    public CalendarLayout(String name, Month startMonth, DayOfWeek startDayOfWeek, Map<Integer, LocalDate> startDates,
+                          List<SemesterLayout> semesters, Map<LocalDate, String> holidays) {
+        if (semesters.isEmpty()) {
+            throw new IllegalArgumentException("An academic calendar must have at least one semester.");
+        }
+        this.name = name;
+        this.startMonth = startMonth;
+        this.startDayOfWeek = startDayOfWeek;
+        this.startDates.putAll(startDates);
+        this.semesters.addAll(semesters);
+        this.holidays.putAll(holidays);
+    }
+
+    /**
+     * Returns the layout used to generate semesters when none is specified.
+     */
+    public static CalendarLayout getDefault() {
+        return defaultLayout;
+    }
+
+    /**
+     * Sets the layout used to generate semesters when none is specified.
+     */
+    public static void setDefault(CalendarLayout layout) {
+        defaultLayout = Objects.requireNonNull(layout);
+    }
+
+    /**
+     * Returns the compiled academic calendar of the academic year starting in {@code year}.
+     */
+    public AcademicCalendar getCalendar(int year) {
+        return calendars.computeIfAbsent(year, y -> new AcademicCalendar(this, y));
+    }
+
+    /**
+     * Returns the compiled academic calendar of the academic year containing {@code date}.
+     */
+    public AcademicCalendar getCalendar(LocalDate date) {
+        int year = date.getYear();
+        if (date.isBefore(getStartDate(year))) {
+            year--;
+        }
+        return getCalendar(year);
+    }
+
+    /**
+     * Returns the first day of the academic year starting in {@code year}.
+     */
+    public LocalDate getStartDate(int year) {
+        LocalDate startDate = startDates.get(year);
+        if (startDate != null) {
+            return startDate;
+        }
+        return LocalDate.of(year, startMonth, 1).with(TemporalAdjusters.firstInMonth(startDayOfWeek));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Month getStartMonth() {
+        return startMonth;
+    }
+
+    public DayOfWeek getStartDayOfWeek() {
+        return startDayOfWeek;
+    }
+
+    public Map<Integer, LocalDate> getStartDates() {
+        return Collections.unmodifiableMap(startDates);
+    }
+
+    public List<SemesterLayout> getSemesters() {
+        return Collections.unmodifiableList(semesters);
+    }
+
+    public Map<LocalDate, String> getHolidays() {
+        return Collections.unmodifiableMap(holidays);
+    }
+
+    /**
+     * Returns the week labels of a 13 week semester with a recess week, a reading week and two examination weeks.
+     */
+    private static List<String> getStandardWeeks(boolean hasOrientationWeek) {
+        List<String> weeks = new ArrayList<>();
+        if (hasOrientationWeek) {
+            weeks.add("Orientation Week");
+        }
+        for (int i = 1; i <= 6; i++) {
+            weeks.add("Week " + i);
+        }
+        weeks.add("Recess Week");
+        for (int i = 7; i <= 13; i++) {
+            weeks.add("Week " + i);
+        }
+        weeks.add("Reading Week");
+        weeks.add("Examination Week");
+        weeks.add("Examination Week");
+        return weeks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarLayout // instanceof handles nulls
+                && name.equals(((CalendarLayout) other).name)
+                && startMonth == ((CalendarLayout) other).startMonth
+                && startDayOfWeek == ((CalendarLayout) other).startDayOfWeek
+                && startDates.equals(((CalendarLayout) other).startDates)
+                && semesters.equals(((CalendarLayout) other).semesters)
+                && holidays.equals(((CalendarLayout) other).holidays));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, startMonth, startDayOfWeek, startDates, semesters, holidays);
+    }
+
+    /**
+     * Describes the weeks of a single semester and the vacation that follows it.
+     */
+    public static class SemesterLayout {
+        /**
+         * Represents a vacation which lasts until the next academic year starts.
+         */
+        public static final int UNTIL_NEXT_YEAR = -1;
+
+        private final String name;
+        private final List<String> weeks = new ArrayList<>();
+        private final int vacationWeeks;
+
+        /**
+         * @param weeks labels of every week of the semester, e.g. "Week 1" or "Recess Week"
+         * @param vacationWeeks number of vacation weeks after the semester, or {@code UNTIL_NEXT_YEAR}
+         */
+        public SemesterLayout(String name, List<String> weeks, int vacationWeeks) {
+            if (weeks.isEmpty()) {
+                throw new IllegalArgumentException("A semester must have at least one week.");
+            }
+            this.name = name;
+            this.weeks.addAll(weeks);
+            this.vacationWeeks = vacationWeeks;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getWeeks() {
+            return Collections.unmodifiableList(weeks);
+        }
+
+        public int getVacationWeeks() {
+            return vacationWeeks;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SemesterLayout // instanceof handles nulls
+                    && name.equals(((SemesterLayout) other).name)
+                    && weeks.equals(((SemesterLayout) other).weeks)
+                    && vacationWeeks == ((SemesterLayout) other).vacationWeeks);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, weeks, vacationWeeks);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package planmysem.model.semester;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -15,17 +17,27 @@ import planmysem.model.slot.Slot;
 public class Day implements ReadOnlyDay {
     private final DayOfWeek dayOfWeek;
     private final String type;
-    private final ArrayList<Slot> slots = new ArrayList<>();
+    private ArrayList<Slot> slots = new ArrayList<>();
+
+    // True if the list of slots may be shared with a copy of this day, in which case it is copied before changing.
+    private boolean isSlotsShared = false;
+
+    // The semester and date this day belongs to, used to look up occurrences of recurring slots.
+    private Semester semester;
+    private LocalDate date;
 
     /**
+     * Copies the slots of {@code day} which do not belong to a recurring slot.
+     * Occurrences of recurring slots are shared through the semester instead of copied per day.
+     * The slots are shared with {@code day} until either day changes them, so copying a day takes constant time.
      * Assumption: Every field must be present and not null.
      */
-    public Day(ReadOnlyDay day) {
+    public Day(Day day) {
         this.dayOfWeek = day.getDayOfWeek();
         this.type = day.getType();
-        for (Slot slot : day.getSlots()) {
-            this.slots.add(new Slot(slot));
-        }
+        this.slots = day.slots;
+        this.isSlotsShared = true;
+        day.isSlotsShared = true;
     }
 
     public Day(DayOfWeek dayOfWeek, String weekType) {
@@ -42,29 +54,65 @@ public class Day implements ReadOnlyDay {
         }
     }
 
+    /**
+     * Binds this day to {@code date} of {@code semester}, so that it also holds the occurrences of
+     * the semester's recurring slots.
+     */
+    void bind(Semester semester, LocalDate date) {
+        this.semester = semester;
+        this.date = date;
+    }
+
     /**
      * Add a slot to the day.
      */
     public void addSlot(Slot slot) {
+        unshareSlots();
         slots.add(new Slot(slot));
     }
 
+    /**
+     * Replaces the slot at {@code index} of {@code getSingleSlots()} with {@code slot}.
+     * Slots are never changed in place, since they may be shared with copies of this day.
+     */
+    public void setSlot(int index, Slot slot) {
+        unshareSlots();
+        slots.set(index, slot);
+    }
+
     /**
      * Removes the equivalent slot from the day.
+     * If the slot is an occurrence of a recurring slot, the recurring slot no longer occurs on this day.
      */
     public void removeSlot(ReadOnlySlot slot) {
-        slots.remove(slot);
+        if (slots.contains(slot)) {
+            unshareSlots();
+            slots.remove(slot);
+        } else if (semester != null) {
+            semester.excludeOccurrence(date, slot);
+        }
     }
 
     /**
      * Removes all slots from the day.
      */
     public void clear() {
-        slots.clear();
+        slots = new ArrayList<>();
+        isSlotsShared = false;
+    }
+
+    /**
+     * Copies the list of slots if it is shared with a copy of this day, so that it can be changed.
+     */
+    private void unshareSlots() {
+        if (isSlotsShared) {
+            slots = new ArrayList<>(slots);
+            isSlotsShared = false;
+        }
     }
 
     public boolean contains(ReadOnlySlot slot) {
-        return slots.contains(slot);
+        return getSlots().contains(slot);
     }
 
     @Override
@@ -82,9 +130,26 @@ public class Day implements ReadOnlyDay {
         return type;
     }
 
+    /**
+     * Returns the slots on this day, including occurrences of recurring slots.
+     * The list and its slots must not be changed, since they may be shared with copies of this day.
+     */
     @Override
     public ArrayList<Slot> getSlots() {
-        return slots;
+        if (semester == null || !semester.hasSeries()) {
+            return slots;
+        }
+        ArrayList<Slot> allSlots = new ArrayList<>(slots);
+        allSlots.addAll(semester.getOccurrences(date));
+        return allSlots;
+    }
+
+    /**
+     * Returns an unmodifiable view of the slots added to this day only, excluding occurrences of recurring slots.
+     * The slots must not be changed; use {@code setSlot} to replace them instead.
+     */
+    public List<Slot> getSingleSlots() {
+        return Collections.unmodifiableList(slots);
     }
 
     @Override
@@ -97,6 +162,6 @@ public class Day implements ReadOnlyDay {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(dayOfWeek, type, slots);
+        return Objects.hash(dayOfWeek, type, getSlots());
     }
 }
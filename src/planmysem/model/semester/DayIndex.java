@@ -0,0 +1,116 @@
+package planmysem.model.semester;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Bitsets over the days of a semester, where bit i represents the i-th day after the start of the semester.
+ * Built once per semester so that selecting dates by week type and day of week is a few bitwise operations
+ * instead of a scan of every date.
+ * Guarantees: immutable, bitsets handed out are copies.
+ */
+public final class DayIndex {
+    private final LocalDate startDate;
+    private final int noOfDays;
+    private final BitSet normalDays;
+    private final BitSet recessDays;
+    private final BitSet readingDays;
+    private final BitSet examDays;
+    private final BitSet[] daysOfWeek = new BitSet[DayOfWeek.values().length];
+
+    /**
+     * Builds the index of all days between {@code startDate} and {@code endDate} from the dates of each week type.
+     */
+    DayIndex(LocalDate startDate, LocalDate endDate, Set<LocalDate> normalDays, Set<LocalDate> recessDays,
+             Set<LocalDate> readingDays, Set<LocalDate> examDays) {
+        this.startDate = startDate;
+        this.noOfDays = Math.max((int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1, 0);
+        this.normalDays = toBitSet(normalDays);
+        this.recessDays = toBitSet(recessDays);
+        this.readingDays = toBitSet(readingDays);
+        this.examDays = toBitSet(examDays);
+
+        for (int i = 0; i < daysOfWeek.length; i++) {
+            daysOfWeek[i] = new BitSet(noOfDays);
+        }
+        int firstDayOfWeek = startDate.getDayOfWeek().ordinal();
+        for (int i = 0; i < noOfDays; i++) {
+            daysOfWeek[(firstDayOfWeek + i) % daysOfWeek.length].set(i);
+        }
+    }
+
+    /**
+     * Returns the bitset of the given dates, ignoring dates which are not in the semester.
+     */
+    private BitSet toBitSet(Set<LocalDate> dates) {
+        BitSet bits = new BitSet(noOfDays);
+        for (LocalDate date : dates) {
+            int index = indexOf(date);
+            if (index >= 0 && index < noOfDays) {
+                bits.set(index);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the index of {@code date}, which is negative or at least the number of days if it is not
+     * in the semester.
+     */
+    public int indexOf(LocalDate date) {
+        return (int) (date.toEpochDay() - startDate.toEpochDay());
+    }
+
+    /**
+     * Returns the date of the day at {@code index}.
+     */
+    public LocalDate dateOf(int index) {
+        return startDate.plusDays(index);
+    }
+
+    public int getNoOfDays() {
+        return noOfDays;
+    }
+
+    /**
+     * Returns the days which fall on {@code day} in any of the selected week types, from {@code from} onwards.
+     *
+     * @param from the first date to select, or null to select from the start of the semester
+     */
+    public BitSet select(DayOfWeek day, boolean normal, boolean recess, boolean reading, boolean exam,
+                         LocalDate from) {
+        BitSet result = new BitSet(noOfDays);
+        if (normal) {
+            result.or(normalDays);
+        }
+        if (recess) {
+            result.or(recessDays);
+        }
+        if (reading) {
+            result.or(readingDays);
+        }
+        if (exam) {
+            result.or(examDays);
+        }
+        result.and(daysOfWeek[day.ordinal()]);
+
+        if (from != null) {
+            result.clear(0, Math.min(Math.max(indexOf(from), 0), noOfDays));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dates of all set bits in chronological order.
+     */
+    public Set<LocalDate> toDates(BitSet days) {
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        for (int i = days.nextSetBit(0); i >= 0; i = days.nextSetBit(i + 1)) {
+            dates.add(dateOf(i));
+        }
+        return dates;
+    }
+}
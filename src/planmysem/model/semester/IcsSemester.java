@@ -3,16 +3,21 @@ package planmysem.model.semester;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Set;
 
+import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
 
 /**
  * Converts objects into .ics format.
  */
 public class IcsSemester {
+    public static final String CALENDAR_START = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n";
+    public static final String CALENDAR_END = "END:VCALENDAR\r\n";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
 
     private String icsCalendar;
+    private int noOfEvents = 0;
 
     /**
      * Converts the semester into this class for .ics use.
@@ -20,30 +25,44 @@ public class IcsSemester {
      * @param source Semester object to be converted into .ics format.
      */
     public IcsSemester(Semester source) {
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
-        this.icsCalendar = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n";
+        StringBuilder sb = new StringBuilder(CALENDAR_START);
         for (LocalDate date : source.getDays().keySet()) {
             for (Slot slot : source.getDays().get(date).getSlots()) {
-                this.icsCalendar = this.icsCalendar.concat("BEGIN:VEVENT\r\n");
-                LocalDateTime startDateTime = date.atTime(slot.getStartTime());
-                this.icsCalendar = this.icsCalendar.concat("DTSTART:" + dateFormat.format(startDateTime) + "\r\n");
-                LocalDateTime endDateTime = startDateTime.plusMinutes(slot.getDuration());
-                this.icsCalendar = this.icsCalendar.concat("DTEND:" + dateFormat.format(endDateTime) + "\r\n");
-                this.icsCalendar = this.icsCalendar.concat("SUMMARY:" + slot.getName() + "\r\n");
-                if (slot.getLocation() != null) {
-                    this.icsCalendar = this.icsCalendar.concat("LOCATION:" + slot.getLocation() + "\r\n");
-                }
-                this.icsCalendar = this.icsCalendar.concat("DESCRIPTION:" + slot.getDescription() + "\r\n");
-                this.icsCalendar = this.icsCalendar.concat("X-TAGS:");
-                Set<String> tagSet = slot.getTags();
-                for (String tag : tagSet) {
-                    this.icsCalendar = this.icsCalendar.concat(tag + ",");
-                }
-                this.icsCalendar = this.icsCalendar.concat("\r\n");
-                this.icsCalendar = this.icsCalendar.concat("END:VEVENT\r\n");
+                sb.append(toEvent(date, slot));
+                noOfEvents++;
             }
         }
-        this.icsCalendar = this.icsCalendar.concat("END:VCALENDAR\r\n");
+        sb.append(CALENDAR_END);
+        this.icsCalendar = sb.toString();
+    }
+
+    /**
+     * Converts the occurrence of {@code slot} on {@code date} into a .ics event, so that calendars too large
+     * to be held in memory can be written one event at a time between {@code CALENDAR_START} and
+     * {@code CALENDAR_END}.
+     */
+    public static String toEvent(LocalDate date, ReadOnlySlot slot) {
+        StringBuilder sb = new StringBuilder("BEGIN:VEVENT\r\n");
+        LocalDateTime startDateTime = date.atTime(slot.getStartTime());
+        sb.append("DTSTART:").append(DATE_FORMAT.format(startDateTime)).append("\r\n");
+        LocalDateTime endDateTime = startDateTime.plusMinutes(slot.getDuration());
+        sb.append("DTEND:").append(DATE_FORMAT.format(endDateTime)).append("\r\n");
+        sb.append("SUMMARY:").append(slot.getName()).append("\r\n");
+        if (slot.getLocation() != null) {
+            sb.append("LOCATION:").append(slot.getLocation()).append("\r\n");
+        }
+        sb.append("DESCRIPTION:").append(slot.getDescription()).append("\r\n");
+        sb.append("X-TAGS:");
+        for (String tag : slot.getTags()) {
+            sb.append(tag).append(",");
+        }
+        sb.append("\r\n");
+        sb.append("END:VEVENT\r\n");
+        return sb.toString();
+    }
+
+    public int getNoOfEvents() {
+        return noOfEvents;
     }
 
     @Override
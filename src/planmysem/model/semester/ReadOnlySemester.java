@@ -2,8 +2,12 @@ package planmysem.model.semester;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import planmysem.model.slot.SlotSeries;
+
 /**
  * Represents a Semester in the planner.
  * Guarantees: details are present and not null, field values are validated.
@@ -16,7 +20,8 @@ public interface ReadOnlySemester {
     LocalDate getStartDate();
     LocalDate getEndDate();
     int getNoOfWeeks();
-    HashMap<Integer, String> getAcadCal();
+    Map<Integer, String> getAcadCal();
+    List<SlotSeries> getSeries();
 
     // These variables aid in making searches more effective
     Set<LocalDate> getRecessDays();
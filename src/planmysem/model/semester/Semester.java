@@ -1,31 +1,31 @@
 package planmysem.model.semester;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.Month;
-import java.time.temporal.TemporalAdjusters;
-import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import planmysem.common.Clock;
+import planmysem.model.change.PlannerChange;
+import planmysem.model.recurrence.RecurrenceRule;
 import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotSeries;
+import planmysem.model.slot.TagSet;
 
 /**
  * Wraps all data of an academic semester.
  */
 public class Semester implements ReadOnlySemester {
-    private static HashMap<Integer, String> acadCal = new HashMap<>();
-
     // These variables hold the necessary details of a semester.
     private final String name;
     private final String academicYear;
@@ -39,13 +39,30 @@ public class Semester implements ReadOnlySemester {
     private final Set<LocalDate> readingDays = new HashSet<>();
     private final Set<LocalDate> normalDays = new HashSet<>();
     private final Set<LocalDate> examDays = new HashSet<>();
+    private final AcademicWeekIndex weekIndex;
+    private final DayIndex dayIndex;
+    private final AcademicCalendar calendar;
+
+    // Recurring slots, which occur on every day their recurrence rule matches.
+    private final List<SlotSeries> series = new ArrayList<>();
+
+    // The list the changes to the slots are appended to, or null if changes are not recorded.
+    private List<PlannerChange> changes;
 
     /**
-     * Constructs a Semester from given details of a semester.
+     * Constructs a Semester from given details of a semester, within the academic year of the default
+     * academic calendar layout.
      */
     public Semester(String name, String academicYear, HashMap<LocalDate, Day> days, LocalDate startDate,
                     LocalDate endDate, int noOfWeeks, Set<LocalDate> recessDays, Set<LocalDate> readingDays,
                     Set<LocalDate> normalDays, Set<LocalDate> examDays) {
+        this(name, academicYear, days, startDate, endDate, noOfWeeks, recessDays, readingDays, normalDays, examDays,
+                CalendarLayout.getDefault().getCalendar(startDate));
+    }
+
+    private Semester(String name, String academicYear, HashMap<LocalDate, Day> days, LocalDate startDate,
+                     LocalDate endDate, int noOfWeeks, Set<LocalDate> recessDays, Set<LocalDate> readingDays,
+                     Set<LocalDate> normalDays, Set<LocalDate> examDays, AcademicCalendar calendar) {
 
         this.name = name;
         this.academicYear = academicYear;
@@ -58,17 +75,29 @@ public class Semester implements ReadOnlySemester {
         this.readingDays.addAll(readingDays);
         this.normalDays.addAll(normalDays);
         this.examDays.addAll(examDays);
+
+        this.weekIndex = new AcademicWeekIndex(startDate, endDate, this.days);
+        this.dayIndex = new DayIndex(startDate, endDate, this.normalDays, this.recessDays, this.readingDays,
+                this.examDays);
+        this.calendar = calendar;
+        bindDays();
     }
 
     /**
-     * Constructs a shallow copy of a given Semester or generate a new Semester.
+     * Constructs a copy of a given Semester or generate a new Semester.
      */
     public Semester(Semester source) {
+        this(source, LocalDate.now(Clock.get()));
+    }
 
+    /**
+     * Constructs a copy of {@code source}, or generates a new Semester if {@code currentDate} is not in it.
+     * Days share their slots with the days of {@code source} until either changes them.
+     */
+    private Semester(Semester source, LocalDate currentDate) {
         // Generate a new semester if the current date does not exist in the source semseter.
         LocalDate startDateFromFile = source.startDate;
         LocalDate endDateFromFile = source.endDate;
-        LocalDate currentDate = LocalDate.now(Clock.get());
         Semester semester;
         if (currentDate.isBefore(startDateFromFile) || currentDate.isAfter(endDateFromFile)) {
             semester = generateSemester(currentDate);
@@ -78,7 +107,10 @@ public class Semester implements ReadOnlySemester {
 
         this.name = semester.getName();
         this.academicYear = semester.getAcademicYear();
-        this.days.putAll(semester.days);
+        for (Map.Entry<LocalDate, Day> entry : semester.days.entrySet()) {
+            this.days.put(entry.getKey(), new Day(entry.getValue()));
+        }
+        setSeries(semester.series);
         this.startDate = semester.startDate;
         this.endDate = semester.endDate;
         this.noOfWeeks = semester.noOfWeeks;
@@ -87,287 +119,296 @@ public class Semester implements ReadOnlySemester {
         this.readingDays.addAll(semester.readingDays);
         this.normalDays.addAll(semester.normalDays);
         this.examDays.addAll(semester.examDays);
+
+        this.weekIndex = semester.weekIndex;
+        this.dayIndex = semester.dayIndex;
+        this.calendar = semester.calendar;
+        bindDays();
     }
 
     /**
-     * Generates current Semester based on current date.
+     * Returns a copy of this semester, which shares the slots of each day with this semester until either
+     * changes them. Copying takes time proportional to the number of days rather than the number of slots.
+     */
+    public Semester snapshot() {
+        return new Semester(this, startDate);
+    }
+
+    /**
+     * Appends every later change to the slots of this semester to {@code changes}, or stops recording changes
+     * if {@code changes} is null. Copies of this semester do not record their changes.
+     */
+    public void recordChangesTo(List<PlannerChange> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Records {@code change} if changes are recorded.
+     */
+    private void record(PlannerChange change) {
+        if (changes != null) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Binds every day to this semester so that they hold the occurrences of recurring slots.
+     */
+    private void bindDays() {
+        for (Map.Entry<LocalDate, Day> entry : days.entrySet()) {
+            entry.getValue().bind(this, entry.getKey());
+        }
+    }
+
+    /**
+     * Generates current Semester based on current date using the default academic calendar layout.
      * As long as the current date falls within a semester, the generated semester is always the same.
      *
      * @param currentDate the current date when the program is run
      * @return the current Semester object
      */
     public static Semester generateSemester(LocalDate currentDate) {
-        String acadSem;
-        String acadYear;
+        return generateSemester(currentDate, CalendarLayout.getDefault());
+    }
+
+    /**
+     * Generates the Semester containing a given date from an academic calendar layout.
+     *
+     * @param currentDate the current date when the program is run
+     * @param layout the layout of the academic calendar
+     * @return the current Semester object
+     */
+    public static Semester generateSemester(LocalDate currentDate, CalendarLayout layout) {
+        AcademicCalendar calendar = layout.getCalendar(currentDate);
+        SemesterPeriod period = calendar.getPeriod(currentDate);
+
         HashMap<LocalDate, Day> days = new HashMap<>();
-        LocalDate startDate;
-        LocalDate endDate;
-        int noOfWeeks;
-
-        Set<LocalDate> recessDays = new HashSet<>();
-        Set<LocalDate> readingDays = new HashSet<>();
-        Set<LocalDate> normalDays = new HashSet<>();
-        Set<LocalDate> examDays = new HashSet<>();
-
-        HashMap<Integer, String> acadCalMap;
-        acadCalMap = generateAcademicCalMap(currentDate);
-        acadCal = acadCalMap;
-
-        String[] semesterDetails;
-        semesterDetails = getSemesterDetails(currentDate, acadCalMap);
-        acadSem = semesterDetails[0];
-        acadYear = semesterDetails[1];
-        noOfWeeks = Integer.parseInt(semesterDetails[2]);
-        startDate = LocalDate.parse(semesterDetails[3]);
-        endDate = LocalDate.parse(semesterDetails[4]);
-
-        // Initialise HashMap and Sets of all days in current semester
-        List<LocalDate> datesList;
-        datesList = startDate.datesUntil(endDate.plusDays(1)).collect(Collectors.toList());
-        for (LocalDate date: datesList) {
-            int weekOfYear = date.get(WeekFields.ISO.weekOfWeekBasedYear());
-            String weekType = acadCalMap.get(weekOfYear).split("_")[0];
-            days.put(date, new Day(date.getDayOfWeek(), weekType));
-            switch (weekType) {
-            case "Recess Week":
-                recessDays.add(date);
-                break;
-            case "Reading Week":
-                readingDays.add(date);
-                break;
-            case "Examination Week":
-                examDays.add(date);
-                break;
-            default:
-                normalDays.add(date);
-                break;
-            }
+        for (LocalDate date = period.getStartDate(); !date.isAfter(period.getEndDate()); date = date.plusDays(1)) {
+            days.put(date, new Day(date.getDayOfWeek(), period.getWeekLabel(date)));
         }
 
-        return new Semester(acadSem, acadYear, days, startDate, endDate, noOfWeeks,
-                recessDays, readingDays, normalDays, examDays);
+        return new Semester(period.getName(), period.getAcademicYear(), days, period.getStartDate(),
+                period.getEndDate(), period.getNoOfWeeks(), period.getRecessDays(), period.getReadingDays(),
+                period.getNormalDays(), period.getExamDays(), calendar);
     }
 
     /**
-     * Generates academic calendar for a given date.
+     * Adds a Slot to the Semester.
      *
-     * @param date used to determine academic year
-     * @return details of academic calendar
-     */
-    private static HashMap<Integer, String> generateAcademicCalMap(LocalDate date) {
-        HashMap<Integer, String> acadCalMap = new HashMap<>();
-
-        // Determine dates of semester 1 and 2 based on the given month.
-        final int august = Month.AUGUST.getValue();
-        int givenMonth = date.getMonthValue();
-        int givenYear = date.getYear();
-        LocalDate semOneStartDate = date;
-        LocalDate semTwoEndDate = date;
-        int semOneStartWeek;
-        int semTwoEndWeek;
-        if (givenMonth < august) {
-            semOneStartDate = semOneStartDate.withYear(givenYear - 1).withMonth(august)
-                    .with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
-            semOneStartWeek = semOneStartDate.get(WeekFields.ISO.weekOfWeekBasedYear());
-            semTwoEndDate = semTwoEndDate.withYear(givenYear).withMonth(august)
-                    .with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY)).minusDays(1);
-            semTwoEndWeek = semTwoEndDate.get(WeekFields.ISO.weekOfWeekBasedYear());
-        } else {
-            semOneStartDate = semOneStartDate.withYear(givenYear).withMonth(august)
-                    .with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
-            semOneStartWeek = semOneStartDate.get(WeekFields.ISO.weekOfWeekBasedYear());
-            semTwoEndDate = semTwoEndDate.withYear(givenYear + 1).withMonth(august)
-                    .with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY)).minusDays(1);
-            semTwoEndWeek = semTwoEndDate.get(WeekFields.ISO.weekOfWeekBasedYear());
+     * @throws DateNotFoundException if a date is not found in the semester.
+     */
+    public Day addSlot(LocalDate date, Slot slot) throws DateNotFoundException {
+        if (date == null || (date.isBefore(startDate) || date.isAfter(endDate))) {
+            throw new DateNotFoundException();
         }
+        days.get(date).addSlot(slot);
+        record(PlannerChange.slotAdded(date, slot));
+        return days.get(date);
+    }
 
-        // The following code assigns each week of the year to the appropriate academic week for the academic year.
-        // Sem 1 - Orientation Week
-        acadCalMap.put(semOneStartWeek, "Orientation Week_Sem 1");
-
-        // Sem 1 - Week 1 to 6
-        int acadWeekNo = 1;
-        for (int i = semOneStartWeek + 1; i < semOneStartWeek + 7; i++) {
-            acadCalMap.put(i, "Week " + acadWeekNo + "_Sem 1");
-            acadWeekNo++;
+    /**
+     * Adds a recurring Slot to the Semester, occurring on every date of {@code rule}.
+     * Nothing is added if the rule does not occur on any date.
+     *
+     * @return the days the slot occurs on, in chronological order
+     */
+    public Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule) {
+        Map<LocalDate, Day> occurrences = new LinkedHashMap<>();
+        for (LocalDate date : rule.generateDates(this)) {
+            occurrences.put(date, days.get(date));
         }
+        if (!occurrences.isEmpty()) {
+            series.add(new SlotSeries(slot, rule));
+            for (LocalDate date : occurrences.keySet()) {
+                record(PlannerChange.slotAdded(date, slot));
+            }
+        }
+        return occurrences;
+    }
 
-        // Sem 1 - Recess Week
-        acadCalMap.put(semOneStartWeek + 7, "Recess Week_Sem 1");
+    /**
+     * Returns true if the semester has any recurring slots.
+     */
+    boolean hasSeries() {
+        return !series.isEmpty();
+    }
 
-        // Sem 1 - Week 7 to 13
-        acadWeekNo = 7;
-        for (int i = semOneStartWeek + 8; i < semOneStartWeek + 15; i++) {
-            acadCalMap.put(i, "Week " + acadWeekNo + "_Sem 1");
-            acadWeekNo++;
+    /**
+     * Returns the occurrences of recurring slots on {@code date}.
+     */
+    List<Slot> getOccurrences(LocalDate date) {
+        List<Slot> occurrences = new ArrayList<>();
+        for (SlotSeries s : series) {
+            if (s.occursOn(this, date)) {
+                occurrences.add(s.getSlot(date));
+            }
         }
+        return occurrences;
+    }
 
-        // Sem 1 - Reading & Examination Weeks
-        acadCalMap.put(semOneStartWeek + 15, "Reading Week_Sem 1");
-        acadCalMap.put(semOneStartWeek + 16, "Examination Week_Sem 1");
-        acadCalMap.put(semOneStartWeek + 17, "Examination Week_Sem 1");
-
-        // Sem 1 - Vacation
-        int noOfWeeksInYear = (int) semOneStartDate.range(WeekFields.ISO.weekOfWeekBasedYear()).getMaximum();
-        int vacationWeekNo = semOneStartWeek + 18;
-        int semTwoStartWeek;
-        semTwoStartWeek = 1;
-        for (int i = 0; i < 5; i++) {
-            if ((vacationWeekNo + i) <= noOfWeeksInYear) {
-                acadCalMap.put(vacationWeekNo + i, "Vacation_Sem 1");
-            } else {
-                acadCalMap.put(semTwoStartWeek++, "Vacation_Sem 1");
+    /**
+     * Returns the index of the recurring slot whose occurrence on {@code date} is equivalent to {@code slot},
+     * or -1 if there is no such occurrence.
+     */
+    private int indexOfOccurrence(LocalDate date, ReadOnlySlot slot) {
+        for (int i = 0; i < series.size(); i++) {
+            if (series.get(i).getSlot(date).equals(slot) && series.get(i).occursOn(this, date)) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        // Sem 2 - Week 1 to 6
-        acadWeekNo = 1;
-        for (int i = semTwoStartWeek; i < semTwoStartWeek + 6; i++) {
-            acadCalMap.put(i, "Week " + acadWeekNo + "_Sem 2");
-            acadWeekNo++;
+    /**
+     * Stops the recurring slot equivalent to {@code slot} from occurring on {@code date}.
+     * The recurring slot is removed once it no longer occurs on any date.
+     *
+     * @return the occurrence which was removed, or null if there is no such occurrence
+     */
+    Slot excludeOccurrence(LocalDate date, ReadOnlySlot slot) {
+        int index = indexOfOccurrence(date, slot);
+        if (index == -1) {
+            return null;
         }
-
-        // Sem 2 - Recess Week
-        acadCalMap.put(semTwoStartWeek + 6, "Recess Week_Sem 2");
-
-        // Sem 2 - Week 7 to 13
-        acadWeekNo = 7;
-        for (int i = semTwoStartWeek + 7; i < semTwoStartWeek + 14; i++) {
-            acadCalMap.put(i, "Week " + acadWeekNo + "_Sem 2");
-            acadWeekNo++;
+        SlotSeries s = series.get(index);
+        SlotSeries updated = s.withException(date);
+        if (updated.getRule().expand(this).isEmpty()) {
+            series.remove(index);
+        } else {
+            series.set(index, updated);
         }
+        return s.getSlot(date);
+    }
 
-        // Sem 2 - Reading & Examination Weeks
-        acadCalMap.put(semTwoStartWeek + 14, "Reading Week_Sem 2");
-        acadCalMap.put(semTwoStartWeek + 15, "Examination Week_Sem 2");
-        acadCalMap.put(semTwoStartWeek + 16, "Examination Week_Sem 2");
-
-        // Sem 2 - Vacation
-        vacationWeekNo = semTwoStartWeek + 17;
-        while (vacationWeekNo <= semTwoEndWeek) {
-            acadCalMap.put(vacationWeekNo++, "Vacation_Sem 2");
+    /**
+     * Edits a Slot in the Semester.
+     * Editing an occurrence of a recurring slot overrides that occurrence only, leaving the other
+     * occurrences unchanged. Moving an occurrence to another date detaches it into a slot of its own.
+     */
+    public void editSlot(LocalDate targetDate, ReadOnlySlot targetSlot, LocalDate date, LocalTime startTime,
+                         int duration, String name, String location, String description, Set<String> tags) {
+        Day targetDay = days.get(targetDate);
+        int targetIndex = indexOfSingleSlot(targetDay, targetSlot);
+        Slot editingSlot;
+
+        if (targetIndex == -1) {
+            int index = indexOfOccurrence(targetDate, targetSlot);
+            if (index == -1) {
+                return;
+            }
+            if (date == null) {
+                Slot occurrence = new Slot(series.get(index).getSlot(targetDate));
+                applyEdits(occurrence, startTime, duration, name, location, description, tags);
+                series.set(index, series.get(index).withOverride(targetDate, occurrence));
+                record(PlannerChange.slotEdited(targetDate, targetSlot, targetDate, occurrence));
+                return;
+            }
+            editingSlot = new Slot(excludeOccurrence(targetDate, targetSlot));
+        } else {
+            // slots may be shared with copies of the day, so the edits are made on a copy
+            editingSlot = new Slot(targetDay.getSingleSlots().get(targetIndex));
+            if (date == null) {
+                applyEdits(editingSlot, startTime, duration, name, location, description, tags);
+                targetDay.setSlot(targetIndex, editingSlot);
+                record(PlannerChange.slotEdited(targetDate, targetSlot, targetDate, editingSlot));
+                return;
+            }
+            targetDay.removeSlot(targetDay.getSingleSlots().get(targetIndex));
         }
 
-        return acadCalMap;
+        applyEdits(editingSlot, startTime, duration, name, location, description, tags);
+        days.get(date).addSlot(editingSlot);
+        record(PlannerChange.slotEdited(targetDate, targetSlot, date, editingSlot));
     }
 
     /**
-     * Initialises and returns details of an academic semester from a given date and academic calendar.
-     *
-     * @param date used to determine academic year
-     * @param acadCalMap used to determine academic week
-     * @return an array of Strings of an academic semester's details
-     */
-    private static String[] getSemesterDetails(LocalDate date, HashMap<Integer, String> acadCalMap) {
-        String acadSem;
-        String acadYear = null;
-        LocalDate startDate = date;
-        LocalDate endDate = date;
-        String noOfWeeks = null;
-
-        // Get week numbers for semester 1 and 2 from the academic calendar map.
-        int firstWeekSemOne = 0;
-        int firstWeekSemOneHol = 0;
-        int lastWeekSemOneHol = 0;
-        int firstWeekSemTwo = 0;
-        int firstWeekSemTwoHol = 0;
-        for (Map.Entry<Integer, String> entry: acadCalMap.entrySet()) {
-            if ("Orientation Week_Sem 1".equals(entry.getValue())) {
-                firstWeekSemOne = entry.getKey();
-            } else if ("Examination Week_Sem 1".equals(entry.getValue())) {
-                firstWeekSemOneHol = entry.getKey() + 1;
-            } else if ("Week 1_Sem 2".equals(entry.getValue())) {
-                lastWeekSemOneHol = entry.getKey() - 1;
-                firstWeekSemTwo = entry.getKey();
-            } else if ("Examination Week_Sem 2".equals(entry.getValue())) {
-                firstWeekSemTwoHol = entry.getKey() + 1;
+     * Returns the index of the slot of {@code day} which is equivalent to {@code slot}, excluding occurrences
+     * of recurring slots, or -1 if there is no such slot.
+     */
+    private static int indexOfSingleSlot(Day day, ReadOnlySlot slot) {
+        List<Slot> singleSlots = day.getSingleSlots();
+        for (int i = 0; i < singleSlots.size(); i++) {
+            if (singleSlots.get(i).equals(slot)) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        // Get semester details from given date, academic calendar map and the week numbers retrieved above.
-        int givenYear = date.getYear();
-        int givenWeekOfYear = date.get(WeekFields.ISO.weekOfWeekBasedYear());
-        String[] acadWeekDetails = acadCalMap.get(givenWeekOfYear).split("_");
-        String acadWeek = acadWeekDetails[0];
-        acadSem = acadWeekDetails[1];
-        if ("Vacation".equals(acadWeek) && "Sem 1".equals(acadSem)) {
-            noOfWeeks = "5";
-            if (givenWeekOfYear < 4) {
-                acadYear = "AY" + (givenYear - 1) + "/" + givenYear;
-                startDate = startDate.withYear(givenYear - 1);
-            } else {
-                acadYear = "AY" + givenYear + "/" + (givenYear + 1);
-                endDate = endDate.withYear(givenYear + 1);
+    /**
+     * Edits every Slot in the Semester which contains all of {@code targetTags}.
+     * A recurring slot is edited once for all its occurrences.
+     */
+    public void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name, String location,
+                          String description, Set<String> tags) {
+        TagSet required = TagSet.find(targetTags);
+        if (required == null) {
+            return;
+        }
+        for (Map.Entry<LocalDate, Day> entry : days.entrySet()) {
+            Day day = entry.getValue();
+            for (int i = 0; i < day.getSingleSlots().size(); i++) {
+                Slot slot = day.getSingleSlots().get(i);
+                if (slot.getTags().containsAll(required)) {
+                    Slot edited = new Slot(slot);
+                    applyEdits(edited, startTime, duration, name, location, description, tags);
+                    day.setSlot(i, edited);
+                    record(PlannerChange.slotEdited(entry.getKey(), slot, entry.getKey(), edited));
+                }
             }
-            startDate = startDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemOneHol);
-            startDate = startDate.with(WeekFields.ISO.dayOfWeek(), 1);
-            endDate = endDate.with(WeekFields.ISO.weekOfWeekBasedYear(), lastWeekSemOneHol);
-            endDate = endDate.with(WeekFields.ISO.dayOfWeek(), 7);
-        } else if ("Vacation".equals(acadWeek) && "Sem 2".equals(acadSem)) {
-            noOfWeeks = "12";
-            acadYear = "AY" + (givenYear - 1) + "/" + givenYear;
-            startDate = startDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemTwoHol);
-            startDate = startDate.with(WeekFields.ISO.dayOfWeek(), 1);
-            endDate = endDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemTwoHol + 11);
-            endDate = endDate.with(WeekFields.ISO.dayOfWeek(), 7);
-        } else if ("Sem 1".equals(acadSem)) {
-            noOfWeeks = "18";
-            acadYear = "AY" + givenYear + "/" + (givenYear + 1);
-            startDate = startDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemOne);
-            startDate = startDate.with(WeekFields.ISO.dayOfWeek(), 1);
-            endDate = endDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemOne + 17);
-            endDate = endDate.with(WeekFields.ISO.dayOfWeek(), 7);
-        } else if ("Sem 2".equals(acadSem)) {
-            noOfWeeks = "17";
-            acadYear = "AY" + (givenYear - 1) + "/" + givenYear;
-            startDate = startDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemTwo);
-            startDate = startDate.with(WeekFields.ISO.dayOfWeek(), 1);
-            endDate = endDate.with(WeekFields.ISO.weekOfWeekBasedYear(), firstWeekSemTwo + 16);
-            endDate = endDate.with(WeekFields.ISO.dayOfWeek(), 7);
         }
 
-        return new String[] {acadSem, acadYear, noOfWeeks, startDate.toString(), endDate.toString()};
+        for (int i = 0; i < series.size(); i++) {
+            SlotSeries s = series.get(i);
+            if (s.getSlot().getTags().containsAll(required)) {
+                Slot edited = new Slot(s.getSlot());
+                applyEdits(edited, startTime, duration, name, location, description, tags);
+                s = s.withSlot(edited);
+            }
+            for (Map.Entry<LocalDate, Slot> override : s.getOverrides().entrySet()) {
+                if (override.getValue().getTags().containsAll(required)) {
+                    Slot edited = new Slot(override.getValue());
+                    applyEdits(edited, startTime, duration, name, location, description, tags);
+                    s = s.withOverride(override.getKey(), edited);
+                }
+            }
+            if (changes != null && s != series.get(i)) {
+                recordEditedOccurrences(series.get(i), s);
+            }
+            series.set(i, s);
+        }
     }
 
     /**
-     * Adds a Slot to the Semester.
-     *
-     * @throws DateNotFoundException if a date is not found in the semester.
+     * Records an edit for every occurrence which differs between {@code before} and {@code after}.
      */
-    public Day addSlot(LocalDate date, Slot slot) throws DateNotFoundException {
-        if (date == null || (date.isBefore(startDate) || date.isAfter(endDate))) {
-            throw new DateNotFoundException();
+    private void recordEditedOccurrences(SlotSeries before, SlotSeries after) {
+        for (LocalDate date : before.getRule().generateDates(this)) {
+            Slot previous = before.getSlot(date);
+            Slot current = after.getSlot(date);
+            if (!previous.equals(current)) {
+                record(PlannerChange.slotEdited(date, previous, date, current));
+            }
         }
-        days.get(date).addSlot(slot);
-        return days.get(date);
     }
 
     /**
-     * Edits a Slot in the Semester.
+     * Applies the given details to {@code slot}, leaving details which are null or -1 unchanged.
      */
-    public void editSlot(LocalDate targetDate, ReadOnlySlot targetSlot, LocalDate date, LocalTime startTime,
-                         int duration, String name, String location, String description, Set<String> tags) {
-        Slot editingSlot = days.get(targetDate).getSlots().stream()
-            .filter(s -> s.equals(targetSlot)).findAny().orElse(null);
-
-        if (date != null) {
-            Slot savedSlot = new Slot(editingSlot);
-            days.get(date).addSlot(savedSlot);
-            days.get(targetDate).removeSlot(editingSlot);
-            editingSlot = savedSlot;
-        }
+    private static void applyEdits(Slot slot, LocalTime startTime, int duration, String name, String location,
+                                   String description, Set<String> tags) {
         if (startTime != null) {
-            editingSlot.setStartTime(startTime);
+            slot.setStartTime(startTime);
         }
         if (duration != -1) {
-            editingSlot.setDuration(duration);
+            slot.setDuration(duration);
         }
 
-        editingSlot.setName(name);
-        editingSlot.setLocation(location);
-        editingSlot.setDescription(description);
+        slot.setName(name);
+        slot.setLocation(location);
+        slot.setDescription(description);
         if (tags.size() > 0) {
-            editingSlot.setTags(tags);
+            slot.setTags(tags);
         }
     }
 
@@ -376,10 +417,14 @@ public class Semester implements ReadOnlySemester {
      */
     public Map<LocalDateTime, ReadOnlySlot> getSlots(Set<String> tags) {
         Map<LocalDateTime, ReadOnlySlot> selectedSlots = new TreeMap<>();
+        TagSet required = TagSet.find(tags);
+        if (required == null) {
+            return selectedSlots;
+        }
 
         for (Map.Entry<LocalDate, Day> day : days.entrySet()) {
             for (Slot slot : day.getValue().getSlots()) {
-                if (slot.getTags().containsAll(tags)) {
+                if (slot.getTags().containsAll(required)) {
                     selectedSlots.put(LocalDateTime.of(day.getKey(), slot.getStartTime()), slot);
                 }
             }
@@ -392,6 +437,9 @@ public class Semester implements ReadOnlySemester {
      * Removes a Slot to the Semester.
      */
     public void removeSlot(LocalDate date, ReadOnlySlot slot) {
+        if (changes != null && days.get(date).contains(slot)) {
+            record(PlannerChange.slotRemoved(date, slot));
+        }
         days.get(date).removeSlot(slot);
     }
 
@@ -399,9 +447,17 @@ public class Semester implements ReadOnlySemester {
      * Clears all Days from the address book.
      */
     public void clearSlots() {
+        if (changes != null) {
+            for (Map.Entry<LocalDate, Day> day : days.entrySet()) {
+                if (!day.getValue().getSlots().isEmpty()) {
+                    record(PlannerChange.dayCleared(day.getKey()));
+                }
+            }
+        }
         for (Map.Entry<LocalDate, Day> day : days.entrySet()) {
             day.getValue().clear();
         }
+        series.clear();
     }
 
     /**
@@ -425,9 +481,54 @@ public class Semester implements ReadOnlySemester {
         return days.containsKey(date);
     }
 
+    /**
+     * Returns the academic week label of {@code date}, e.g. "Week 7" or "Recess Week".
+     * Returns null if the date does not fall within the semester.
+     */
+    public String weekLabel(LocalDate date) {
+        return weekIndex.weekLabel(date);
+    }
+
+    /**
+     * Returns the academic week label of the ISO week {@code isoWeekOfYear} within the semester.
+     * Returns null if the ISO week does not fall within the semester.
+     */
+    public String weekLabel(int isoWeekOfYear) {
+        return weekIndex.weekLabel(isoWeekOfYear);
+    }
+
+    /**
+     * Returns the dates covered by the academic week {@code label}, e.g. "Week 7" or "Examination Week".
+     * Returns null if there is no such week in the semester.
+     */
+    public WeekRange weekRange(String label) {
+        return weekIndex.weekRange(label);
+    }
+
+    /**
+     * Returns all academic weeks of the semester in chronological order.
+     */
+    public Map<String, WeekRange> getWeekRanges() {
+        return weekIndex.getWeekRanges();
+    }
+
+    /**
+     * Returns the bitsets over the days of the semester by week type and day of week.
+     */
+    public DayIndex getDayIndex() {
+        return dayIndex;
+    }
+
+    /**
+     * Returns the name of the holiday on {@code date}, or null if there is none.
+     */
+    public String getHoliday(LocalDate date) {
+        return calendar.getHoliday(date);
+    }
+
     @Override
-    public HashMap<Integer, String> getAcadCal() {
-        return acadCal;
+    public Map<Integer, String> getAcadCal() {
+        return calendar.getAcadCal();
     }
 
     @Override
@@ -447,6 +548,22 @@ public class Semester implements ReadOnlySemester {
         for (Map.Entry<LocalDate, Day> entry : days.entrySet()) {
             this.days.put(entry.getKey(), new Day(entry.getValue()));
         }
+        bindDays();
+        record(PlannerChange.reset());
+    }
+
+    /**
+     * Replaces the recurring slots of the semester with {@code series}.
+     * Series are immutable, so they are shared rather than copied.
+     */
+    public void setSeries(List<SlotSeries> series) {
+        this.series.clear();
+        this.series.addAll(series);
+    }
+
+    @Override
+    public List<SlotSeries> getSeries() {
+        return Collections.unmodifiableList(series);
     }
 
     @Override
@@ -0,0 +1,112 @@
+package planmysem.model.semester;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents a compiled period of an academic year, either the teaching weeks of a semester or the
+ * vacation that follows it.
+ * Guarantees: immutable.
+ */
+public class SemesterPeriod {
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final String name;
+    private final String academicYear;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String[] weekLabels;
+
+    private final Set<LocalDate> recessDays = new HashSet<>();
+    private final Set<LocalDate> readingDays = new HashSet<>();
+    private final Set<LocalDate> normalDays = new HashSet<>();
+    private final Set<LocalDate> examDays = new HashSet<>();
+
+    /**
+     * Constructs a period starting on {@code startDate} where the n-th week is labelled {@code weekLabels[n]}.
+     * The last week is cut short at {@code endDate}.
+     */
+    SemesterPeriod(String name, String academicYear, LocalDate startDate, LocalDate endDate, String[] weekLabels) {
+        this.name = name;
+        this.academicYear = academicYear;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.weekLabels = weekLabels.clone();
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            switch (getWeekLabel(date)) {
+            case "Recess Week":
+                recessDays.add(date);
+                break;
+            case "Reading Week":
+                readingDays.add(date);
+                break;
+            case "Examination Week":
+                examDays.add(date);
+                break;
+            default:
+                normalDays.add(date);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the label of the week containing {@code date}.
+     * Assumption: the date falls within this period.
+     */
+    public String getWeekLabel(LocalDate date) {
+        return weekLabels[(int) ((date.toEpochDay() - startDate.toEpochDay()) / DAYS_IN_WEEK)];
+    }
+
+    /**
+     * Checks if the given date falls within this period.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getNoOfWeeks() {
+        return weekLabels.length;
+    }
+
+    public List<String> getWeekLabels() {
+        return Collections.unmodifiableList(Arrays.asList(weekLabels));
+    }
+
+    public Set<LocalDate> getRecessDays() {
+        return Collections.unmodifiableSet(recessDays);
+    }
+
+    public Set<LocalDate> getReadingDays() {
+        return Collections.unmodifiableSet(readingDays);
+    }
+
+    public Set<LocalDate> getNormalDays() {
+        return Collections.unmodifiableSet(normalDays);
+    }
+
+    public Set<LocalDate> getExamDays() {
+        return Collections.unmodifiableSet(examDays);
+    }
+}
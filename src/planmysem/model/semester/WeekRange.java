@@ -0,0 +1,83 @@
+package planmysem.model.semester;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the inclusive range of dates covered by an academic week in the planner.
+ * Guarantees: immutable, start date is not after end date.
+ */
+public class WeekRange {
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Assumption: Every field must be present and not null.
+     */
+    public WeekRange(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Returns a range spanning both this range and {@code other}.
+     */
+    public WeekRange span(WeekRange other) {
+        LocalDate start = startDate.isBefore(other.startDate) ? startDate : other.startDate;
+        LocalDate end = endDate.isAfter(other.endDate) ? endDate : other.endDate;
+        return new WeekRange(start, end);
+    }
+
+    /**
+     * Checks if the given date falls within this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * Returns all dates in this range in chronological order.
+     */
+    public List<LocalDate> getDates() {
+        return startDate.datesUntil(endDate.plusDays(1)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of calendar weeks spanned by this range.
+     */
+    public int getNoOfWeeks() {
+        long days = startDate.until(endDate.plusDays(1), ChronoUnit.DAYS);
+        return (int) ((days + DAYS_IN_WEEK - 1) / DAYS_IN_WEEK);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WeekRange // instanceof handles nulls
+                && startDate.equals(((WeekRange) other).startDate)
+                && endDate.equals(((WeekRange) other).endDate));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate);
+    }
+
+    @Override
+    public String toString() {
+        return startDate + " to " + endDate;
+    }
+}
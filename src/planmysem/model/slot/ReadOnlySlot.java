@@ -18,8 +18,7 @@ public interface ReadOnlySlot {
     LocalTime getStartTime();
 
     /**
-     * The returned {@code Set} is a deep copy of the internal {@code Set},
-     * changes on the returned list will not affect the slot's internal tags.
+     * The returned {@code Set} is an unmodifiable view of the slot's tags.
      */
     Set<String> getTags();
 
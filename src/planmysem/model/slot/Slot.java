@@ -1,7 +1,6 @@
 package planmysem.model.slot;
 
 import java.time.LocalTime;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -10,9 +9,10 @@ import planmysem.common.Utils;
 /**
  * Represents a slot in the planner.
  * Guarantees: details are present and not null, field values are validated.
+ * Strings are interned and tags are stored as ids through the {@link SlotDictionary}.
  */
 public class Slot implements ReadOnlySlot {
-    private final Set<String> tags = new HashSet<>();
+    private TagSet tags;
     private String name;
     private String location;
     private String description;
@@ -24,14 +24,7 @@ public class Slot implements ReadOnlySlot {
      */
     public Slot(String name, String location, String description,
                 LocalTime startTime, LocalTime endTime, Set<String> tags) {
-        this.name = name;
-        this.location = location;
-        this.description = description;
-        this.startTime = startTime;
-        this.duration = Utils.getDuration(startTime, endTime);
-        if (tags != null) {
-            this.tags.addAll(tags);
-        }
+        this(name, location, description, startTime, Utils.getDuration(startTime, endTime), tags);
     }
 
     /**
@@ -39,14 +32,12 @@ public class Slot implements ReadOnlySlot {
      */
     public Slot(String name, String location, String description,
                 LocalTime startTime, int duration, Set<String> tags) {
-        this.name = name;
-        this.location = location;
-        this.description = description;
+        this.name = SlotDictionary.intern(name);
+        this.location = SlotDictionary.intern(location);
+        this.description = SlotDictionary.intern(description);
         this.startTime = startTime;
         this.duration = duration;
-        if (tags != null) {
-            this.tags.addAll(tags);
-        }
+        this.tags = TagSet.copyOf(tags);
     }
 
     /**
@@ -64,7 +55,7 @@ public class Slot implements ReadOnlySlot {
         if (value == null) {
             return;
         }
-        name = value;
+        name = SlotDictionary.intern(value);
     }
 
     /**
@@ -74,7 +65,7 @@ public class Slot implements ReadOnlySlot {
         if (value == null) {
             return;
         }
-        location = value;
+        location = SlotDictionary.intern(value);
     }
 
     /**
@@ -84,7 +75,7 @@ public class Slot implements ReadOnlySlot {
         if (value == null) {
             return;
         }
-        description = value;
+        description = SlotDictionary.intern(value);
     }
 
     /**
@@ -104,8 +95,7 @@ public class Slot implements ReadOnlySlot {
         if (tags == null) {
             return;
         }
-        this.tags.clear();
-        this.tags.addAll(tags);
+        this.tags = TagSet.copyOf(tags);
     }
 
     /**
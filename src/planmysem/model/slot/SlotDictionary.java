@@ -0,0 +1,125 @@
+package planmysem.model.slot;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Dictionary of the strings and tags used by slots, shared by every planner in the process.
+ * Slots hold the canonical instance of each string and refer to tags by id, so slots sharing a name or tag
+ * share a single copy of it. Strings and tags are only held weakly, so they are evicted once no slot uses them.
+ * Guarantees: thread-safe, ids are dense and start from 0; the id of an evicted tag may be given to a new one.
+ */
+public final class SlotDictionary {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+    private static final Map<String, Integer> ids = new WeakHashMap<>();
+    private static final ReferenceQueue<String> evictedTags = new ReferenceQueue<>();
+    private static final Deque<Integer> freeIds = new ArrayDeque<>();
+    private static TagRef[] tags = new TagRef[INITIAL_CAPACITY];
+    private static int noOfTags = 0;
+
+    private SlotDictionary() {
+    }
+
+    /**
+     * Returns the canonical instance of {@code value}, or null if {@code value} is null.
+     */
+    public static synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<String> ref = strings.get(value);
+        String canonical = ref == null ? null : ref.get();
+        if (canonical == null) {
+            strings.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the canonical instance of {@code tag}, adding it to the dictionary if it is not in it yet.
+     * The tag stays in the dictionary, with the same id, for as long as the returned instance is reachable.
+     */
+    public static synchronized String register(String tag) {
+        Integer id = ids.get(tag);
+        if (id != null) {
+            String canonical = tags[id].get();
+            if (canonical != null) {
+                return canonical;
+            }
+        }
+        freeEvictedIds();
+        String canonical = intern(tag);
+        int newId;
+        if (!freeIds.isEmpty()) {
+            newId = freeIds.pop();
+        } else {
+            if (noOfTags == tags.length) {
+                tags = Arrays.copyOf(tags, tags.length * 2);
+            }
+            newId = noOfTags++;
+        }
+        tags[newId] = new TagRef(canonical, newId);
+        ids.put(canonical, newId);
+        return canonical;
+    }
+
+    /**
+     * Returns the canonical instance of {@code tag}, or null if it is not in the dictionary.
+     */
+    public static synchronized String find(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? tags[id].get() : null;
+    }
+
+    /**
+     * Returns the id of {@code tag}, or -1 if it is not in the dictionary.
+     * Only ids of canonical instances returned by {@code register(tag)} which are still held are meaningful.
+     */
+    public static synchronized int findId(String tag) {
+        Integer id = ids.get(tag);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns read-only copies of the maps and the array holding the dictionary, for estimating the memory it uses.
+     */
+    public static synchronized List<Object> getContents() {
+        return Arrays.asList(new WeakHashMap<>(strings), new WeakHashMap<>(ids), tags.clone());
+    }
+
+    /**
+     * Makes the ids of the tags which have been evicted since the last call available to new tags.
+     */
+    private static void freeEvictedIds() {
+        Reference<? extends String> evicted;
+        while ((evicted = evictedTags.poll()) != null) {
+            int id = ((TagRef) evicted).id;
+            if (tags[id] == evicted) {
+                tags[id] = null;
+                freeIds.push(id);
+            }
+        }
+    }
+
+    /**
+     * A tag of the dictionary, which is enqueued once no slot uses it so that its id can be reused.
+     */
+    private static class TagRef extends WeakReference<String> {
+        private final int id;
+
+        TagRef(String tag, int id) {
+            super(tag, evictedTags);
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package planmysem.model.slot;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
+
+import planmysem.model.semester.ReadOnlyDay;
+
+/**
+ * A reference to a slot found by a query on the planner, together with the date and day it is on.
+ * Guarantees: immutable, details are present and not null.
+ */
+public final class SlotRef {
+    /**
+     * Orders references by date, keeping the order in which the query found them within a date.
+     */
+    public static final Comparator<SlotRef> BY_DATE =
+            Comparator.comparing(SlotRef::getDate).thenComparingInt(SlotRef::getId);
+
+    private final LocalDate date;
+    private final ReadOnlyDay day;
+    private final ReadOnlySlot slot;
+    private final int id;
+
+    /**
+     * Assumption: Every field must be present and not null.
+     *
+     * @param id the position of this reference in the result which produced it, starting from 1
+     */
+    public SlotRef(LocalDate date, ReadOnlyDay day, ReadOnlySlot slot, int id) {
+        this.date = date;
+        this.day = day;
+        this.slot = slot;
+        this.id = id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public ReadOnlyDay getDay() {
+        return day;
+    }
+
+    public ReadOnlySlot getSlot() {
+        return slot;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SlotRef // instanceof handles nulls
+                && id == ((SlotRef) other).id
+                && date.equals(((SlotRef) other).date)
+                && day.equals(((SlotRef) other).day)
+                && slot.equals(((SlotRef) other).slot));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, day, slot, id);
+    }
+
+    @Override
+    public String toString() {
+        return id + ". " + date + " " + slot.getName();
+    }
+}
@@ -0,0 +1,73 @@
+package planmysem.model.slot;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import planmysem.model.semester.ReadOnlyDay;
+
+/**
+ * A growable list of slot references which is cleared and refilled rather than reallocated, so repeated queries
+ * only allocate one {@code SlotRef} per result.
+ * References are numbered by their position in the buffer, starting from 1.
+ */
+public final class SlotRefBuffer extends AbstractList<SlotRef> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private SlotRef[] refs = new SlotRef[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Appends a reference to {@code slot} on {@code date}.
+     *
+     * @return the reference appended
+     */
+    public SlotRef add(LocalDate date, ReadOnlyDay day, ReadOnlySlot slot) {
+        return append(new SlotRef(date, day, slot, size + 1));
+    }
+
+    /**
+     * Appends {@code ref}, renumbering it if its id does not match its position in this buffer.
+     */
+    @Override
+    public boolean add(SlotRef ref) {
+        append(ref.getId() == size + 1 ? ref : new SlotRef(ref.getDate(), ref.getDay(), ref.getSlot(), size + 1));
+        return true;
+    }
+
+    /**
+     * Stores {@code ref} after the last reference, growing the backing array if needed.
+     */
+    private SlotRef append(SlotRef ref) {
+        if (size == refs.length) {
+            refs = Arrays.copyOf(refs, refs.length * 2);
+        }
+        refs[size++] = ref;
+        modCount++;
+        return ref;
+    }
+
+    /**
+     * Removes all references while keeping the backing array for reuse.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public SlotRef get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return refs[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
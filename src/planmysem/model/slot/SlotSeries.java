@@ -0,0 +1,133 @@
+package planmysem.model.slot;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.semester.Semester;
+
+/**
+ * Represents a recurring slot in the planner: a single slot shared by every date its recurrence rule occurs on,
+ * with overrides for the dates where a single occurrence was edited.
+ * Guarantees: immutable, so series can be shared between copies of the planner.
+ * The slots handed out must not be modified; use {@link #withSlot} and {@link #withOverride} instead.
+ */
+public final class SlotSeries {
+    private final Slot slot;
+    private final RecurrenceRule rule;
+    private final Map<LocalDate, Slot> overrides;
+
+    /**
+     * Assumption: Every field must be present and not null.
+     */
+    public SlotSeries(ReadOnlySlot slot, RecurrenceRule rule) {
+        this(new Slot(slot), Objects.requireNonNull(rule), Collections.emptyMap());
+    }
+
+    /**
+     * Constructs a series in which the occurrences on the dates of {@code overrides} differ from {@code slot}.
+     * Assumption: Every field must be present and not null.
+     */
+    public SlotSeries(ReadOnlySlot slot, RecurrenceRule rule, Map<LocalDate, ? extends ReadOnlySlot> overrides) {
+        this(new Slot(slot), Objects.requireNonNull(rule), copyOverrides(overrides));
+    }
+
+    private SlotSeries(Slot slot, RecurrenceRule rule, Map<LocalDate, Slot> overrides) {
+        this.slot = slot;
+        this.rule = rule;
+        this.overrides = overrides;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code overrides}.
+     */
+    private static Map<LocalDate, Slot> copyOverrides(Map<LocalDate, ? extends ReadOnlySlot> overrides) {
+        if (overrides.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<LocalDate, Slot> copy = new HashMap<>();
+        for (Map.Entry<LocalDate, ? extends ReadOnlySlot> entry : overrides.entrySet()) {
+            copy.put(entry.getKey(), new Slot(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Checks if the series occurs on {@code date} of {@code semester}.
+     */
+    public boolean occursOn(Semester semester, LocalDate date) {
+        return rule.occursOn(semester, date);
+    }
+
+    /**
+     * Returns a copy of this series which does not occur on {@code date}.
+     */
+    public SlotSeries withException(LocalDate date) {
+        Map<LocalDate, Slot> newOverrides = overrides;
+        if (overrides.containsKey(date)) {
+            newOverrides = new HashMap<>(overrides);
+            newOverrides.remove(date);
+            newOverrides = Collections.unmodifiableMap(newOverrides);
+        }
+        return new SlotSeries(slot, rule.withException(date), newOverrides);
+    }
+
+    /**
+     * Returns a copy of this series in which the occurrence on {@code date} is {@code occurrence}.
+     */
+    public SlotSeries withOverride(LocalDate date, ReadOnlySlot occurrence) {
+        Map<LocalDate, Slot> newOverrides = new HashMap<>(overrides);
+        if (slot.equals(occurrence)) {
+            newOverrides.remove(date);
+        } else {
+            newOverrides.put(date, new Slot(occurrence));
+        }
+        return new SlotSeries(slot, rule, Collections.unmodifiableMap(newOverrides));
+    }
+
+    /**
+     * Returns a copy of this series in which every occurrence which is not overridden is {@code newSlot}.
+     */
+    public SlotSeries withSlot(ReadOnlySlot newSlot) {
+        return new SlotSeries(new Slot(newSlot), rule, overrides);
+    }
+
+    /**
+     * Returns the slot shared by all occurrences which are not overridden.
+     */
+    public Slot getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the occurrence on {@code date}, assuming the series occurs on it.
+     */
+    public Slot getSlot(LocalDate date) {
+        return overrides.getOrDefault(date, slot);
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    public Map<LocalDate, Slot> getOverrides() {
+        return overrides;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SlotSeries // instanceof handles nulls
+                && slot.equals(((SlotSeries) other).slot)
+                && rule.equals(((SlotSeries) other).rule)
+                && overrides.equals(((SlotSeries) other).overrides));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(slot, rule, overrides);
+    }
+}
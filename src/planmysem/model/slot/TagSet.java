@@ -0,0 +1,172 @@
+package planmysem.model.slot;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * An unmodifiable set of tags stored as a sorted array of {@link SlotDictionary} ids.
+ * A 64-bit mask of the ids lets most failing {@code containsAll} checks be answered with one bitwise test.
+ * The set holds the canonical instance of each of its tags, which keeps them and their ids in the dictionary.
+ * Guarantees: immutable, so it can be shared by any number of slots.
+ */
+public final class TagSet extends AbstractSet<String> {
+    public static final TagSet EMPTY = new TagSet(new int[0], new String[0]);
+
+    private final int[] ids;
+    private final String[] tags;
+    private final long mask;
+    private int hash;
+
+    /**
+     * @param tags the canonical instances of the tags, in the order of {@code ids}
+     */
+    private TagSet(int[] ids, String[] tags) {
+        this.ids = ids;
+        this.tags = tags;
+        long bits = 0;
+        // shifts only use the low 6 bits, so ids beyond 63 share bits with smaller ids
+        for (int id : ids) {
+            bits |= 1L << id;
+        }
+        this.mask = bits;
+    }
+
+    /**
+     * Returns a tag set containing {@code tags}, adding any new tag to the dictionary.
+     */
+    public static TagSet copyOf(Collection<String> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags == null || tags.isEmpty()) {
+            return EMPTY;
+        }
+        String[] canonicals = new String[tags.size()];
+        int size = 0;
+        for (String tag : tags) {
+            canonicals[size++] = SlotDictionary.register(tag);
+        }
+        return of(canonicals);
+    }
+
+    /**
+     * Returns a tag set containing {@code tags} to match slots against, without adding any tag to the dictionary,
+     * or null if some tag is not in it, in which case no slot has all of {@code tags}.
+     */
+    public static TagSet find(Collection<String> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags == null || tags.isEmpty()) {
+            return EMPTY;
+        }
+        String[] canonicals = new String[tags.size()];
+        int size = 0;
+        for (String tag : tags) {
+            canonicals[size] = SlotDictionary.find(tag);
+            if (canonicals[size++] == null) {
+                return null;
+            }
+        }
+        return of(canonicals);
+    }
+
+    /**
+     * Returns a tag set containing the canonical instances {@code canonicals}, which may contain duplicates.
+     */
+    private static TagSet of(String[] canonicals) {
+        // the ids stay valid since the canonical instances are held
+        long[] entries = new long[canonicals.length];
+        for (int i = 0; i < canonicals.length; i++) {
+            entries[i] = ((long) SlotDictionary.findId(canonicals[i]) << 32) | i;
+        }
+        Arrays.sort(entries);
+
+        // remove duplicates, e.g. from a list of tags
+        int[] ids = new int[entries.length];
+        String[] tags = new String[entries.length];
+        int unique = 0;
+        for (long entry : entries) {
+            int id = (int) (entry >>> 32);
+            if (unique == 0 || ids[unique - 1] != id) {
+                ids[unique] = id;
+                tags[unique++] = canonicals[(int) entry];
+            }
+        }
+        return unique == ids.length
+                ? new TagSet(ids, tags)
+                : new TagSet(Arrays.copyOf(ids, unique), Arrays.copyOf(tags, unique));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        // sets hold a few tags, which are compared directly rather than looked up in the shared dictionary
+        for (String tag : tags) {
+            if (tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof TagSet)) {
+            return super.containsAll(c);
+        }
+        TagSet other = (TagSet) c;
+        if ((other.mask & ~mask) != 0 || other.ids.length > ids.length) {
+            return false;
+        }
+        // both arrays are sorted, so a single merge pass decides containment
+        int i = 0;
+        for (int id : other.ids) {
+            while (i < ids.length && ids[i] < id) {
+                i++;
+            }
+            if (i == ids.length || ids[i] != id) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    /**
+     * Iterates over the tags in alphabetical order, so that the order does not depend on when each tag was
+     * added to the dictionary.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        String[] sorted = tags.clone();
+        Arrays.sort(sorted);
+        return Collections.unmodifiableList(Arrays.asList(sorted)).iterator();
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as any other Set<String> with these tags; cached as the set is immutable
+        int h = hash;
+        if (h == 0 && ids.length > 0) {
+            h = super.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+}
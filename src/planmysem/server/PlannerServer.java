@@ -0,0 +1,201 @@
+package planmysem.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.storage.AcademicCalendarFile;
+import planmysem.storage.Storage;
+
+/**
+ * Serves the planners of many users from one process over HTTP on the loopback interface.
+ * {@code POST /users/USER_ID/commands} executes the command in the request body on the planner of USER_ID,
+ * and responds with the result as plain text.
+ * Requests are handled by a bounded pool of threads; planners are kept in a {@link SessionCache}.
+ */
+public class PlannerServer {
+    public static final String USERS_PATH = "/users/";
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String MESSAGE_USAGE = "Usage: PlannerServer [--port PORT] [--data DIRECTORY] "
+            + "[--capacity NO_OF_PLANNERS] [--idle-minutes MINUTES] [--threads NO_OF_THREADS]";
+    public static final String MESSAGE_STARTED = "Serving planners in %1$s on http://localhost:%2$d" + USERS_PATH;
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final String DEFAULT_DATA_DIRECTORY = "planners";
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final int DEFAULT_IDLE_MINUTES = 30;
+    private static final int DEFAULT_NO_OF_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int HTTP_UNPROCESSABLE = 422;
+
+    private final SessionCache sessionCache;
+    private final HttpServer httpServer;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService evictionExecutor;
+
+    /**
+     * Creates a server on {@code port} of the loopback interface, or on any free port if {@code port} is 0.
+     *
+     * @param idleMinutes the number of minutes after which an unused planner is saved and dropped
+     */
+    public PlannerServer(int port, Path dataDirectory, int capacity, int idleMinutes, int noOfThreads)
+            throws IOException {
+        Files.createDirectories(dataDirectory);
+        sessionCache = new SessionCache(dataDirectory, capacity, idleMinutes, TimeUnit.MINUTES, this::reportFailure);
+        requestExecutor = Executors.newFixedThreadPool(noOfThreads);
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor();
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.setExecutor(requestExecutor);
+        httpServer.createContext(USERS_PATH, this::handle);
+
+        long evictionPeriod = Math.max(idleMinutes * 60L / 2, 1);
+        evictionExecutor.scheduleAtFixedRate(sessionCache::evictIdle, evictionPeriod, evictionPeriod,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts the server with the options in {@code args}, and saves all planners when the process is stopped.
+     */
+    public static void main(String[] args) throws IOException, JAXBException {
+        int port = DEFAULT_PORT;
+        Path dataDirectory = Paths.get(DEFAULT_DATA_DIRECTORY);
+        int capacity = DEFAULT_CAPACITY;
+        int idleMinutes = DEFAULT_IDLE_MINUTES;
+        int noOfThreads = DEFAULT_NO_OF_THREADS;
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(value);
+                    break;
+                case "--data":
+                    dataDirectory = Paths.get(value);
+                    break;
+                case "--capacity":
+                    capacity = Integer.parseInt(value);
+                    break;
+                case "--idle-minutes":
+                    idleMinutes = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    noOfThreads = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            AcademicCalendarFile.loadDefaultLayout();
+        } catch (Storage.StorageOperationException soe) {
+            // planners are still served with the default layout
+            System.err.println(soe.getMessage());
+        }
+        PlannerServer server = new PlannerServer(port, dataDirectory, capacity, idleMinutes, noOfThreads);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.out.println(String.format(MESSAGE_STARTED, dataDirectory.toAbsolutePath(), server.getPort()));
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting requests, waits for the requests being handled, then saves every planner.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        evictionExecutor.shutdownNow();
+        requestExecutor.shutdown();
+        try {
+            requestExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        sessionCache.evictAll();
+    }
+
+    /**
+     * Reports a planner which could not be saved, and is kept in memory until saving it succeeds.
+     */
+    private void reportFailure(CommandException failure) {
+        System.err.println(failure.getMessage());
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public SessionCache getSessionCache() {
+        return sessionCache;
+    }
+
+    /**
+     * Executes the command in the body of {@code exchange} and responds with its result.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (!path.endsWith(COMMANDS_PATH) || path.length() <= USERS_PATH.length() + COMMANDS_PATH.length()) {
+                respond(exchange, HttpURLConnection.HTTP_NOT_FOUND, "Unknown path: " + path);
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, HttpURLConnection.HTTP_BAD_METHOD, "Commands must be sent with POST");
+                return;
+            }
+
+            String userId = path.substring(USERS_PATH.length(), path.length() - COMMANDS_PATH.length());
+            String commandText = readBody(exchange).trim();
+            try {
+                respond(exchange, HttpURLConnection.HTTP_OK, sessionCache.execute(userId, commandText).toText());
+            } catch (CommandException | ParseException e) {
+                respond(exchange, HTTP_UNPROCESSABLE, e.getMessage());
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Responds to {@code exchange} with {@code status} and {@code text} as the body.
+     */
+    private static void respond(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package planmysem.server;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.storage.StorageFile;
+
+/**
+ * Keeps the planners of at most a fixed number of users in memory, loading each lazily from its own storage file
+ * in the data directory. The least recently used planner is saved and dropped when the cache is full, and planners
+ * unused for longer than the idle timeout are saved and dropped by {@code evictIdle()}.
+ */
+public class SessionCache {
+    public static final String MESSAGE_INVALID_USER_ID = "User ids may only contain letters, digits, '-' and '_'";
+    public static final Pattern USER_ID_FORMAT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final String STORAGE_FILE_EXTENSION = ".txt";
+
+    private final Path dataDirectory;
+    private final int capacity;
+    private final long idleTimeoutNanos;
+    private final Consumer<CommandException> saveFailureHandler;
+
+    /**
+     * The sessions in least recently used first order.
+     */
+    private final LinkedHashMap<String, UserSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The sessions which were evicted but may not have been saved yet, guarded by the lock on {@code sessions}.
+     */
+    private final Map<String, UserSession> closingSessions = new HashMap<>();
+
+    /**
+     * Creates a cache which keeps the planners it cannot save without reporting the failures.
+     *
+     * @param capacity the maximum number of planners kept in memory
+     * @param idleTimeout the time after which an unused planner is dropped by {@code evictIdle()}
+     */
+    public SessionCache(Path dataDirectory, int capacity, long idleTimeout, TimeUnit unit) {
+        this(dataDirectory, capacity, idleTimeout, unit, failure -> { });
+    }
+
+    /**
+     * @param capacity the maximum number of planners kept in memory
+     * @param idleTimeout the time after which an unused planner is dropped by {@code evictIdle()}
+     * @param saveFailureHandler is given the failure of every evicted planner which could not be saved,
+     *                           on the thread which evicted it
+     */
+    public SessionCache(Path dataDirectory, int capacity, long idleTimeout, TimeUnit unit,
+                        Consumer<CommandException> saveFailureHandler) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        this.dataDirectory = dataDirectory;
+        this.capacity = capacity;
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Executes {@code commandText} on the planner of {@code userId}.
+     * Commands of the same user are executed one at a time, while commands of different users run in parallel.
+     */
+    public CommandResult execute(String userId, String commandText) throws CommandException, ParseException {
+        while (true) {
+            try {
+                return acquire(userId).execute(commandText);
+            } catch (UserSession.SessionClosedException sce) {
+                // evicted between acquiring and executing; acquire a fresh session which reloads the saved planner
+            }
+        }
+    }
+
+    /**
+     * Returns the session of {@code userId}, creating it if it is not cached.
+     * Creating a session is cheap since the planner is only loaded on the first command.
+     */
+    private UserSession acquire(String userId) throws CommandException {
+        if (!USER_ID_FORMAT.matcher(userId).matches()) {
+            throw new CommandException(MESSAGE_INVALID_USER_ID);
+        }
+
+        synchronized (sessions) {
+            UserSession session = sessions.get(userId);
+            if (session != null) {
+                return session;
+            }
+        }
+
+        // created outside of the lock, which would otherwise hold up every user while its context is set up
+        StorageFile storage = createStorage(userId);
+        List<UserSession> evicted = new ArrayList<>();
+        UserSession session;
+        synchronized (sessions) {
+            session = sessions.get(userId);
+            if (session == null) {
+                session = new UserSession(userId, storage, closingSessions.get(userId));
+                sessions.put(userId, session);
+                Iterator<UserSession> leastRecentlyUsed = sessions.values().iterator();
+                while (sessions.size() > capacity) {
+                    evicted.add(leastRecentlyUsed.next());
+                    leastRecentlyUsed.remove();
+                }
+                markClosing(evicted);
+            }
+        }
+        close(evicted);
+        return session;
+    }
+
+    /**
+     * Returns the storage file of {@code userId} in the data directory.
+     */
+    private StorageFile createStorage(String userId) throws CommandException {
+        try {
+            return new StorageFile(dataDirectory.resolve(userId + STORAGE_FILE_EXTENSION).toString());
+        } catch (Exception e) {
+            throw new CommandException(String.format(UserSession.MESSAGE_LOAD_ERROR, userId, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Saves and drops the planners which have not been used for longer than the idle timeout.
+     *
+     * @return the number of planners dropped
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        List<UserSession> evicted = new ArrayList<>();
+        synchronized (sessions) {
+            Iterator<UserSession> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                UserSession session = iterator.next();
+                if (now - session.getLastAccessTime() > idleTimeoutNanos) {
+                    evicted.add(session);
+                    iterator.remove();
+                }
+            }
+            markClosing(evicted);
+        }
+        close(evicted);
+        return evicted.size();
+    }
+
+    /**
+     * Saves and drops every planner.
+     */
+    public void evictAll() {
+        List<UserSession> evicted;
+        synchronized (sessions) {
+            evicted = new ArrayList<>(sessions.values());
+            sessions.clear();
+            markClosing(evicted);
+        }
+        close(evicted);
+    }
+
+    /**
+     * Returns the number of planners in memory.
+     */
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    /**
+     * Records that {@code evicted} are being saved, so that a new session of the same user reads the saved planner.
+     * Must be called while holding the lock on {@code sessions}.
+     */
+    private void markClosing(List<UserSession> evicted) {
+        for (UserSession session : evicted) {
+            closingSessions.put(session.getUserId(), session);
+        }
+    }
+
+    /**
+     * Saves the planners of {@code evicted}, outside of the lock on the cache so that a slow save
+     * does not hold up the other users.
+     * A planner which cannot be saved is reported to the save failure handler and kept: it is taken over by the
+     * next session of its user if there is one, or else cached again, beyond the capacity if need be, so that
+     * saving it is retried when it is next evicted.
+     */
+    private void close(List<UserSession> evicted) {
+        for (UserSession session : evicted) {
+            boolean isSaved = true;
+            try {
+                session.close();
+            } catch (CommandException ce) {
+                saveFailureHandler.accept(ce);
+                isSaved = false;
+            }
+            synchronized (sessions) {
+                closingSessions.remove(session.getUserId(), session);
+                if (!isSaved && !sessions.containsKey(session.getUserId())
+                        && !closingSessions.containsKey(session.getUserId())) {
+                    session.reopen();
+                    sessions.put(session.getUserId(), session);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the users whose planners are in memory, from least to most recently used.
+     */
+    List<String> getUserIds() {
+        synchronized (sessions) {
+            return new ArrayList<>(sessions.keySet());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package planmysem.server;
+
+import planmysem.logic.LogicManager;
+import planmysem.logic.commands.CommandResult;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.storage.Storage;
+
+/**
+ * The planner of a single user of the server, loaded from its storage file on first use.
+ * Commands of the same user are executed one at a time; the planner is only saved when the session is closed.
+ * A planner which could not be saved is kept by the closed session, for the next session of the user to take over.
+ */
+public class UserSession {
+    public static final String MESSAGE_LOAD_ERROR = "Could not load the planner of %1$s: %2$s";
+
+    private final String userId;
+    private final Storage storage;
+    private UserSession predecessor;
+    private LogicManager logicManager;
+    private boolean isClosed = false;
+    private volatile long lastAccessTime;
+
+    /**
+     * @param predecessor the previous session of the user, which must be closed before the planner is loaded,
+     *                    or null if there is none
+     */
+    UserSession(String userId, Storage storage, UserSession predecessor) {
+        this.userId = userId;
+        this.storage = storage;
+        this.predecessor = predecessor;
+        this.lastAccessTime = System.nanoTime();
+    }
+
+    /**
+     * Executes {@code commandText} on the planner of the user, loading it first if needed.
+     *
+     * @throws SessionClosedException if the session was evicted, in which case a new session must be acquired
+     */
+    synchronized CommandResult execute(String commandText)
+            throws CommandException, ParseException, SessionClosedException {
+        if (isClosed) {
+            throw new SessionClosedException();
+        }
+        lastAccessTime = System.nanoTime();
+        if (logicManager == null) {
+            logicManager = load();
+        }
+        return logicManager.execute(commandText);
+    }
+
+    /**
+     * Returns the planner of the user, with saving left to {@code close()}.
+     */
+    private LogicManager load() throws CommandException {
+        try {
+            LogicManager unsaved = takeOverPredecessor();
+            if (unsaved != null) {
+                return unsaved;
+            }
+            LogicManager loaded = new LogicManager(storage);
+            loaded.setSavedAfterEachCommand(false);
+            return loaded;
+        } catch (Exception e) {
+            throw new CommandException(String.format(MESSAGE_LOAD_ERROR, userId, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the planner which the previous session of the user could not save, if any, once it is closed.
+     */
+    private LogicManager takeOverPredecessor() throws InterruptedException {
+        if (predecessor == null) {
+            return null;
+        }
+        predecessor.awaitClosed();
+        LogicManager unsaved = predecessor.takeUnsaved();
+        predecessor = null;
+        return unsaved;
+    }
+
+    /**
+     * Saves and closes the planner, if it was loaded or taken over, and rejects any further command.
+     * Waits for the command being executed, if any, to finish.
+     * If the planner cannot be saved, it is kept for {@code reopen()} or the next session of the user.
+     */
+    synchronized void close() throws CommandException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            if (logicManager == null) {
+                logicManager = takeOverPredecessor();
+            }
+            if (logicManager != null) {
+                logicManager.save();
+                LogicManager saved = logicManager;
+                logicManager = null;
+                saved.close();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Accepts commands again after {@code close()} failed to save the planner.
+     */
+    synchronized void reopen() {
+        isClosed = false;
+    }
+
+    /**
+     * Returns the planner which {@code close()} could not save, or null if there is none, and forgets it.
+     */
+    private synchronized LogicManager takeUnsaved() {
+        LogicManager unsaved = logicManager;
+        logicManager = null;
+        return unsaved;
+    }
+
+    /**
+     * Waits until {@code close()} has saved the planner, or failed to.
+     */
+    private synchronized void awaitClosed() throws InterruptedException {
+        while (!isClosed) {
+            wait();
+        }
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the last command was received.
+     */
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    /**
+     * Signals that a session was used after it was closed.
+     */
+    static class SessionClosedException extends Exception {
+    }
+}
@@ -0,0 +1,83 @@
+package planmysem.storage;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+
+import planmysem.common.exceptions.IllegalValueException;
+import planmysem.model.semester.CalendarLayout;
+import planmysem.storage.jaxb.AdaptedCalendarLayout;
+
+/**
+ * Represents the file describing the layout of the academic calendar.
+ * Unlike the planner storage file, this file is plain XML so that it can be edited by hand.
+ */
+public class AcademicCalendarFile {
+    /**
+     * Default file path used if the user doesn't provide the file name.
+     */
+    public static final String DEFAULT_FILEPATH = "AcademicCalendar.xml";
+
+    public final Path path;
+    private final JAXBContext jaxbContext;
+
+    public AcademicCalendarFile() throws JAXBException {
+        this(DEFAULT_FILEPATH);
+    }
+
+    public AcademicCalendarFile(String filePath) throws JAXBException {
+        jaxbContext = JAXBContext.newInstance(AdaptedCalendarLayout.class);
+        path = Paths.get(filePath);
+    }
+
+    /**
+     * Replaces the default academic calendar layout with the one in the academic calendar file, if present.
+     * The default layout is kept if the file cannot be read.
+     *
+     * @throws Storage.StorageOperationException if there were errors reading and/or converting the file.
+     */
+    public static void loadDefaultLayout() throws JAXBException, Storage.StorageOperationException {
+        AcademicCalendarFile calendarFile = new AcademicCalendarFile();
+        if (calendarFile.exists()) {
+            CalendarLayout.setDefault(calendarFile.load());
+        }
+    }
+
+    /**
+     * Returns true if the file exists.
+     */
+    public boolean exists() {
+        return Files.isRegularFile(path);
+    }
+
+    /**
+     * Loads the academic calendar layout from this file.
+     *
+     * @throws Storage.StorageOperationException if there were errors reading and/or converting the file.
+     */
+    public CalendarLayout load() throws Storage.StorageOperationException {
+        try (final BufferedReader fileReader = new BufferedReader(new FileReader(path.toFile()))) {
+            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            final AdaptedCalendarLayout loaded = (AdaptedCalendarLayout) unmarshaller.unmarshal(fileReader);
+
+            if (loaded.isAnyRequiredFieldMissing()) {
+                throw new Storage.StorageOperationException("Academic calendar missing some elements");
+            }
+            return loaded.toModelType();
+        } catch (IOException ioe) {
+            throw new Storage.StorageOperationException("Error reading academic calendar: " + path);
+        } catch (JAXBException jaxbe) {
+            throw new Storage.StorageOperationException("Error parsing academic calendar format");
+        } catch (IllegalValueException ive) {
+            throw new Storage.StorageOperationException("Academic calendar contains illegal values: "
+                    + ive.getMessage());
+        }
+    }
+}
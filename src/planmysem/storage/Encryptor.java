@@ -1,14 +1,23 @@
 package planmysem.storage;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherOutputStream;
+import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
 
 import planmysem.common.exceptions.IllegalValueException;
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
 
 /**
  * Contains methods to encrypt and decrypt strings
@@ -25,6 +34,30 @@ public class Encryptor {
         return executeEncrypt(toEncrypt, "KeyStorage.jceks");
     }
 
+    /**
+     * Encrypts {@code data} with {@code key} using the AES algorithm, for data which only needs to be read back by
+     * this process, such as spilled state.
+     *
+     * @return the IV followed by the encrypted part
+     */
+    public static byte[] encrypt(byte[] data, SecretKey key) throws GeneralSecurityException {
+        Tracer.CryptoSpan span = Trace.beginCrypto(Trace.OPERATION_ENCRYPT);
+        span.setBytes(data.length);
+        try {
+            byte[] iv = new byte[ivSize];
+            new SecureRandom().nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+
+            byte[] encryptedIvAndData = new byte[ivSize + cipher.getOutputSize(data.length)];
+            System.arraycopy(iv, 0, encryptedIvAndData, 0, ivSize);
+            int encryptedSize = cipher.doFinal(data, 0, data.length, encryptedIvAndData, ivSize);
+            return Arrays.copyOf(encryptedIvAndData, ivSize + encryptedSize);
+        } finally {
+            span.commit();
+        }
+    }
+
     /**
      * Encrypts string using the AES algorithm
      * @param toEncrypt string to be encrypted
@@ -32,6 +65,8 @@ public class Encryptor {
      * @return encrypted string
      */
     private static String executeEncrypt(String toEncrypt, String keyStorage) {
+        Tracer.CryptoSpan span = Trace.beginCrypto(Trace.OPERATION_ENCRYPT);
+        span.setBytes(toEncrypt == null ? 0 : toEncrypt.length());
         try {
             //Load key from KeyStore.
             SecretKey key = KeyStorage.load(keyStorage);
@@ -56,10 +91,54 @@ public class Encryptor {
 
         } catch (Exception ex) {
             return null;
+        } finally {
+            span.commit();
         }
 
     }
 
+    public static OutputStream encryptTo(OutputStream out, String keyStorage) throws IOException {
+        return executeEncryptTo(out, keyStorage);
+    }
+
+    public static OutputStream encryptTo(OutputStream out) throws IOException {
+        return executeEncryptTo(out, "KeyStorage.jceks");
+    }
+
+    /**
+     * Returns a stream which encrypts everything written to it into {@code out}, in the same format as
+     * {@code encrypt}, so that text too large to be held in memory can be encrypted as it is written.
+     * The encryption is only complete once the returned stream is closed, which also closes {@code out}.
+     * @param out stream to write the encrypted text to
+     * @param keyStorage string .jceks file to load from.
+     */
+    private static OutputStream executeEncryptTo(OutputStream out, String keyStorage) throws IOException {
+        try {
+            //Load key from KeyStore.
+            SecretKey key = KeyStorage.load(keyStorage);
+            SecretKeySpec skeySpec = new SecretKeySpec(key.getEncoded(), "AES");
+
+            // Generating IV.
+            byte[] iv = new byte[ivSize];
+            SecureRandom random = new SecureRandom();
+            random.nextBytes(iv);
+            IvParameterSpec ivParameterSpec = new IvParameterSpec(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, skeySpec, ivParameterSpec);
+
+            // The IV precedes the encrypted part, encoded together as a single line.
+            OutputStream encoded = Base64.getEncoder().wrap(out);
+            encoded.write(iv);
+            return new CipherOutputStream(encoded, cipher);
+
+        } catch (IOException ioe) {
+            throw ioe;
+        } catch (Exception ex) {
+            throw new IOException("Error initialising encryption: " + ex.getMessage(), ex);
+        }
+    }
+
     public static String decrypt(String toDecrypt, String keyStorage) throws IllegalValueException {
         return executeDecrypt(toDecrypt, keyStorage);
     }
@@ -67,6 +146,45 @@ public class Encryptor {
     public static String decrypt(String toDecrypt) throws IllegalValueException {
         return executeDecrypt(toDecrypt, "KeyStorage.jceks");
     }
+
+    /**
+     * Decrypts what {@code encrypt(data, key)} returned.
+     */
+    public static byte[] decrypt(byte[] toDecrypt, SecretKey key) throws GeneralSecurityException {
+        Tracer.CryptoSpan span = Trace.beginCrypto(Trace.OPERATION_DECRYPT);
+        span.setBytes(toDecrypt.length);
+        try {
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(toDecrypt, 0, ivSize));
+            return cipher.doFinal(toDecrypt, ivSize, toDecrypt.length - ivSize);
+        } finally {
+            span.commit();
+        }
+    }
+
+    /**
+     * Generates a key for {@code encrypt(data, key)} which is not stored anywhere, so that what it encrypts can only
+     * be read back by this process.
+     */
+    public static SecretKey generateKey() throws GeneralSecurityException {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        return keyGenerator.generateKey();
+    }
+
+    /**
+     * Returns the key with which {@code encrypt(toEncrypt)} encrypts, for {@code encrypt(data, key)} to encrypt
+     * data which is saved with the storage file.
+     */
+    public static SecretKey loadKey() throws GeneralSecurityException {
+        try {
+            return new SecretKeySpec(KeyStorage.load("KeyStorage.jceks").getEncoded(), "AES");
+        } catch (GeneralSecurityException gse) {
+            throw gse;
+        } catch (Exception ex) {
+            throw new GeneralSecurityException("Error loading the key: " + ex.getMessage(), ex);
+        }
+    }
     /**
      * Decrypts a string using the AES algorithm
      *
@@ -75,6 +193,8 @@ public class Encryptor {
      * @return decrypted string
      */
     private static String executeDecrypt(String toDecrypt, String keyStorage) throws IllegalValueException {
+        Tracer.CryptoSpan span = Trace.beginCrypto(Trace.OPERATION_DECRYPT);
+        span.setBytes(toDecrypt == null ? 0 : toDecrypt.length());
         try {
             //Load key from KeyStore.
             SecretKey key = KeyStorage.load(keyStorage);
@@ -100,6 +220,8 @@ public class Encryptor {
             return new String(decryptedData);
         } catch (Exception e) {
             throw new IllegalValueException("Error decrypting file. Reinitializing semester.");
+        } finally {
+            span.commit();
         }
     }
 
@@ -0,0 +1,392 @@
+package planmysem.storage;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.SecretKey;
+import javax.xml.bind.JAXBException;
+
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+
+/**
+ * The undo history saved beside the storage file, so that undo and redo work across restarts.
+ * <p>
+ * The file is a journal which is only appended to. Each state of the history is written once, as a record holding
+ * the state in the storage format compressed with Deflate and encrypted with the key of the storage file, and
+ * the id of the state it follows, so that replaying the records redoes the adds which forgot undone states. Another
+ * record marks each change of the current state. Loading only reads the headers of the records, and a state is
+ * read back when undo or redo reaches it. The records of forgotten states are left in the file until they take most
+ * of it, when it is rewritten with only the live records.
+ */
+public class HistoryJournal {
+    public static final String FILE_EXTENSION = ".history";
+
+    private static final byte RECORD_STATE = 'S';
+    private static final byte RECORD_CURRENT = 'C';
+    /** The type, id, id of the previous state and length of the state which start a state record. */
+    private static final int STATE_HEADER_BYTES = 1 + 8 + 8 + 4;
+    private static final int CURRENT_RECORD_BYTES = 1 + 8;
+    /** The id written as the previous state of the first state, after which the states before it are forgotten. */
+    private static final long NO_STATE = -1;
+    /** The size below which the file is not rewritten to leave out the records of forgotten states. */
+    private static final long MIN_COMPACTED_FILE_BYTES = 1024 * 1024;
+
+    private final Path path;
+    private final PlannerCodec codec;
+    private final Map<Long, Record> records = new HashMap<>();
+    private long currentId = NO_STATE;
+    private boolean isLoaded;
+    private SecretKey key;
+    private RandomAccessFile file;
+
+    public HistoryJournal(Path path) throws JAXBException {
+        this.path = path;
+        this.codec = new PlannerCodec();
+    }
+
+    /**
+     * Returns the history saved in the journal, whose current state is {@code currentState} and whose other
+     * states are read back as they are paged in, or a new history of {@code currentState} if none was saved.
+     * A record which was cut short, by a crash while it was written, is dropped. A journal which cannot be read
+     * is deleted, since the planner can be used without its history.
+     *
+     * @param pager pages states of the history which are added later out of the heap
+     */
+    public synchronized PlannerHistory load(Planner currentState, PlannerHistory.Pager pager) {
+        Tracer.StorageSpan span = Trace.beginStorage(Trace.OPERATION_LOAD);
+        span.setPath(path.toString());
+        try {
+            close();
+            records.clear();
+            currentId = NO_STATE;
+            isLoaded = true;
+            if (!Files.exists(path)) {
+                return new PlannerHistory(currentState, pager);
+            }
+            List<Long> order = replay();
+            span.setBytes(file.length());
+            if (order.isEmpty()) {
+                return new PlannerHistory(currentState, pager);
+            }
+            List<PlannerHistory.Version> saved = new ArrayList<>(order.size());
+            for (long id : order) {
+                saved.add(new PlannerHistory.Version(id, records.get(id)));
+            }
+            int pointer = order.indexOf(currentId);
+            return new PlannerHistory(saved, pointer < 0 ? order.size() - 1 : pointer, currentState, pager);
+        } catch (IOException ioe) {
+            delete();
+            return new PlannerHistory(currentState, pager);
+        } finally {
+            span.commit();
+        }
+    }
+
+    /**
+     * Reads the headers of every record, keeping the records of the states in the history they replay to,
+     * and truncates the file after the last complete record.
+     *
+     * @return the ids of the states in the history, from the oldest to the newest
+     */
+    private List<Long> replay() throws IOException {
+        open();
+        List<Long> order = new ArrayList<>();
+        long length = file.length();
+        long offset = 0;
+        while (offset < length) {
+            file.seek(offset);
+            byte type = file.readByte();
+            if (type == RECORD_STATE && offset + STATE_HEADER_BYTES <= length) {
+                long id = file.readLong();
+                long previousId = file.readLong();
+                int size = file.readInt();
+                if (size < 0 || offset + STATE_HEADER_BYTES + size > length) {
+                    break;
+                }
+                int previous = order.indexOf(previousId);
+                while (order.size() > previous + 1) {
+                    records.remove(order.remove(order.size() - 1));
+                }
+                order.add(id);
+                records.put(id, new Record(offset + STATE_HEADER_BYTES, size));
+                currentId = id;
+                offset += STATE_HEADER_BYTES + size;
+            } else if (type == RECORD_CURRENT && offset + CURRENT_RECORD_BYTES <= length) {
+                currentId = file.readLong();
+                offset += CURRENT_RECORD_BYTES;
+            } else if (type == RECORD_STATE || type == RECORD_CURRENT) {
+                break;
+            } else {
+                throw new IOException("Unknown record in the history journal: " + type);
+            }
+        }
+        file.setLength(offset);
+        return order;
+    }
+
+    /**
+     * Appends the states in {@code versions} which have not been written yet, and the current state if it changed,
+     * rewriting the file if the records of forgotten states take most of it. If the journal has not been loaded,
+     * it is started afresh, since the ids of its states may belong to another history.
+     * If appending fails, the journal is left as it was.
+     *
+     * @param versions the states of the history, from the oldest to the newest
+     * @param pointer the index in {@code versions} of the current state
+     */
+    public synchronized void save(List<PlannerHistory.Version> versions, int pointer) throws IOException {
+        if (!isLoaded) {
+            delete();
+            isLoaded = true;
+        }
+        open();
+        long savedLength = file.length();
+        Tracer.StorageSpan span = Trace.beginStorage(Trace.OPERATION_SAVE);
+        span.setPath(path.toString());
+        long savedCurrentId = currentId;
+        Set<Long> written = new HashSet<>();
+        try {
+            long previousId = NO_STATE;
+            for (int i = 0; i < versions.size(); i++) {
+                PlannerHistory.Version version = versions.get(i);
+                if (!records.containsKey(version.getId())) {
+                    Planner state;
+                    try {
+                        state = version.getState();
+                    } catch (IOException ioe) {
+                        // the state was forgotten since the versions were taken; so were the states before it,
+                        // or, if it was undone, the states after it
+                        if (i > pointer) {
+                            break;
+                        }
+                        previousId = NO_STATE;
+                        continue;
+                    }
+                    appendState(version.getId(), previousId, state);
+                    written.add(version.getId());
+                }
+                previousId = version.getId();
+            }
+            long pointerId = versions.get(pointer).getId();
+            if (pointerId != currentId) {
+                file.seek(file.length());
+                file.writeByte(RECORD_CURRENT);
+                file.writeLong(pointerId);
+                currentId = pointerId;
+            }
+            span.setBytes(file.length() - savedLength);
+        } catch (IOException ioe) {
+            records.keySet().removeAll(written);
+            currentId = savedCurrentId;
+            try {
+                file.setLength(savedLength);
+            } catch (IOException e) {
+                delete();
+            }
+            throw ioe;
+        } finally {
+            span.commit();
+        }
+        try {
+            compact(versions);
+        } catch (IOException ioe) {
+            // the records of forgotten states stay in the file, which is compacted again on the next save
+        }
+    }
+
+    /**
+     * Appends a record of {@code state}, which follows the state with {@code previousId}.
+     */
+    private void appendState(long id, long previousId, Planner state) throws IOException {
+        byte[] encrypted;
+        try {
+            encrypted = Encryptor.encrypt(codec.encode(state), getKey());
+        } catch (GeneralSecurityException gse) {
+            throw new IOException("Error encrypting a state of the history", gse);
+        }
+        long offset = file.length();
+        file.seek(offset);
+        file.writeByte(RECORD_STATE);
+        file.writeLong(id);
+        file.writeLong(previousId);
+        file.writeInt(encrypted.length);
+        file.write(encrypted);
+        records.put(id, new Record(offset + STATE_HEADER_BYTES, encrypted.length));
+        currentId = id;
+    }
+
+    /**
+     * Rewrites the file with only the records of the states in {@code versions}, and the current state,
+     * if the records of forgotten states take more than half of it. The file is replaced in one step, so that
+     * a crash leaves either the old or the new file.
+     */
+    private void compact(List<PlannerHistory.Version> versions) throws IOException {
+        long liveBytes = CURRENT_RECORD_BYTES;
+        for (PlannerHistory.Version version : versions) {
+            Record record = records.get(version.getId());
+            if (record != null) {
+                liveBytes += STATE_HEADER_BYTES + record.size;
+            }
+        }
+        long fileBytes = file.length();
+        if (fileBytes < MIN_COMPACTED_FILE_BYTES || liveBytes * 2 > fileBytes) {
+            return;
+        }
+        Path absolute = path.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        Map<Long, Record> liveRecords = new HashMap<>();
+        try (RandomAccessFile compacted = new RandomAccessFile(temporary.toFile(), "rw")) {
+            long previousId = NO_STATE;
+            for (PlannerHistory.Version version : versions) {
+                Record record = records.get(version.getId());
+                if (record == null) {
+                    previousId = NO_STATE;
+                    continue;
+                }
+                byte[] encrypted = new byte[record.size];
+                file.seek(record.offset);
+                file.readFully(encrypted);
+                compacted.writeByte(RECORD_STATE);
+                compacted.writeLong(version.getId());
+                compacted.writeLong(previousId);
+                compacted.writeInt(record.size);
+                liveRecords.put(version.getId(), new Record(compacted.getFilePointer(), record.size));
+                compacted.write(encrypted);
+                previousId = version.getId();
+            }
+            compacted.writeByte(RECORD_CURRENT);
+            compacted.writeLong(currentId);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporary);
+            throw ioe;
+        }
+        close();
+        try {
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporary);
+            throw ioe;
+        } finally {
+            open();
+        }
+        for (Map.Entry<Long, Record> entry : records.entrySet()) {
+            Record live = liveRecords.get(entry.getKey());
+            entry.getValue().offset = live == null ? -1 : live.offset;
+        }
+        records.keySet().retainAll(liveRecords.keySet());
+    }
+
+    /**
+     * Reads the state of {@code record} back from the file.
+     */
+    private synchronized Planner read(Record record) throws IOException {
+        if (record.offset < 0) {
+            throw new IOException("The state is no longer in the history journal");
+        }
+        open();
+        byte[] encrypted = new byte[record.size];
+        file.seek(record.offset);
+        file.readFully(encrypted);
+        try {
+            return codec.decode(Encryptor.decrypt(encrypted, getKey()));
+        } catch (GeneralSecurityException gse) {
+            throw new IOException("Error decrypting a state of the history", gse);
+        }
+    }
+
+    private SecretKey getKey() throws GeneralSecurityException {
+        if (key == null) {
+            key = Encryptor.loadKey();
+        }
+        return key;
+    }
+
+    /**
+     * Opens the file, creating it if it does not exist, unless it is open already.
+     */
+    private void open() throws IOException {
+        if (file == null) {
+            file = new RandomAccessFile(path.toFile(), "rw");
+        }
+    }
+
+    /**
+     * Closes the file, which is opened again when it is next used.
+     */
+    public synchronized void close() throws IOException {
+        if (file != null) {
+            file.close();
+            file = null;
+        }
+    }
+
+    /**
+     * Deletes the file and forgets its records, so that the next save starts it afresh.
+     * The states of a history loaded from it can no longer be paged in.
+     */
+    public synchronized void delete() {
+        for (Record record : records.values()) {
+            record.offset = -1;
+        }
+        records.clear();
+        currentId = NO_STATE;
+        try {
+            close();
+            Files.deleteIfExists(path);
+        } catch (IOException ioe) {
+            // a file which cannot be deleted is emptied instead, so that its records are not replayed
+            try (RandomAccessFile emptied = new RandomAccessFile(path.toFile(), "rw")) {
+                emptied.setLength(0);
+            } catch (IOException e) {
+                // the records are replayed on the next load, which reads back the states they hold
+            }
+        }
+    }
+
+    /**
+     * A state written to the journal, which is read back when it is paged in.
+     */
+    private class Record implements PlannerHistory.PagedState {
+        private final int size;
+        private long offset;
+
+        Record(long offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public Planner pageIn() throws IOException {
+            return read(this);
+        }
+
+        @Override
+        public long getBytes() {
+            return size;
+        }
+
+        @Override
+        public boolean isOnDisk() {
+            return true;
+        }
+
+        /**
+         * Does nothing, since the record stays in the journal until the file is rewritten without it.
+         */
+        @Override
+        public void discard() {
+        }
+    }
+}
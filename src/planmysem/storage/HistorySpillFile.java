@@ -0,0 +1,267 @@
+package planmysem.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.crypto.SecretKey;
+import javax.xml.bind.JAXBException;
+
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+
+/**
+ * Pages states of the undo history out of the heap, in the storage format compressed with Deflate.
+ * Compressed states are kept in the heap until they exceed their budget, beyond which the earliest paged out are
+ * encrypted and spilled to a temporary file. The file is encrypted with a key which is generated for it and never
+ * leaves the process, is rewritten without the discarded states once they take most of it, and is deleted when
+ * closed or, where the platform allows, as soon as it is opened.
+ */
+public class HistorySpillFile implements PlannerHistory.Pager, Closeable {
+    public static final String PROPERTY_MAX_COMPRESSED_KB = "planmysem.history.maxCompressedKB";
+    public static final int DEFAULT_MAX_COMPRESSED_KB = 8 * 1024;
+
+    private static final String FILE_PREFIX = "planmysem-history";
+    private static final String FILE_SUFFIX = ".tmp";
+    /** The size below which the file is not rewritten to leave out the discarded states. */
+    private static final long MIN_COMPACTED_FILE_BYTES = 1024 * 1024;
+
+    private final PlannerCodec codec;
+    private final long maxCompressedBytes;
+    private final Set<Page> pagesInHeap = new LinkedHashSet<>();
+    private final Set<Page> pagesOnDisk = new LinkedHashSet<>();
+    private long compressedBytes;
+    private long liveFileBytes;
+    private SecretKey key;
+    private FileChannel file;
+
+    /**
+     * Creates a pager which keeps as many compressed states in the heap as the system property
+     * {@value #PROPERTY_MAX_COMPRESSED_KB} allows.
+     */
+    public HistorySpillFile() throws JAXBException {
+        this(Integer.getInteger(PROPERTY_MAX_COMPRESSED_KB, DEFAULT_MAX_COMPRESSED_KB) * 1024L);
+    }
+
+    /**
+     * @param maxCompressedBytes the bytes of compressed states kept in the heap, beyond which they are spilled
+     */
+    public HistorySpillFile(long maxCompressedBytes) throws JAXBException {
+        this.codec = new PlannerCodec();
+        this.maxCompressedBytes = maxCompressedBytes;
+    }
+
+    @Override
+    public synchronized PlannerHistory.PagedState pageOut(Planner state) throws IOException {
+        Page page = new Page(codec.encode(state));
+        pagesInHeap.add(page);
+        compressedBytes += page.size;
+        try {
+            while (compressedBytes > maxCompressedBytes && !pagesInHeap.isEmpty()) {
+                spill(pagesInHeap.iterator().next());
+            }
+        } catch (IOException ioe) {
+            // the states stay compressed in the heap, whose total the history still limits
+        }
+        return page;
+    }
+
+    /**
+     * Returns the bytes of the temporary file, or 0 if nothing was spilled.
+     */
+    public synchronized long getFileBytes() throws IOException {
+        return file == null ? 0 : file.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        pagesInHeap.clear();
+        pagesOnDisk.clear();
+        compressedBytes = 0;
+        liveFileBytes = 0;
+        if (file != null) {
+            file.close();
+            file = null;
+        }
+    }
+
+    /**
+     * Encrypts {@code page} and appends it to the file, freeing the compressed copy in the heap.
+     */
+    private void spill(Page page) throws IOException {
+        byte[] encrypted;
+        try {
+            openFile();
+            encrypted = Encryptor.encrypt(page.compressed, key);
+        } catch (GeneralSecurityException gse) {
+            throw new IOException("Error encrypting a state of the history", gse);
+        }
+        long offset = file.size();
+        writeFully(encrypted, offset);
+
+        pagesInHeap.remove(page);
+        compressedBytes -= page.size;
+        page.compressed = null;
+        page.offset = offset;
+        page.encryptedSize = encrypted.length;
+        pagesOnDisk.add(page);
+        liveFileBytes += encrypted.length;
+    }
+
+    /**
+     * Creates the file and its key, unless they have been created already.
+     * The file is deleted when it is closed, so that it does not outlive the pager.
+     */
+    private void openFile() throws IOException, GeneralSecurityException {
+        if (file != null) {
+            return;
+        }
+        key = Encryptor.generateKey();
+        Path path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        try {
+            file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(path);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Reads {@code size} bytes of the file from {@code offset}.
+     */
+    private byte[] readFully(long offset, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("The file ends before the state");
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Writes {@code bytes} to the file at {@code offset}.
+     */
+    private void writeFully(byte[] bytes, long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            file.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * Reads {@code page} back from the file and decrypts it.
+     */
+    private byte[] read(Page page) throws IOException {
+        byte[] encrypted = readFully(page.offset, page.encryptedSize);
+        try {
+            return Encryptor.decrypt(encrypted, key);
+        } catch (GeneralSecurityException gse) {
+            throw new IOException("Error decrypting a state of the history", gse);
+        }
+    }
+
+    /**
+     * Decodes {@code page}, reading it back from the file if it was spilled.
+     */
+    private synchronized Planner pageIn(Page page) throws IOException {
+        if (page.isDiscarded) {
+            throw new IOException("The state has been discarded");
+        }
+        byte[] compressed = page.compressed != null ? page.compressed : read(page);
+        return codec.decode(compressed);
+    }
+
+    /**
+     * Frees what {@code page} takes, rewriting the file without the discarded states once they take most of it.
+     */
+    private synchronized void discard(Page page) {
+        if (page.isDiscarded) {
+            return;
+        }
+        page.isDiscarded = true;
+        if (pagesInHeap.remove(page)) {
+            compressedBytes -= page.size;
+            page.compressed = null;
+        } else if (pagesOnDisk.remove(page)) {
+            liveFileBytes -= page.encryptedSize;
+            try {
+                compactFile();
+            } catch (IOException ioe) {
+                // the discarded states are left in the file, which is retried on the next discard
+            }
+        }
+    }
+
+    /**
+     * Moves the states which are not discarded to the start of the file and truncates it,
+     * if the discarded states take more than half of it, or all of it.
+     */
+    private void compactFile() throws IOException {
+        long fileBytes = file.size();
+        if (liveFileBytes > 0 && (fileBytes < MIN_COMPACTED_FILE_BYTES || liveFileBytes * 2 > fileBytes)) {
+            return;
+        }
+        List<Page> pages = new ArrayList<>(pagesOnDisk);
+        pages.sort((first, second) -> Long.compare(first.offset, second.offset));
+        long offset = 0;
+        for (Page page : pages) {
+            byte[] encrypted = readFully(page.offset, page.encryptedSize);
+            writeFully(encrypted, offset);
+            page.offset = offset;
+            offset += encrypted.length;
+        }
+        file.truncate(offset);
+    }
+
+    /**
+     * A state paged out by this pager, compressed in the heap or spilled to the file.
+     */
+    private class Page implements PlannerHistory.PagedState {
+        private final int size;
+        private byte[] compressed;
+        private long offset;
+        private int encryptedSize;
+        private boolean isDiscarded;
+
+        Page(byte[] compressed) {
+            this.compressed = compressed;
+            this.size = compressed.length;
+        }
+
+        @Override
+        public Planner pageIn() throws IOException {
+            return HistorySpillFile.this.pageIn(this);
+        }
+
+        /**
+         * Returns the bytes which the state was compressed to, which it takes in the heap or, about, on disk.
+         */
+        @Override
+        public long getBytes() {
+            return size;
+        }
+
+        @Override
+        public boolean isOnDisk() {
+            synchronized (HistorySpillFile.this) {
+                return compressed == null && !isDiscarded;
+            }
+        }
+
+        @Override
+        public void discard() {
+            HistorySpillFile.this.discard(this);
+        }
+    }
+}
@@ -27,10 +27,11 @@ public class KeyStorage {
     + System.getProperty("java.compiler")).hashCode()).toCharArray();
 
     /**
-     * Loads the secret key from the specified key store.
+     * Loads the secret key from the specified key store, generating it if there is none.
+     * Synchronized so that concurrent callers never generate different keys.
      * @param fileName String .jceks file to load from.
      */
-    public static SecretKey load (String fileName) throws Exception {
+    public static synchronized SecretKey load(String fileName) throws Exception {
 
         //Initialize keystore.
         KeyStore ks = KeyStore.getInstance("JCEKS");
@@ -0,0 +1,68 @@
+package planmysem.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import planmysem.common.exceptions.IllegalValueException;
+import planmysem.model.Planner;
+import planmysem.storage.jaxb.AdaptedPlanner;
+
+/**
+ * Converts states of the undo history to and from the storage format compressed with Deflate,
+ * which is how they are kept out of the heap.
+ */
+class PlannerCodec {
+    private static JAXBContext sharedContext;
+
+    private final JAXBContext jaxbContext;
+
+    PlannerCodec() throws JAXBException {
+        this.jaxbContext = getJaxbContext();
+    }
+
+    /**
+     * Returns the context which converts planners to and from the storage format, creating it on first use.
+     * It is shared by every storage file and pager of the process, since it is costly to create and thread-safe.
+     */
+    static synchronized JAXBContext getJaxbContext() throws JAXBException {
+        if (sharedContext == null) {
+            sharedContext = JAXBContext.newInstance(AdaptedPlanner.class);
+        }
+        return sharedContext;
+    }
+
+    /**
+     * Returns {@code state} in the storage format, compressed.
+     */
+    byte[] encode(Planner state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            jaxbContext.createMarshaller().marshal(new AdaptedPlanner(state), out);
+        } catch (JAXBException jaxbe) {
+            throw new IOException("Error converting Planner into storage format", jaxbe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reverses {@code encode(state)}.
+     */
+    Planner decode(byte[] compressed) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            AdaptedPlanner adapted = (AdaptedPlanner) jaxbContext.createUnmarshaller().unmarshal(in);
+            return adapted.toModelType();
+        } catch (JAXBException jaxbe) {
+            throw new IOException("Error parsing a state of the history", jaxbe);
+        } catch (IllegalValueException ive) {
+            throw new IOException("A state of the history contains illegal data values", ive);
+        }
+    }
+}
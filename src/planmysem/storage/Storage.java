@@ -1,7 +1,10 @@
 package planmysem.storage;
 
+import java.util.List;
+
 import planmysem.common.exceptions.IllegalValueException;
 import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
 
 /**
  * API of the Logic component
@@ -22,6 +25,30 @@ public interface Storage {
      */
     Planner load() throws StorageFile.StorageOperationException;
 
+    /**
+     * Saves the states of the undo history which have not been saved yet, beside the planner.
+     *
+     * @param versions the states of the history, from the oldest to the newest
+     * @param pointer the index in {@code versions} of the current state
+     * @throws StorageFile.StorageOperationException if there were errors converting and/or storing the history.
+     */
+    void saveHistory(List<PlannerHistory.Version> versions, int pointer) throws StorageFile.StorageOperationException;
+
+    /**
+     * Loads the undo history saved beside the planner, whose current state is {@code currentState}, reading its
+     * other states only when undo or redo reaches them. Starts a new history if none was saved or it cannot be read.
+     *
+     * @param pager pages states of the history out of the heap, or null to keep them all in it
+     */
+    PlannerHistory loadHistory(Planner currentState, PlannerHistory.Pager pager);
+
+    /**
+     * Closes the files this storage keeps open between saves.
+     *
+     * @throws StorageFile.StorageOperationException if there were errors closing the files.
+     */
+    void close() throws StorageFile.StorageOperationException;
+
     /**
      * Gets path of file.
      **/
@@ -3,22 +3,45 @@ package planmysem.storage;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
 
 import planmysem.common.exceptions.IllegalValueException;
+import planmysem.common.trace.Trace;
+import planmysem.common.trace.Tracer;
 import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.semester.Day;
+import planmysem.model.slot.ReadOnlySlot;
+import planmysem.storage.jaxb.AdaptedDay;
 import planmysem.storage.jaxb.AdaptedPlanner;
 
 /**
@@ -30,12 +53,15 @@ public class StorageFile implements Storage {
      */
     public static final String DEFAULT_STORAGE_FILEPATH = "PlanMySem.txt";
 
+    private static final String FILE_EXTENSION = ".txt";
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
     public final Path path;
     private final JAXBContext jaxbContext;
     private final boolean isEncrypted = true; //set to true to encrypt model
+    private final HistoryJournal historyJournal;
 
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
@@ -49,7 +75,7 @@ public class StorageFile implements Storage {
      */
     public StorageFile(String filePath) throws JAXBException, InvalidStorageFilePathException {
         try {
-            jaxbContext = JAXBContext.newInstance(AdaptedPlanner.class);
+            jaxbContext = PlannerCodec.getJaxbContext();
         } catch (JAXBException ex) {
             throw new JAXBException(ex);
         }
@@ -58,6 +84,8 @@ public class StorageFile implements Storage {
         if (!isValidPath(path)) {
             throw new InvalidStorageFilePathException("Storage file should end with '.txt'");
         }
+        String basePath = path.toString().substring(0, path.toString().length() - FILE_EXTENSION.length());
+        historyJournal = new HistoryJournal(Paths.get(basePath + HistoryJournal.FILE_EXTENSION));
     }
 
     /**
@@ -65,37 +93,92 @@ public class StorageFile implements Storage {
      * The file path is considered acceptable if it ends with '.txt'
      */
     private static boolean isValidPath(Path filePath) {
-        return filePath.toString().endsWith(".txt");
+        return filePath.toString().endsWith(FILE_EXTENSION);
     }
 
     @Override
     public void save(Planner planner) throws StorageOperationException {
+        Tracer.StorageSpan span = Trace.beginStorage(Trace.OPERATION_SAVE);
+        span.setPath(path.toString());
         /* Note: Note the 'try with resource' statement below.
          * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
          */
         try (final Writer fileWriter =
                      new BufferedWriter(new FileWriter(path.toFile()))) {
 
+            long start = System.nanoTime();
             final AdaptedPlanner toSave = new AdaptedPlanner(planner);
             final Marshaller marshaller = jaxbContext.createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             if (isEncrypted) {
                 StringWriter sw = new StringWriter();
                 marshaller.marshal(toSave, sw);
-                fileWriter.write(Encryptor.encrypt(sw.toString()));
+                long marshalled = System.nanoTime();
+                String encrypted = Encryptor.encrypt(sw.toString());
+                span.setMarshalNanos(marshalled - start);
+                span.setCryptoNanos(System.nanoTime() - marshalled);
+                span.setBytes(encrypted.length());
+                fileWriter.write(encrypted);
             } else {
                 marshaller.marshal(toSave, fileWriter);
+                span.setMarshalNanos(System.nanoTime() - start);
             }
 
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path + " error: " + ioe.getMessage());
         } catch (JAXBException jaxbe) {
             throw new StorageOperationException("Error converting Planner into storage format");
+        } finally {
+            span.commit();
+        }
+    }
+
+    /**
+     * Saves a planner without holding all of its slots in memory at once, so that planners too large for the heap
+     * can be written. Everything but the single slots of the days is taken from {@code skeleton}; the single slots
+     * of each day are instead supplied by {@code singleSlots}, which is called once for each date of the semester
+     * in chronological order and whose slots are written out before it is called again.
+     */
+    public void save(Planner skeleton, Function<LocalDate, List<? extends ReadOnlySlot>> singleSlots)
+            throws StorageOperationException {
+        Tracer.StorageSpan span = Trace.beginStorage(Trace.OPERATION_SAVE);
+        span.setPath(path.toString());
+        try (final Writer fileWriter = new BufferedWriter(new OutputStreamWriter(openOutputStream()))) {
+            XMLEventWriter eventWriter = XMLOutputFactory.newInstance().createXMLEventWriter(fileWriter);
+            final Marshaller marshaller = jaxbContext.createMarshaller();
+            marshaller.marshal(new AdaptedPlanner(skeleton), new DayStreamingWriter(eventWriter, skeleton,
+                    singleSlots));
+            eventWriter.close();
+        } catch (IOException | XMLStreamException e) {
+            throw new StorageOperationException("Error writing to file: " + path + " error: " + e.getMessage());
+        } catch (JAXBException jaxbe) {
+            throw new StorageOperationException("Error converting Planner into storage format");
+        } finally {
+            span.setBytes(path.toFile().length());
+            span.commit();
+        }
+    }
+
+    /**
+     * Opens the file for writing, encrypting what is written to it if the model is encrypted.
+     */
+    private OutputStream openOutputStream() throws IOException {
+        OutputStream fileStream = new FileOutputStream(path.toFile());
+        if (!isEncrypted) {
+            return fileStream;
+        }
+        try {
+            return Encryptor.encryptTo(fileStream);
+        } catch (IOException ioe) {
+            fileStream.close();
+            throw ioe;
         }
     }
 
     @Override
     public Planner load() throws StorageOperationException {
+        Tracer.StorageSpan span = Trace.beginStorage(Trace.OPERATION_LOAD);
+        span.setPath(path.toString());
         try (final BufferedReader fileReader =
                      new BufferedReader(new FileReader(path.toFile()))) {
 
@@ -103,11 +186,19 @@ public class StorageFile implements Storage {
             final AdaptedPlanner loaded;
             //decrypts
             if (isEncrypted) {
+                String encrypted = fileReader.readLine();
+                span.setBytes(encrypted == null ? 0 : encrypted.length());
+                long start = System.nanoTime();
                 StringReader decryptedData;
-                decryptedData = new StringReader(Encryptor.decrypt(fileReader.readLine()));
+                decryptedData = new StringReader(Encryptor.decrypt(encrypted));
+                long decrypted = System.nanoTime();
                 loaded = (AdaptedPlanner) unmarshaller.unmarshal(decryptedData);
+                span.setCryptoNanos(decrypted - start);
+                span.setMarshalNanos(System.nanoTime() - decrypted);
             } else {
+                long start = System.nanoTime();
                 loaded = (AdaptedPlanner) unmarshaller.unmarshal(fileReader);
+                span.setMarshalNanos(System.nanoTime() - start);
             }
 
             // manual check for missing elements
@@ -123,6 +214,8 @@ public class StorageFile implements Storage {
 
             // create empty planner if not found or is empty.
         } catch (FileNotFoundException | NullPointerException e) {
+            // a history saved beside the missing planner does not belong to the new one
+            historyJournal.delete();
             final Planner empty = new Planner();
             save(empty);
             return empty;
@@ -134,6 +227,40 @@ public class StorageFile implements Storage {
             throw new StorageOperationException("Error parsing file model format");
         } catch (IllegalValueException ive) {
             throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        } finally {
+            span.commit();
+        }
+    }
+
+    /**
+     * Appends the states of the history which have not been saved yet to the journal beside the storage file,
+     * which is encrypted with the same key.
+     */
+    @Override
+    public void saveHistory(List<PlannerHistory.Version> versions, int pointer) throws StorageOperationException {
+        try {
+            historyJournal.save(versions, pointer);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing the undo history of: " + path + " error: "
+                    + ioe.getMessage());
+        }
+    }
+
+    @Override
+    public PlannerHistory loadHistory(Planner currentState, PlannerHistory.Pager pager) {
+        return historyJournal.load(currentState, pager);
+    }
+
+    /**
+     * Closes the journal of the undo history, which is opened again if the history is saved or paged in.
+     */
+    @Override
+    public void close() throws StorageOperationException {
+        try {
+            historyJournal.close();
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error closing the undo history of: " + path + " error: "
+                    + ioe.getMessage());
         }
     }
 
@@ -141,4 +268,123 @@ public class StorageFile implements Storage {
     public String getPath() {
         return path.toString();
     }
+
+    /**
+     * Passes on the events of a marshalled planner, except that the days of its semester are replaced by
+     * days whose single slots are supplied one date at a time, each marshalled as the value of a map entry.
+     */
+    private class DayStreamingWriter implements XMLEventWriter {
+        /** The depth of the days element, within the planner and its semester. */
+        private static final int DAYS_DEPTH = 3;
+        private static final String DAYS_ELEMENT = "days";
+
+        private final XMLEventWriter out;
+        private final Planner skeleton;
+        private final Function<LocalDate, List<? extends ReadOnlySlot>> singleSlots;
+        private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+        private int depth = 0;
+        private boolean isInDays = false;
+
+        DayStreamingWriter(XMLEventWriter out, Planner skeleton,
+                           Function<LocalDate, List<? extends ReadOnlySlot>> singleSlots) {
+            this.out = out;
+            this.skeleton = skeleton;
+            this.singleSlots = singleSlots;
+        }
+
+        @Override
+        public void add(XMLEvent event) throws XMLStreamException {
+            if (event.isStartElement()) {
+                depth++;
+                if (depth == DAYS_DEPTH
+                        && event.asStartElement().getName().getLocalPart().equals(DAYS_ELEMENT)) {
+                    isInDays = true;
+                    out.add(event);
+                    return;
+                }
+            } else if (event.isEndElement()) {
+                depth--;
+                if (isInDays && depth == DAYS_DEPTH - 1) {
+                    writeDays();
+                    isInDays = false;
+                    out.add(event);
+                    return;
+                }
+            }
+            if (!isInDays) {
+                out.add(event);
+            }
+        }
+
+        @Override
+        public void add(XMLEventReader reader) throws XMLStreamException {
+            while (reader.hasNext()) {
+                add(reader.nextEvent());
+            }
+        }
+
+        /**
+         * Writes the days of the semester in chronological order, in the layout JAXB gives to map entries.
+         */
+        private void writeDays() throws XMLStreamException {
+            Marshaller dayMarshaller;
+            try {
+                dayMarshaller = jaxbContext.createMarshaller();
+                dayMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            } catch (JAXBException jaxbe) {
+                throw new XMLStreamException(jaxbe);
+            }
+            List<LocalDate> dates = new ArrayList<>(skeleton.getDays().keySet());
+            Collections.sort(dates);
+            for (LocalDate date : dates) {
+                Day day = skeleton.getDays().get(date);
+                AdaptedDay toSave = new AdaptedDay(day.getDayOfWeek(), day.getType(), singleSlots.apply(date));
+                out.add(eventFactory.createStartElement("", "", "entry"));
+                out.add(eventFactory.createStartElement("", "", "key"));
+                out.add(eventFactory.createCharacters(date.toString()));
+                out.add(eventFactory.createEndElement("", "", "key"));
+                try {
+                    dayMarshaller.marshal(new JAXBElement<>(new QName("value"), AdaptedDay.class, toSave), out);
+                } catch (JAXBException jaxbe) {
+                    throw new XMLStreamException(jaxbe);
+                }
+                out.add(eventFactory.createEndElement("", "", "entry"));
+            }
+        }
+
+        @Override
+        public void flush() throws XMLStreamException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws XMLStreamException {
+            out.close();
+        }
+
+        @Override
+        public String getPrefix(String uri) throws XMLStreamException {
+            return out.getPrefix(uri);
+        }
+
+        @Override
+        public void setPrefix(String prefix, String uri) throws XMLStreamException {
+            out.setPrefix(prefix, uri);
+        }
+
+        @Override
+        public void setDefaultNamespace(String uri) throws XMLStreamException {
+            out.setDefaultNamespace(uri);
+        }
+
+        @Override
+        public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+            out.setNamespaceContext(context);
+        }
+
+        @Override
+        public NamespaceContext getNamespaceContext() {
+            return out.getNamespaceContext();
+        }
+    }
 }
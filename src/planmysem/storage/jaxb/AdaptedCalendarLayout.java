@@ -0,0 +1,121 @@
+package planmysem.storage.jaxb;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import planmysem.common.exceptions.IllegalValueException;
+import planmysem.model.semester.CalendarLayout;
+import planmysem.model.semester.CalendarLayout.SemesterLayout;
+
+/**
+ * JAXB-friendly adapted academic calendar layout holder class.
+ */
+@XmlRootElement(name = "AcademicCalendar")
+public class AdaptedCalendarLayout {
+    @XmlAttribute(required = true)
+    private String name;
+    @XmlElement(required = true)
+    private String startMonth;
+    @XmlElement(required = true)
+    private String startDayOfWeek;
+    @XmlElement(name = "yearStart")
+    private List<String> yearStarts = new ArrayList<>();
+    @XmlElement(name = "semester", required = true)
+    private List<AdaptedCalendarSemester> semesters = new ArrayList<>();
+    @XmlElement(name = "holiday")
+    private List<AdaptedHoliday> holidays = new ArrayList<>();
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedCalendarLayout() {
+    }
+
+    /**
+     * Converts a given CalendarLayout into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created AdaptedCalendarLayout
+     */
+    public AdaptedCalendarLayout(CalendarLayout source) {
+        name = source.getName();
+        startMonth = source.getStartMonth().toString();
+        startDayOfWeek = source.getStartDayOfWeek().toString();
+        for (LocalDate date : source.getStartDates().values()) {
+            yearStarts.add(date.toString());
+        }
+        for (SemesterLayout semester : source.getSemesters()) {
+            semesters.add(new AdaptedCalendarSemester(semester));
+        }
+        for (Map.Entry<LocalDate, String> holiday : source.getHolidays().entrySet()) {
+            holidays.add(new AdaptedHoliday(holiday.getKey(), holiday.getValue()));
+        }
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        if (name == null || startMonth == null || startDayOfWeek == null || semesters.isEmpty()) {
+            return true;
+        }
+        for (AdaptedCalendarSemester semester : semesters) {
+            if (semester.isAnyRequiredFieldMissing()) {
+                return true;
+            }
+        }
+        for (AdaptedHoliday holiday : holidays) {
+            if (holiday.isAnyRequiredFieldMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted calendar layout object into the CalendarLayout object.
+     *
+     * @throws IllegalValueException if there were any model constraints violated in the layout
+     */
+    public CalendarLayout toModelType() throws IllegalValueException {
+        final Month month;
+        final DayOfWeek dayOfWeek;
+        try {
+            month = Month.valueOf(startMonth.trim().toUpperCase());
+            dayOfWeek = DayOfWeek.valueOf(startDayOfWeek.trim().toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException("Invalid start of academic year: " + startMonth + " " + startDayOfWeek);
+        }
+
+        final Map<Integer, LocalDate> startDates = new HashMap<>();
+        for (String yearStart : yearStarts) {
+            try {
+                LocalDate date = LocalDate.parse(yearStart.trim());
+                startDates.put(date.getYear(), date);
+            } catch (DateTimeParseException dtpe) {
+                throw new IllegalValueException("Invalid start date of academic year: " + yearStart);
+            }
+        }
+
+        final List<SemesterLayout> semesterLayouts = new ArrayList<>();
+        for (AdaptedCalendarSemester semester : semesters) {
+            semesterLayouts.add(semester.toModelType());
+        }
+
+        final Map<LocalDate, String> holidayNames = new HashMap<>();
+        for (AdaptedHoliday holiday : holidays) {
+            holidayNames.put(holiday.getDate(), holiday.getName());
+        }
+
+        return new CalendarLayout(name, month, dayOfWeek, startDates, semesterLayouts, holidayNames);
+    }
+}
@@ -0,0 +1,138 @@
+package planmysem.storage.jaxb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import planmysem.common.exceptions.IllegalValueException;
+import planmysem.model.semester.CalendarLayout;
+import planmysem.model.semester.CalendarLayout.SemesterLayout;
+
+/**
+ * JAXB-friendly adapted semester layout holder class.
+ * Weeks are written as a comma separated list of tokens, e.g. "Orientation, 1-6, Recess, 7-13, Reading,
+ * Examination*2", where a number or range of numbers denotes numbered weeks, a word denotes a named week
+ * and "*n" repeats a token n times.
+ */
+public class AdaptedCalendarSemester {
+    private static final String WEEK_SEPARATOR = ",";
+    private static final String REPEAT_SEPARATOR = "*";
+    private static final String RANGE_SEPARATOR = "-";
+    private static final String UNTIL_NEXT_YEAR = "untilNextYear";
+
+    @XmlAttribute(required = true)
+    private String name;
+    @XmlAttribute
+    private String vacationWeeks;
+    @XmlElement(required = true)
+    private String weeks;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedCalendarSemester() {
+    }
+
+    /**
+     * Converts a given SemesterLayout into this class for JAXB use.
+     */
+    public AdaptedCalendarSemester(SemesterLayout source) {
+        name = source.getName();
+        vacationWeeks = source.getVacationWeeks() == SemesterLayout.UNTIL_NEXT_YEAR
+                ? UNTIL_NEXT_YEAR
+                : String.valueOf(source.getVacationWeeks());
+        weeks = String.join(WEEK_SEPARATOR + " ", source.getWeeks());
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        return name == null || weeks == null;
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted semester layout object into the SemesterLayout object.
+     *
+     * @throws IllegalValueException if the weeks or number of vacation weeks are invalid
+     */
+    public SemesterLayout toModelType() throws IllegalValueException {
+        List<String> weekLabels = new ArrayList<>();
+        for (String token : weeks.split(WEEK_SEPARATOR)) {
+            weekLabels.addAll(parseWeeks(token.trim()));
+        }
+        if (weekLabels.isEmpty()) {
+            throw new IllegalValueException("Semester " + name + " has no weeks");
+        }
+
+        int noOfVacationWeeks;
+        if (vacationWeeks == null || UNTIL_NEXT_YEAR.equals(vacationWeeks)) {
+            noOfVacationWeeks = SemesterLayout.UNTIL_NEXT_YEAR;
+        } else {
+            noOfVacationWeeks = parseNonNegative(vacationWeeks);
+        }
+
+        return new SemesterLayout(name, weekLabels, noOfVacationWeeks);
+    }
+
+    /**
+     * Parses a single token of the weeks list into week labels.
+     */
+    private static List<String> parseWeeks(String token) throws IllegalValueException {
+        List<String> labels = new ArrayList<>();
+        if (token.isEmpty()) {
+            return labels;
+        }
+
+        int repeatIndex = token.lastIndexOf(REPEAT_SEPARATOR);
+        if (repeatIndex != -1) {
+            int times = parseNonNegative(token.substring(repeatIndex + 1).trim());
+            List<String> repeated = parseWeeks(token.substring(0, repeatIndex).trim());
+            for (int i = 0; i < times; i++) {
+                labels.addAll(repeated);
+            }
+            return labels;
+        }
+
+        String[] range = token.split(RANGE_SEPARATOR);
+        if (range.length == 2 && isNumber(range[0].trim()) && isNumber(range[1].trim())) {
+            int from = parseNonNegative(range[0].trim());
+            int to = parseNonNegative(range[1].trim());
+            if (from > to) {
+                throw new IllegalValueException("Invalid range of weeks: " + token);
+            }
+            for (int i = from; i <= to; i++) {
+                labels.add("Week " + i);
+            }
+        } else if (isNumber(token)) {
+            labels.add("Week " + token);
+        } else if (token.endsWith("Week") || CalendarLayout.VACATION.equals(token)) {
+            labels.add(token);
+        } else {
+            labels.add(token + " Week");
+        }
+        return labels;
+    }
+
+    private static boolean isNumber(String value) {
+        return !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * Parses a non-negative number of weeks.
+     *
+     * @throws IllegalValueException if the value is not a non-negative integer
+     */
+    private static int parseNonNegative(String value) throws IllegalValueException {
+        try {
+            if (isNumber(value)) {
+                return Integer.parseInt(value);
+            }
+        } catch (NumberFormatException nfe) {
+            // fall through to report the invalid value
+        }
+        throw new IllegalValueException("Expected a number of weeks but found: " + value);
+    }
+}
@@ -2,12 +2,13 @@ package planmysem.storage.jaxb;
 
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.annotation.XmlElement;
 
 import planmysem.common.exceptions.IllegalValueException;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
+import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
 
 /**
@@ -32,16 +33,30 @@ public class AdaptedDay {
      *
      * @param source future changes to this will not affect the created AdaptedDay
      */
-    public AdaptedDay(ReadOnlyDay source) {
+    public AdaptedDay(Day source) {
         dayOfWeek = source.getDayOfWeek();
         weekType = source.getType();
 
         slots = new ArrayList<>();
-        for (Slot slot : source.getSlots()) {
+        for (Slot slot : source.getSingleSlots()) {
             slots.add(new AdaptedSlot(slot));
         }
     }
 
+    /**
+     * Converts the given fields of a day into this class for JAXB use, without building the day itself.
+     *
+     * @param slots the single slots of the day
+     */
+    public AdaptedDay(DayOfWeek dayOfWeek, String weekType, List<? extends ReadOnlySlot> slots) {
+        this.dayOfWeek = dayOfWeek;
+        this.weekType = weekType;
+
+        for (ReadOnlySlot slot : slots) {
+            this.slots.add(new AdaptedSlot(slot));
+        }
+    }
+
     /**
      * Returns true if any required field is missing.
      * <p>
@@ -0,0 +1,54 @@
+package planmysem.storage.jaxb;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlValue;
+
+import planmysem.common.exceptions.IllegalValueException;
+
+/**
+ * JAXB-friendly adapted holiday of an academic calendar.
+ */
+public class AdaptedHoliday {
+    @XmlAttribute(required = true)
+    private String date;
+    @XmlValue
+    private String name;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedHoliday() {
+    }
+
+    public AdaptedHoliday(LocalDate date, String name) {
+        this.date = date.toString();
+        this.name = name;
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        return date == null || name == null;
+    }
+
+    /**
+     * Returns the date of this holiday.
+     *
+     * @throws IllegalValueException if the date is not a valid ISO date
+     */
+    public LocalDate getDate() throws IllegalValueException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException("Invalid date: " + date);
+        }
+    }
+
+    public String getName() {
+        return name.trim();
+    }
+}
@@ -1,8 +1,10 @@
 package planmysem.storage.jaxb;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -12,6 +14,7 @@ import planmysem.common.exceptions.IllegalValueException;
 import planmysem.model.semester.Day;
 import planmysem.model.semester.ReadOnlySemester;
 import planmysem.model.semester.Semester;
+import planmysem.model.slot.SlotSeries;
 
 /**
  * JAXB-friendly adapted person model holder class.
@@ -37,6 +40,8 @@ public class AdaptedSemester {
     private Set<String> normalDays = new HashSet<>();
     @XmlElement(required = true)
     private Set<String> examDays = new HashSet<>();
+    @XmlElement
+    private List<AdaptedSlotSeries> series = new ArrayList<>();
 
     /**
      * No-arg constructor for JAXB use.
@@ -75,6 +80,10 @@ public class AdaptedSemester {
         for (LocalDate date : source.getExamDays()) {
             examDays.add(date.toString());
         }
+
+        for (SlotSeries slotSeries : source.getSeries()) {
+            series.add(new AdaptedSlotSeries(slotSeries));
+        }
     }
 
     /**
@@ -92,6 +101,12 @@ public class AdaptedSemester {
             }
         }
 
+        for (AdaptedSlotSeries slotSeries : series) {
+            if (slotSeries.isAnyRequiredFieldMissing()) {
+                return true;
+            }
+        }
+
         // TODO: removed for testing
         // second call only happens if phone/email/address are all not null
         // return Utils.isAnyNull(name, academicYear, days, startDate, endDate);
@@ -140,8 +155,15 @@ public class AdaptedSemester {
             examDays.add(LocalDate.parse(date));
         }
 
-        return new Semester(name, academicYear, days,
+        final List<SlotSeries> series = new ArrayList<>();
+        for (AdaptedSlotSeries slotSeries : this.series) {
+            series.add(slotSeries.toModelType());
+        }
+
+        Semester semester = new Semester(name, academicYear, days,
                 LocalDate.parse(startDate), LocalDate.parse(endDate), noOfWeeks,
                 recessDays, readingDays, normalDays, examDays);
+        semester.setSeries(series);
+        return semester;
     }
 }
@@ -0,0 +1,45 @@
+package planmysem.storage.jaxb;
+
+import java.time.LocalDate;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import planmysem.common.Utils;
+import planmysem.model.slot.ReadOnlySlot;
+
+/**
+ * JAXB-friendly adapted occurrence of a recurring slot which differs from the rest of its series.
+ */
+public class AdaptedSlotOverride {
+    @XmlAttribute(required = true)
+    private String date;
+    @XmlElement(required = true)
+    private AdaptedSlot slot;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedSlotOverride() {
+    }
+
+    public AdaptedSlotOverride(LocalDate date, ReadOnlySlot slot) {
+        this.date = date.toString();
+        this.slot = new AdaptedSlot(slot);
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        return Utils.isAnyNull(date, slot) || slot.isAnyRequiredFieldMissing();
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public AdaptedSlot getSlot() {
+        return slot;
+    }
+}
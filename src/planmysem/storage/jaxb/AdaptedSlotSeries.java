@@ -0,0 +1,139 @@
+package planmysem.storage.jaxb;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import planmysem.common.Utils;
+import planmysem.common.exceptions.IllegalValueException;
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.recurrence.RecurrenceRule.WeekParity;
+import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotSeries;
+
+/**
+ * JAXB-friendly adapted recurring slot model holder class.
+ */
+public class AdaptedSlotSeries {
+    private static final String MESSAGE_ILLEGAL_RECURRENCE = "Illegal recurrence detected!";
+
+    @XmlElement(required = true)
+    private AdaptedSlot slot;
+    @XmlElement(required = true)
+    private DayOfWeek day;
+    @XmlElement
+    private boolean normal;
+    @XmlElement
+    private boolean recess;
+    @XmlElement
+    private boolean reading;
+    @XmlElement
+    private boolean exam;
+    @XmlElement(required = true)
+    private int interval;
+    @XmlElement(required = true)
+    private WeekParity parity;
+    @XmlElement
+    private String from;
+    @XmlElement
+    private String until;
+    @XmlElement
+    private List<String> exceptions = new ArrayList<>();
+    @XmlElement
+    private List<AdaptedSlotOverride> overrides = new ArrayList<>();
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedSlotSeries() {
+    }
+
+    /**
+     * Converts a given SlotSeries into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created AdaptedSlotSeries
+     */
+    public AdaptedSlotSeries(SlotSeries source) {
+        RecurrenceRule rule = source.getRule();
+        slot = new AdaptedSlot(source.getSlot());
+        day = rule.getDay();
+        normal = rule.isNormal();
+        recess = rule.isRecess();
+        reading = rule.isReading();
+        exam = rule.isExam();
+        interval = rule.getInterval();
+        parity = rule.getParity();
+        from = rule.getFrom() == null ? null : rule.getFrom().toString();
+        until = rule.getUntil() == null ? null : rule.getUntil().toString();
+        for (LocalDate date : rule.getExceptions()) {
+            exceptions.add(date.toString());
+        }
+        for (Map.Entry<LocalDate, Slot> override : source.getOverrides().entrySet()) {
+            overrides.add(new AdaptedSlotOverride(override.getKey(), override.getValue()));
+        }
+    }
+
+    /**
+     * Returns true if any required field is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        if (Utils.isAnyNull(slot, day, parity) || slot.isAnyRequiredFieldMissing()) {
+            return true;
+        }
+        for (AdaptedSlotOverride override : overrides) {
+            if (override.isAnyRequiredFieldMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted recurring slot object into the SlotSeries object.
+     *
+     * @throws IllegalValueException if there were any model constraints violated in the recurring slot
+     */
+    public SlotSeries toModelType() throws IllegalValueException {
+        if (interval < 1) {
+            throw new IllegalValueException(MESSAGE_ILLEGAL_RECURRENCE);
+        }
+
+        final Set<LocalDate> exceptionDates = new HashSet<>();
+        for (String date : exceptions) {
+            exceptionDates.add(parseDate(date));
+        }
+
+        RecurrenceRule rule = new RecurrenceRule(day, normal, recess, reading, exam, interval, parity,
+                parseDate(from), parseDate(until), exceptionDates);
+
+        final Map<LocalDate, Slot> overrideSlots = new HashMap<>();
+        for (AdaptedSlotOverride override : overrides) {
+            overrideSlots.put(parseDate(override.getDate()), override.getSlot().toModelType());
+        }
+        return new SlotSeries(slot.toModelType(), rule, overrideSlots);
+    }
+
+    /**
+     * Parses an optional date.
+     *
+     * @throws IllegalValueException if the date is present but invalid
+     */
+    private static LocalDate parseDate(String date) throws IllegalValueException {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_ILLEGAL_RECURRENCE);
+        }
+    }
+}
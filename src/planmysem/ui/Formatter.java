@@ -1,12 +1,12 @@
 package planmysem.ui;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
-import javafx.util.Pair;
 import planmysem.common.Messages;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.logic.commands.CommandResult;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Used for formatting text for display. e.g. for adding text decorations.
@@ -19,26 +19,52 @@ public class Formatter {
     private static final String LINE_PREFIX = " ";
 
     /**
-     * A platform independent line separator.
+     * Formats the given strings as rows of the output pane, one row per line.
      */
-    private static final String LS = System.lineSeparator();
+    public List<OutputRow> formatRows(String... messages) {
+        List<OutputRow> rows = new ArrayList<>();
+        for (String m : messages) {
+            addLines(rows, m);
+        }
+        return rows;
+    }
 
     /**
-     * Formats the given strings for displaying to the user.
+     * Formats the result of a command as rows of the output pane: the lines of its feedback,
+     * followed by its own rows or by one row per slot it lists.
      */
-    public String format(String... messages) {
-        StringBuilder sb = new StringBuilder();
-        for (String m : messages) {
-            sb.append(LINE_PREFIX + m.replace("\n", LS + LINE_PREFIX) + LS);
+    public List<OutputRow> formatRows(CommandResult result) {
+        List<OutputRow> rows = formatRows(result.feedbackToUser);
+        final Optional<List<String>> lines = result.getRows();
+        if (lines.isPresent()) {
+            for (String line : lines.get()) {
+                rows.add(OutputRow.ofText(LINE_PREFIX + line));
+            }
         }
-        return sb.toString();
+        final Optional<List<SlotRef>> slots = result.getRelevantSlots();
+        if (slots.isPresent()) {
+            int index = 1;
+            for (SlotRef slot : slots.get()) {
+                rows.add(OutputRow.ofSlot(slot, index++));
+            }
+            rows.add(OutputRow.ofText(Messages.MESSAGE_VIEW_SLOT_DETAILS));
+        }
+        return rows;
     }
 
     /**
-     * Formats the given list of slots for displaying to the user.
+     * Adds a row for each line of {@code message} to {@code rows}.
      */
-    public String formatSlots(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> slots) {
-        return Messages.craftListMessage(slots);
+    private static void addLines(List<OutputRow> rows, String message) {
+        int start = 0;
+        int end;
+        while ((end = message.indexOf('\n', start)) != -1) {
+            rows.add(OutputRow.ofText(LINE_PREFIX + message.substring(start, end)));
+            start = end + 1;
+        }
+        if (start < message.length()) {
+            rows.add(OutputRow.ofText(LINE_PREFIX + message.substring(start)));
+        }
     }
 
 }
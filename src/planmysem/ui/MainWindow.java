@@ -1,31 +1,53 @@
 package planmysem.ui;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
-import javafx.util.Pair;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import planmysem.common.Messages;
 import planmysem.logic.LogicManager;
 import planmysem.logic.commands.CommandResult;
 import planmysem.logic.commands.ExitCommand;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
 
 /**
  * Main Window of the GUI.
+ * Commands are executed one at a time in the order entered, on a background thread so that the window stays
+ * responsive; pressing Escape in the command box cancels the commands which have not finished.
  */
 public class MainWindow {
 
+    /**
+     * Executes the commands in the order they are entered. The thread does not keep the application running.
+     */
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The commands entered which have not finished, in the order entered. Only used on the JavaFX thread.
+    private final List<CommandTask> pendingCommands = new ArrayList<>();
+
     private LogicManager logicManager;
     private Stoppable mainApp;
+    // Shows the output one row per line or listed slot, creating cells only for the rows in view.
     @FXML
-    private TextArea outputConsole;
+    private ListView<OutputRow> outputView;
     @FXML
     private TextField commandInput;
+    @FXML
+    private ProgressBar busyIndicator;
 
     public void setLogicManager(LogicManager logicManager) {
         this.logicManager = logicManager;
@@ -36,25 +58,58 @@ public class MainWindow {
     }
 
     /**
-     * TODO: Add Javadoc comment.
+     * Queues the command entered for execution in the background.
      */
     @FXML
     private void onCommand() {
+        String userCommandText = commandInput.getText();
+        CommandTask task = new CommandTask(userCommandText);
+        pendingCommands.add(task);
+        updateBusyIndicator();
+        commandExecutor.execute(task);
+    }
+
+    /**
+     * Cancels the pending commands when Escape is pressed.
+     */
+    @FXML
+    private void onKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE) {
+            for (CommandTask task : new ArrayList<>(pendingCommands)) {
+                task.cancelCommand();
+            }
+        }
+    }
+
+    /**
+     * Shows the outcome of {@code task}, which has finished or been cancelled. Runs on the JavaFX thread.
+     */
+    private void onCommandDone(CommandTask task) {
+        pendingCommands.remove(task);
+        updateBusyIndicator();
         try {
-            String userCommandText = commandInput.getText();
-            CommandResult result = logicManager.execute(userCommandText);
+            CommandResult result = task.get();
             if (isExitCommand(result)) {
                 exitApp();
                 return;
             }
             displayResult(result);
-            clearCommandInput();
+            // the input is kept if another command has been typed in the meantime
+            if (commandInput.getText().equals(task.userCommandText)) {
+                clearCommandInput();
+            }
+        } catch (ExecutionException ee) {
+            display(ee.getCause().getMessage());
         } catch (Exception e) {
-            display(e.getMessage());
-            // throw new RuntimeException(e);
+            display(task.isCancelled() ? Messages.MESSAGE_COMMAND_CANCELLED : e.getMessage());
         }
     }
 
+    private void updateBusyIndicator() {
+        busyIndicator.setVisible(!pendingCommands.isEmpty());
+        busyIndicator.setManaged(!pendingCommands.isEmpty());
+    }
+
     private void exitApp() throws Exception {
         mainApp.stop();
     }
@@ -77,19 +132,14 @@ public class MainWindow {
      * Clears the output display area
      */
     public void clearOutputConsole() {
-        outputConsole.clear();
+        outputView.getItems().clear();
     }
 
     /**
      * Displays the result of a command execution to the user.
      */
     public void displayResult(CommandResult result) {
-        clearOutputConsole();
-        final Optional<List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>>> resultDays = result.getRelevantSlots();
-        if (resultDays.isPresent()) {
-            display(resultDays.get());
-        }
-        display(result.feedbackToUser);
+        show(new Formatter().formatRows(result));
     }
 
     /**
@@ -101,18 +151,65 @@ public class MainWindow {
     }
 
     /**
-     * Displays the list of slots in the output display area, formatted as an indexed list.
-     * Private contact details are hidden.
+     * Displays the given messages on the output display area, after formatting appropriately.
      */
-    private void display(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list) {
-        display(new Formatter().formatSlots(list));
+    private void display(String... messages) {
+        show(new Formatter().formatRows(messages));
     }
 
     /**
-     * Displays the given messages on the output display area, after formatting appropriately.
+     * Replaces the output display area with {@code rows}, scrolled to the top.
      */
-    private void display(String... messages) {
-        clearOutputConsole();
-        outputConsole.setText(outputConsole.getText() + new Formatter().format(messages));
+    private void show(List<OutputRow> rows) {
+        outputView.getItems().setAll(rows);
+        outputView.scrollTo(0);
+    }
+
+    /**
+     * A command entered by the user, executed on the command executor.
+     * When the command is done or cancelled, its outcome is shown on the JavaFX thread.
+     */
+    private class CommandTask extends FutureTask<CommandResult> {
+        private final String userCommandText;
+        private final AtomicBoolean isStartedOrCancelled = new AtomicBoolean(false);
+        private volatile Thread runner;
+
+        CommandTask(String userCommandText) {
+            super(() -> logicManager.execute(userCommandText));
+            this.userCommandText = userCommandText;
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            try {
+                if (isStartedOrCancelled.compareAndSet(false, true)) {
+                    super.run();
+                }
+            } finally {
+                runner = null;
+            }
+        }
+
+        /**
+         * Stops the command from running if it has not started. A running command is interrupted instead,
+         * which stops commands that check for interruption, such as import, and rolls back their changes.
+         * Its outcome, whether a result or a failure, is then shown as usual.
+         */
+        void cancelCommand() {
+            if (isStartedOrCancelled.compareAndSet(false, true)) {
+                cancel(false);
+                return;
+            }
+            Thread thread = runner;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        @Override
+        protected void done() {
+            Platform.runLater(() -> onCommandDone(this));
+        }
     }
 }
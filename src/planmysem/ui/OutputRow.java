@@ -0,0 +1,43 @@
+package planmysem.ui;
+
+import planmysem.common.Messages;
+import planmysem.model.slot.SlotRef;
+
+/**
+ * A row of the output pane, which is either a line of text or a slot listed by a command.
+ * The text of a slot is only formatted when its row is shown.
+ */
+public final class OutputRow {
+    private final String text;
+    private final SlotRef slot;
+    private final int index;
+
+    private OutputRow(String text, SlotRef slot, int index) {
+        this.text = text;
+        this.slot = slot;
+        this.index = index;
+    }
+
+    public static OutputRow ofText(String text) {
+        return new OutputRow(text, null, 0);
+    }
+
+    /**
+     * Returns the row of {@code slot}, listed as number {@code index}.
+     */
+    public static OutputRow ofSlot(SlotRef slot, int index) {
+        return new OutputRow(null, slot, index);
+    }
+
+    /**
+     * Returns the text shown in the row.
+     */
+    public String getText() {
+        return slot == null ? text : Messages.craftSlotMessage(index, slot);
+    }
+
+    @Override
+    public String toString() {
+        return getText();
+    }
+}
@@ -0,0 +1,84 @@
+package planmysem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import planmysem.common.Clock;
+import planmysem.logic.LogicManager;
+import planmysem.logic.commands.ListCommand;
+import planmysem.logic.commands.UndoCommand;
+import planmysem.storage.StorageFile;
+import planmysem.testutil.SlotBuilder;
+
+public class BatchRunnerTest {
+    private static final String testFileName = "batchSaveFile.txt";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File file;
+    private LogicManager logic;
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+    private BatchRunner runner;
+
+    @Before
+    public void setUp() throws Exception {
+        Clock.set("2019-01-14T10:00:00Z");
+        file = new File(temporaryFolder.getRoot(), testFileName);
+        logic = new LogicManager(new StorageFile(file.getPath()));
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+        runner = new BatchRunner(logic, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_skipsCommentsAndReportsFailures() throws Exception {
+        String script = "# provision a timetable\n"
+                + "\n"
+                + SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "") + "\n"
+                + "delete 3\n"
+                + "list n/CS2113T Tutorial\n";
+
+        assertEquals(1, runner.run(new BufferedReader(new StringReader(script)), false));
+        assertTrue(out.toString().contains("> list n/CS2113T Tutorial"));
+        assertTrue(out.toString().contains(String.format(ListCommand.MESSAGE_SUCCESS, 1, "").trim()));
+        assertTrue(err.toString().startsWith("Line 4: "));
+        assertEquals(3, logic.getHistory().size());
+    }
+
+    @Test
+    public void run_noSaveUntilEnd_savesOnceAtEnd() throws Exception {
+        String script = SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "") + "\n";
+
+        long emptyPlannerLength = file.length();
+
+        logic.setSavedAfterEachCommand(false);
+        logic.execute(script.trim());
+        assertEquals(emptyPlannerLength, file.length());
+
+        assertEquals(0, runner.run(new BufferedReader(new StringReader(script)), true));
+        assertNotEquals(emptyPlannerLength, file.length());
+    }
+
+    @Test
+    public void run_wholeScriptUndoneAsOneStep() throws Exception {
+        String script = SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "") + "\n"
+                + SlotBuilder.generateAddCommand(new SlotBuilder().slotTwo(), 3, "") + "\n";
+        runner.run(new BufferedReader(new StringReader(script)), false);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).feedbackToUser);
+        assertEquals(ListCommand.MESSAGE_SUCCESS_NONE, logic.execute("list n/CS2113T").feedbackToUser);
+    }
+}
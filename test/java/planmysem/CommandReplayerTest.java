@@ -0,0 +1,95 @@
+package planmysem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import planmysem.common.Clock;
+import planmysem.logic.CommandRecorder;
+import planmysem.logic.LogicManager;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.storage.StorageFile;
+import planmysem.testutil.SlotBuilder;
+
+public class CommandReplayerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    @Before
+    public void setUp() {
+        Clock.set("2019-01-14T10:00:00Z");
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void replay_recordedSession_sameOutput() throws Exception {
+        String log = recordSession(true);
+
+        CommandReplayer replayer = new CommandReplayer(createLogic("replayed.txt"), new PrintStream(out, true),
+                new PrintStream(err, true));
+        assertEquals(0, replayer.replay(new BufferedReader(new StringReader(log))));
+        assertTrue(out.toString().contains(CommandReplayer.LATENCY_HEADER));
+        assertTrue(out.toString().contains(String.format(CommandReplayer.MESSAGE_SUMMARY, 4, 0)));
+    }
+
+    @Test
+    public void replay_differentPlanner_reportsDifference() throws Exception {
+        String log = recordSession(true);
+
+        LogicManager logic = createLogic("replayed.txt");
+        logic.execute(SlotBuilder.generateAddCommand(new SlotBuilder().slotTwo(), 3, ""));
+        CommandReplayer replayer = new CommandReplayer(logic, new PrintStream(out, true),
+                new PrintStream(err, true));
+        assertTrue(replayer.replay(new BufferedReader(new StringReader(log))) > 0);
+        assertTrue(err.toString().contains("differs from the recording"));
+    }
+
+    @Test
+    public void replay_outputNotRecorded_onlySuccessCompared() throws Exception {
+        String log = recordSession(false);
+
+        LogicManager logic = createLogic("replayed.txt");
+        logic.execute(SlotBuilder.generateAddCommand(new SlotBuilder().slotTwo(), 3, ""));
+        CommandReplayer replayer = new CommandReplayer(logic, new PrintStream(out, true),
+                new PrintStream(err, true));
+        assertEquals(0, replayer.replay(new BufferedReader(new StringReader(log))));
+    }
+
+    /**
+     * Records a session of commands on an empty planner, some of which fail.
+     */
+    private String recordSession(boolean isOutputRecorded) throws Exception {
+        StringWriter log = new StringWriter();
+        LogicManager logic = createLogic("recorded.txt");
+        logic.setRecorder(new CommandRecorder(log, isOutputRecorded));
+        logic.execute(SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, ""));
+        logic.execute("list n/CS2113T");
+        try {
+            logic.execute("delete 5");
+        } catch (CommandException ce) {
+            // recorded as a failure
+        }
+        logic.execute("view day 15-01-2019");
+        return log.toString();
+    }
+
+    private LogicManager createLogic(String fileName) throws Exception {
+        LogicManager logic = new LogicManager(new StorageFile(new File(temporaryFolder.getRoot(), fileName).getPath()));
+        logic.setSavedAfterEachCommand(false);
+        return logic;
+    }
+}
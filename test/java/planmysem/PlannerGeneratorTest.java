@@ -0,0 +1,74 @@
+package planmysem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import planmysem.common.Clock;
+import planmysem.model.Planner;
+import planmysem.model.semester.Day;
+import planmysem.storage.StorageFile;
+
+public class PlannerGeneratorTest {
+    private static final int NO_OF_SLOTS = 500;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PlannerGenerator generator;
+
+    @Before
+    public void setUp() {
+        Clock.set("2019-01-14T10:00:00Z");
+        generator = new PlannerGenerator(42, 10, 2, 5, 30);
+    }
+
+    @Test
+    public void generate_sameSeed_samePlanner() throws Exception {
+        assertEquals(generator.generate(NO_OF_SLOTS),
+                new PlannerGenerator(42, 10, 2, 5, 30).generate(NO_OF_SLOTS));
+        assertNotEquals(generator.generate(NO_OF_SLOTS),
+                new PlannerGenerator(43, 10, 2, 5, 30).generate(NO_OF_SLOTS));
+    }
+
+    @Test
+    public void generate_slotsSpreadOverSemester() throws Exception {
+        Planner planner = generator.generate(NO_OF_SLOTS);
+        int noOfSingleSlots = 0;
+        for (Day day : planner.getDays().values()) {
+            noOfSingleSlots += day.getSingleSlots().size();
+        }
+        assertEquals(NO_OF_SLOTS, noOfSingleSlots);
+        assertEquals(20, planner.getSeries().size());
+    }
+
+    @Test
+    public void writeStorageFile_loadsGeneratedPlanner() throws Exception {
+        File file = new File(temporaryFolder.getRoot(), "generated.txt");
+        generator.writeStorageFile(NO_OF_SLOTS, new StorageFile(file.getPath()));
+
+        assertEquals(generator.generate(NO_OF_SLOTS), new StorageFile(file.getPath()).load());
+    }
+
+    @Test
+    public void writeIcsFile_writesEverySlot() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("generated.ics");
+        generator.writeIcsFile(NO_OF_SLOTS, path);
+
+        int noOfSlots = 0;
+        for (Day day : generator.generate(NO_OF_SLOTS).getDays().values()) {
+            noOfSlots += day.getSlots().size();
+        }
+        long noOfEvents = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                .filter("BEGIN:VEVENT"::equals).count();
+        assertEquals(noOfSlots, noOfEvents);
+    }
+}
@@ -0,0 +1,23 @@
+package planmysem.common.trace;
+
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+public class TraceTest {
+
+    @Test
+    public void begin_noTracerOnClassPath_spansAreNotRecorded() {
+        Tracer.CommandSpan span = Trace.beginCommand();
+        span.setCommandWord("list");
+        span.setSlotsListed(1);
+        span.setSuccessful(true);
+        span.commit();
+
+        assertFalse(span.isEnabled());
+        assertFalse(Trace.beginStorage(Trace.OPERATION_SAVE).isEnabled());
+        assertFalse(Trace.beginCrypto(Trace.OPERATION_ENCRYPT).isEnabled());
+        assertFalse(Trace.beginCommit().isEnabled());
+        assertFalse(Trace.beginIcs(Trace.OPERATION_EXPORT).isEnabled());
+    }
+}
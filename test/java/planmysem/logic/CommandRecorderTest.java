@@ -0,0 +1,56 @@
+package planmysem.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+public class CommandRecorderTest {
+    private static final ZonedDateTime TIME = ZonedDateTime.parse("2019-01-14T18:00+08:00[Asia/Singapore]");
+
+    @Test
+    public void record_escapedOutput_parsedBack() {
+        StringWriter log = new StringWriter();
+        CommandRecorder recorder = new CommandRecorder(log, true);
+        recorder.record(TIME, "list n/CS2113T", true, "2 slots listed.\n\t1.\tCS2113T\\Lecture\r\n");
+        recorder.close();
+
+        String[] lines = log.toString().split(System.lineSeparator());
+        assertEquals(1, lines.length);
+        CommandRecorder.Entry entry = CommandRecorder.Entry.parse(lines[0]);
+        assertEquals(TIME, entry.getTime());
+        assertEquals("list n/CS2113T", entry.getCommandText());
+        assertEquals("2 slots listed.\n\t1.\tCS2113T\\Lecture\r\n", entry.getOutput());
+    }
+
+    @Test
+    public void record_failure_parsedBackAsFailure() {
+        StringWriter log = new StringWriter();
+        new CommandRecorder(log, true).record(TIME, "delete 3", false, "The slot index provided is invalid");
+
+        assertFalse(CommandRecorder.Entry.parse(log.toString().trim()).isSuccessful());
+    }
+
+    @Test
+    public void record_outputNotRecorded_onlyCommandAndTimeWritten() {
+        StringWriter log = new StringWriter();
+        new CommandRecorder(log, false).record(TIME, "list n/CS2113T", true, "1 slots listed.\n\t1.\tCS2113T\n");
+
+        assertFalse(log.toString().contains("slots listed"));
+        CommandRecorder.Entry entry = CommandRecorder.Entry.parse(log.toString().trim());
+        assertEquals(TIME, entry.getTime());
+        assertEquals("list n/CS2113T", entry.getCommandText());
+        assertTrue(entry.isSuccessful());
+        assertNull(entry.getOutput());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parse_notRecordedCommand_throwsIllegalArgumentException() {
+        CommandRecorder.Entry.parse("list n/CS2113T");
+    }
+}
@@ -8,14 +8,15 @@ import static planmysem.logic.commands.AddCommand.craftSuccessMessage;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -27,12 +28,17 @@ import planmysem.logic.commands.CommandResult;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.model.Model;
 import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.change.PlannerChangeListener;
 import planmysem.model.recurrence.Recurrence;
+import planmysem.model.recurrence.RecurrenceRule;
 import planmysem.model.semester.Day;
 import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.Semester;
 import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
 import planmysem.testutil.SlotBuilder;
 
 
@@ -122,17 +128,32 @@ public class AddCommandTest {
      */
     private class ModelStub implements Model {
         @Override
-        public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getLastShownList() {
+        public List<SlotRef> getLastShownList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void setLastShownList(List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list) {
+        public Model createSession() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void setLastShownList(Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list) {
+        public ReadWriteLock getLock() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Planner getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLastShownList(List<SlotRef> list) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SlotRefBuffer getQueryBuffer() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -146,7 +167,32 @@ public class AddCommandTest {
         }
 
         @Override
-        public Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> getLastShownItem(int index) {
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addChangeListener(PlannerChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeChangeListener(PlannerChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getTransactionDepth() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SlotRef getLastShownItem(int index) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -160,13 +206,23 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<LocalDate, Day> addSlotSeries(Slot slot, RecurrenceRule rule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeSlots(Collection<SlotRef> slots) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void removeSlot(LocalDate date, ReadOnlySlot slot) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void removeSlot(Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot) {
+        public void removeSlot(SlotRef slot) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -177,6 +233,12 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void editSlots(Set<String> targetTags, LocalTime startTime, int duration, String name,
+                              String location, String description, Set<String> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearSlots() {
             throw new AssertionError("This method should not be called.");
@@ -198,7 +260,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> getSlots(Set<String> tags) {
+        public List<SlotRef> getSlots(Set<String> tags) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -222,6 +284,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PlannerHistory getHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean equals(Object obj) {
             throw new AssertionError("This method should not be called.");
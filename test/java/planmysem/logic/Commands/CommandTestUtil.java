@@ -6,7 +6,6 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
-import javafx.util.Pair;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.Command;
 import planmysem.logic.commands.CommandResult;
@@ -15,6 +14,7 @@ import planmysem.model.Model;
 import planmysem.model.Planner;
 import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 
 /**
  * Contains helper methods for testing commands.
@@ -61,7 +61,7 @@ class CommandTestUtil {
             String expectedMessage) {
         Planner expectedPlanner = new Planner(actualModel.getPlanner());
         actualModel.getDays();
-        List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> expectedLastShownList =
+        List<SlotRef> expectedLastShownList =
                 new ArrayList<>(actualModel.getLastShownList());
 
         CommandHistory expectedCommandHistory = new CommandHistory(actualCommandHistory);
@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -27,8 +26,7 @@ import planmysem.logic.commands.DeleteCommand;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 import planmysem.testutil.SlotBuilder;
 
 public class DeleteCommandTest {
@@ -37,10 +35,10 @@ public class DeleteCommandTest {
     public ExpectedException thrown = ExpectedException.none();
     private Model model;
     private Model expectedModel;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair1;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair2;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair3;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair4;
+    private SlotRef pair1;
+    private SlotRef pair2;
+    private SlotRef pair3;
+    private SlotRef pair4;
     private CommandHistory commandHistory = new CommandHistory();
     private SlotBuilder slotBuilder = new SlotBuilder();
 
@@ -50,52 +48,20 @@ public class DeleteCommandTest {
 
         // Create typical planner
         model = new ModelManager();
-        pair1 = new Pair<>(
-                LocalDate.of(2019, 02, 01),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.FRIDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(1)
-                )
-        );
-        pair2 = new Pair<>(
-                LocalDate.of(2019, 02, 02),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SATURDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(2)
-                )
-        );
-        pair3 = new Pair<>(
-                LocalDate.of(2019, 02, 03),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SUNDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair4 = new Pair<>(
-                LocalDate.of(2019, 02, 04),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
+        pair1 = new SlotRef(LocalDate.of(2019, 02, 01), new Day(DayOfWeek.FRIDAY, "Week 3"),
+                slotBuilder.generateSlot(1), 1);
+        pair2 = new SlotRef(LocalDate.of(2019, 02, 02), new Day(DayOfWeek.SATURDAY, "Week 3"),
+                slotBuilder.generateSlot(2), 2);
+        pair3 = new SlotRef(LocalDate.of(2019, 02, 03), new Day(DayOfWeek.SUNDAY, "Week 3"),
+                slotBuilder.generateSlot(3), 3);
+        pair4 = new SlotRef(LocalDate.of(2019, 02, 04), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.generateSlot(3), 4);
         model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
         model.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
         model.addSlot(LocalDate.of(2019, 02, 03), slotBuilder.generateSlot(3));
         model.addSlot(LocalDate.of(2019, 02, 04), slotBuilder.generateSlot(3));
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list = new ArrayList<>();
+        final List<SlotRef> list = new ArrayList<>();
         list.add(pair1);
         list.add(pair2);
         list.add(pair3);
@@ -119,10 +85,10 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_validTag_success() {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
         selectedSlots.add(pair4);
         selectedSlots.add(pair3);
-        Set<String> tags = pair4.getValue().getValue().getTags();
+        Set<String> tags = pair4.getSlot().getTags();
         DeleteCommand deleteCommand = new DeleteCommand(tags);
 
         String expectedMessage = String.format(MESSAGE_SUCCESS,
@@ -138,8 +104,8 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_validIndex_success() {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-        Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot = model.getLastShownItem(1);
+        final List<SlotRef> selectedSlots = new ArrayList<>();
+        SlotRef slot = model.getLastShownItem(1);
         selectedSlots.add(slot);
         DeleteCommand deleteCommand = new DeleteCommand(1);
 
@@ -155,7 +121,7 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_invalidTag_throwsCommandException() {
-        Set<String> tags = pair4.getValue().getValue().getTags();
+        Set<String> tags = pair4.getSlot().getTags();
         DeleteCommand deleteCommand = new DeleteCommand(tags);
 
         String expectedMessage = String.format(MESSAGE_SUCCESS_NO_CHANGE,
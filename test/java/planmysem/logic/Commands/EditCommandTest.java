@@ -16,7 +16,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,8 +27,7 @@ import planmysem.logic.commands.EditCommand;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 import planmysem.testutil.SlotBuilder;
 
 public class EditCommandTest {
@@ -37,10 +35,10 @@ public class EditCommandTest {
     public ExpectedException thrown = ExpectedException.none();
     private Model model;
     private Model expectedModel;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair1;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair2;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair3;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair4;
+    private SlotRef pair1;
+    private SlotRef pair2;
+    private SlotRef pair3;
+    private SlotRef pair4;
     private CommandHistory commandHistory = new CommandHistory();
     private SlotBuilder slotBuilder = new SlotBuilder();
 
@@ -50,56 +48,24 @@ public class EditCommandTest {
 
         // Create typical planner
         model = new ModelManager();
-        pair1 = new Pair<>(
-                LocalDate.of(2019, 02, 01),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.FRIDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(1)
-                )
-        );
-        pair2 = new Pair<>(
-                LocalDate.of(2019, 02, 02),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SATURDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(2)
-                )
-        );
-        pair3 = new Pair<>(
-                LocalDate.of(2019, 02, 03),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SUNDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair4 = new Pair<>(
-                LocalDate.of(2019, 02, 04),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
+        pair1 = new SlotRef(LocalDate.of(2019, 02, 01), new Day(DayOfWeek.FRIDAY, "Week 3"),
+                slotBuilder.generateSlot(1), 1);
+        pair2 = new SlotRef(LocalDate.of(2019, 02, 02), new Day(DayOfWeek.SATURDAY, "Week 3"),
+                slotBuilder.generateSlot(2), 2);
+        pair3 = new SlotRef(LocalDate.of(2019, 02, 03), new Day(DayOfWeek.SUNDAY, "Week 3"),
+                slotBuilder.generateSlot(3), 3);
+        pair4 = new SlotRef(LocalDate.of(2019, 02, 04), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.generateSlot(3), 4);
         model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
         model.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
         model.addSlot(LocalDate.of(2019, 02, 03), slotBuilder.generateSlot(3));
         model.addSlot(LocalDate.of(2019, 02, 04), slotBuilder.generateSlot(3));
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> list = new ArrayList<>();
-        list.add(new Pair<>(pair1.getKey(), pair1.getValue()));
-        list.add(new Pair<>(pair2.getKey(), pair2.getValue()));
-        list.add(new Pair<>(pair3.getKey(), pair3.getValue()));
-        list.add(new Pair<>(pair4.getKey(), pair4.getValue()));
+        final List<SlotRef> list = new ArrayList<>();
+        list.add(pair1);
+        list.add(pair2);
+        list.add(pair3);
+        list.add(pair4);
         model.setLastShownList(list);
 
         expectedModel = new ModelManager();
@@ -113,10 +79,10 @@ public class EditCommandTest {
 
     @Test
     public void execute_validTag_success() {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-        selectedSlots.add(new Pair<>(pair4.getKey(), pair4.getValue()));
-        selectedSlots.add(new Pair<>(pair3.getKey(), pair3.getValue()));
-        Set<String> selectTags = pair3.getValue().getValue().getTags();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
+        selectedSlots.add(pair4);
+        selectedSlots.add(pair3);
+        Set<String> selectTags = pair3.getSlot().getTags();
 
         // values to edit
         String name = "new name";
@@ -143,8 +109,8 @@ public class EditCommandTest {
                 messageSelected, messageSlots);
 
         expectedModel.editSlot(
-                pair3.getKey(),
-                pair3.getValue().getValue(),
+                pair3.getDate(),
+                pair3.getSlot(),
                 null,
                 startTime,
                 duration,
@@ -155,8 +121,8 @@ public class EditCommandTest {
         );
 
         expectedModel.editSlot(
-                pair4.getKey(),
-                pair4.getValue().getValue(),
+                pair4.getDate(),
+                pair4.getSlot(),
                 null,
                 startTime,
                 duration,
@@ -226,8 +192,8 @@ public class EditCommandTest {
 
     @Test
     public void execute_validIndex_success() {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-        Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot = model.getLastShownItem(1);
+        final List<SlotRef> selectedSlots = new ArrayList<>();
+        SlotRef slot = model.getLastShownItem(1);
         selectedSlots.add(slot);
 
         // values to edit
@@ -257,8 +223,8 @@ public class EditCommandTest {
                 messageSelected, messageSlots);
 
         expectedModel.editSlot(
-                pair1.getKey(),
-                pair1.getValue().getValue(),
+                pair1.getDate(),
+                pair1.getSlot(),
                 date,
                 startTime,
                 duration,
@@ -274,9 +240,9 @@ public class EditCommandTest {
 
     @Test
     public void execute_validIndexEmptyValues_success() {
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
-        Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> slot = model.getLastShownItem(1);
-        selectedSlots.add(new Pair<>(slot.getKey(), slot.getValue()));
+        final List<SlotRef> selectedSlots = new ArrayList<>();
+        SlotRef slot = model.getLastShownItem(1);
+        selectedSlots.add(slot);
 
         // values to edit
         String name = "";
@@ -305,8 +271,8 @@ public class EditCommandTest {
                 messageSelected, messageSlots);
 
         expectedModel.editSlot(
-                pair1.getKey(),
-                pair1.getValue().getValue(),
+                pair1.getDate(),
+                pair1.getSlot(),
                 date,
                 startTime,
                 duration,
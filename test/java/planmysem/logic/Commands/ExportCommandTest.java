@@ -68,7 +68,7 @@ public class ExportCommandTest {
                 + "SUMMARY:slot 3\r\n"
                 + "LOCATION:location 3\r\n"
                 + "DESCRIPTION:description 3\r\n"
-                + "X-TAGS:tag4,tag3,\r\n"
+                + "X-TAGS:tag3,tag4,\r\n"
                 + "END:VEVENT\r\n"
                 + "BEGIN:VEVENT\r\n"
                 + "DTSTART:20190203T000000\r\n"
@@ -76,7 +76,7 @@ public class ExportCommandTest {
                 + "SUMMARY:slot 3\r\n"
                 + "LOCATION:location 3\r\n"
                 + "DESCRIPTION:description 3\r\n"
-                + "X-TAGS:tag4,tag3,\r\n"
+                + "X-TAGS:tag3,tag4,\r\n"
                 + "END:VEVENT\r\n"
                 + "BEGIN:VEVENT\r\n"
                 + "DTSTART:20190202T000000\r\n"
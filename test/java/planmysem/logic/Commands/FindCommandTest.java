@@ -18,10 +18,8 @@ import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.regex.Pattern;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,21 +37,21 @@ import planmysem.logic.parser.exceptions.ParseException;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.WeightedName;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
 import planmysem.testutil.SlotBuilder;
 
 public class FindCommandTest {
     private Model model;
     private Model expectedModel;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair1;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair2;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair3;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair4;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair5;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair6;
+    private SlotRef pair1;
+    private SlotRef pair2;
+    private SlotRef pair3;
+    private SlotRef pair4;
+    private SlotRef pair5;
+    private SlotRef pair6;
 
     private CommandHistory commandHistory = new CommandHistory();
 
@@ -71,66 +69,18 @@ public class FindCommandTest {
         Clock.set("2019-01-14T10:00:00Z");
         // Create typical planner
         model = new ModelManager();
-        pair1 = new Pair<>(
-                LocalDate.of(2019, 02, 01),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.FRIDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(1)
-                )
-        );
-        pair2 = new Pair<>(
-                LocalDate.of(2019, 02, 02),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SATURDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(2)
-                )
-        );
-        pair3 = new Pair<>(
-                LocalDate.of(2019, 02, 03),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SUNDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair4 = new Pair<>(
-                LocalDate.of(2019, 02, 04),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair5 = new Pair<>(
-                LocalDate.of(2019, 02, 05),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.slotOne()
-                )
-        );
-        pair6 = new Pair<>(
-                LocalDate.of(2019, 02, 05),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.slotTwo()
-                )
-        );
+        pair1 = new SlotRef(LocalDate.of(2019, 02, 01), new Day(DayOfWeek.FRIDAY, "Week 3"),
+                slotBuilder.generateSlot(1), 1);
+        pair2 = new SlotRef(LocalDate.of(2019, 02, 02), new Day(DayOfWeek.SATURDAY, "Week 3"),
+                slotBuilder.generateSlot(2), 2);
+        pair3 = new SlotRef(LocalDate.of(2019, 02, 03), new Day(DayOfWeek.SUNDAY, "Week 3"),
+                slotBuilder.generateSlot(3), 3);
+        pair4 = new SlotRef(LocalDate.of(2019, 02, 04), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.generateSlot(3), 4);
+        pair5 = new SlotRef(LocalDate.of(2019, 02, 05), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.slotOne(), 5);
+        pair6 = new SlotRef(LocalDate.of(2019, 02, 05), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.slotTwo(), 6);
 
         model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
         model.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
@@ -139,13 +89,13 @@ public class FindCommandTest {
         model.addSlot(LocalDate.of(2019, 02, 05), slotBuilder.slotOne());
         model.addSlot(LocalDate.of(2019, 02, 05), slotBuilder.slotTwo());
 
-        Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list = new TreeMap<>();
-        list.put(pair6.getKey(), pair6.getValue());
-        list.put(pair5.getKey(), pair5.getValue());
-        list.put(pair4.getKey(), pair4.getValue());
-        list.put(pair3.getKey(), pair3.getValue());
-        list.put(pair2.getKey(), pair2.getValue());
-        list.put(pair1.getKey(), pair1.getValue());
+        List<SlotRef> list = new ArrayList<>();
+        list.add(pair1);
+        list.add(pair2);
+        list.add(pair3);
+        list.add(pair4);
+        list.add(pair5);
+        list.add(pair6);
 
         model.setLastShownList(list);
 
@@ -286,7 +236,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
     }
 
     @Test
@@ -335,7 +285,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
             assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                    Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                    Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
     }
 
     @Test
@@ -380,7 +330,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
     }
 
     @Test
@@ -430,7 +380,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
     }
 
     @Test
@@ -524,7 +474,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
 
     }
 
@@ -574,7 +524,7 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
     }
 
     @Test
@@ -619,6 +569,17 @@ public class FindCommandTest {
             selectedSlots.add(weightedNames.poll());
         }
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessageWeighted(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(toSlotRefs(selectedSlots))), commandResult.toText());
+    }
+
+    /**
+     * Returns references to the slots of {@code weightedNames}, in the same order.
+     */
+    private static List<SlotRef> toSlotRefs(List<WeightedName> weightedNames) {
+        SlotRefBuffer slotRefs = new SlotRefBuffer();
+        for (WeightedName weightedName : weightedNames) {
+            slotRefs.add(weightedName.getDate(), weightedName.getMap().getValue(), weightedName.getSlot());
+        }
+        return slotRefs;
     }
 }
@@ -1,5 +1,7 @@
 package planmysem.logic.Commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static planmysem.logic.Commands.CommandTestUtil.assertCommandFailure;
 import static planmysem.logic.Commands.CommandTestUtil.assertCommandSuccess;
 
@@ -48,6 +50,7 @@ public class ImportCommandTest {
         expectedModel.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
         expectedModel.addSlot(LocalDate.of(2019, 02, 03), slotBuilder.generateSlot(3));
         expectedModel.addSlot(LocalDate.of(2019, 02, 04), slotBuilder.generateSlot(3));
+        expectedModel.commit();
         expectedModel.setLastShownList(model.getLastShownList());
 
         //create test file with all valid events
@@ -162,4 +165,41 @@ public class ImportCommandTest {
         assertCommandFailure(new ImportCommand(tempFolderPath + "/FileDoesNotExist.ics"), model,
                 commandHistory, expectedMessage);
     }
+
+    //test for a malformed event, after which earlier changes can still be undone
+    @Test
+    public void execute_malformedEvent_rolledBackAndUndoable() throws Exception {
+        File malformed = tempFolder.newFile("Malformed.ics");
+        FileWriter fileWriter = new FileWriter(malformed);
+        fileWriter.write("BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART:20190204T000000\r\n"
+                + "DTEND:20190204T000000\r\n"
+                + "SUMMARY:slot 1\r\n"
+                + "DESCRIPTION:\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART:2019-02-05\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n");
+        fileWriter.close();
+        model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
+        model.commit();
+
+        assertCommandFailure(new ImportCommand(tempFolderPath + "/Malformed.ics"), model,
+                commandHistory, ImportCommand.MESSAGE_ERROR_IN_READING_FILE);
+        assertEquals(0, model.getTransactionDepth());
+        assertTrue(model.canUndo());
+        model.undo();
+        assertEquals(new ModelManager().getPlanner().getSemester(), model.getPlanner().getSemester());
+    }
+
+    //test for an import interrupted to cancel it
+    @Test
+    public void execute_interrupted_importsNothing() {
+        Thread.currentThread().interrupt();
+        assertCommandFailure(new ImportCommand(tempFolderPath + "/ImportTest.ics"), model,
+                commandHistory, ImportCommand.MESSAGE_CANCELLED);
+        assertEquals(0, model.getTransactionDepth());
+    }
 }
@@ -15,9 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -32,18 +30,17 @@ import planmysem.logic.parser.exceptions.ParseException;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
 import planmysem.testutil.SlotBuilder;
 
 public class ListCommandTest {
     private Model model;
     private Model expectedModel;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair1;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair2;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair3;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair4;
+    private SlotRef pair1;
+    private SlotRef pair2;
+    private SlotRef pair3;
+    private SlotRef pair4;
     private CommandHistory commandHistory = new CommandHistory();
     private SlotBuilder slotBuilder = new SlotBuilder();
 
@@ -55,56 +52,24 @@ public class ListCommandTest {
         Clock.set("2019-01-14T10:00:00Z");
         // Create typical planner
         model = new ModelManager();
-        pair1 = new Pair<>(
-                LocalDate.of(2019, 02, 01),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.FRIDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(1)
-                )
-        );
-        pair2 = new Pair<>(
-                LocalDate.of(2019, 02, 02),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SATURDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(2)
-                )
-        );
-        pair3 = new Pair<>(
-                LocalDate.of(2019, 02, 03),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SUNDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair4 = new Pair<>(
-                LocalDate.of(2019, 02, 04),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
+        pair1 = new SlotRef(LocalDate.of(2019, 02, 01), new Day(DayOfWeek.FRIDAY, "Week 3"),
+                slotBuilder.generateSlot(1), 1);
+        pair2 = new SlotRef(LocalDate.of(2019, 02, 02), new Day(DayOfWeek.SATURDAY, "Week 3"),
+                slotBuilder.generateSlot(2), 2);
+        pair3 = new SlotRef(LocalDate.of(2019, 02, 03), new Day(DayOfWeek.SUNDAY, "Week 3"),
+                slotBuilder.generateSlot(3), 3);
+        pair4 = new SlotRef(LocalDate.of(2019, 02, 04), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.generateSlot(3), 4);
         model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
         model.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
         model.addSlot(LocalDate.of(2019, 02, 03), slotBuilder.generateSlot(3));
         model.addSlot(LocalDate.of(2019, 02, 04), slotBuilder.generateSlot(3));
 
-        Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list = new TreeMap<>();
-        list.put(pair4.getKey(), pair4.getValue());
-        list.put(pair3.getKey(), pair3.getValue());
-        list.put(pair2.getKey(), pair2.getValue());
-        list.put(pair1.getKey(), pair1.getValue());
+        List<SlotRef> list = new ArrayList<>();
+        list.add(pair1);
+        list.add(pair2);
+        list.add(pair3);
+        list.add(pair4);
         model.setLastShownList(list);
 
         expectedModel = new ModelManager();
@@ -167,6 +132,16 @@ public class ListCommandTest {
         assertEquals(actualListCommand.getKeyword(), expectedListCommand.getKeyword());
     }
 
+    @Test
+    public void execute_parseOptionAt() throws ParseException {
+        ListCommandParser listCommandParser = new ListCommandParser();
+
+        ListCommand actualListCommand = listCommandParser.parse("n/CS2113T Tutorial --at 2");
+
+        assertEquals("CS2113T Tutorial", actualListCommand.getKeyword());
+        assertEquals(2, actualListCommand.getNoOfChangesAgo());
+    }
+
     /**
      * Constructor Tests
      */
@@ -206,59 +181,59 @@ public class ListCommandTest {
     }
 
     @Test
-    public void execute_slotAcceptedByModel_ListNameSuccessful() {
+    public void execute_slotAcceptedByModel_ListNameSuccessful() throws Exception {
         CommandResult commandResult = new ListCommand(slotBuilder.generateSlot(1).getName(), null).execute(model, commandHistory);
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
             for (Slot slot : entry.getValue().getSlots()) {
                 if (slot.getName().equalsIgnoreCase(slotBuilder.generateSlot(1).getName())) {
-                    selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                    selectedSlots.add(new SlotRef(entry.getKey(), entry.getValue(), slot, selectedSlots.size() + 1));
                 }
             }
         }
 
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessage(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(selectedSlots)), commandResult.toText());
     }
 
     @Test
-    public void execute_slotAcceptedByModel_ListTagSuccessful() {
+    public void execute_slotAcceptedByModel_ListTagSuccessful() throws Exception {
         Set<String> tags = slotBuilder.generateSlot(1).getTags();
         String tagToTest = tags.iterator().next();
 
         CommandResult commandResult = new ListCommand(null, tagToTest).execute(model, commandHistory);
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
             for (Slot slot : entry.getValue().getSlots()) {
                 Set<String> tagSet = slot.getTags();
                 for (String tag : tagSet) {
                     if (tag.equalsIgnoreCase(tagToTest)) {
-                        selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                        selectedSlots.add(new SlotRef(entry.getKey(), entry.getValue(), slot, selectedSlots.size() + 1));
                     }
                 }
             }
         }
 
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessage(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(selectedSlots)), commandResult.toText());
     }
 
     @Test
-    public void execute_slotAcceptedByModel_ListNameNotFound() {
+    public void execute_slotAcceptedByModel_ListNameNotFound() throws Exception {
         String nameToTest = slotBuilder.generateSlot(1).getName().concat("NotTheSame");
 
         CommandResult commandResult = new ListCommand(nameToTest, null).execute(model, commandHistory);
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
             for (Slot slot : entry.getValue().getSlots()) {
                 if (slot.getName().equalsIgnoreCase(nameToTest)) {
-                    selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                    selectedSlots.add(new SlotRef(entry.getKey(), entry.getValue(), slot, selectedSlots.size() + 1));
                 }
             }
         }
@@ -266,21 +241,21 @@ public class ListCommandTest {
     }
 
     @Test
-    public void execute_slotAcceptedByModel_ListTagNotFound() {
+    public void execute_slotAcceptedByModel_ListTagNotFound() throws Exception {
         Set<String> tags = slotBuilder.generateSlot(1).getTags();
         String tagToTest = tags.iterator().next();
         tagToTest = tagToTest.concat("NotTheSame");
 
         CommandResult commandResult = new ListCommand(null, tagToTest).execute(model, commandHistory);
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
             for (Slot slot : entry.getValue().getSlots()) {
                 Set<String> tagSet = slot.getTags();
                 for (String tag : tagSet) {
                     if (tag.equalsIgnoreCase(tagToTest)) {
-                        selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                        selectedSlots.add(new SlotRef(entry.getKey(), entry.getValue(), slot, selectedSlots.size() + 1));
                     }
                 }
             }
@@ -289,20 +264,20 @@ public class ListCommandTest {
     }
 
     @Test
-    public void execute_listAll() {
+    public void execute_listAll() throws Exception {
 
         CommandResult commandResult = new ListCommand().execute(model, commandHistory);
 
-        final List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> selectedSlots = new ArrayList<>();
+        final List<SlotRef> selectedSlots = new ArrayList<>();
 
         for (Map.Entry<LocalDate, Day> entry : model.getDays().entrySet()) {
             for (Slot slot : entry.getValue().getSlots()) {
-                selectedSlots.add(new Pair<>(entry.getKey(), new Pair<>(entry.getValue(), slot)));
+                selectedSlots.add(new SlotRef(entry.getKey(), entry.getValue(), slot, selectedSlots.size() + 1));
             }
         }
-        selectedSlots.sort((p1, p2) -> p1.getKey().compareTo(p2.getKey()));
+        selectedSlots.sort(SlotRef.BY_DATE);
         assertEquals(String.format(MESSAGE_SUCCESS, selectedSlots.size(),
-                Messages.craftListMessage(selectedSlots)), commandResult.getFeedbackToUser());
+                Messages.craftListMessage(selectedSlots)), commandResult.toText());
     }
 }
 
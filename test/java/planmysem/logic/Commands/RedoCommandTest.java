@@ -1,7 +1,6 @@
 //@@author marcus-pzj
 package planmysem.logic.Commands;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,29 +18,27 @@ import static planmysem.logic.Commands.CommandTestUtil.assertCommandFailure;
 import static planmysem.logic.Commands.CommandTestUtil.assertCommandSuccess;
 
 import planmysem.logic.parser.ParserManager;
-import planmysem.logic.parser.exceptions.ParseException;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.recurrence.Recurrence;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
+import planmysem.model.slot.SlotRef;
 import planmysem.testutil.SlotBuilder;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
 
 public class RedoCommandTest {
     private Model model;
     private Model expectedModel;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair1;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair2;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair3;
-    private Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> pair4;
+    private SlotRef pair1;
+    private SlotRef pair2;
+    private SlotRef pair3;
+    private SlotRef pair4;
     private CommandHistory commandHistory = new CommandHistory();
 
     private SlotBuilder slotBuilder = new SlotBuilder();
@@ -54,56 +51,24 @@ public class RedoCommandTest {
         Clock.set("2019-01-14T10:00:00Z");
         // Create typical planner
         model = new ModelManager();
-        pair1 = new Pair<>(
-                LocalDate.of(2019, 02, 01),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.FRIDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(1)
-                )
-        );
-        pair2 = new Pair<>(
-                LocalDate.of(2019, 02, 02),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SATURDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(2)
-                )
-        );
-        pair3 = new Pair<>(
-                LocalDate.of(2019, 02, 03),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.SUNDAY,
-                                "Week 3"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
-        pair4 = new Pair<>(
-                LocalDate.of(2019, 02, 04),
-                new Pair<>(
-                        new Day(
-                                DayOfWeek.MONDAY,
-                                "Week 4"
-                        ),
-                        slotBuilder.generateSlot(3)
-                )
-        );
+        pair1 = new SlotRef(LocalDate.of(2019, 02, 01), new Day(DayOfWeek.FRIDAY, "Week 3"),
+                slotBuilder.generateSlot(1), 1);
+        pair2 = new SlotRef(LocalDate.of(2019, 02, 02), new Day(DayOfWeek.SATURDAY, "Week 3"),
+                slotBuilder.generateSlot(2), 2);
+        pair3 = new SlotRef(LocalDate.of(2019, 02, 03), new Day(DayOfWeek.SUNDAY, "Week 3"),
+                slotBuilder.generateSlot(3), 3);
+        pair4 = new SlotRef(LocalDate.of(2019, 02, 04), new Day(DayOfWeek.MONDAY, "Week 4"),
+                slotBuilder.generateSlot(3), 4);
         model.addSlot(LocalDate.of(2019, 02, 01), slotBuilder.generateSlot(1));
         model.addSlot(LocalDate.of(2019, 02, 02), slotBuilder.generateSlot(2));
         model.addSlot(LocalDate.of(2019, 02, 03), slotBuilder.generateSlot(3));
         model.addSlot(LocalDate.of(2019, 02, 04), slotBuilder.generateSlot(3));
 
-        Map<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>> list = new TreeMap<>();
-        list.put(pair4.getKey(), pair4.getValue());
-        list.put(pair3.getKey(), pair3.getValue());
-        list.put(pair2.getKey(), pair2.getValue());
-        list.put(pair1.getKey(), pair1.getValue());
+        List<SlotRef> list = new ArrayList<>();
+        list.add(pair1);
+        list.add(pair2);
+        list.add(pair3);
+        list.add(pair4);
         model.setLastShownList(list);
 
         expectedModel = model;
@@ -1,27 +1,24 @@
 package planmysem.logic.Commands;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static planmysem.common.Messages.MESSAGE_ILLEGAL_WEEK_VALUE;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.util.Pair;
 import planmysem.common.Clock;
 import planmysem.logic.CommandHistory;
 import planmysem.logic.commands.CommandResult;
 import planmysem.logic.commands.ViewCommand;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
-import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.testutil.SlotBuilder;
 
 public class ViewCommandTest {
@@ -57,25 +54,25 @@ public class ViewCommandTest {
     }
 
     @Test
-    public void execute_displayMonthView_success() {
+    public void execute_displayMonthView_success() throws Exception {
         ViewCommand expectedCommand = new ViewCommand(new String[]{"month"});
         CommandResult expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
 
         ViewCommand actualCommand = new ViewCommand(new String[]{"month"});
         CommandResult actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
     }
 
     @Test
-    public void execute_displayWeekView_success() {
+    public void execute_displayWeekView_success() throws Exception {
         ViewCommand expectedCommand = new ViewCommand(new String[]{"week"});
         CommandResult expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
 
         ViewCommand actualCommand = new ViewCommand(new String[]{"week"});
         CommandResult actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"week", "Examination"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -83,7 +80,7 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"week", "Examination"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"week", "3"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -91,18 +88,28 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"week", "3"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
     }
 
     @Test
-    public void execute_displayDetailedWeekView_success() {
+    public void execute_displayWeekView_weekNotInSemester() throws Exception {
+        // semester 2 has no orientation week
+        ViewCommand command = new ViewCommand(new String[]{"week", "Orientation"});
+        assertEquals(MESSAGE_ILLEGAL_WEEK_VALUE, command.execute(model, commandHistory).getFeedbackToUser());
+
+        command = new ViewCommand(new String[]{"week", "Orientation", "Details"});
+        assertEquals(MESSAGE_ILLEGAL_WEEK_VALUE, command.execute(model, commandHistory).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_displayDetailedWeekView_success() throws Exception {
         ViewCommand expectedCommand = new ViewCommand(new String[]{"week", "Details"});
         CommandResult expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
 
         ViewCommand actualCommand = new ViewCommand(new String[]{"week", "Details"});
         CommandResult actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"week", "Examination", "Details"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -110,7 +117,7 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"week", "Examination", "Details"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"week", "3", "Details"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -118,18 +125,18 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"week", "3", "Details"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
     }
 
     @Test
-    public void execute_displayDayView_success() {
+    public void execute_displayDayView_success() throws Exception {
         ViewCommand expectedCommand = new ViewCommand(new String[]{"day"});
         CommandResult expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
 
         ViewCommand actualCommand = new ViewCommand(new String[]{"day"});
         CommandResult actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"day", "1"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -137,7 +144,7 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"day", "1"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"day", "02-02"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -145,18 +152,31 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"day", "02-02"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
+    }
+
+    @Test
+    public void execute_displayDayView_oneRowPerLine() throws Exception {
+        CommandResult result = new ViewCommand(new String[]{"day", "01-02-2020"}).execute(model, commandHistory);
+
+        List<String> rows = result.getRows().get();
+        assertEquals("SATURDAY , 2020-02-01", rows.get(0));
+        assertTrue(rows.contains("\t" + slotBuilder.slotOne().getName()));
+        for (String row : rows) {
+            assertFalse(row.contains("\n"));
+        }
+        assertEquals(String.join("\n", rows), result.toText());
     }
 
     @Test
-    public void execute_displayDayView_failure() {
+    public void execute_displayDayView_failure() throws Exception {
         ViewCommand expectedCommand = new ViewCommand(new String[]{"day", "29-02"});
         CommandResult expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
 
         ViewCommand actualCommand = new ViewCommand(new String[]{"day", "29-02"});
         CommandResult actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"day", "01-01"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -164,7 +184,7 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"day", "01-01"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
 
         expectedCommand = new ViewCommand(new String[]{"day", "0"});
         expectedCommandResult = expectedCommand.execute(expectedModel, commandHistory);
@@ -172,6 +192,6 @@ public class ViewCommandTest {
         actualCommand = new ViewCommand(new String[]{"day", "0"});
         actualCommandResult = actualCommand.execute(model, commandHistory);
 
-        assertEquals(expectedCommandResult.getFeedbackToUser(), actualCommandResult.getFeedbackToUser());
+        assertEquals(expectedCommandResult.toText(), actualCommandResult.toText());
     }
 }
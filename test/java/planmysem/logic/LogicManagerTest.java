@@ -9,28 +9,30 @@ import java.io.File;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 import planmysem.common.Clock;
+import planmysem.common.Messages;
 import planmysem.logic.commands.CommandResult;
 import planmysem.logic.commands.HistoryCommand;
 import planmysem.logic.commands.ListCommand;
+import planmysem.logic.commands.UndoCommand;
 import planmysem.logic.commands.exceptions.CommandException;
 import planmysem.logic.parser.exceptions.ParseException;
+import planmysem.logic.stats.LatencyHistogram;
+import planmysem.logic.stats.PerformanceStats;
+import planmysem.logic.stats.PerformanceStats.Phase;
 import planmysem.model.Model;
 import planmysem.model.ModelManager;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
 import planmysem.storage.StorageFile;
 import planmysem.testutil.SlotBuilder;
 
@@ -82,20 +84,18 @@ public class LogicManagerTest {
         logic.execute(cmd);
         logic.execute("list n/CS2113T Tutorial");
 
-        List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> lastShownSlots
+        List<SlotRef> lastShownSlots
                 = new ArrayList<>();
         Day day = new Day(DayOfWeek.TUESDAY, "Week 1");
         day.addSlot(slot);
-        lastShownSlots.add(new Pair<>(LocalDate.of(2019, 1, 15),
-                new Pair<>(day, new SlotBuilder().slotOne())));
+        lastShownSlots.add(new SlotRef(LocalDate.of(2019, 1, 15), day, new SlotBuilder().slotOne(), 1));
 
         assertEquals(logic.getLastShownSlots(), lastShownSlots);
     }
 
     @Test
     public void getHistory() throws Exception {
-        ObservableList<String> expectedHistory =
-                FXCollections.observableArrayList();
+        List<String> expectedHistory = new ArrayList<>();
 
         Slot slot = new SlotBuilder().slotOne();
         String cmd = SlotBuilder.generateAddCommand(slot, 2, "");
@@ -122,6 +122,83 @@ public class LogicManagerTest {
         assertNotEquals(logic.getHistory(), null);
     }
 
+    @Test
+    public void execute_listAtEarlierState_liveStateAndLastShownListUnchanged() throws Exception {
+        Slot slot = new SlotBuilder().slotOne();
+        logic.execute(SlotBuilder.generateAddCommand(slot, 2, ""));
+        logic.execute("list all");
+        List<SlotRef> lastShownSlots = logic.getLastShownSlots();
+        logic.execute(SlotBuilder.generateAddCommand(slot, 3, ""));
+
+        CommandResult result = logic.execute("list all --at 1");
+        assertEquals(String.format(Messages.MESSAGE_PLANNER_AT, 1)
+                + String.format(ListCommand.MESSAGE_SUCCESS, 1, ""), result.feedbackToUser);
+        assertEquals(lastShownSlots, logic.getLastShownSlots());
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, 2, ""),
+                logic.execute("list all").feedbackToUser);
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(Messages.MESSAGE_HISTORY_TOO_SHORT, 2));
+        logic.execute("view month --at 3");
+    }
+
+    @Test
+    public void execute_undoAfterRestart_undoesCommandOfPreviousRun() throws Exception {
+        Slot slot = new SlotBuilder().slotOne();
+        logic.execute(SlotBuilder.generateAddCommand(slot, 2, ""));
+
+        Logic restarted = new LogicManager(new StorageFile(storageFile.getPath()));
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, restarted.execute("undo").feedbackToUser);
+        assertEquals(0, new StorageFile(storageFile.getPath()).load().getDays().values().stream()
+                .mapToInt(day -> day.getSlots().size()).sum());
+
+        thrown.expect(CommandException.class);
+        restarted.execute("undo");
+    }
+
+    @Test
+    public void close_sessionClosed_plannerStillUsable() throws Exception {
+        Slot slot = new SlotBuilder().slotOne();
+        logic.execute(SlotBuilder.generateAddCommand(slot, 2, ""));
+        ((LogicManager) logic).createSession().close();
+        logic.execute(SlotBuilder.generateAddCommand(slot, 2, ""));
+        ((LogicManager) logic).close();
+
+        Logic restarted = new LogicManager(new StorageFile(storageFile.getPath()));
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, restarted.execute("undo").feedbackToUser);
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, restarted.execute("undo").feedbackToUser);
+    }
+
+    @Test
+    public void createSession_concurrentSessions_shareOnePlanner() throws Exception {
+        String cmd = SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "");
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 4; i++) {
+            LogicManager session = ((LogicManager) logic).createSession();
+            threads.add(new Thread(() -> {
+                try {
+                    for (int j = 0; j < 5; j++) {
+                        session.execute(cmd);
+                        session.execute("list n/CS2113T Tutorial");
+                    }
+                } catch (CommandException | ParseException | RuntimeException e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(Collections.emptyList(), failures);
+        logic.execute("list n/CS2113T Tutorial");
+        assertEquals(20, logic.getLastShownSlots().size());
+        assertEquals(1, logic.getHistory().size());
+    }
 
     @Test
     public void execute_commandExecutionError_throwsCommandException() {
@@ -171,6 +248,31 @@ public class LogicManagerTest {
         assertCommandBehavior(expectedException, inputCommand, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_recordsLatencyOfEveryPhase() throws Exception {
+        long noOfParses = countLatencies("add", Phase.PARSE);
+        long noOfExecutions = countLatencies("add", Phase.EXECUTE);
+        long noOfSaves = countLatencies("add", Phase.SAVE);
+        long noOfUnparsed = countLatencies(PerformanceStats.UNPARSED, Phase.PARSE);
+
+        logic.execute(SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, ""));
+        try {
+            logic.execute("add");
+        } catch (ParseException pe) {
+            // counted as unparsed input
+        }
+
+        assertEquals(noOfParses + 1, countLatencies("add", Phase.PARSE));
+        assertEquals(noOfExecutions + 1, countLatencies("add", Phase.EXECUTE));
+        assertEquals(noOfSaves + 1, countLatencies("add", Phase.SAVE));
+        assertEquals(noOfUnparsed + 1, countLatencies(PerformanceStats.UNPARSED, Phase.PARSE));
+    }
+
+    private static long countLatencies(String commandWord, Phase phase) {
+        LatencyHistogram histogram = PerformanceStats.getInstance().getHistogram(commandWord, phase);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
     /**
      * Executes the command, confirms that the result message is correct and that the expected exception is thrown,
      * and also confirms that the following two parts of the LogicManager object's state are as expected:<br>
@@ -18,6 +18,7 @@ import planmysem.logic.commands.DeleteCommand;
 import planmysem.logic.commands.EditCommand;
 import planmysem.logic.commands.ExitCommand;
 import planmysem.logic.commands.HelpCommand;
+import planmysem.logic.commands.StatsCommand;
 import planmysem.logic.commands.ViewCommand;
 import planmysem.model.recurrence.Recurrence;
 import planmysem.model.slot.Slot;
@@ -164,6 +165,13 @@ public class ParserManagerTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(StatsCommand.Topic.PERF), parser.parseCommand(StatsCommand.COMMAND_WORD + " perf"));
+        assertEquals(new StatsCommand(StatsCommand.Topic.MEMORY),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " memory"));
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         //assertTrue(parser.parseCommand(ViewCommand.COMMAND_WORD) instanceof ViewCommand);
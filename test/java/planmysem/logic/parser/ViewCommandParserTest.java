@@ -1,6 +1,7 @@
 package planmysem.logic.parser;
 
 import static planmysem.common.Messages.MESSAGE_ILLEGAL_WEEK_VALUE;
+import static planmysem.common.Messages.MESSAGE_INVALID_CHANGES_AGO;
 import static planmysem.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static planmysem.common.Messages.MESSAGE_INVALID_DATE_OR_DAY;
 
@@ -156,4 +157,30 @@ public class ViewCommandParserTest {
                 String.format(MESSAGE_INVALID_DATE_OR_DAY, ViewCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_optionAt_success() {
+        assertParseSuccess(parser,
+                "week 7 --at 3",
+                new ViewCommand(new String[]{"week", "7"}, 3));
+
+        assertParseSuccess(parser,
+                "--at 0 month",
+                new ViewCommand(new String[]{"month"}, 0));
+    }
+
+    @Test
+    public void parse_invalidOptionAt_failure() {
+        assertParseFailure(parser,
+                "month --at",
+                MESSAGE_INVALID_CHANGES_AGO);
+
+        assertParseFailure(parser,
+                "month --at -1",
+                MESSAGE_INVALID_CHANGES_AGO);
+
+        assertParseFailure(parser,
+                "--at 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -0,0 +1,48 @@
+package planmysem.logic.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getNanosAtPercentile_noLatencies_zero() {
+        assertEquals(0, new LatencyHistogram().getNanosAtPercentile(99));
+    }
+
+    @Test
+    public void getNanosAtPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getNanosAtPercentile(50));
+        assertEquals(9, histogram.getNanosAtPercentile(90));
+        assertEquals(10, histogram.getNanosAtPercentile(100));
+        assertEquals(5.5, histogram.getMeanNanos(), 0);
+    }
+
+    @Test
+    public void getNanosAtPercentile_largeLatencies_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+        long median = histogram.getNanosAtPercentile(50);
+        assertTrue(median >= 500_000_000 && median <= 500_000_000 * 1.0625);
+        assertEquals(1_000_000_000, histogram.getNanosAtPercentile(100));
+        assertEquals(1_000_000_000, histogram.getMaxNanos());
+        assertEquals(1000, histogram.getCount());
+    }
+
+    @Test
+    public void record_extremeLatencies_counted() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getNanosAtPercentile(100));
+    }
+}
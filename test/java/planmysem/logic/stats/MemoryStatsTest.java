@@ -0,0 +1,66 @@
+package planmysem.logic.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import planmysem.logic.CommandHistory;
+import planmysem.model.ModelManager;
+import planmysem.model.slot.Slot;
+
+public class MemoryStatsTest {
+
+    @Test
+    public void measure_emptyPlanner_onlySemesterCounted() {
+        MemoryStats stats = MemoryStats.measure(new ModelManager(), new CommandHistory());
+
+        assertTrue(stats.getBytes(MemoryStats.STRUCTURE_DAYS) > 0);
+        assertTrue(stats.getBytes(MemoryStats.STRUCTURE_SEMESTER) > 0);
+        assertTrue(stats.getBytes(MemoryStats.STRUCTURE_SLOTS) < stats.getBytes(MemoryStats.STRUCTURE_DAYS));
+        assertTrue(stats.format().startsWith(MemoryStats.TABLE_HEADER));
+    }
+
+    @Test
+    public void measure_slotsAdded_slotsAndHistoryGrow() throws Exception {
+        ModelManager model = new ModelManager();
+        MemoryStats before = MemoryStats.measure(model, new CommandHistory());
+
+        LocalDate date = model.getDays().keySet().iterator().next();
+        for (int i = 0; i < 10; i++) {
+            model.addSlot(date, new Slot("CS2113T Tutorial " + i, "COM2 04-01", "Topic: " + i,
+                    LocalTime.of(8 + i, 0), 60, new HashSet<>(Arrays.asList("CS2113T", "Tutorial"))));
+            model.commit();
+        }
+        model.setLastShownList(model.getSlots(new HashSet<>(Arrays.asList("CS2113T"))));
+        CommandHistory commandHistory = new CommandHistory();
+        commandHistory.add("list n/CS2113T");
+        MemoryStats after = MemoryStats.measure(model, commandHistory);
+
+        assertTrue(after.getBytes(MemoryStats.STRUCTURE_SLOTS) > 10 * 32);
+        assertTrue(after.getBytes(MemoryStats.STRUCTURE_HISTORY)
+                > before.getBytes(MemoryStats.STRUCTURE_HISTORY));
+        assertTrue(after.getBytes(MemoryStats.STRUCTURE_LAST_SHOWN_LIST)
+                > before.getBytes(MemoryStats.STRUCTURE_LAST_SHOWN_LIST));
+        assertTrue(after.getBytes(MemoryStats.STRUCTURE_COMMAND_HISTORY)
+                > before.getBytes(MemoryStats.STRUCTURE_COMMAND_HISTORY));
+        assertTrue(after.format().contains(MemoryStats.STRUCTURE_HISTORY + " (11 states)"));
+    }
+
+    @Test
+    public void measure_sharedObjects_countedOnce() {
+        ObjectSizeEstimator estimator = new ObjectSizeEstimator();
+        List<String> list = Arrays.asList("shared", "shared");
+
+        long listBytes = estimator.measure(list);
+        assertEquals(0, estimator.measure(list));
+        assertEquals(0, estimator.measure(list.get(0)));
+        assertTrue(listBytes > 0);
+    }
+}
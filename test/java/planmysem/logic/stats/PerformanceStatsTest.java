@@ -0,0 +1,37 @@
+package planmysem.logic.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PerformanceStatsTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void dumpRecordingFailure_unwritableFile_failureShownUntilWriteSucceeds() throws Exception {
+        PerformanceStats stats = new PerformanceStats();
+        Path directory = testFolder.newFolder("perf").toPath();
+
+        // a directory cannot be replaced by the dump file
+        Files.createFile(directory.resolve("entry"));
+        stats.dumpRecordingFailure(directory);
+        assertNotNull(stats.getLastDumpFailure());
+        assertTrue(stats.format().startsWith(PerformanceStats.MESSAGE_NO_COMMANDS));
+        assertTrue(stats.format().endsWith(stats.getLastDumpFailure()));
+
+        Path file = testFolder.getRoot().toPath().resolve("perf.txt");
+        stats.dumpRecordingFailure(file);
+        assertNull(stats.getLastDumpFailure());
+        assertEquals(PerformanceStats.MESSAGE_NO_COMMANDS, stats.format());
+        assertTrue(Files.readAllLines(file).contains(PerformanceStats.MESSAGE_NO_COMMANDS));
+    }
+}
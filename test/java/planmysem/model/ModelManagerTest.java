@@ -1,7 +1,10 @@
 package planmysem.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.time.DayOfWeek;
@@ -10,17 +13,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import javafx.util.Pair;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import planmysem.common.Clock;
 import planmysem.model.semester.Day;
-import planmysem.model.semester.ReadOnlyDay;
 import planmysem.model.semester.Semester;
-import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
 import planmysem.testutil.SlotBuilder;
 
 public class ModelManagerTest {
@@ -35,10 +36,9 @@ public class ModelManagerTest {
     @Test
     public void clearLastShownList() {
         ModelManager modelManager = new ModelManager();
-        List<Pair<LocalDate, Pair<ReadOnlyDay, ReadOnlySlot>>> lastShownSlots = new ArrayList<>();
+        List<SlotRef> lastShownSlots = new ArrayList<>();
         Day day = new Day(DayOfWeek.TUESDAY, "Week 1");
-        lastShownSlots.add(new Pair<>(LocalDate.of(2019, 1, 15),
-                new Pair<>(day, new SlotBuilder().slotOne())));
+        lastShownSlots.add(new SlotRef(LocalDate.of(2019, 1, 15), day, new SlotBuilder().slotOne(), 1));
 
         modelManager.setLastShownList(lastShownSlots);
         assertEquals(modelManager.lastShownList, lastShownSlots);
@@ -47,6 +47,52 @@ public class ModelManagerTest {
         assertEquals(modelManager.lastShownList, Collections.EMPTY_LIST);
     }
 
+    @Test
+    public void setLastShownList_queryBuffer_shownWithoutCopying() throws Semester.DateNotFoundException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        List<SlotRef> slots = modelManager.getSlots(Collections.emptySet());
+
+        modelManager.setLastShownList(slots);
+        assertSame(slots, modelManager.getLastShownList());
+
+        // the next query reuses the buffer which was shown before, leaving the shown slots intact
+        assertNotSame(slots, modelManager.getQueryBuffer());
+        assertEquals(1, modelManager.getLastShownList().size());
+    }
+
+    @Test
+    public void addSlot_readLockHeld_throwsIllegalStateException() throws Semester.DateNotFoundException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.getLock().readLock().lock();
+        try {
+            thrown.expect(IllegalStateException.class);
+            modelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        } finally {
+            modelManager.getLock().readLock().unlock();
+        }
+    }
+
+    @Test
+    public void getSlots_writeLockHeldByAnotherSession_waitsForChange() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        ModelManager session = modelManager.createSession();
+        List<Integer> noOfSlots = new ArrayList<>();
+        Thread reader = new Thread(() -> noOfSlots.add(session.getSlots(Collections.emptySet()).size()));
+
+        modelManager.getLock().writeLock().lock();
+        try {
+            reader.start();
+            reader.join(100);
+            assertTrue(reader.isAlive());
+            modelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        } finally {
+            modelManager.getLock().writeLock().unlock();
+        }
+        reader.join();
+        assertEquals(Collections.singletonList(1), noOfSlots);
+    }
+
     @Test
     public void undo() throws Semester.DateNotFoundException {
         ModelManager modelManager = new ModelManager();
@@ -103,4 +149,61 @@ public class ModelManagerTest {
         assertEquals(modelManager, expectedModelManager);
         assertEquals(modelManager.hashCode(), expectedModelManager.hashCode());
     }
+
+    @Test
+    public void transaction_changesUndoneAsOneStep() throws Semester.DateNotFoundException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.beginTransaction();
+        modelManager.beginTransaction();
+        modelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        modelManager.commit();
+        modelManager.addSlot(LocalDate.of(2019, 1, 16), new SlotBuilder().slotTwo());
+        assertFalse(modelManager.canUndo());
+        modelManager.commit();
+
+        assertEquals(0, modelManager.getTransactionDepth());
+        modelManager.undo();
+        assertEquals(new ModelManager().getPlanner().getSemester(), modelManager.getPlanner().getSemester());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void rollback_restoresStateWhenTransactionBegan() throws Semester.DateNotFoundException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        modelManager.commit();
+        ModelManager expectedModelManager = new ModelManager();
+        expectedModelManager.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+
+        modelManager.beginTransaction();
+        modelManager.addSlot(LocalDate.of(2019, 1, 16), new SlotBuilder().slotTwo());
+        modelManager.beginTransaction();
+        modelManager.clearSlots();
+        modelManager.rollback();
+        modelManager.rollback();
+
+        assertEquals(expectedModelManager.getPlanner().getSemester(), modelManager.getPlanner().getSemester());
+        assertEquals(expectedModelManager.getPlanner().getSemester(), modelManager.getSnapshot().getSemester());
+        assertFalse(modelManager.canRedo());
+    }
+
+    @Test
+    public void rollback_noTransaction_throwsNoTransactionException() {
+        thrown.expect(VersionedPlanner.NoTransactionException.class);
+        new ModelManager().rollback();
+    }
+
+    @Test
+    public void createSession_sharesPlannerButNotLastShownList() throws Semester.DateNotFoundException {
+        ModelManager modelManager = new ModelManager();
+        ModelManager session = modelManager.createSession();
+        assertSame(modelManager.getLock(), session.getLock());
+
+        session.addSlot(LocalDate.of(2019, 1, 15), new SlotBuilder().slotOne());
+        assertEquals(1, modelManager.getSlots(Collections.emptySet()).size());
+
+        session.setLastShownList(session.getSlots(Collections.emptySet()));
+        assertEquals(1, session.getLastShownList().size());
+        assertEquals(0, modelManager.getLastShownList().size());
+    }
 }
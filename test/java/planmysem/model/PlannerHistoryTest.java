@@ -0,0 +1,194 @@
+package planmysem.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import planmysem.testutil.SlotBuilder;
+
+public class PlannerHistoryTest {
+    private static final int STATE_BYTES = 100;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final StubPager pager = new StubPager();
+
+    @Test
+    public void add_moreThanMaxStates_oldestForgotten() {
+        PlannerHistory history = new PlannerHistory(new Planner(), 3, 10, Long.MAX_VALUE, null);
+        for (int i = 0; i < 5; i++) {
+            history.add(new Planner());
+        }
+        assertEquals(3, history.size());
+        assertEquals(2, history.getPointer());
+    }
+
+    @Test
+    public void add_moreThanResidentStates_distantStatesPagedOut() {
+        List<Planner> states = addStates(new PlannerHistory(new Planner(), 100, 2, Long.MAX_VALUE, pager), 5);
+        PlannerHistory history = pager.history;
+
+        assertEquals(4, history.getNoOfPagedOutStates());
+        assertNull(history.getResidentState(3));
+        assertSame(states.get(4), history.getResidentState(4));
+        assertSame(states.get(5), history.getResidentState(5));
+        assertEquals(4 * STATE_BYTES, history.getPagedOutBytes(false));
+    }
+
+    @Test
+    public void undo_pagedOutState_pagedBackIn() {
+        List<Planner> states = addStates(new PlannerHistory(new Planner(), 100, 2, Long.MAX_VALUE, pager), 5);
+        PlannerHistory history = pager.history;
+
+        history.undo();
+        assertSame(states.get(3), history.undo());
+        assertSame(states.get(3), history.getResidentState(3));
+        assertNull(history.getResidentState(5));
+        assertEquals(5, pager.noOfPageOuts);
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void add_moreThanMaxPagedOutBytes_oldestForgotten() {
+        addStates(new PlannerHistory(new Planner(), 100, 1, 2 * STATE_BYTES, pager), 5);
+        PlannerHistory history = pager.history;
+
+        assertEquals(3, history.size());
+        assertEquals(2 * STATE_BYTES, history.getPagedOutBytes(false));
+        assertEquals(3, pager.noOfDiscards);
+    }
+
+    @Test
+    public void undo_pageInFails_historyUnchanged() {
+        addStates(new PlannerHistory(new Planner(), 100, 1, Long.MAX_VALUE, pager), 2);
+        PlannerHistory history = pager.history;
+        pager.isFailing = true;
+
+        thrown.expect(PlannerHistory.StateUnavailableException.class);
+        try {
+            history.undo();
+        } finally {
+            assertEquals(2, history.getPointer());
+            assertFalse(history.canRedo());
+        }
+    }
+
+    @Test
+    public void getState_pagedOutState_pagedInOnceWithoutMoving() {
+        List<Planner> states = addStates(new PlannerHistory(new Planner(), 100, 2, Long.MAX_VALUE, pager), 5);
+        PlannerHistory history = pager.history;
+
+        assertSame(states.get(4), history.getState(4));
+        assertSame(states.get(1), history.getState(1));
+        pager.isFailing = true;
+        assertSame(states.get(1), history.getState(1));
+        assertNull(history.getResidentState(1));
+        assertEquals(5, history.getPointer());
+    }
+
+    @Test
+    public void restore_moreThanMaxStates_oldestForgottenAndIdsKept() throws Exception {
+        List<PlannerHistory.Version> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(new PlannerHistory.Version(10 + i, pager.pageOut(new Planner())));
+        }
+        Planner current = new Planner();
+        PlannerHistory history = new PlannerHistory(saved, 3, current, 3, 1, Long.MAX_VALUE, pager);
+
+        assertEquals(3, history.size());
+        assertEquals(1, history.getPointer());
+        assertSame(current, history.getResidentState(1));
+        assertNull(history.getResidentState(0));
+        assertEquals(2, pager.noOfDiscards);
+
+        history.add(new Planner());
+        List<PlannerHistory.Version> versions = history.getVersions();
+        assertEquals(13, versions.get(1).getId());
+        assertEquals(15, versions.get(2).getId());
+    }
+
+    @Test
+    public void restore_currentStateNotSaved_addedAsNewStateAndRedoForgotten() throws Exception {
+        List<PlannerHistory.Version> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            saved.add(new PlannerHistory.Version(10 + i, pager.pageOut(new Planner())));
+        }
+        Planner current = new Planner();
+        current.addSlot(current.getDays().keySet().iterator().next(), new SlotBuilder().slotOne());
+        PlannerHistory history = new PlannerHistory(saved, 1, current, 10, 10, Long.MAX_VALUE, pager);
+
+        assertEquals(3, history.size());
+        assertEquals(2, history.getPointer());
+        assertSame(current, history.getResidentState(2));
+        assertFalse(history.canRedo());
+
+        List<PlannerHistory.Version> versions = history.getVersions();
+        assertEquals(11, versions.get(1).getId());
+        assertEquals(13, versions.get(2).getId());
+    }
+
+    /**
+     * Adds {@code noOfStates} new states to {@code history}, returning every state including the initial one.
+     */
+    private List<Planner> addStates(PlannerHistory history, int noOfStates) {
+        pager.history = history;
+        List<Planner> states = new ArrayList<>();
+        states.add(history.getResidentState(0));
+        for (int i = 0; i < noOfStates; i++) {
+            Planner state = new Planner();
+            history.add(state);
+            states.add(state);
+        }
+        return states;
+    }
+
+    /**
+     * A pager which keeps the states it pages out, counting the states paged out and discarded.
+     */
+    private static class StubPager implements PlannerHistory.Pager {
+        private PlannerHistory history;
+        private int noOfPageOuts;
+        private int noOfDiscards;
+        private boolean isFailing;
+
+        @Override
+        public PlannerHistory.PagedState pageOut(Planner state) {
+            noOfPageOuts++;
+            return new PlannerHistory.PagedState() {
+                @Override
+                public Planner pageIn() throws IOException {
+                    if (isFailing) {
+                        throw new IOException("failed");
+                    }
+                    return state;
+                }
+
+                @Override
+                public long getBytes() {
+                    return STATE_BYTES;
+                }
+
+                @Override
+                public boolean isOnDisk() {
+                    return false;
+                }
+
+                @Override
+                public void discard() {
+                    noOfDiscards++;
+                }
+            };
+        }
+    }
+}
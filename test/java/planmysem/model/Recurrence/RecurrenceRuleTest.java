@@ -0,0 +1,91 @@
+package planmysem.model.Recurrence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import planmysem.common.Clock;
+import planmysem.model.recurrence.Recurrence;
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.recurrence.RecurrenceRule.WeekParity;
+import planmysem.model.semester.Semester;
+
+public class RecurrenceRuleTest {
+
+    private Semester semester;
+
+    @Before
+    public void setup() {
+        Clock.set("2019-01-14T10:00:00Z");
+        semester = Semester.generateSemester(LocalDate.now(Clock.get()));
+    }
+
+    @Test
+    public void generateDates_everyTwoWeeks() {
+        RecurrenceRule rule = new RecurrenceRule(DayOfWeek.MONDAY, true, false, false, false, 2,
+                WeekParity.ALL, null, null, null);
+        assertEquals(new HashSet<>(Arrays.asList(LocalDate.of(2019, 1, 14), LocalDate.of(2019, 1, 28),
+                LocalDate.of(2019, 2, 11), LocalDate.of(2019, 3, 11), LocalDate.of(2019, 3, 25),
+                LocalDate.of(2019, 4, 8))), rule.generateDates(semester));
+    }
+
+    @Test
+    public void generateDates_oddAndEvenWeeks() {
+        RecurrenceRule odd = new RecurrenceRule(DayOfWeek.MONDAY, true, true, false, false, 1,
+                WeekParity.ODD, null, null, null);
+        RecurrenceRule even = new RecurrenceRule(DayOfWeek.MONDAY, true, true, false, false, 1,
+                WeekParity.EVEN, null, null, null);
+
+        // recess week is not a numbered week
+        assertEquals(7, odd.generateDates(semester).size());
+        assertEquals(6, even.generateDates(semester).size());
+        assertTrue(odd.generateDates(semester).contains(LocalDate.of(2019, 3, 4)));
+        assertTrue(even.generateDates(semester).contains(LocalDate.of(2019, 3, 11)));
+    }
+
+    @Test
+    public void generateDates_untilAndExceptions() {
+        RecurrenceRule rule = new RecurrenceRule(DayOfWeek.MONDAY, true, false, false, false, 1,
+                WeekParity.ALL, LocalDate.of(2019, 1, 15), LocalDate.of(2019, 2, 18),
+                Collections.singleton(LocalDate.of(2019, 2, 4)));
+        assertEquals(new HashSet<>(Arrays.asList(LocalDate.of(2019, 1, 21), LocalDate.of(2019, 1, 28),
+                LocalDate.of(2019, 2, 11), LocalDate.of(2019, 2, 18))), rule.generateDates(semester));
+
+        rule = rule.withException(LocalDate.of(2019, 2, 18));
+        assertFalse(rule.occursOn(semester, LocalDate.of(2019, 2, 18)));
+        assertEquals(3, rule.generateDates(semester).size());
+    }
+
+    @Test
+    public void occursOn_agreesWithGenerateDates() {
+        RecurrenceRule rule = new RecurrenceRule(DayOfWeek.WEDNESDAY, true, false, true, true, 3,
+                WeekParity.ALL, LocalDate.of(2019, 1, 18), null, Collections.singleton(LocalDate.of(2019, 2, 6)));
+        Set<LocalDate> dates = rule.generateDates(semester);
+        for (LocalDate date : semester.getDays().keySet()) {
+            assertEquals(dates.contains(date), rule.occursOn(semester, date));
+        }
+    }
+
+    @Test
+    public void recurrence_toRule() {
+        Recurrence recurrence = new Recurrence(new HashSet<>(Arrays.asList("normal", "past", "even",
+                "every:2", "until:01-04-2019", "except:18-03-2019")), 1);
+        RecurrenceRule expected = new RecurrenceRule(DayOfWeek.MONDAY, true, false, false, false, 2,
+                WeekParity.EVEN, null, LocalDate.of(2019, 4, 1), Collections.singleton(LocalDate.of(2019, 3, 18)));
+        assertEquals(expected, recurrence.toRule());
+
+        assertTrue(Recurrence.isValidRecurrence("every:3"));
+        assertFalse(Recurrence.isValidRecurrence("every:0"));
+        assertFalse(Recurrence.isValidRecurrence("until:tomorrow"));
+    }
+}
@@ -3,8 +3,11 @@ package planmysem.model.Recurrence;
 import static org.junit.Assert.assertEquals;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -57,6 +60,24 @@ public class RecurrenceTest {
         assertEquals(futureOnly.generateDates(semester).size(), 17);
     }
 
+    @Test
+    public void generateDates_fromCurrentDate_chronologicalOrder() {
+        Clock.set("2019-03-01T10:00:00Z");
+        Recurrence normalMondays = new Recurrence(new HashSet<>(Arrays.asList("normal")), 1);
+        List<LocalDate> dates = new ArrayList<>(normalMondays.generateDates(semester));
+
+        // weeks 7 to 13
+        assertEquals(7, dates.size());
+        assertEquals(LocalDate.of(2019, 3, 4), dates.get(0));
+        assertEquals(LocalDate.of(2019, 4, 15), dates.get(6));
+        for (int i = 1; i < dates.size(); i++) {
+            assertEquals(dates.get(i - 1).plusWeeks(1), dates.get(i));
+        }
+
+        Recurrence recessMondays = new Recurrence(new HashSet<>(Arrays.asList("recess", "past")), 1);
+        assertEquals(Collections.singleton(LocalDate.of(2019, 2, 25)), recessMondays.generateDates(semester));
+    }
+
     @Test
     public void getDateTest() {
         Recurrence all = new Recurrence(new HashSet<>(
@@ -0,0 +1,92 @@
+package planmysem.model.Semester;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+import planmysem.model.semester.AcademicCalendar;
+import planmysem.model.semester.CalendarLayout;
+import planmysem.model.semester.CalendarLayout.SemesterLayout;
+import planmysem.model.semester.Semester;
+
+public class CalendarLayoutTest {
+    @After
+    public void tearDown() {
+        CalendarLayout.setDefault(CalendarLayout.DEFAULT);
+    }
+
+    @Test
+    public void getStartDate() {
+        assertEquals(LocalDate.of(2018, 8, 6), CalendarLayout.DEFAULT.getStartDate(2018));
+        assertEquals(LocalDate.of(2019, 8, 5), CalendarLayout.DEFAULT.getStartDate(2019));
+    }
+
+    @Test
+    public void getCalendar_cachedByYear() {
+        AcademicCalendar calendar = CalendarLayout.DEFAULT.getCalendar(2018);
+        assertSame(calendar, CalendarLayout.DEFAULT.getCalendar(LocalDate.of(2019, 1, 14)));
+        assertSame(calendar, CalendarLayout.DEFAULT.getCalendar(LocalDate.of(2019, 8, 4)));
+        assertNotEquals(calendar, CalendarLayout.DEFAULT.getCalendar(LocalDate.of(2019, 8, 5)));
+        assertEquals("AY2018/2019", calendar.getAcademicYear());
+        assertEquals("Recess Week_Sem 2", calendar.getAcadCal().get(9));
+    }
+
+    @Test
+    public void generateSemester_isoYearWithFiftyThreeWeeks() {
+        // 2015 and 2020 have 53 ISO weeks
+        Semester semester = Semester.generateSemester(LocalDate.of(2015, 12, 31));
+        assertEquals("Sem 1", semester.getName());
+        assertEquals("AY2015/2016", semester.getAcademicYear());
+        assertEquals(LocalDate.of(2015, 12, 7), semester.getStartDate());
+        assertEquals(LocalDate.of(2016, 1, 10), semester.getEndDate());
+
+        semester = Semester.generateSemester(LocalDate.of(2016, 8, 1));
+        assertEquals("Orientation Week", semester.weekLabel(LocalDate.of(2016, 8, 1)));
+        assertEquals("Examination Week", semester.weekLabel(LocalDate.of(2016, 12, 4)));
+        assertEquals(18, semester.getNoOfWeeks());
+    }
+
+    @Test
+    public void generateSemester_vacationLastsUntilNextYear() {
+        Semester semester = Semester.generateSemester(LocalDate.of(2017, 7, 31));
+        assertEquals("Sem 2", semester.getName());
+        assertEquals(LocalDate.of(2017, 5, 8), semester.getStartDate());
+        assertEquals(LocalDate.of(2017, 8, 6), semester.getEndDate());
+        assertEquals(13, semester.getNoOfWeeks());
+        assertTrue(semester.contains(LocalDate.of(2017, 8, 6)));
+    }
+
+    @Test
+    public void generateSemester_customLayout() {
+        CalendarLayout layout = new CalendarLayout("Trimester", Month.SEPTEMBER, DayOfWeek.MONDAY,
+                Collections.singletonMap(2019, LocalDate.of(2019, 9, 9)),
+                Arrays.asList(new SemesterLayout("Term 1", Arrays.asList("Week 1", "Week 2", "Week 3"), 1),
+                        new SemesterLayout("Term 2", Arrays.asList("Week 1", "Examination Week"), 0),
+                        new SemesterLayout("Term 3", Arrays.asList("Week 1", "Week 2"), 1)),
+                Collections.emptyMap());
+
+        Semester semester = Semester.generateSemester(LocalDate.of(2019, 10, 7), layout);
+        assertEquals("Term 2", semester.getName());
+        assertEquals(LocalDate.of(2019, 10, 7), semester.getStartDate());
+        assertEquals(LocalDate.of(2019, 10, 20), semester.getEndDate());
+        assertEquals(7, semester.getExamDays().size());
+
+        // the vacation of the last term lasts until the next academic year
+        semester = Semester.generateSemester(LocalDate.of(2020, 9, 6), layout);
+        assertEquals("Term 3", semester.getName());
+        assertEquals(CalendarLayout.VACATION, semester.weekLabel(LocalDate.of(2020, 9, 6)));
+        assertEquals(LocalDate.of(2020, 9, 6), semester.getEndDate());
+
+        CalendarLayout.setDefault(layout);
+        assertEquals(semester, Semester.generateSemester(LocalDate.of(2020, 9, 6)));
+    }
+}
@@ -96,4 +96,21 @@ public class DayTest {
                 new Day(DayOfWeek.of(1), "Week 1").hashCode());
 
     }
+
+    @Test
+    public void copy_changesNotShared() {
+        Slot slotOne = new SlotBuilder().slotOne();
+        Slot slotTwo = new SlotBuilder().slotTwo();
+        Day day = new Day(DayOfWeek.of(1), "Week 1", Collections.singletonList(slotOne));
+        Day copy = new Day(day);
+
+        copy.addSlot(slotTwo);
+        assertEquals(Collections.singletonList(slotOne), day.getSlots());
+
+        day.setSlot(0, slotTwo);
+        assertEquals(slotOne, copy.getSingleSlots().get(0));
+
+        day.clear();
+        assertEquals(2, copy.getSlots().size());
+    }
 }
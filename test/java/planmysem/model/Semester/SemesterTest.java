@@ -3,6 +3,8 @@ package planmysem.model.Semester;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.time.DayOfWeek;
@@ -12,6 +14,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,8 +22,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import planmysem.common.Clock;
+import planmysem.model.recurrence.RecurrenceRule;
+import planmysem.model.recurrence.RecurrenceRule.WeekParity;
 import planmysem.model.semester.Day;
 import planmysem.model.semester.Semester;
+import planmysem.model.semester.WeekRange;
+import planmysem.model.slot.ReadOnlySlot;
 import planmysem.model.slot.Slot;
 import planmysem.testutil.SlotBuilder;
 
@@ -155,6 +162,46 @@ public class SemesterTest {
         assertEquals(semester.getAcadCal(), anotherSemester.getAcadCal());
     }
 
+    @Test
+    public void weekRangeTest() {
+        Semester semester = Semester.generateSemester(LocalDate.of(2019, 1, 14));
+        assertEquals(new WeekRange(LocalDate.of(2019, 1, 14), LocalDate.of(2019, 1, 20)),
+                semester.weekRange("Week 1"));
+        assertEquals(new WeekRange(LocalDate.of(2019, 2, 25), LocalDate.of(2019, 3, 3)),
+                semester.weekRange("Recess Week"));
+
+        // examination spans two calendar weeks
+        WeekRange examWeek = semester.weekRange("Examination Week");
+        assertEquals(new WeekRange(LocalDate.of(2019, 4, 29), LocalDate.of(2019, 5, 12)), examWeek);
+        assertEquals(2, examWeek.getNoOfWeeks());
+        assertEquals(14, examWeek.getDates().size());
+
+        // no orientation week in semester 2
+        assertNull(semester.weekRange("Orientation Week"));
+    }
+
+    @Test
+    public void weekLabelTest() {
+        Semester semester = Semester.generateSemester(LocalDate.of(2018, 8, 6));
+        assertEquals("Orientation Week", semester.weekLabel(LocalDate.of(2018, 8, 6)));
+        assertEquals("Week 7", semester.weekLabel(LocalDate.of(2018, 10, 3)));
+        assertEquals("Examination Week", semester.weekLabel(LocalDate.of(2018, 12, 9)));
+        assertEquals("Recess Week", semester.weekLabel(
+                LocalDate.of(2018, 9, 24).get(WeekFields.ISO.weekOfWeekBasedYear())));
+
+        // dates outside of the semester
+        assertNull(semester.weekLabel(LocalDate.of(2018, 8, 5)));
+        assertNull(semester.weekLabel(LocalDate.of(2018, 12, 10)));
+        assertNull(semester.weekLabel(null));
+
+        // ranges and labels agree with each other
+        for (Map.Entry<String, WeekRange> entry : semester.getWeekRanges().entrySet()) {
+            for (LocalDate date : entry.getValue().getDates()) {
+                assertEquals(entry.getKey(), semester.weekLabel(date));
+            }
+        }
+    }
+
     @Test
     public void equalsTest() {
         assertEquals(Semester.generateSemester(LocalDate.now(Clock.get())),
@@ -263,4 +310,69 @@ public class SemesterTest {
                     recessDays, readingDays, normalDays, examDays);
         }
     }
+
+    @Test
+    public void addSlotSeries_occurrencesSharedUntilChanged() {
+        Clock.set("2019-01-14T10:00:00Z");
+        Semester semester = Semester.generateSemester(LocalDate.of(2019, 1, 14));
+        Slot slot = new SlotBuilder().slotOne();
+        RecurrenceRule rule = new RecurrenceRule(DayOfWeek.MONDAY, true, false, false, false, 1,
+                WeekParity.ALL, null, null, null);
+
+        Map<LocalDate, Day> days = semester.addSlotSeries(slot, rule);
+        assertEquals(13, days.size());
+        assertEquals(1, semester.getSeries().size());
+        assertTrue(semester.getDays().get(LocalDate.of(2019, 1, 21)).contains(slot));
+        assertTrue(semester.getDays().get(LocalDate.of(2019, 1, 21)).getSingleSlots().isEmpty());
+
+        // deleting a single occurrence excludes its date from the series
+        semester.removeSlot(LocalDate.of(2019, 1, 21), slot);
+        assertFalse(semester.getDays().get(LocalDate.of(2019, 1, 21)).contains(slot));
+        assertTrue(semester.getDays().get(LocalDate.of(2019, 1, 28)).contains(slot));
+
+        // editing a single occurrence overrides it without affecting the others
+        semester.editSlot(LocalDate.of(2019, 1, 28), slot, null, null, -1, "CS2113T Lab", null, null,
+                new HashSet<>());
+        Day edited = semester.getDays().get(LocalDate.of(2019, 1, 28));
+        assertEquals(1, edited.getSlots().size());
+        assertEquals("CS2113T Lab", edited.getSlots().get(0).getName());
+        assertTrue(edited.getSingleSlots().isEmpty());
+        assertTrue(semester.getDays().get(LocalDate.of(2019, 2, 4)).contains(slot));
+        assertEquals(1, semester.getSeries().get(0).getOverrides().size());
+        assertEquals(new HashSet<>(Arrays.asList(LocalDate.of(2019, 1, 21))),
+                semester.getSeries().get(0).getRule().getExceptions());
+
+        // moving a single occurrence detaches it from the series
+        semester.editSlot(LocalDate.of(2019, 2, 4), slot, LocalDate.of(2019, 2, 5), null, -1, null, null, null,
+                new HashSet<>());
+        assertFalse(semester.getDays().get(LocalDate.of(2019, 2, 4)).contains(slot));
+        assertEquals(Arrays.asList(slot), semester.getDays().get(LocalDate.of(2019, 2, 5)).getSingleSlots());
+
+        // copies share the series
+        Semester copy = new Semester(semester);
+        assertEquals(semester, copy);
+        assertSame(semester.getSeries().get(0), copy.getSeries().get(0));
+        assertTrue(copy.getDays().get(LocalDate.of(2019, 2, 11)).contains(slot));
+    }
+
+    @Test
+    public void editSlots_editsSeriesOnce() {
+        Clock.set("2019-01-14T10:00:00Z");
+        Semester semester = Semester.generateSemester(LocalDate.of(2019, 1, 14));
+        Slot slot = new SlotBuilder().slotOne();
+        semester.addSlotSeries(slot, new RecurrenceRule(DayOfWeek.MONDAY, true, false, false, false, 1,
+                WeekParity.ALL, null, null, null));
+        semester.editSlot(LocalDate.of(2019, 1, 21), slot, null, null, -1, null, "COM1 B1-03", null,
+                new HashSet<>());
+
+        semester.editSlots(new HashSet<>(Arrays.asList("Tutorial")), null, -1, "CS2113T Lecture", null, null,
+                new HashSet<>());
+        assertEquals(1, semester.getSeries().size());
+        assertEquals("CS2113T Lecture", semester.getSeries().get(0).getSlot().getName());
+        for (ReadOnlySlot occurrence : semester.getSlots(new HashSet<>(Arrays.asList("Tutorial"))).values()) {
+            assertEquals("CS2113T Lecture", occurrence.getName());
+        }
+        assertEquals("COM1 B1-03", semester.getDays().get(LocalDate.of(2019, 1, 21)).getSlots().get(0)
+                .getLocation());
+    }
 }
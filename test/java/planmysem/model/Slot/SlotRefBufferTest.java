@@ -0,0 +1,52 @@
+package planmysem.model.Slot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import planmysem.model.semester.Day;
+import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotRef;
+import planmysem.model.slot.SlotRefBuffer;
+import planmysem.testutil.SlotBuilder;
+
+public class SlotRefBufferTest {
+    private final Day day = new Day(DayOfWeek.MONDAY, "Week 1");
+    private final Slot slot = new SlotBuilder().slotOne();
+
+    @Test
+    public void add_numbersByPosition() {
+        SlotRefBuffer buffer = new SlotRefBuffer();
+        for (int i = 0; i < 40; i++) {
+            buffer.add(LocalDate.of(2019, 1, 14).plusDays(i), day, slot);
+        }
+
+        assertEquals(40, buffer.size());
+        assertEquals(1, buffer.get(0).getId());
+        assertEquals(40, buffer.get(39).getId());
+        assertEquals(LocalDate.of(2019, 1, 15), buffer.get(1).getDate());
+        assertSame(slot, buffer.get(1).getSlot());
+    }
+
+    @Test
+    public void addAll_renumbersAndReuses() {
+        SlotRef first = new SlotRef(LocalDate.of(2019, 1, 15), day, slot, 7);
+        SlotRef second = new SlotRef(LocalDate.of(2019, 1, 14), day, slot, 2);
+        SlotRefBuffer buffer = new SlotRefBuffer();
+        buffer.addAll(Arrays.asList(first, second));
+
+        assertEquals(1, buffer.get(0).getId());
+        assertSame(second, buffer.get(1));
+
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        buffer.add(second.getDate(), day, slot);
+        assertEquals(Arrays.asList(new SlotRef(LocalDate.of(2019, 1, 14), day, slot, 1)), buffer);
+    }
+}
@@ -0,0 +1,89 @@
+package planmysem.model.Slot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import planmysem.model.slot.Slot;
+import planmysem.model.slot.SlotDictionary;
+import planmysem.model.slot.TagSet;
+import planmysem.testutil.SlotBuilder;
+
+public class TagSetTest {
+
+    @Test
+    public void copyOf_behavesAsSet() {
+        Set<String> tags = new HashSet<>(Arrays.asList("CS2113T", "Tutorial", "Week 5"));
+        TagSet tagSet = TagSet.copyOf(Arrays.asList("Week 5", "Tutorial", "CS2113T", "Tutorial"));
+
+        assertEquals(3, tagSet.size());
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, tags);
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+        assertEquals(Arrays.asList("CS2113T", "Tutorial", "Week 5"), new ArrayList<>(tagSet));
+        assertTrue(tagSet.contains("Tutorial"));
+        assertFalse(tagSet.contains("Lecture"));
+        assertSame(TagSet.EMPTY, TagSet.copyOf(new HashSet<>()));
+    }
+
+    @Test
+    public void containsAll() {
+        TagSet tagSet = TagSet.copyOf(Arrays.asList("CS2113T", "Tutorial"));
+
+        assertTrue(tagSet.containsAll(TagSet.copyOf(Arrays.asList("Tutorial"))));
+        assertTrue(tagSet.containsAll(new HashSet<>(Arrays.asList("CS2113T", "Tutorial"))));
+        assertTrue(tagSet.containsAll(TagSet.EMPTY));
+        assertFalse(tagSet.containsAll(TagSet.copyOf(Arrays.asList("Tutorial", "Lecture"))));
+        assertFalse(tagSet.containsAll(new HashSet<>(Arrays.asList("unknown tag"))));
+    }
+
+    @Test
+    public void containsAll_manyTags() {
+        // more tags than bits in the mask, so some tags share a bit
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tags.add("tag-set-test-" + i);
+        }
+        TagSet firstHalf = TagSet.copyOf(tags.subList(0, 100));
+        TagSet all = TagSet.copyOf(tags);
+
+        assertTrue(all.containsAll(firstHalf));
+        assertFalse(firstHalf.containsAll(all));
+        for (int i = 100; i < 200; i++) {
+            assertFalse(firstHalf.containsAll(TagSet.copyOf(Arrays.asList(tags.get(0), tags.get(i)))));
+            assertFalse(firstHalf.contains(tags.get(i)));
+        }
+    }
+
+    @Test
+    public void find_unknownTag_nullAndNotAdded() {
+        TagSet tagSet = TagSet.copyOf(Arrays.asList("CS2113T", "Tutorial"));
+
+        assertEquals(tagSet, TagSet.find(new HashSet<>(Arrays.asList("Tutorial", "CS2113T"))));
+        assertSame(TagSet.EMPTY, TagSet.find(new HashSet<>()));
+        assertNull(TagSet.find(Arrays.asList("Tutorial", "tag-set-test-never-added")));
+        assertNull(SlotDictionary.find("tag-set-test-never-added"));
+    }
+
+    @Test
+    public void slot_sharesStringsAndTags() {
+        Slot slot = new SlotBuilder().slotOne();
+        Slot other = new SlotBuilder().slotOne();
+        Slot copy = new Slot(slot);
+
+        assertSame(slot.getName(), other.getName());
+        assertSame(slot.getLocation(), other.getLocation());
+        assertSame(slot.getTags(), copy.getTags());
+        assertEquals(slot.getTags(), other.getTags());
+    }
+}
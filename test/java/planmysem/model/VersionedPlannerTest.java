@@ -2,14 +2,21 @@ package planmysem.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import planmysem.common.Clock;
+import planmysem.model.change.PlannerChange;
 import planmysem.model.semester.Semester;
 import planmysem.model.slot.Slot;
 import planmysem.testutil.SlotBuilder;
@@ -92,4 +99,80 @@ public class VersionedPlannerTest {
         assertEquals(versionedPlanner, expectedPlanner);
         assertEquals(versionedPlanner.hashCode(), expectedPlanner.hashCode());
     }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() throws Semester.DateNotFoundException {
+        VersionedPlanner versionedPlanner = new VersionedPlanner(new Planner());
+        LocalDate date = LocalDate.of(2019, 1, 15);
+        versionedPlanner.addSlot(date, new SlotBuilder().slotOne());
+        versionedPlanner.commit();
+
+        Planner snapshot = versionedPlanner.getPublishedSnapshot();
+        Planner expected = new Planner(snapshot);
+        assertEquals(expected, snapshot);
+
+        versionedPlanner.addSlot(date, new SlotBuilder().slotTwo());
+        assertNull(versionedPlanner.getPublishedSnapshot());
+        versionedPlanner.editSlot(date, new SlotBuilder().slotOne(), null, null, -1, "edited", null, null,
+                Collections.emptySet());
+        versionedPlanner.removeSlot(date, new SlotBuilder().slotTwo());
+        assertEquals(expected, snapshot);
+        versionedPlanner.clearSlots();
+        assertEquals(expected, snapshot);
+
+        // a new snapshot is published on commit, and the previous one is published again by undo
+        versionedPlanner.commit();
+        assertNotEquals(snapshot, versionedPlanner.getPublishedSnapshot());
+        versionedPlanner.undo();
+        assertSame(snapshot, versionedPlanner.getPublishedSnapshot());
+    }
+
+    @Test
+    public void commit_changesDeliveredOncePerCommit() throws Semester.DateNotFoundException {
+        VersionedPlanner versionedPlanner = new VersionedPlanner(new Planner());
+        List<List<PlannerChange>> batches = new ArrayList<>();
+        versionedPlanner.addChangeListener((changes, snapshot) -> batches.add(changes));
+        Slot slotOne = new SlotBuilder().slotOne();
+        Slot slotTwo = new SlotBuilder().slotTwo();
+        LocalDate date = LocalDate.of(2019, 1, 15);
+
+        versionedPlanner.beginTransaction();
+        versionedPlanner.addSlot(date, slotOne);
+        versionedPlanner.beginTransaction();
+        versionedPlanner.addSlot(date, slotTwo);
+        versionedPlanner.rollback();
+        versionedPlanner.removeSlot(date, slotOne);
+        versionedPlanner.commit();
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList(PlannerChange.slotAdded(date, slotOne), PlannerChange.slotRemoved(date, slotOne)),
+                batches.get(0));
+
+        versionedPlanner.undo();
+        assertEquals(Collections.singletonList(PlannerChange.reset()), batches.get(1));
+    }
+
+    @Test
+    public void editSlot_movedSlot_recordedAsOneEdit() throws Semester.DateNotFoundException {
+        VersionedPlanner versionedPlanner = new VersionedPlanner(new Planner());
+        List<PlannerChange> delivered = new ArrayList<>();
+        versionedPlanner.addChangeListener((changes, snapshot) -> delivered.addAll(changes));
+        Slot slot = new SlotBuilder().slotOne();
+        LocalDate date = LocalDate.of(2019, 1, 15);
+        LocalDate newDate = LocalDate.of(2019, 1, 16);
+        versionedPlanner.addSlot(date, slot);
+        versionedPlanner.commit();
+        delivered.clear();
+
+        versionedPlanner.editSlot(date, slot, newDate, null, -1, "Moved", null, null, Collections.emptySet());
+        versionedPlanner.clearSlots();
+        versionedPlanner.commit();
+
+        PlannerChange edit = delivered.get(0);
+        assertEquals(PlannerChange.Type.SLOT_EDITED, edit.getType());
+        assertEquals(date, edit.getPreviousDate());
+        assertEquals(newDate, edit.getDate());
+        assertEquals("Moved", edit.getSlot().getName());
+        assertEquals(PlannerChange.dayCleared(newDate), delivered.get(1));
+        assertEquals(2, delivered.size());
+    }
 }
@@ -0,0 +1,75 @@
+package planmysem.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import planmysem.common.Clock;
+import planmysem.logic.commands.ListCommand;
+import planmysem.testutil.SlotBuilder;
+
+public class PlannerServerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PlannerServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        Clock.set("2019-01-14T10:00:00Z");
+        server = new PlannerServer(0, temporaryFolder.getRoot().toPath(), 10, 30, 2);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void post_command_executedOnPlannerOfUser() throws Exception {
+        String addCommand = SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "");
+        assertEquals(HttpURLConnection.HTTP_OK, post("/users/alice/commands", addCommand).getResponseCode());
+
+        HttpURLConnection connection = post("/users/alice/commands", "list n/CS2113T Tutorial");
+        assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+        assertTrue(read(connection.getInputStream()).contains("1 Slots listed."));
+
+        connection = post("/users/bob/commands", "list n/CS2113T Tutorial");
+        assertEquals(ListCommand.MESSAGE_SUCCESS_NONE, read(connection.getInputStream()));
+    }
+
+    @Test
+    public void post_invalidCommandOrPath_errorStatus() throws Exception {
+        assertEquals(422, post("/users/alice/commands", "delete 3").getResponseCode());
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, post("/users/alice", "list").getResponseCode());
+    }
+
+    private HttpURLConnection post(String path, String body) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream body = in) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package planmysem.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import planmysem.common.Clock;
+import planmysem.logic.commands.exceptions.CommandException;
+import planmysem.testutil.SlotBuilder;
+
+public class SessionCacheTest {
+    private static final String LIST_COMMAND = "list n/CS2113T Tutorial";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String addCommand;
+
+    @Before
+    public void setUp() {
+        Clock.set("2019-01-14T10:00:00Z");
+        addCommand = SlotBuilder.generateAddCommand(new SlotBuilder().slotOne(), 2, "");
+    }
+
+    @Test
+    public void execute_overCapacity_evictsLeastRecentlyUsedAndSavesIt() throws Exception {
+        SessionCache cache = new SessionCache(temporaryFolder.getRoot().toPath(), 2, 1, TimeUnit.HOURS);
+        cache.execute("alice", addCommand);
+        cache.execute("bob", LIST_COMMAND);
+        cache.execute("alice", LIST_COMMAND);
+        cache.execute("carol", LIST_COMMAND);
+
+        assertEquals(Arrays.asList("alice", "carol"), cache.getUserIds());
+        assertTrue(temporaryFolder.getRoot().toPath().resolve("bob.txt").toFile().exists());
+
+        // alice's planner survives being evicted and reloaded
+        cache.evictAll();
+        assertEquals(0, cache.size());
+        assertTrue(cache.execute("alice", LIST_COMMAND).feedbackToUser.startsWith("1 Slots listed."));
+        assertTrue(cache.execute("bob", LIST_COMMAND).feedbackToUser.startsWith("0 Slots listed."));
+    }
+
+    @Test
+    public void evictIdle_dropsUnusedPlanners() throws Exception {
+        SessionCache cache = new SessionCache(temporaryFolder.getRoot().toPath(), 10, 0, TimeUnit.SECONDS);
+        cache.execute("alice", addCommand);
+        Thread.sleep(1);
+
+        assertEquals(1, cache.evictIdle());
+        assertEquals(0, cache.size());
+        assertTrue(cache.execute("alice", LIST_COMMAND).feedbackToUser.startsWith("1 Slots listed."));
+    }
+
+    @Test
+    public void evictAll_saveFails_plannerKeptAndSavedOnNextEviction() throws Exception {
+        List<CommandException> failures = new ArrayList<>();
+        SessionCache cache = new SessionCache(temporaryFolder.getRoot().toPath(), 10, 1, TimeUnit.HOURS,
+                failures::add);
+        cache.execute("alice", addCommand);
+        File storageFile = temporaryFolder.getRoot().toPath().resolve("alice.txt").toFile();
+        assertTrue(storageFile.delete() && storageFile.mkdir());
+
+        cache.evictAll();
+        assertEquals(1, failures.size());
+        assertEquals(1, cache.size());
+        assertTrue(cache.execute("alice", LIST_COMMAND).feedbackToUser.startsWith("1 Slots listed."));
+
+        assertTrue(storageFile.delete());
+        cache.evictAll();
+        assertEquals(1, failures.size());
+        assertEquals(0, cache.size());
+        assertTrue(cache.execute("alice", LIST_COMMAND).feedbackToUser.startsWith("1 Slots listed."));
+    }
+
+    @Test
+    public void execute_invalidUserId_throwsCommandException() throws Exception {
+        SessionCache cache = new SessionCache(temporaryFolder.getRoot().toPath(), 10, 1, TimeUnit.HOURS);
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(SessionCache.MESSAGE_INVALID_USER_ID);
+        cache.execute("../alice", LIST_COMMAND);
+    }
+
+    @Test
+    public void execute_concurrentUsersWithEviction_noCommandLost() throws Exception {
+        SessionCache cache = new SessionCache(temporaryFolder.getRoot().toPath(), 2, 1, TimeUnit.HOURS);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String userId = "user" + (i % 4);
+            futures.add(executor.submit(() -> cache.execute(userId, addCommand)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(cache.execute("user" + i, LIST_COMMAND).feedbackToUser.startsWith("3 Slots listed."));
+        }
+    }
+}
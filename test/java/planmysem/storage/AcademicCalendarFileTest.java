@@ -0,0 +1,50 @@
+package planmysem.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import planmysem.model.semester.CalendarLayout;
+import planmysem.model.semester.Semester;
+
+public class AcademicCalendarFileTest {
+    private static final String TEST_DATA_FOLDER = "test/model/AcademicCalendarFileTest";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void exists_missingFile_returnsFalse() throws Exception {
+        assertFalse(getCalendarFile("MissingCalendar.xml").exists());
+    }
+
+    @Test
+    public void load_validFile() throws Exception {
+        CalendarLayout layout = getCalendarFile("ValidCalendar.xml").load();
+
+        assertEquals(CalendarLayout.DEFAULT.getSemesters(), layout.getSemesters());
+        assertEquals(LocalDate.of(2020, 8, 10), layout.getStartDate(2020));
+        assertEquals(LocalDate.of(2018, 8, 6), layout.getStartDate(2018));
+
+        Semester semester = Semester.generateSemester(LocalDate.of(2019, 2, 5), layout);
+        assertEquals(Semester.generateSemester(LocalDate.of(2019, 2, 5)), semester);
+        assertEquals("Chinese New Year", semester.getHoliday(LocalDate.of(2019, 2, 5)));
+        assertNull(semester.getHoliday(LocalDate.of(2019, 2, 6)));
+    }
+
+    @Test
+    public void load_invalidFile_exceptionThrown() throws Exception {
+        thrown.expect(Storage.StorageOperationException.class);
+        getCalendarFile("InvalidCalendar.xml").load();
+    }
+
+    private AcademicCalendarFile getCalendarFile(String fileName) throws Exception {
+        return new AcademicCalendarFile(TEST_DATA_FOLDER + "/" + fileName);
+    }
+}
@@ -1,8 +1,13 @@
 package planmysem.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.SecretKey;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,4 +36,13 @@ public class EncryptorTest {
         String testString = Encryptor.encrypt("Hello World!", tempFolderPath);
         assertEquals(Encryptor.decrypt(testString, tempFolderPath), "Hello World!");
     }
+
+    @Test
+    public void decrypt_bytesWithGeneratedKey_valid() throws Exception {
+        SecretKey key = Encryptor.generateKey();
+        byte[] data = "Hello World!".getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = Encryptor.encrypt(data, key);
+        assertNotEquals(new String(encrypted, StandardCharsets.ISO_8859_1), "Hello World!");
+        assertArrayEquals(data, Encryptor.decrypt(encrypted, key));
+    }
 }
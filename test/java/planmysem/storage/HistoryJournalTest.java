@@ -0,0 +1,150 @@
+package planmysem.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.VersionedPlanner;
+import planmysem.testutil.SlotBuilder;
+
+public class HistoryJournalTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private HistoryJournal journal;
+
+    @After
+    public void tearDown() throws Exception {
+        journal.close();
+    }
+
+    @Test
+    public void load_noJournal_newHistory() throws Exception {
+        journal = new HistoryJournal(testFolder.getRoot().toPath().resolve("none.history"));
+        Planner current = new Planner();
+        PlannerHistory history = journal.load(current, null);
+
+        assertEquals(1, history.size());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void load_savedHistory_statesPagedInOnUndo() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("saved.history");
+        VersionedPlanner saved = createCommittedPlanner(new HistoryJournal(path), 3);
+
+        journal = new HistoryJournal(path);
+        PlannerHistory history = journal.load(saved.getSnapshot(), null);
+        assertEquals(4, history.size());
+        assertEquals(3, history.getPointer());
+        assertEquals(3, history.getNoOfPagedOutStates());
+        assertTrue(history.getPagedOutBytes(true) > 0);
+
+        VersionedPlanner restored = new VersionedPlanner(history);
+        LocalDate date = restored.getDays().keySet().iterator().next();
+        restored.undo();
+        assertEquals(2, restored.getDays().get(date).getSlots().size());
+        assertEquals(2, history.getNoOfPagedOutStates());
+        restored.undo();
+        restored.undo();
+        assertEquals(0, restored.getDays().get(date).getSlots().size());
+        assertFalse(restored.canUndo());
+    }
+
+    @Test
+    public void load_savedAfterUndoAndCommit_undoneStatesForgotten() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("undone.history");
+        HistoryJournal writer = new HistoryJournal(path);
+        VersionedPlanner saved = createCommittedPlanner(writer, 3);
+        saved.undo();
+        saved.undo();
+        saved.commit();
+        writer.save(saved.getHistory().getVersions(), saved.getHistory().getPointer());
+        saved.addSlot(saved.getDays().keySet().iterator().next(), new SlotBuilder().generateSlot(9));
+        saved.commit();
+        writer.save(saved.getHistory().getVersions(), saved.getHistory().getPointer());
+        writer.close();
+
+        journal = new HistoryJournal(path);
+        PlannerHistory history = journal.load(saved.getSnapshot(), null);
+        assertEquals(saved.getHistory(), history);
+    }
+
+    @Test
+    public void load_lastCommitNotSaved_currentStateAddedAndSavedNext() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("unsaved.history");
+        VersionedPlanner saved = createCommittedPlanner(new HistoryJournal(path), 2);
+        Planner journaled = saved.getSnapshot();
+        saved.addSlot(saved.getDays().keySet().iterator().next(), new SlotBuilder().generateSlot(9));
+        saved.commit();
+
+        journal = new HistoryJournal(path);
+        PlannerHistory history = journal.load(saved.getSnapshot(), null);
+        assertEquals(4, history.size());
+        journal.save(history.getVersions(), history.getPointer());
+        journal.close();
+
+        journal = new HistoryJournal(path);
+        VersionedPlanner restored = new VersionedPlanner(journal.load(saved.getSnapshot(), null));
+        assertEquals(saved.getHistory(), restored.getHistory());
+        restored.undo();
+        assertEquals(journaled, restored.getSnapshot());
+    }
+
+    @Test
+    public void load_recordCutShort_recordDropped() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("cut.history");
+        VersionedPlanner saved = createCommittedPlanner(new HistoryJournal(path), 2);
+        long length = Files.size(path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(length);
+            file.writeByte('S');
+            file.writeLong(7);
+        }
+
+        journal = new HistoryJournal(path);
+        PlannerHistory history = journal.load(saved.getSnapshot(), null);
+        assertEquals(saved.getHistory(), history);
+        assertEquals(length, Files.size(path));
+    }
+
+    @Test
+    public void load_unknownRecord_journalDeleted() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("unknown.history");
+        Files.write(path, new byte[] {'X', 0, 0});
+
+        journal = new HistoryJournal(path);
+        PlannerHistory history = journal.load(new Planner(), null);
+        assertEquals(1, history.size());
+        assertFalse(Files.exists(path));
+    }
+
+    /**
+     * Commits {@code noOfCommits} states, each with one more slot, saving the history to {@code writer} after
+     * each commit, and closes it.
+     */
+    private static VersionedPlanner createCommittedPlanner(HistoryJournal writer, int noOfCommits)
+            throws Exception {
+        VersionedPlanner versionedPlanner = new VersionedPlanner(writer.load(new Planner(), null));
+        LocalDate date = versionedPlanner.getDays().keySet().iterator().next();
+        for (int i = 0; i < noOfCommits; i++) {
+            versionedPlanner.addSlot(date, new SlotBuilder().generateSlot(i));
+            versionedPlanner.commit();
+            writer.save(versionedPlanner.getHistory().getVersions(), versionedPlanner.getHistory().getPointer());
+        }
+        writer.close();
+        return versionedPlanner;
+    }
+}
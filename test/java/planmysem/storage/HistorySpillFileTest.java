@@ -0,0 +1,106 @@
+package planmysem.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.After;
+import org.junit.Test;
+
+import planmysem.model.Planner;
+import planmysem.model.PlannerHistory;
+import planmysem.model.VersionedPlanner;
+import planmysem.testutil.SlotBuilder;
+
+public class HistorySpillFileTest {
+    private HistorySpillFile spillFile;
+
+    @After
+    public void tearDown() throws Exception {
+        spillFile.close();
+    }
+
+    @Test
+    public void pageIn_compressedInHeap_sameState() throws Exception {
+        spillFile = new HistorySpillFile(Long.MAX_VALUE);
+        Planner planner = getTestPlanner(1);
+        PlannerHistory.PagedState paged = spillFile.pageOut(planner);
+
+        assertFalse(paged.isOnDisk());
+        assertEquals(0, spillFile.getFileBytes());
+        Planner pagedIn = paged.pageIn();
+        assertNotSame(planner, pagedIn);
+        assertEquals(planner, pagedIn);
+    }
+
+    @Test
+    public void pageIn_spilledToDisk_sameState() throws Exception {
+        spillFile = new HistorySpillFile(0);
+        Planner first = getTestPlanner(1);
+        Planner second = getTestPlanner(2);
+        PlannerHistory.PagedState firstPaged = spillFile.pageOut(first);
+        PlannerHistory.PagedState secondPaged = spillFile.pageOut(second);
+
+        assertTrue(firstPaged.isOnDisk());
+        assertTrue(secondPaged.isOnDisk());
+        assertEquals(first, firstPaged.pageIn());
+        assertEquals(second, secondPaged.pageIn());
+    }
+
+    @Test
+    public void discard_everySpilledState_fileEmptied() throws Exception {
+        spillFile = new HistorySpillFile(0);
+        PlannerHistory.PagedState first = spillFile.pageOut(getTestPlanner(1));
+        PlannerHistory.PagedState second = spillFile.pageOut(getTestPlanner(2));
+        assertTrue(spillFile.getFileBytes() > 0);
+
+        first.discard();
+        assertEquals(getTestPlanner(2), second.pageIn());
+        second.discard();
+        assertEquals(0, spillFile.getFileBytes());
+    }
+
+    @Test
+    public void close_statesSpilled_fileDeletedAndRecreatedOnNextSpill() throws Exception {
+        spillFile = new HistorySpillFile(0);
+        spillFile.pageOut(getTestPlanner(1));
+        assertTrue(spillFile.getFileBytes() > 0);
+
+        spillFile.close();
+        assertEquals(0, spillFile.getFileBytes());
+        PlannerHistory.PagedState paged = spillFile.pageOut(getTestPlanner(2));
+        assertTrue(paged.isOnDisk());
+        assertEquals(getTestPlanner(2), paged.pageIn());
+    }
+
+    @Test
+    public void undo_statesSpilledToDisk_restored() throws Exception {
+        spillFile = new HistorySpillFile(0);
+        VersionedPlanner versionedPlanner = new VersionedPlanner(new Planner(), spillFile);
+        LocalDate date = versionedPlanner.getDays().keySet().iterator().next();
+        for (int i = 0; i < 30; i++) {
+            versionedPlanner.addSlot(date, new SlotBuilder().generateSlot(i));
+            versionedPlanner.commit();
+        }
+        assertTrue(versionedPlanner.getHistory().getNoOfPagedOutStates() > 0);
+
+        while (versionedPlanner.canUndo()) {
+            versionedPlanner.undo();
+        }
+        assertEquals(0, versionedPlanner.getDays().get(date).getSlots().size());
+        versionedPlanner.redo();
+        assertEquals(1, versionedPlanner.getDays().get(date).getSlots().size());
+    }
+
+    private static Planner getTestPlanner(int noOfSlots) throws Exception {
+        Planner planner = new Planner();
+        LocalDate date = planner.getDays().keySet().iterator().next();
+        for (int i = 0; i < noOfSlots; i++) {
+            planner.addSlot(date, new SlotBuilder().generateSlot(i));
+        }
+        return planner;
+    }
+}